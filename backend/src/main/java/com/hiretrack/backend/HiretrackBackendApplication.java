@@ -3,11 +3,49 @@ package com.hiretrack.backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.hiretrack.backend.config.AnalyticsProperties;
+import com.hiretrack.backend.config.CandidateImportProperties;
+import com.hiretrack.backend.config.ConcurrencyLimitProperties;
+import com.hiretrack.backend.config.DatabaseAdvisorProperties;
+import com.hiretrack.backend.config.ExportProperties;
 import com.hiretrack.backend.config.JwtProperties;
+import com.hiretrack.backend.config.LoginRateLimitProperties;
+import com.hiretrack.backend.config.MatchingProperties;
+import com.hiretrack.backend.config.OperatorProperties;
+import com.hiretrack.backend.config.OutboxProperties;
+import com.hiretrack.backend.config.PasswordHashingProperties;
+import com.hiretrack.backend.config.PipelinePartitionProperties;
+import com.hiretrack.backend.config.ReplicaDataSourceProperties;
+import com.hiretrack.backend.config.SchedulingProperties;
+import com.hiretrack.backend.config.SearchProperties;
+import com.hiretrack.backend.config.StatusHistoryProperties;
+import com.hiretrack.backend.config.TenancyProperties;
+import com.hiretrack.backend.config.UserDetailsCacheProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({
+		JwtProperties.class,
+		UserDetailsCacheProperties.class,
+		PasswordHashingProperties.class,
+		LoginRateLimitProperties.class,
+		OperatorProperties.class,
+		ExportProperties.class,
+		CandidateImportProperties.class,
+		SearchProperties.class,
+		MatchingProperties.class,
+		AnalyticsProperties.class,
+		StatusHistoryProperties.class,
+		OutboxProperties.class,
+		ConcurrencyLimitProperties.class,
+		ReplicaDataSourceProperties.class,
+		SchedulingProperties.class,
+		TenancyProperties.class,
+		PipelinePartitionProperties.class,
+		DatabaseAdvisorProperties.class
+})
+@EnableScheduling
 public class HiretrackBackendApplication {
 
 	public static void main(String[] args) {
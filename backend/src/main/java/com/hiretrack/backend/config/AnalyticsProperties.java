@@ -0,0 +1,72 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+
+    /**
+     * Whether this node refreshes the rollups. Concurrent refreshes from several nodes are safe
+     * but redundant.
+     */
+    private boolean refreshEnabled = true;
+
+    /**
+     * How often the rollups are refreshed when applications or interviews changed, and how long
+     * a computed response is cached. The figures lag writes by at most about twice this.
+     */
+    @NotNull
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Refresh even without a local write after this long, to pick up writes made through other
+     * nodes or straight in the database.
+     */
+    @NotNull
+    private Duration maxStaleness = Duration.ofMinutes(10);
+
+    /**
+     * Cached responses, one per distinct combination of endpoint and filters.
+     */
+    @Positive
+    private long cacheMaximumSize = 1_000;
+
+    public boolean isRefreshEnabled() {
+        return refreshEnabled;
+    }
+
+    public void setRefreshEnabled(boolean refreshEnabled) {
+        this.refreshEnabled = refreshEnabled;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    public long getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    public void setCacheMaximumSize(long cacheMaximumSize) {
+        this.cacheMaximumSize = cacheMaximumSize;
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.context.annotation.Configuration;
 public class AppConfig {
 
     /**
-     * Provides the default role to be assigned to newly registered users.
+     * Provides the default role of invited users, when the invitation names none.
      * The role value is configured via application.yml under app.default-role.
      *
      * @param roleString the role name from configuration (defaults to "RECRUITER")
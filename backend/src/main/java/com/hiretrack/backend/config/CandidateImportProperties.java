@@ -0,0 +1,85 @@
+package com.hiretrack.backend.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Validated
+@ConfigurationProperties(prefix = "app.candidate-import")
+public class CandidateImportProperties {
+
+    /**
+     * Rows per JDBC batch; each batch is committed in its own transaction.
+     */
+    @Positive
+    private int batchSize = 500;
+
+    /**
+     * Imports run one at a time; this many more may wait in the queue before uploads get a 503.
+     */
+    @PositiveOrZero
+    private int queueCapacity = 4;
+
+    /**
+     * Rejected rows kept per job for the status endpoint. All of them are counted.
+     */
+    @PositiveOrZero
+    private int maxReportedErrors = 100;
+
+    /**
+     * How long finished jobs stay visible through the status endpoint.
+     */
+    @NotNull
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * Where uploads are spooled until their import has run; defaults to the system temp directory.
+     */
+    private Path spoolDirectory;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Path getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public void setSpoolDirectory(Path spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+}
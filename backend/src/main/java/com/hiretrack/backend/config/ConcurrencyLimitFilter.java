@@ -0,0 +1,80 @@
+package com.hiretrack.backend.config;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Bounds the requests handled at once to {@code app.concurrency-limit.max-requests}. A request
+ * waits up to {@code max-wait} for a slot, then gets 503 with {@code Retry-After}.
+ *
+ * <p> With virtual threads Tomcat accepts thousands of connections and starts a thread for
+ * each. Without a limit they all queue on the connection pool and fail there after Hikari's
+ * connection timeout, having held memory and CPU meanwhile. Rejected here, excess requests
+ * cost almost nothing. Runs before Spring Security, so rejected requests are not authenticated.
+ *
+ * <p> Metrics: {@code http.server.requests.active.limited} (requests holding a slot) and
+ * {@code http.server.requests.rejected} (requests turned away).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore slots;
+    private final int maxRequests;
+    private final long maxWaitNanos;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.maxRequests = properties.getMaxRequests();
+        this.slots = new Semaphore(maxRequests, true);
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.rejected = Counter.builder("http.server.requests.rejected")
+                .description("Requests rejected because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.active.limited", this, filter -> filter.maxRequests - filter.slots.availablePermits())
+                .description("Requests holding a slot of the concurrency limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = slots.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.getWriter().write("The server is busy, retry later");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            slots.release();
+        }
+    }
+}
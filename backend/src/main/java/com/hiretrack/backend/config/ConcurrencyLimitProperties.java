@@ -0,0 +1,56 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Whether {@link ConcurrencyLimitFilter} bounds the requests handled at once. Platform
+     * threads are bounded by Tomcat's thread pool already; virtual threads are not.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Requests handled at once; the others wait for a slot.
+     */
+    @Positive
+    private int maxRequests = 256;
+
+    /**
+     * Longest time a request waits for a slot before it is rejected with 503.
+     */
+    @NotNull
+    private Duration maxWait = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public void setMaxRequests(int maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+}
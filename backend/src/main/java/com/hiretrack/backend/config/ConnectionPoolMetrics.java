@@ -0,0 +1,36 @@
+package com.hiretrack.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Saturation of each connection pool: the share of its connections in use, next to the
+ * {@code hikaricp.connections.*} meters Spring Boot already publishes. Close to 1 with
+ * {@code hikaricp.connections.pending} above 0 means requests queue for a connection and the
+ * pool, not the database, is the limit.
+ */
+@Component
+public class ConnectionPoolMetrics {
+
+    public ConnectionPoolMetrics(ObjectProvider<HikariDataSource> dataSources, MeterRegistry meterRegistry) {
+        dataSources.orderedStream().forEach(dataSource -> Gauge
+                .builder("hikaricp.connections.saturation", dataSource, ConnectionPoolMetrics::saturation)
+                .description("Connections in use over the maximum pool size")
+                .tag("pool", String.valueOf(dataSource.getPoolName()))
+                .register(meterRegistry));
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
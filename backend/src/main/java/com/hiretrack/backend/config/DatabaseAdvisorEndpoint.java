@@ -0,0 +1,29 @@
+package com.hiretrack.backend.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.hiretrack.backend.dto.advisor.DatabaseAdvisorReport;
+import com.hiretrack.backend.service.advisor.DatabaseAdvisor;
+
+/**
+ * {@code /actuator/dbadvisor}: slow statements and unused or missing indexes, see
+ * {@link DatabaseAdvisor}. For the platform operator only (see {@link SecurityConfig}): the
+ * statements and statistics cover every tenant, and statements may carry table contents.
+ */
+@Component
+@Endpoint(id = "dbadvisor")
+public class DatabaseAdvisorEndpoint {
+
+    private final DatabaseAdvisor databaseAdvisor;
+
+    public DatabaseAdvisorEndpoint(DatabaseAdvisor databaseAdvisor) {
+        this.databaseAdvisor = databaseAdvisor;
+    }
+
+    @ReadOperation
+    public DatabaseAdvisorReport report() {
+        return databaseAdvisor.report();
+    }
+}
@@ -0,0 +1,56 @@
+package com.hiretrack.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Validated
+@ConfigurationProperties(prefix = "app.database-advisor")
+public class DatabaseAdvisorProperties {
+
+    /**
+     * Entries per section of the report.
+     */
+    @Positive
+    private int maxEntries = 20;
+
+    /**
+     * Statements called fewer times are left out of the slow statements: a one-off migration
+     * or report says little about the hot paths.
+     */
+    @Positive
+    private long minCalls = 10;
+
+    /**
+     * Tables with fewer live rows are left out of the sequential scans, which are the right plan
+     * for small tables.
+     */
+    @PositiveOrZero
+    private long sequentialScanMinRows = 10_000;
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getMinCalls() {
+        return minCalls;
+    }
+
+    public void setMinCalls(long minCalls) {
+        this.minCalls = minCalls;
+    }
+
+    public long getSequentialScanMinRows() {
+        return sequentialScanMinRows;
+    }
+
+    public void setSequentialScanMinRows(long sequentialScanMinRows) {
+        this.sequentialScanMinRows = sequentialScanMinRows;
+    }
+}
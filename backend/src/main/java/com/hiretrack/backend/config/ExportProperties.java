@@ -0,0 +1,26 @@
+package com.hiretrack.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    /**
+     * Rows the JDBC driver pulls per round trip while streaming an export. Bounds the memory
+     * held per export; without it the Postgres driver reads the whole result set at once.
+     */
+    @Positive
+    private int fetchSize = 1_000;
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+}
@@ -5,8 +5,10 @@ import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 @Validated
 @ConfigurationProperties(prefix = "security.jwt")
@@ -18,6 +20,21 @@ public class JwtProperties {
     @NotNull
     private Duration accessTokenTtl = Duration.ofMinutes(15);
 
+    /**
+     * When enabled, the JWT filter builds the Authentication from the token claims
+     * instead of loading the user from the database on every request.
+     */
+    private boolean stateless = false;
+
+    /**
+     * How often the revoked token version list is reloaded from the database.
+     */
+    @NotNull
+    private Duration denyListRefreshInterval = Duration.ofSeconds(30);
+
+    @Valid
+    private final Cache cache = new Cache();
+
     public String getSecret() {
         return secret;
     }
@@ -33,6 +50,51 @@ public class JwtProperties {
     public void setAccessTokenTtl(Duration accessTokenTtl) {
         this.accessTokenTtl = accessTokenTtl;
     }
-}
 
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    public void setStateless(boolean stateless) {
+        this.stateless = stateless;
+    }
+
+    public Duration getDenyListRefreshInterval() {
+        return denyListRefreshInterval;
+    }
+
+    public void setDenyListRefreshInterval(Duration denyListRefreshInterval) {
+        this.denyListRefreshInterval = denyListRefreshInterval;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * Settings of the verified-token cache placed in front of signature verification.
+     */
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        @Positive
+        private long maximumSize = 10_000;
 
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+}
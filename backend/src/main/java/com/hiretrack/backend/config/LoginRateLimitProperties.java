@@ -0,0 +1,86 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "security.login-rate-limit")
+public class LoginRateLimitProperties {
+
+    private boolean enabled = true;
+
+    @Valid
+    private final Bucket perEmail = new Bucket(5, Duration.ofMinutes(1));
+
+    @Valid
+    private final Bucket perIp = new Bucket(30, Duration.ofMinutes(1));
+
+    /**
+     * Upper bound of emails and IPs tracked at once, so a spray of distinct keys cannot exhaust the heap.
+     */
+    @Positive
+    private long maximumTrackedKeys = 100_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Bucket getPerEmail() {
+        return perEmail;
+    }
+
+    public Bucket getPerIp() {
+        return perIp;
+    }
+
+    public long getMaximumTrackedKeys() {
+        return maximumTrackedKeys;
+    }
+
+    public void setMaximumTrackedKeys(long maximumTrackedKeys) {
+        this.maximumTrackedKeys = maximumTrackedKeys;
+    }
+
+    /**
+     * Token bucket holding {@code capacity} attempts, fully refilled over {@code refillPeriod}.
+     */
+    public static class Bucket {
+
+        @Positive
+        private int capacity;
+
+        @NotNull
+        private Duration refillPeriod;
+
+        public Bucket(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getRefillPeriod() {
+            return refillPeriod;
+        }
+
+        public void setRefillPeriod(Duration refillPeriod) {
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
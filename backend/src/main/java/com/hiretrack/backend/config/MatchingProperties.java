@@ -0,0 +1,101 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Validated
+@ConfigurationProperties(prefix = "app.matching")
+public class MatchingProperties {
+
+    /**
+     * Whether this node builds the candidate index, serves matches and maintains match scores.
+     * Matching answers 503 while disabled or before the first build completes.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Pause between two index rebuilds: candidates added or changed in the meantime are not
+     * matched yet.
+     */
+    @NotNull
+    private Duration rebuildInterval = Duration.ofMinutes(15);
+
+    /**
+     * Threads scoring candidates; 0 means one per available processor.
+     */
+    @PositiveOrZero
+    private int parallelism = 0;
+
+    /**
+     * Upper bound on the number of matches returned for a job.
+     */
+    @Positive
+    private int maxResults = 100;
+
+    /**
+     * Pause between two passes of the match score worker: the expected delay before a saved job
+     * or candidate has fresh scores.
+     */
+    @NotNull
+    private Duration scoringInterval = Duration.ofSeconds(1);
+
+    /**
+     * Jobs and candidates rescored per transaction by the match score worker.
+     */
+    @Positive
+    private int scoringBatchSize = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRebuildInterval() {
+        return rebuildInterval;
+    }
+
+    public void setRebuildInterval(Duration rebuildInterval) {
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    public void setMaxResults(int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    public Duration getScoringInterval() {
+        return scoringInterval;
+    }
+
+    public void setScoringInterval(Duration scoringInterval) {
+        this.scoringInterval = scoringInterval;
+    }
+
+    public int getScoringBatchSize() {
+        return scoringBatchSize;
+    }
+
+    public void setScoringBatchSize(int scoringBatchSize) {
+        this.scoringBatchSize = scoringBatchSize;
+    }
+}
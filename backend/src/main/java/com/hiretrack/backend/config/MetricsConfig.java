@@ -0,0 +1,31 @@
+package com.hiretrack.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Turns {@code @Timed} on Spring beans into timers.
+ *
+ * <p> Metrics produced by the application:
+ * <li> {@code service.calls}: every public method of the {@code *ServiceImpl} classes, tagged
+ * with class, method and exception;
+ * <li> {@code auth.login}, {@code auth.register}: AuthService, tagged with the exception raised;
+ * <li> {@code auth.jwt.parse}, {@code auth.jwt.lookup}, {@code auth.jwt.filter},
+ * {@code auth.jwt.requests}: the token checks of JwtAuthFilter.
+ *
+ * <p> Spring Boot adds {@code http.server.requests}, {@code spring.data.repository.invocations}
+ * for every repository call, {@code hikaricp.*} for the connection pools and {@code cache.*} for
+ * the Caffeine caches. Percentile histograms are enabled under
+ * {@code management.metrics.distribution} and everything is scraped at /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.hiretrack.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * The platform operator, who reads the endpoints reporting on the database as a whole
+ * ({@code /actuator/dbadvisor}). Not a user of any tenant: tenant administrators only manage
+ * their own company.
+ */
+@Validated
+@ConfigurationProperties(prefix = "security.operator")
+public class OperatorProperties {
+
+    @NotBlank
+    private String username = "operator";
+
+    /**
+     * BCrypt hash of the operator's password (HTTP basic). Unset, nobody is the operator and the
+     * operator endpoints refuse every request.
+     */
+    private String passwordHash;
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+
+    public void setPasswordHash(String passwordHash) {
+        this.passwordHash = passwordHash;
+    }
+}
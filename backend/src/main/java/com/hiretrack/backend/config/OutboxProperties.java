@@ -0,0 +1,100 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import com.hiretrack.backend.enums.OutboxSinkType;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether this node relays outbox events. Safe to enable on every node: relays skip the
+     * events another one is publishing.
+     */
+    private boolean relayEnabled = true;
+
+    @NotNull
+    private OutboxSinkType sink = OutboxSinkType.IN_PROCESS;
+
+    /**
+     * Pause between two relay passes once the outbox is empty.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Events claimed, published and deleted per transaction.
+     */
+    @Positive
+    private int batchSize = 100;
+
+    /**
+     * Prefix of the Kafka topics; events go to {@code <prefix><aggregate>}, e.g.
+     * {@code hiretrack.application}.
+     */
+    @NotBlank
+    private String topicPrefix = "hiretrack.";
+
+    /**
+     * How long the Kafka sink waits for a batch to be acknowledged before the batch is
+     * retried.
+     */
+    @NotNull
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    public void setRelayEnabled(boolean relayEnabled) {
+        this.relayEnabled = relayEnabled;
+    }
+
+    public OutboxSinkType getSink() {
+        return sink;
+    }
+
+    public void setSink(OutboxSinkType sink) {
+        this.sink = sink;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public String getTopicPrefix() {
+        return topicPrefix;
+    }
+
+    public void setTopicPrefix(String topicPrefix) {
+        this.topicPrefix = topicPrefix;
+    }
+
+    public Duration getSendTimeout() {
+        return sendTimeout;
+    }
+
+    public void setSendTimeout(Duration sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+}
@@ -0,0 +1,74 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost factor for new hashes. Stored hashes with a lower cost are
+     * transparently re-hashed on the next successful login.
+     */
+    @Min(4)
+    @Max(31)
+    private int bcryptStrength = 10;
+
+    /**
+     * Threads dedicated to BCrypt; defaults to the number of available processors.
+     */
+    @Positive
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Hashing requests allowed to wait for a thread before new ones are rejected with 503.
+     */
+    @Positive
+    private int queueCapacity = 64;
+
+    /**
+     * Longest time a request thread waits for its hashing task to complete.
+     */
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,105 @@
+package com.hiretrack.backend.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Validated
+@ConfigurationProperties(prefix = "app.pipeline-partitions")
+public class PipelinePartitionProperties {
+
+    public enum ArchiveTarget {
+        /** Archived months stay in the {@code archive} schema, queryable with SQL. */
+        SCHEMA,
+        /** Archived months are written to gzipped CSV files, then dropped. */
+        CSV
+    }
+
+    /**
+     * Monthly partitions of applications and interviews kept ready beyond the current month.
+     * Interviews booked further ahead wait in the default partition until their month is created.
+     */
+    @PositiveOrZero
+    private int monthsAhead = 3;
+
+    /**
+     * How often the partitions are checked, and old months archived.
+     */
+    @NotNull
+    private Duration partitionCheckInterval = Duration.ofHours(24);
+
+    /**
+     * Whether months older than {@code archive-after-months} leave the hot tables. Off by
+     * default: archived rows disappear from the API.
+     */
+    private boolean archiveEnabled = false;
+
+    /**
+     * Months of applications and interviews kept in the hot tables, the current one excluded.
+     */
+    @Positive
+    private int archiveAfterMonths = 24;
+
+    @NotNull
+    private ArchiveTarget archiveTarget = ArchiveTarget.SCHEMA;
+
+    /**
+     * Where the CSV files go, for the {@code CSV} target.
+     */
+    @NotNull
+    private Path archiveDirectory = Path.of("archive");
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    public Duration getPartitionCheckInterval() {
+        return partitionCheckInterval;
+    }
+
+    public void setPartitionCheckInterval(Duration partitionCheckInterval) {
+        this.partitionCheckInterval = partitionCheckInterval;
+    }
+
+    public boolean isArchiveEnabled() {
+        return archiveEnabled;
+    }
+
+    public void setArchiveEnabled(boolean archiveEnabled) {
+        this.archiveEnabled = archiveEnabled;
+    }
+
+    public int getArchiveAfterMonths() {
+        return archiveAfterMonths;
+    }
+
+    public void setArchiveAfterMonths(int archiveAfterMonths) {
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    public ArchiveTarget getArchiveTarget() {
+        return archiveTarget;
+    }
+
+    public void setArchiveTarget(ArchiveTarget archiveTarget) {
+        this.archiveTarget = archiveTarget;
+    }
+
+    public Path getArchiveDirectory() {
+        return archiveDirectory;
+    }
+
+    public void setArchiveDirectory(Path archiveDirectory) {
+        this.archiveDirectory = archiveDirectory;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hiretrack.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Primary and replica pools, active once {@code app.datasource.replica.url} is set. Without it
+ * Spring Boot's single auto-configured pool is used.
+ *
+ * <p> Both pools stay beans of their own so that Boot publishes their {@code hikaricp.*} metrics
+ * under the pool names; the application (JPA, Flyway, JdbcTemplate) uses the routing
+ * {@code dataSource}. Reads that must see a write just made, such as the one returned by a save,
+ * have to run in the same read-write transaction, since the replica may lag behind.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                              ReplicaDataSourceProperties properties) {
+        HikariDataSource replica = new HikariDataSource();
+        primaryDataSource.copyStateTo(replica);
+        replica.setPoolName(primaryDataSource.getPoolName() != null ? primaryDataSource.getPoolName() + "-replica" : "replica");
+        replica.setJdbcUrl(properties.getUrl());
+        replica.setUsername(properties.getUsername() != null ? properties.getUsername() : primaryDataSource.getUsername());
+        replica.setPassword(properties.getPassword() != null ? properties.getPassword() : primaryDataSource.getPassword());
+        replica.setReadOnly(true);
+        if (properties.getMaximumPoolSize() != null) {
+            replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+            replica.setMinimumIdle(Math.min(replica.getMinimumIdle(), properties.getMaximumPoolSize()));
+        }
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+        return ReadReplicaRoutingDataSource.of(primaryDataSource, replicaDataSource);
+    }
+}
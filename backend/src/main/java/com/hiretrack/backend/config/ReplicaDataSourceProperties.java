@@ -0,0 +1,60 @@
+package com.hiretrack.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * JDBC url of the streaming replica. When set, read-only transactions are routed to it;
+     * when absent, every statement goes to the primary.
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Size of the replica pool. Every other pool and driver setting is copied from
+     * {@code spring.datasource.hikari}; defaults to the primary pool size.
+     */
+    @Positive
+    private Integer maximumPoolSize;
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Integer getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(Integer maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+}
@@ -0,0 +1,131 @@
+package com.hiretrack.backend.config;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.scheduling")
+public class SchedulingProperties {
+
+    /**
+     * Start of the working day: free slots never start earlier.
+     */
+    @NotNull
+    private LocalTime workdayStart = LocalTime.of(9, 0);
+
+    /**
+     * End of the working day: free slots never end later.
+     */
+    @NotNull
+    private LocalTime workdayEnd = LocalTime.of(18, 0);
+
+    /**
+     * Days on which free slots are offered.
+     */
+    @NotEmpty
+    private Set<DayOfWeek> workingDays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    /**
+     * Free slots start on multiples of this step from midnight.
+     */
+    @NotNull
+    private Duration slotStep = Duration.ofMinutes(15);
+
+    /**
+     * Period searched for free slots when the request gives no end.
+     */
+    @NotNull
+    private Duration defaultHorizon = Duration.ofDays(14);
+
+    /**
+     * Upper bound on the period searched for free slots.
+     */
+    @NotNull
+    private Duration maxHorizon = Duration.ofDays(90);
+
+    /**
+     * Upper bound on the number of interviewers of a panel.
+     */
+    @Positive
+    private int maxInterviewers = 50;
+
+    /**
+     * Upper bound on the number of free slots returned.
+     */
+    @Positive
+    private int maxSlots = 50;
+
+    public LocalTime getWorkdayStart() {
+        return workdayStart;
+    }
+
+    public void setWorkdayStart(LocalTime workdayStart) {
+        this.workdayStart = workdayStart;
+    }
+
+    public LocalTime getWorkdayEnd() {
+        return workdayEnd;
+    }
+
+    public void setWorkdayEnd(LocalTime workdayEnd) {
+        this.workdayEnd = workdayEnd;
+    }
+
+    public Set<DayOfWeek> getWorkingDays() {
+        return workingDays;
+    }
+
+    public void setWorkingDays(Set<DayOfWeek> workingDays) {
+        this.workingDays = workingDays;
+    }
+
+    public Duration getSlotStep() {
+        return slotStep;
+    }
+
+    public void setSlotStep(Duration slotStep) {
+        this.slotStep = slotStep;
+    }
+
+    public Duration getDefaultHorizon() {
+        return defaultHorizon;
+    }
+
+    public void setDefaultHorizon(Duration defaultHorizon) {
+        this.defaultHorizon = defaultHorizon;
+    }
+
+    public Duration getMaxHorizon() {
+        return maxHorizon;
+    }
+
+    public void setMaxHorizon(Duration maxHorizon) {
+        this.maxHorizon = maxHorizon;
+    }
+
+    public int getMaxInterviewers() {
+        return maxInterviewers;
+    }
+
+    public void setMaxInterviewers(int maxInterviewers) {
+        this.maxInterviewers = maxInterviewers;
+    }
+
+    public int getMaxSlots() {
+        return maxSlots;
+    }
+
+    public void setMaxSlots(int maxSlots) {
+        this.maxSlots = maxSlots;
+    }
+}
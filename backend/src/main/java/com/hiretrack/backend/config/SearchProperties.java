@@ -0,0 +1,57 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    /**
+     * Whether this node runs the candidate search indexer. Safe to enable on every node:
+     * concurrent indexers skip the rows another one is working on.
+     */
+    private boolean indexerEnabled = true;
+
+    /**
+     * Pause between two indexer passes, i.e. the worst-case delay before a changed candidate
+     * is searchable again.
+     */
+    @NotNull
+    private Duration indexerInterval = Duration.ofSeconds(5);
+
+    /**
+     * Candidates indexed per transaction.
+     */
+    @Positive
+    private int indexerBatchSize = 1_000;
+
+    public boolean isIndexerEnabled() {
+        return indexerEnabled;
+    }
+
+    public void setIndexerEnabled(boolean indexerEnabled) {
+        this.indexerEnabled = indexerEnabled;
+    }
+
+    public Duration getIndexerInterval() {
+        return indexerInterval;
+    }
+
+    public void setIndexerInterval(Duration indexerInterval) {
+        this.indexerInterval = indexerInterval;
+    }
+
+    public int getIndexerBatchSize() {
+        return indexerBatchSize;
+    }
+
+    public void setIndexerBatchSize(int indexerBatchSize) {
+        this.indexerBatchSize = indexerBatchSize;
+    }
+}
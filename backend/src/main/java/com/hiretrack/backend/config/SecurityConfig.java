@@ -1,8 +1,18 @@
 package com.hiretrack.backend.config;
 
+import com.hiretrack.backend.security.RootTenantFilter;
 import com.hiretrack.backend.security.jwt.JwtAuthFilter;
+import com.hiretrack.backend.security.password.BoundedPasswordEncoder;
+import com.hiretrack.backend.security.ratelimit.LoginRateLimiter;
+import com.hiretrack.backend.security.ratelimit.ThrottlingAuthenticationManager;
+import com.hiretrack.backend.service.auth.JpaUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -10,16 +20,28 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import static org.springframework.security.config.Customizer.withDefaults;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 @EnableMethodSecurity()
 public class SecurityConfig {
 
+    /** Authority of the platform operator, held by no application user. */
+    static final String OPERATOR = "OPERATOR";
+
     /**
      * <p> JWT authentication filter that validates tokens on incoming requests.
      * <p> Registered in the filter chain so it runs before Spring Security's
@@ -49,7 +71,10 @@ public class SecurityConfig {
      *
      * <li> Disables CSRF since the API is stateless and typically used with tokens.
      * <li> Sets session management to STATELESS because JWTs are used instead of HTTP sessions.
-     * <li> Allows unauthenticated access to endpoints under /api/auth/** (login, register, refresh).
+     * <li> Allows unauthenticated access to endpoints under /api/auth/** (login, register, refresh),
+     *      except logout, which acts on the authenticated user.
+     * <li> Allows unauthenticated access to the health and Prometheus scrape endpoints.
+     * <li> Lets async and error dispatches of already authorized requests through (streamed responses, error pages).
      * <li> Requires authentication for any other request.
      * <li> Registers the application's UserDetailsService so authentication providers can use it.
      * <li> Adds the JwtAuthFilter before UsernamePasswordAuthenticationFilter to validate tokens early.
@@ -64,7 +89,14 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        .requestMatchers("/api/auth/logout").authenticated()
                         .requestMatchers("/api/auth/**").permitAll()
+                        // liveness probes and the Prometheus scraper carry no token; keep the
+                        // actuator port off the public network (management.server.port)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // async completions and error pages re-dispatch a request that was already
+                        // authorized; being stateless, they carry no security context of their own
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .anyRequest().authenticated()
                 )
                 // ensure Spring Security can resolve UserDetails for authentication flows
@@ -75,40 +107,127 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * <p> Security of the operator endpoints, which report on the database as a whole: every
+     * <p> tenant's statements and table statistics. A tenant ADMIN only administers their own
+     * <p> company, so neither their token nor any user account opens these endpoints: only the
+     * <p> operator credentials of security.operator, over HTTP basic. Without a configured
+     * <p> password hash the endpoints refuse every request.
+     *
+     * @param http            the HttpSecurity to configure
+     * @param properties      the operator's credentials
+     * @param passwordEncoder encoder checking the operator's password against its hash
+     * @return built SecurityFilterChain, matched before {@link #securityFilterChain}
+     * @throws Exception if an error occurs while building the chain
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain operatorFilterChain(HttpSecurity http,
+                                                   OperatorProperties properties,
+                                                   PasswordEncoder passwordEncoder) throws Exception {
+        InMemoryUserDetailsManager operators = new InMemoryUserDetailsManager();
+        if (properties.getPasswordHash() != null && !properties.getPasswordHash().isBlank()) {
+            operators.createUser(User.withUsername(properties.getUsername())
+                    .password(properties.getPasswordHash())
+                    .authorities(OPERATOR)
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsService(operators);
+
+        http
+                .securityMatcher("/actuator/dbadvisor")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authorizeRequests -> authorizeRequests.anyRequest().hasAuthority(OPERATOR))
+                // no parent manager: application users never authenticate here
+                .authenticationManager(new ProviderManager(provider))
+                .httpBasic(withDefaults());
+        return http.build();
+    }
+
+    /**
+     * <p> Runs the authentication endpoints and error dispatches as root (see {@link RootTenantFilter}).
+     * <p> Every other request works for the tenant of its authenticated user, and fails closed
+     * <p> when there is none.
+     *
+     * @return the filter registration, limited to /api/auth/* and /error
+     */
+    @Bean
+    public FilterRegistrationBean<RootTenantFilter> rootTenantFilter() {
+        FilterRegistrationBean<RootTenantFilter> registration = new FilterRegistrationBean<>(new RootTenantFilter());
+        registration.addUrlPatterns("/api/auth/*", "/error");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ERROR);
+        return registration;
+    }
+
     /**
      * <p> Exposes an AuthenticationManager bean wired with a DaoAuthenticationProvider.
      *
      * <p> The DaoAuthenticationProvider is configured with the provided PasswordEncoder
-     * <p> and UserDetailsService. The ProviderManager wraps this provider and is returned
-     * <p> as the AuthenticationManager to be used wherever injection is required.
+     * <p> and UserDetailsService. The ProviderManager wraps this provider and is wrapped in turn
+     * <p> by a ThrottlingAuthenticationManager, so rate-limited attempts never reach BCrypt.
+     * <p> The JpaUserDetailsService is registered as UserDetailsPasswordService: hashes weaker than
+     * <p> the configured BCrypt cost are re-encoded after a successful login.
      *
-     * @param http               (not used directly here but kept for compatibility)
-     * @param passwordEncoder    password encoder used to verify stored password hashes
-     * @param userDetailsService service that loads user information
+     * @param http                   (not used directly here but kept for compatibility)
+     * @param passwordEncoder        password encoder used to verify stored password hashes
+     * @param userDetailsService     service that loads user information
+     * @param jpaUserDetailsService  service that stores re-encoded password hashes
+     * @param loginRateLimiter       per-email and per-IP login throttling
      * @return configured AuthenticationManager
      * @throws Exception if provider configuration fails
      */
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http,
                                                        PasswordEncoder passwordEncoder,
-                                                       UserDetailsService userDetailsService) throws Exception {
+                                                       UserDetailsService userDetailsService,
+                                                       JpaUserDetailsService jpaUserDetailsService,
+                                                       LoginRateLimiter loginRateLimiter) throws Exception {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         // use the application's PasswordEncoder to validate credentials
         provider.setPasswordEncoder(passwordEncoder);
         provider.setUserDetailsService(userDetailsService);
+        // transparently upgrade hashes produced with a lower cost factor
+        provider.setUserDetailsPasswordService(jpaUserDetailsService);
 
         // ProviderManager holds our configured provider(s)
-        return new ProviderManager(provider);
+        return new ThrottlingAuthenticationManager(new ProviderManager(provider), loginRateLimiter);
     }
 
     /**
      * <p> Defines the PasswordEncoder bean used across the application.
-     * <p> BCrypt is chosen for a good balance between security and performance.
+     * <p> BCrypt is chosen for a good balance between security and performance; its cost factor
+     * <p> comes from security.password.bcrypt-strength.
+     * <p> Hashing runs on a fixed-size executor with a bounded queue instead of the request threads.
+     * <p> When the queue is full new tasks are rejected, which the API reports as 503.
+     * <p> Active threads and queue depth are published as "password-hashing" executor metrics.
+     * <p> The executor is deliberately not a bean of its own: an Executor bean would replace
+     * <p> Spring Boot's default application task executor.
      *
-     * @return a BCryptPasswordEncoder instance
+     * @param properties    hashing settings (cost factor, threads, queue capacity, timeout)
+     * @param meterRegistry registry receiving the executor metrics
+     * @return a BCryptPasswordEncoder running on the hashing executor
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(properties.getBcryptStrength()),
+                executor,
+                properties.getTimeout());
     }
 }
@@ -0,0 +1,43 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Validated
+@ConfigurationProperties(prefix = "app.status-history")
+public class StatusHistoryProperties {
+
+    /**
+     * Monthly partitions of the status log kept ready beyond the current month. Changes of a
+     * month without a partition land in the default partition until it is created.
+     */
+    @PositiveOrZero
+    private int monthsAhead = 3;
+
+    /**
+     * How often the partitions are checked.
+     */
+    @NotNull
+    private Duration partitionCheckInterval = Duration.ofHours(24);
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    public Duration getPartitionCheckInterval() {
+        return partitionCheckInterval;
+    }
+
+    public void setPartitionCheckInterval(Duration partitionCheckInterval) {
+        this.partitionCheckInterval = partitionCheckInterval;
+    }
+}
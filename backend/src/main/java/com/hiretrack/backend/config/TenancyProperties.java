@@ -0,0 +1,70 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.tenancy")
+public class TenancyProperties {
+
+    /**
+     * Whether tenants that outgrow the shared partitions are moved into partitions of their own.
+     */
+    private boolean isolationEnabled = true;
+
+    /**
+     * Applications of a tenant in the shared partitions from which it gets partitions of its own.
+     */
+    @Positive
+    private long isolationThreshold = 100_000;
+
+    /**
+     * How often tenant sizes are checked. Moving a tenant blocks writes to the shared partitions
+     * while its rows are copied, so checks are rare.
+     */
+    @NotNull
+    private Duration isolationCheckInterval = Duration.ofHours(24);
+
+    /**
+     * How long an invitation to join a tenant can be accepted.
+     */
+    @NotNull
+    private Duration invitationTtl = Duration.ofDays(7);
+
+    public boolean isIsolationEnabled() {
+        return isolationEnabled;
+    }
+
+    public void setIsolationEnabled(boolean isolationEnabled) {
+        this.isolationEnabled = isolationEnabled;
+    }
+
+    public long getIsolationThreshold() {
+        return isolationThreshold;
+    }
+
+    public void setIsolationThreshold(long isolationThreshold) {
+        this.isolationThreshold = isolationThreshold;
+    }
+
+    public Duration getIsolationCheckInterval() {
+        return isolationCheckInterval;
+    }
+
+    public void setIsolationCheckInterval(Duration isolationCheckInterval) {
+        this.isolationCheckInterval = isolationCheckInterval;
+    }
+
+    public Duration getInvitationTtl() {
+        return invitationTtl;
+    }
+
+    public void setInvitationTtl(Duration invitationTtl) {
+        this.invitationTtl = invitationTtl;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hiretrack.backend.config;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import com.hiretrack.backend.security.TenantContext;
+
+/**
+ * Tells Hibernate which tenant each session works for, from {@link TenantContext}.
+ *
+ * <p> Entities with a {@code @TenantId} field are then scoped to that tenant: Hibernate adds
+ * {@code tenant_id = ?} to every query, which also lets Postgres prune the query to the
+ * tenant's partition (see V17), and stamps the tenant on new rows. Sessions opened by code
+ * running as root ({@link TenantContext#runAsRoot}: schedulers, background workers, the
+ * authentication endpoints) get the root identifier {@value #ROOT}: they see every tenant and
+ * must set {@code tenantId} themselves on the rows they create. Opening a session on any other
+ * thread without a tenant fails with a {@link com.hiretrack.backend.exception.MissingTenantException}.
+ */
+@Component
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<Long>, HibernatePropertiesCustomizer {
+
+    /** Not a tenant: no tenant has id 0. */
+    public static final long ROOT = 0L;
+
+    @Override
+    public Long resolveCurrentTenantIdentifier() {
+        // throws on a thread that neither has a tenant nor runs as root
+        Long tenantId = TenantContext.currentTenantId();
+        return tenantId != null ? tenantId : ROOT;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public boolean isRoot(Long tenantId) {
+        return tenantId != null && tenantId == ROOT;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+}
@@ -0,0 +1,33 @@
+package com.hiretrack.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.hiretrack.backend.service.auth.cache.InMemoryUserCacheInvalidationBroadcaster;
+import com.hiretrack.backend.service.auth.cache.PostgresUserCacheInvalidationBroadcaster;
+import com.hiretrack.backend.service.auth.cache.UserCacheInvalidationBroadcaster;
+
+@Configuration
+public class UserDetailsCacheConfig {
+
+    /**
+     * Single-node default: invalidations only reach the caches of this JVM.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.user-details-cache", name = "broadcast", havingValue = "IN_MEMORY", matchIfMissing = true)
+    public UserCacheInvalidationBroadcaster inMemoryUserCacheInvalidationBroadcaster() {
+        return new InMemoryUserCacheInvalidationBroadcaster();
+    }
+
+    /**
+     * Multi-node setup: invalidations are broadcast to every node through Postgres LISTEN/NOTIFY.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.user-details-cache", name = "broadcast", havingValue = "POSTGRES")
+    public UserCacheInvalidationBroadcaster postgresUserCacheInvalidationBroadcaster(DataSource dataSource) {
+        return new PostgresUserCacheInvalidationBroadcaster(dataSource);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hiretrack.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Validated
+@ConfigurationProperties(prefix = "app.user-details-cache")
+public class UserDetailsCacheProperties {
+
+    private boolean enabled = true;
+
+    @Positive
+    private long maximumSize = 10_000;
+
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * How invalidations reach the other nodes: IN_MEMORY for a single node,
+     * POSTGRES to broadcast them with LISTEN/NOTIFY.
+     */
+    @NotNull
+    private Broadcast broadcast = Broadcast.IN_MEMORY;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Broadcast getBroadcast() {
+        return broadcast;
+    }
+
+    public void setBroadcast(Broadcast broadcast) {
+        this.broadcast = broadcast;
+    }
+
+    public enum Broadcast {
+        IN_MEMORY,
+        POSTGRES
+    }
+}
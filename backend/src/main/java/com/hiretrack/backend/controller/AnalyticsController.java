@@ -0,0 +1,73 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.config.AnalyticsProperties;
+import com.hiretrack.backend.dto.analytics.AnalyticsFilter;
+import com.hiretrack.backend.dto.analytics.FunnelResponse;
+import com.hiretrack.backend.dto.analytics.InterviewOutcomeResponse;
+import com.hiretrack.backend.dto.analytics.StageDurationResponse;
+import com.hiretrack.backend.enums.FunnelDimension;
+import com.hiretrack.backend.service.analytics.AnalyticsService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+/**
+ * Hiring funnel analytics, served from precomputed rollups.
+ *
+ * Endpoints:
+ *  - GET /api/analytics/funnel          : applications by status, optionally grouped by JOB, DEPARTMENT, SOURCE or DAY
+ *  - GET /api/analytics/interviews      : interview outcome and rating distributions
+ *  - GET /api/analytics/stage-durations : time to first interview, length of the interview loop and time in each status
+ *
+ * All take the AnalyticsFilter query parameters. Figures lag writes by up to about twice
+ * {@code app.analytics.refresh-interval}; each response carries the time of the refresh it
+ * was computed from, also sent as {@code Last-Modified}. Clients may reuse a response for
+ * {@code app.analytics.refresh-interval}, as long as the server caches it.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@PreAuthorize("hasAnyAuthority('ADMIN', 'RECRUITER', 'HIRING_MANAGER')")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final CacheControl cacheControl;
+
+    public AnalyticsController(AnalyticsService analyticsService, AnalyticsProperties properties) {
+        this.analyticsService = analyticsService;
+        this.cacheControl = CacheControl.maxAge(properties.getRefreshInterval()).cachePrivate();
+    }
+
+    @GetMapping("/funnel")
+    public ResponseEntity<FunnelResponse> funnel(@ModelAttribute AnalyticsFilter filter,
+                                                 @RequestParam(required = false) FunnelDimension groupBy) {
+        FunnelResponse response = analyticsService.funnel(filter, groupBy);
+        return cached(response, response.refreshedAt());
+    }
+
+    @GetMapping("/interviews")
+    public ResponseEntity<InterviewOutcomeResponse> interviews(@ModelAttribute AnalyticsFilter filter) {
+        InterviewOutcomeResponse response = analyticsService.interviewOutcomes(filter);
+        return cached(response, response.refreshedAt());
+    }
+
+    @GetMapping("/stage-durations")
+    public ResponseEntity<StageDurationResponse> stageDurations(@ModelAttribute AnalyticsFilter filter) {
+        StageDurationResponse response = analyticsService.stageDurations(filter);
+        return cached(response, response.refreshedAt());
+    }
+
+    private <T> ResponseEntity<T> cached(T body, Instant refreshedAt) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(cacheControl);
+        if (refreshedAt != null) {
+            response.lastModified(refreshedAt);
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,121 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.exception.ImportRejectedException;
+import com.hiretrack.backend.exception.InterviewConflictException;
+import com.hiretrack.backend.exception.InvalidCursorException;
+import com.hiretrack.backend.exception.InvalidStatusTransitionException;
+import com.hiretrack.backend.exception.LoginThrottledException;
+import com.hiretrack.backend.exception.MatchingUnavailableException;
+import com.hiretrack.backend.exception.MissingTenantException;
+import com.hiretrack.backend.exception.PasswordHashingUnavailableException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Maps application exceptions to HTTP responses for every controller.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    /**
+     * Login rate limit exceeded: 429 with the number of seconds until the next attempt is allowed.
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<String> handleLoginThrottled(LoginThrottledException e) {
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(e.getRetryAfter().toMillis() / 1000.0));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(e.getMessage());
+    }
+
+    /**
+     * Password hashing executor saturated: 503 so clients back off instead of piling up.
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<String> handlePasswordHashingUnavailable(PasswordHashingUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+
+    /**
+     * No database connection within the pool's connection timeout, usually every connection
+     * busy under load: 503 so clients back off instead of seeing a server error.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class,
+            SQLTransientConnectionException.class})
+    public ResponseEntity<String> handleConnectionUnavailable(Exception e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("The server is busy, retry later");
+    }
+
+    /**
+     * Malformed pagination cursor: 400.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursor(InvalidCursorException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    /**
+     * Import queue full: 503 so the client retries the upload later.
+     */
+    @ExceptionHandler(ImportRejectedException.class)
+    public ResponseEntity<String> handleImportRejected(ImportRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(e.getMessage());
+    }
+
+    /**
+     * Matching index not built yet: 503 so the client retries once the first build completes.
+     */
+    @ExceptionHandler(MatchingUnavailableException.class)
+    public ResponseEntity<String> handleMatchingUnavailable(MatchingUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(e.getMessage());
+    }
+
+    /**
+     * Status change not allowed from the application's current status: 409.
+     */
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<String> handleInvalidStatusTransition(InvalidStatusTransitionException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    /**
+     * Interview overlapping another interview of its interviewer: 409, the client picks another slot.
+     */
+    @ExceptionHandler(InterviewConflictException.class)
+    public ResponseEntity<String> handleInterviewConflict(InterviewConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    /**
+     * Update based on an outdated version of the entity: 409, the client reloads it and retries.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("The resource was modified concurrently, reload it and retry");
+    }
+
+    /**
+     * Tenant data requested without a tenant: 403 rather than an unscoped answer.
+     */
+    @ExceptionHandler(MissingTenantException.class)
+    public ResponseEntity<String> handleMissingTenant(MissingTenantException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+    }
+}
@@ -0,0 +1,114 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.dto.application.ApplicationFilter;
+import com.hiretrack.backend.dto.application.ApplicationResponse;
+import com.hiretrack.backend.dto.application.ApplicationStatusChangeRequest;
+import com.hiretrack.backend.dto.application.ApplicationStatusChangeResponse;
+import com.hiretrack.backend.dto.common.CursorPage;
+import com.hiretrack.backend.dto.common.EntityVersions;
+import com.hiretrack.backend.entity.Application;
+import com.hiretrack.backend.entity.ApplicationStatusChange;
+import com.hiretrack.backend.service.ApplicationService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Endpoints for applications.
+ *
+ * Endpoints:
+ *  - GET /api/applications              : keyset-paginated listing, filtered by the ApplicationFilter query parameters
+ *  - GET /api/applications/{id}         : a single application
+ *  - PUT /api/applications/{id}/status  : move the application to another status
+ *  - GET /api/applications/{id}/history : status changes of the application, oldest first
+ *
+ * Listings never load the whole table: each call reads at most {@code size + 1} rows.
+ * Listings and single applications carry a weak ETag and are revalidated with
+ * {@code If-None-Match}, see ConditionalGet.
+ * Status changes follow the ApplicationStatus state machine (409 otherwise) and carry the
+ * version the client last read, so that concurrent edits conflict (409) instead of overwriting
+ * each other.
+ */
+@RestController
+@RequestMapping("/api/applications")
+public class ApplicationController {
+
+    private final ApplicationService applicationService;
+
+    public ApplicationController(ApplicationService applicationService) {
+        this.applicationService = applicationService;
+    }
+
+    /**
+     * One page of applications, ordered by id.
+     *
+     * @param filter optional filters bound from query parameters
+     * @param cursor {@code nextCursor} of the previous page, absent for the first page
+     * @param size   page size, clamped to [1, {@value CursorPage#MAX_SIZE}]
+     * @param ifNoneMatch ETag of the copy the client holds: 304 without loading the page when still current
+     * @return the page and the cursor of the next one, null on the last page
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<ApplicationResponse>> list(@ModelAttribute ApplicationFilter filter,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        int pageSize = CursorPage.clampSize(size);
+        Long afterId = CursorPage.decode(cursor);
+        // fetch one extra row to know whether a next page exists
+        Optional<ResponseEntity<CursorPage<ApplicationResponse>>> notModified = ConditionalGet.ifNotModified(ifNoneMatch,
+                () -> Optional.of(applicationService.findPageVersion(filter, afterId, pageSize + 1)));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+        List<Application> rows = applicationService.findPage(filter, afterId, pageSize + 1);
+        return ConditionalGet.ok(CursorPage.of(rows, pageSize, Application::getId, ApplicationResponse::from),
+                EntityVersions.ofPage(rows.stream().map(applicationService::versionOf).toList(), pageSize + 1));
+    }
+
+    /**
+     * A single application; 304 without loading it when {@code If-None-Match} names its current version.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApplicationResponse> get(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.<ApplicationResponse>ifNotModified(ifNoneMatch, () -> applicationService.findVersion(id))
+                .or(() -> applicationService.findById(id)
+                        .map(application -> ConditionalGet.ok(ApplicationResponse.from(application),
+                                applicationService.versionOf(application))))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}/status")
+    public ResponseEntity<ApplicationResponse> changeStatus(@PathVariable Long id,
+                                                            @Valid @RequestBody ApplicationStatusChangeRequest request) {
+        return applicationService.changeStatus(id, request.status(), request.version())
+                .map(ApplicationResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * The log outlives its application: the history of a deleted application is still returned.
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<ApplicationStatusChangeResponse>> history(@PathVariable Long id) {
+        List<ApplicationStatusChange> history = applicationService.findStatusHistory(id);
+        if (history.isEmpty() && applicationService.findById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(history.stream().map(ApplicationStatusChangeResponse::from).toList());
+    }
+}
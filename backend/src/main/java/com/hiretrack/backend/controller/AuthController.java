@@ -3,8 +3,11 @@ package com.hiretrack.backend.controller;
 import com.hiretrack.backend.dto.auth.AuthResponse;
 import com.hiretrack.backend.dto.auth.LoginRequest;
 import com.hiretrack.backend.dto.auth.RegisterRequest;
+import com.hiretrack.backend.exception.PasswordHashingUnavailableException;
 import com.hiretrack.backend.service.auth.AuthService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
  * Endpoints:
  *  - POST /api/auth/register : register a new user
  *  - POST /api/auth/login    : authenticate a user and return an auth payload
+ *  - POST /api/auth/logout   : revoke every token of the authenticated user
  *
  * This controller delegates business logic to the AuthService. It is kept thin:
  * controllers should handle HTTP request/response concerns while services contain
@@ -61,6 +65,9 @@ public class AuthController {
             authService.register(request);
             // Return a simple success message on success
             return ResponseEntity.ok("User registered successfully");
+        } catch (PasswordHashingUnavailableException e) {
+            // Not a client error: let ApiExceptionHandler answer 503 so the client retries later
+            throw e;
         } catch (Exception e) {
             // Convert service error into a 400 Bad Request response with message
             return ResponseEntity.badRequest().body("Error registering user: " + e.getMessage());
@@ -85,4 +92,19 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Log the authenticated user out of all their sessions.
+     *
+     * Every token issued to the user so far, the one sent with this request included,
+     * is rejected afterwards. Requires authentication (see SecurityConfig).
+     *
+     * @param user the authenticated principal
+     * @return HTTP 204
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal UserDetails user) {
+        authService.logout(user.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+
 }
@@ -0,0 +1,65 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.dto.candidate.CandidateImportResponse;
+import com.hiretrack.backend.service.imports.CandidateImportService;
+import com.hiretrack.backend.service.imports.ImportJob;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Bulk candidate imports.
+ *
+ * Endpoints:
+ *  - POST /api/imports/candidates      : upload a file as the raw request body (text/csv, application/json
+ *                                        or application/x-ndjson); answers 202 with the job to poll
+ *  - GET  /api/imports/candidates/{id} : progress, duplicates, rejected rows and throughput of a job
+ *
+ * Restricted to administrators and recruiters. A full import queue answers 503 with Retry-After.
+ */
+@RestController
+@RequestMapping("/api/imports/candidates")
+@PreAuthorize("hasAnyAuthority('ADMIN', 'RECRUITER')")
+public class CandidateImportController {
+
+    private final CandidateImportService candidateImportService;
+
+    public CandidateImportController(CandidateImportService candidateImportService) {
+        this.candidateImportService = candidateImportService;
+    }
+
+    @PostMapping(consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<CandidateImportResponse> submit(InputStream body,
+                                                          @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType)
+            throws IOException {
+        ImportJob job = candidateImportService.submit(body, contentType);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(CandidateImportResponse.from(job));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CandidateImportResponse> status(@PathVariable UUID id) {
+        return candidateImportService.find(id)
+                .map(CandidateImportResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.hiretrack.backend.controller;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.hiretrack.backend.dto.common.EntityVersions;
+
+/**
+ * Conditional GET for the listing and detail endpoints.
+ *
+ * <p> Responses carry a weak ETag built from the version of the rows they show (see
+ * {@link EntityVersions}) and {@code Cache-Control: private, no-cache}: the client may keep
+ * them but revalidates on every use. A request whose {@code If-None-Match} names the current
+ * version gets an empty 304, decided from the version columns alone, before any entity is
+ * loaded. The ETags are weak because Tomcat does not compress responses carrying a strong one.
+ *
+ * <p> Endpoints that do not use it keep the {@code no-store} default of Spring Security.
+ */
+final class ConditionalGet {
+
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * An empty 304 when {@code If-None-Match} names the current version. The version is only
+     * read when the header is present, so unconditional requests cost nothing more.
+     *
+     * @param currentVersion current version, empty if the resource does not exist
+     * @return empty when the full response must be built
+     */
+    static <T> Optional<ResponseEntity<T>> ifNotModified(String ifNoneMatch, Supplier<Optional<String>> currentVersion) {
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        return currentVersion.get()
+                .filter(version -> matches(ifNoneMatch, version))
+                .map(version -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag(version))
+                        .cacheControl(REVALIDATE)
+                        .build());
+    }
+
+    static <T> ResponseEntity<T> ok(T body, String version) {
+        return ResponseEntity.ok()
+                .eTag(etag(version))
+                .cacheControl(REVALIDATE)
+                .body(body);
+    }
+
+    static String etag(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * Weak comparison, the one defined for GET: {@code W/} prefixes are ignored.
+     */
+    static boolean matches(String ifNoneMatch, String version) {
+        String opaqueTag = "\"" + version + "\"";
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
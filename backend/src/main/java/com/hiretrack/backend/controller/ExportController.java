@@ -0,0 +1,87 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.dto.application.ApplicationFilter;
+import com.hiretrack.backend.dto.candidate.CandidateFilter;
+import com.hiretrack.backend.enums.ExportFormat;
+import com.hiretrack.backend.service.export.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming exports of whole pipelines.
+ *
+ * Endpoints:
+ *  - GET /api/exports/applications : applications matching the ApplicationFilter query parameters
+ *  - GET /api/exports/candidates   : candidates matching the CandidateFilter query parameters
+ *
+ * Both take {@code format} (NDJSON or CSV, default NDJSON) and {@code afterId} to resume an
+ * interrupted export after the last id received. The body is gzip-compressed when the client
+ * sends {@code Accept-Encoding: gzip}. Rows are written while they are read from the database,
+ * so the response starts immediately and memory use does not grow with the export size.
+ */
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/applications")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @ModelAttribute ApplicationFilter filter,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return stream("applications", format, acceptEncoding,
+                out -> exportService.exportApplications(filter, afterId, format, out));
+    }
+
+    @GetMapping("/candidates")
+    public ResponseEntity<StreamingResponseBody> exportCandidates(
+            @ModelAttribute CandidateFilter filter,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return stream("candidates", format, acceptEncoding,
+                out -> exportService.exportCandidates(filter, afterId, format, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(String name, ExportFormat format, String acceptEncoding,
+                                                                Function<OutputStream, Long> export) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192)) {
+                    export.apply(gzipOut);
+                }
+            } else {
+                export.apply(out);
+            }
+        });
+    }
+}
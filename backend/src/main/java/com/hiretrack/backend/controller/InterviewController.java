@@ -0,0 +1,117 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.config.SchedulingProperties;
+import com.hiretrack.backend.dto.interview.InterviewBookingRequest;
+import com.hiretrack.backend.dto.interview.InterviewFilter;
+import com.hiretrack.backend.dto.interview.InterviewResponse;
+import com.hiretrack.backend.dto.interview.TimeSlot;
+import com.hiretrack.backend.dto.common.CursorPage;
+import com.hiretrack.backend.entity.Interview;
+import com.hiretrack.backend.service.InterviewService;
+import com.hiretrack.backend.service.scheduling.InterviewScheduler;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Endpoints for interviews.
+ *
+ * Endpoints:
+ *  - GET  /api/interviews            : keyset-paginated listing, filtered by the InterviewFilter query parameters
+ *  - GET  /api/interviews/{id}       : a single interview
+ *  - GET  /api/interviews/free-slots : the first slots in which every interviewer of a panel is free
+ *  - POST /api/interviews            : book an interview
+ *
+ * Listings never load the whole table: each call reads at most {@code size + 1} rows.
+ * An interviewer cannot have two overlapping interviews: a booking that would overlap, even one
+ * made concurrently for the same slot, is rejected with 409.
+ */
+@RestController
+@RequestMapping("/api/interviews")
+public class InterviewController {
+
+    private final InterviewService interviewService;
+    private final InterviewScheduler interviewScheduler;
+    private final SchedulingProperties schedulingProperties;
+
+    public InterviewController(InterviewService interviewService,
+                               InterviewScheduler interviewScheduler,
+                               SchedulingProperties schedulingProperties) {
+        this.interviewService = interviewService;
+        this.interviewScheduler = interviewScheduler;
+        this.schedulingProperties = schedulingProperties;
+    }
+
+    /**
+     * One page of interviews, ordered by id.
+     *
+     * @param filter optional filters bound from query parameters
+     * @param cursor {@code nextCursor} of the previous page, absent for the first page
+     * @param size   page size, clamped to [1, {@value CursorPage#MAX_SIZE}]
+     * @return the page and the cursor of the next one, null on the last page
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<InterviewResponse>> list(@ModelAttribute InterviewFilter filter,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        int pageSize = CursorPage.clampSize(size);
+        // fetch one extra row to know whether a next page exists
+        List<Interview> rows = interviewService.findPage(filter, CursorPage.decode(cursor), pageSize + 1);
+        return ResponseEntity.ok(CursorPage.of(rows, pageSize, Interview::getId, InterviewResponse::from));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<InterviewResponse> get(@PathVariable Long id) {
+        return interviewService.findById(id)
+                .map(InterviewResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * @param interviewerIds  the panel, at most {@code app.scheduling.max-interviewers}
+     * @param durationMinutes length of the interview
+     * @param from            earliest start, now if absent
+     * @param to              end of the searched period, see {@link InterviewScheduler#findFreeSlots}
+     * @param limit           number of slots, clamped to [1, {@code app.scheduling.max-slots}]
+     */
+    @GetMapping("/free-slots")
+    public ResponseEntity<List<TimeSlot>> freeSlots(
+            @RequestParam List<Long> interviewerIds,
+            @RequestParam(defaultValue = "60") int durationMinutes,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "5") int limit) {
+        if (interviewerIds.isEmpty() || interviewerIds.size() > schedulingProperties.getMaxInterviewers()
+                || durationMinutes <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(interviewScheduler.findFreeSlots(interviewerIds, Duration.ofMinutes(durationMinutes),
+                from != null ? from : LocalDateTime.now(), to, limit));
+    }
+
+    @PostMapping
+    public ResponseEntity<InterviewResponse> book(@RequestBody InterviewBookingRequest request) {
+        if (request.applicationId() == null || request.interviewerId() == null || request.interviewDate() == null
+                || (request.durationMinutes() != null && request.durationMinutes() <= 0)
+                || request.crossesMonthEnd()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return interviewService.book(request)
+                .map(InterviewResponse::from)
+                .map(interview -> ResponseEntity.status(HttpStatus.CREATED).body(interview))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
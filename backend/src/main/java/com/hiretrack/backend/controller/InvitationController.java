@@ -0,0 +1,42 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.dto.invitation.InvitationRequest;
+import com.hiretrack.backend.dto.invitation.InvitationResponse;
+import com.hiretrack.backend.service.tenancy.TenantInvitationService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Invitations into the administrator's company.
+ *
+ * Endpoints:
+ *  - POST /api/invitations : invite an email with a role; the response carries the token the
+ *                            invited user registers with (POST /api/auth/register)
+ *
+ * Restricted to administrators. Registering without an invitation always creates a new company.
+ */
+@RestController
+@RequestMapping("/api/invitations")
+@PreAuthorize("hasAuthority('ADMIN')")
+public class InvitationController {
+
+    private final TenantInvitationService invitationService;
+
+    public InvitationController(TenantInvitationService invitationService) {
+        this.invitationService = invitationService;
+    }
+
+    @PostMapping
+    public ResponseEntity<InvitationResponse> invite(@Valid @RequestBody InvitationRequest request,
+                                                     @AuthenticationPrincipal UserDetails user) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(invitationService.invite(request, user.getUsername()));
+    }
+}
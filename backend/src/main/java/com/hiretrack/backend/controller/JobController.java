@@ -0,0 +1,103 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.dto.job.JobFilter;
+import com.hiretrack.backend.dto.job.JobResponse;
+import com.hiretrack.backend.dto.common.CursorPage;
+import com.hiretrack.backend.dto.common.EntityVersions;
+import com.hiretrack.backend.dto.common.SearchPage;
+import com.hiretrack.backend.entity.Job;
+import com.hiretrack.backend.service.JobService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read endpoints for jobs.
+ *
+ * Endpoints:
+ *  - GET /api/jobs        : keyset-paginated listing, filtered by the JobFilter query parameters
+ *  - GET /api/jobs/search : ranked full-text search over title, department and description
+ *  - GET /api/jobs/{id}   : a single job
+ *
+ * Listings never load the whole table: each call reads at most {@code size + 1} rows.
+ * Listings and single rows carry a weak ETag and are revalidated with {@code If-None-Match},
+ * see ConditionalGet; search results are not cached.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private final JobService jobService;
+
+    public JobController(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    /**
+     * One page of jobs, ordered by id.
+     *
+     * @param filter optional filters bound from query parameters
+     * @param cursor {@code nextCursor} of the previous page, absent for the first page
+     * @param size   page size, clamped to [1, {@value CursorPage#MAX_SIZE}]
+     * @param ifNoneMatch ETag of the copy the client holds: 304 without loading the page when still current
+     * @return the page and the cursor of the next one, null on the last page
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<JobResponse>> list(@ModelAttribute JobFilter filter,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        int pageSize = CursorPage.clampSize(size);
+        Long afterId = CursorPage.decode(cursor);
+        // fetch one extra row to know whether a next page exists
+        Optional<ResponseEntity<CursorPage<JobResponse>>> notModified = ConditionalGet.ifNotModified(ifNoneMatch,
+                () -> Optional.of(jobService.findPageVersion(filter, afterId, pageSize + 1)));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+        List<Job> rows = jobService.findPage(filter, afterId, pageSize + 1);
+        return ConditionalGet.ok(CursorPage.of(rows, pageSize, Job::getId, JobResponse::from),
+                EntityVersions.ofPage(rows.stream().map(jobService::versionOf).toList(), pageSize + 1));
+    }
+
+    /**
+     * One page of jobs matching a search query, most relevant first.
+     *
+     * @param q    web-style query: words, {@code "quoted phrases"}, {@code or}, {@code -excluded}
+     * @param page 0-based page number; only the first {@value SearchPage#MAX_RESULTS} hits are reachable
+     * @param size page size, clamped to [1, {@value CursorPage#MAX_SIZE}]
+     * @return the page and the number of the next one, null on the last page
+     */
+    @GetMapping("/search")
+    public ResponseEntity<SearchPage<JobResponse>> search(@RequestParam String q,
+                                                @RequestParam(defaultValue = "0") int page,
+                                                @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        int pageSize = CursorPage.clampSize(size);
+        if (q.isBlank() || !SearchPage.isReachable(page, pageSize)) {
+            return ResponseEntity.ok(SearchPage.empty());
+        }
+        List<Job> rows = jobService.search(q, SearchPage.offset(page, pageSize), pageSize + 1);
+        return ResponseEntity.ok(SearchPage.of(rows, page, pageSize, JobResponse::from));
+    }
+
+    /**
+     * A single job; 304 without loading it when {@code If-None-Match} names its current version.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<JobResponse> get(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.<JobResponse>ifNotModified(ifNoneMatch, () -> jobService.findVersion(id))
+                .or(() -> jobService.findById(id)
+                        .map(job -> ConditionalGet.ok(JobResponse.from(job), jobService.versionOf(job))))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
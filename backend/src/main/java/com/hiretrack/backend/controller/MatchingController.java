@@ -0,0 +1,47 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.dto.candidate.CandidateMatchResponse;
+import com.hiretrack.backend.service.JobService;
+import com.hiretrack.backend.service.matching.CandidateMatchingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Candidate matching.
+ *
+ * Endpoints:
+ *  - GET /api/jobs/{jobId}/matches : the candidates most similar to the job, best first, with their score
+ *
+ * Candidates created since the last index rebuild are not matched yet; the endpoint answers 503
+ * until the first build completes.
+ */
+@RestController
+@RequestMapping("/api/jobs/{jobId}/matches")
+public class MatchingController {
+
+    private final JobService jobService;
+    private final CandidateMatchingService matchingService;
+
+    public MatchingController(JobService jobService, CandidateMatchingService matchingService) {
+        this.jobService = jobService;
+        this.matchingService = matchingService;
+    }
+
+    /**
+     * @param limit number of candidates, clamped to [1, {@code app.matching.max-results}]
+     */
+    @GetMapping
+    public ResponseEntity<List<CandidateMatchResponse>> match(@PathVariable Long jobId,
+                                                              @RequestParam(defaultValue = "20") int limit) {
+        return jobService.findById(jobId)
+                .map(job -> matchingService.match(job, limit))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,66 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.dto.user.UserFilter;
+import com.hiretrack.backend.dto.user.UserResponse;
+import com.hiretrack.backend.dto.common.CursorPage;
+import com.hiretrack.backend.entity.User;
+import com.hiretrack.backend.service.UserService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Read endpoints for users.
+ *
+ * Endpoints:
+ *  - GET /api/users      : keyset-paginated listing, filtered by the UserFilter query parameters
+ *  - GET /api/users/{id} : a single user
+ *
+ * Restricted to administrators.
+ *
+ * Listings never load the whole table: each call reads at most {@code size + 1} rows.
+ */
+@RestController
+@RequestMapping("/api/users")
+@PreAuthorize("hasAuthority('ADMIN')")
+public class UserController {
+
+    private final UserService userService;
+
+    public UserController(UserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * One page of users, ordered by id.
+     *
+     * @param filter optional filters bound from query parameters
+     * @param cursor {@code nextCursor} of the previous page, absent for the first page
+     * @param size   page size, clamped to [1, {@value CursorPage#MAX_SIZE}]
+     * @return the page and the cursor of the next one, null on the last page
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<UserResponse>> list(@ModelAttribute UserFilter filter,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        int pageSize = CursorPage.clampSize(size);
+        // fetch one extra row to know whether a next page exists
+        List<User> rows = userService.findPage(filter, CursorPage.decode(cursor), pageSize + 1);
+        return ResponseEntity.ok(CursorPage.of(rows, pageSize, User::getId, UserResponse::from));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UserResponse> get(@PathVariable Long id) {
+        return userService.findById(id)
+                .map(UserResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
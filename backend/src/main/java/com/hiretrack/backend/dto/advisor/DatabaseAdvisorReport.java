@@ -0,0 +1,25 @@
+package com.hiretrack.backend.dto.advisor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * What the database statistics say about the statements and indexes of the application.
+ *
+ * @param statisticsSince       last reset of the table and index counters, {@code null} if never
+ *                              reset: an index unused since then may still serve a rare report
+ * @param statementsUnavailable why {@code slowStatements} is empty when {@code pg_stat_statements}
+ *                              cannot be read, {@code null} otherwise
+ * @param slowStatements        slowest statements on average, slowest first
+ * @param unusedIndexes         indexes never scanned, largest first
+ * @param unindexedForeignKeys  foreign keys whose checks and cascades scan the referencing table
+ * @param sequentialScans       tables read mostly by sequential scans, most rows read first
+ */
+public record DatabaseAdvisorReport(
+        OffsetDateTime statisticsSince,
+        String statementsUnavailable,
+        List<SlowStatement> slowStatements,
+        List<UnusedIndex> unusedIndexes,
+        List<UnindexedForeignKey> unindexedForeignKeys,
+        List<SequentialScanTable> sequentialScans
+) {}
@@ -0,0 +1,9 @@
+package com.hiretrack.backend.dto.advisor;
+
+/**
+ * A table, or partition, scanned sequentially more often than through its indexes.
+ *
+ * @param rowsRead rows read by the sequential scans
+ */
+public record SequentialScanTable(String table, long sequentialScans, long rowsRead, long indexScans,
+                                  long liveRows) {}
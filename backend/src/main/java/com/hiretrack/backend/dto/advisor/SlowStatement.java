@@ -0,0 +1,9 @@
+package com.hiretrack.backend.dto.advisor;
+
+/**
+ * A normalized statement of {@code pg_stat_statements}, constants replaced by {@code $n}.
+ *
+ * @param cacheHitRatio share of the blocks read found in shared buffers, {@code null} if none read
+ */
+public record SlowStatement(String query, long calls, double meanMillis, double totalMillis, long rows,
+                            Double cacheHitRatio) {}
@@ -0,0 +1,6 @@
+package com.hiretrack.backend.dto.advisor;
+
+/**
+ * @param columns the referencing columns, in key order
+ */
+public record UnindexedForeignKey(String table, String constraint, String columns) {}
@@ -0,0 +1,6 @@
+package com.hiretrack.backend.dto.advisor;
+
+/**
+ * @param sizeBytes size of the index, over all the partitions of a partitioned table
+ */
+public record UnusedIndex(String table, String index, long sizeBytes) {}
@@ -0,0 +1,18 @@
+package com.hiretrack.backend.dto.analytics;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Optional filters of the analytics endpoints, bound from query parameters. Null means "any".
+ * {@code source} and the day range only apply to the funnel; the range is half-open on the
+ * application day: {@code from <= day < to}.
+ */
+public record AnalyticsFilter(
+        Long jobId,
+        String department,
+        String source,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+) {}
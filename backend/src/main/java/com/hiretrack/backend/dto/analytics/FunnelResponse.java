@@ -0,0 +1,11 @@
+package com.hiretrack.backend.dto.analytics;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.hiretrack.backend.enums.FunnelDimension;
+
+/**
+ * @param refreshedAt when the rollups were last refreshed, i.e. how fresh the figures are
+ */
+public record FunnelResponse(FunnelDimension groupBy, List<FunnelRow> rows, Instant refreshedAt) {}
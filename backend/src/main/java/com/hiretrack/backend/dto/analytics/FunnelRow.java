@@ -0,0 +1,14 @@
+package com.hiretrack.backend.dto.analytics;
+
+import java.util.Map;
+
+import com.hiretrack.backend.enums.ApplicationStatus;
+
+/**
+ * Applications of one group of the funnel by current status.
+ *
+ * @param key      value of the grouping dimension, {@code null} when the group has no value
+ *                 (e.g. applications without a source) or when the funnel is not grouped
+ * @param hireRate share of the group's applications that ended in {@link ApplicationStatus#HIRED}
+ */
+public record FunnelRow(String key, long applications, Map<ApplicationStatus, Long> byStatus, double hireRate) {}
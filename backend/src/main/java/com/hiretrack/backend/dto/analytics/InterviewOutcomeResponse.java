@@ -0,0 +1,22 @@
+package com.hiretrack.backend.dto.analytics;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.hiretrack.backend.enums.InterviewType;
+import com.hiretrack.backend.enums.Outcome;
+
+/**
+ * Interview outcome and rating distributions. Interviews without a type, outcome or rating
+ * count towards {@code interviews} but not towards the matching distribution.
+ *
+ * @param averageRating mean rating of the rated interviews, {@code null} when none is rated
+ */
+public record InterviewOutcomeResponse(
+        long interviews,
+        Map<Outcome, Long> byOutcome,
+        Map<InterviewType, Map<Outcome, Long>> byTypeAndOutcome,
+        Map<Integer, Long> byRating,
+        Double averageRating,
+        Instant refreshedAt
+) {}
@@ -0,0 +1,15 @@
+package com.hiretrack.backend.dto.analytics;
+
+import java.util.Map;
+
+/**
+ * Time applications spent in one stage of the pipeline.
+ *
+ * @param stage        {@code TO_FIRST_INTERVIEW} (applied to first interview),
+ *                     {@code INTERVIEW_LOOP} (first to last interview), or an
+ *                     {@link com.hiretrack.backend.enums.ApplicationStatus} name for the time
+ *                     spent in that status before the next change, from the status log
+ * @param histogram    applications per duration bucket, keyed by its upper bound
+ *                     ({@code "1d"}, {@code "3d"}, ..., {@code "30d"}, then {@code "more"})
+ */
+public record StageDuration(String stage, long applications, double averageHours, Map<String, Long> histogram) {}
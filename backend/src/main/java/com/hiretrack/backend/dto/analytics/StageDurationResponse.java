@@ -0,0 +1,6 @@
+package com.hiretrack.backend.dto.analytics;
+
+import java.time.Instant;
+import java.util.List;
+
+public record StageDurationResponse(List<StageDuration> stages, Instant refreshedAt) {}
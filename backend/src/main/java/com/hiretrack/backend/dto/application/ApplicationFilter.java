@@ -0,0 +1,22 @@
+package com.hiretrack.backend.dto.application;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.hiretrack.backend.enums.ApplicationStatus;
+
+/**
+ * Optional filters of the application listing, bound from query parameters. Null means "any".
+ * {@code department} and {@code location} refer to the job applied to.
+ * The date range is half-open: {@code appliedFrom <= appliedAt < appliedTo}.
+ */
+public record ApplicationFilter(
+        ApplicationStatus status,
+        Long jobId,
+        Long candidateId,
+        String department,
+        String location,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedTo
+) {}
@@ -0,0 +1,47 @@
+package com.hiretrack.backend.dto.application;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.entity.Application;
+import com.hiretrack.backend.entity.Candidate;
+import com.hiretrack.backend.enums.ApplicationStatus;
+
+/**
+ * Application with the job title and candidate name a listing row shows.
+ * Callers must load {@code job} and {@code candidate} with the application.
+ */
+public record ApplicationResponse(
+        Long id,
+        Long jobId,
+        String jobTitle,
+        Long candidateId,
+        String candidateName,
+        ApplicationStatus status,
+        LocalDateTime appliedAt,
+        String source,
+        String notes,
+        Long version
+) {
+
+    public static ApplicationResponse from(Application application) {
+        Candidate candidate = application.getCandidate();
+        return new ApplicationResponse(
+                application.getId(),
+                application.getJob().getId(),
+                application.getJob().getTitle(),
+                candidate.getId(),
+                fullName(candidate.getFirstName(), candidate.getLastName()),
+                application.getStatus(),
+                application.getAppliedAt(),
+                application.getSource(),
+                application.getNotes(),
+                application.getVersion());
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        if (firstName == null) {
+            return lastName;
+        }
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+}
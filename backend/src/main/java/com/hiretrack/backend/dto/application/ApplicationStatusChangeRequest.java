@@ -0,0 +1,10 @@
+package com.hiretrack.backend.dto.application;
+
+import com.hiretrack.backend.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * @param version version of the application the change is based on, as last read by the
+ *                client; required, the change is rejected with 409 if the application changed since
+ */
+public record ApplicationStatusChangeRequest(@NotNull ApplicationStatus status, @NotNull Long version) {}
@@ -0,0 +1,20 @@
+package com.hiretrack.backend.dto.application;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.entity.ApplicationStatusChange;
+import com.hiretrack.backend.enums.ApplicationStatus;
+
+/**
+ * One entry of an application's status log; {@code fromStatus} is null for the initial status.
+ */
+public record ApplicationStatusChangeResponse(
+        ApplicationStatus fromStatus,
+        ApplicationStatus toStatus,
+        LocalDateTime changedAt
+) {
+
+    public static ApplicationStatusChangeResponse from(ApplicationStatusChange change) {
+        return new ApplicationStatusChangeResponse(change.getFromStatus(), change.getToStatus(), change.getChangedAt());
+    }
+}
@@ -1,6 +1,6 @@
 package com.hiretrack.backend.dto.auth;
 
-import com.hiretrack.backend.entity.User;
+import com.hiretrack.backend.dto.user.UserResponse;
 
-public record AuthResponse(String accessToken, String tokenType, User user) {
+public record AuthResponse(String accessToken, String tokenType, UserResponse user) {
 }
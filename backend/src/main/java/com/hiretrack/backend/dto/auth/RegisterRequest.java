@@ -4,6 +4,14 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+/**
+ * @param role            ignored, kept for existing clients: the founder of a new company is
+ *                        its ADMIN, an invited user gets the role of the invitation
+ * @param companyName     name of the new company, which gets a tenant of its own even if another
+ *                        company has the same name
+ * @param invitationToken an administrator's invitation (POST /api/invitations): the user joins
+ *                        that company, with the invitation's role, instead of founding one
+ */
 public record RegisterRequest(
         @NotBlank(message = "Email is required")
         @Email(message = "Email must be valid")
@@ -21,12 +29,13 @@ public record RegisterRequest(
         @Size(max = 100, message = "Last name must not exceed 100 characters")
         String lastName,
         
-        @NotBlank(message = "Role is required")
         String role,
         
         @Size(max = 150, message = "Company name must not exceed 150 characters")
         String companyName,
         
         @Size(max = 20, message = "Phone number must not exceed 20 characters")
-        String phoneNumber
+        String phoneNumber,
+
+        String invitationToken
 ) {}
@@ -0,0 +1,18 @@
+package com.hiretrack.backend.dto.candidate;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.hiretrack.backend.enums.ExperienceLevel;
+
+/**
+ * Optional filters of the candidate listing, bound from query parameters. Null means "any".
+ * The date range is half-open: {@code createdFrom <= createdAt < createdTo}.
+ */
+public record CandidateFilter(
+        ExperienceLevel experienceLevel,
+        String location,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+) {}
@@ -0,0 +1,44 @@
+package com.hiretrack.backend.dto.candidate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.hiretrack.backend.enums.ImportStatus;
+import com.hiretrack.backend.service.imports.ImportJob;
+
+/**
+ * Status of a bulk candidate import. {@code errors} lists the first rejected rows only;
+ * {@code rejected} counts all of them.
+ */
+public record CandidateImportResponse(
+        UUID id,
+        ImportStatus status,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        long rowsRead,
+        long inserted,
+        long duplicates,
+        long rejected,
+        Double rowsPerSecond,
+        List<ImportJob.RowError> errors,
+        String failure
+) {
+
+    public static CandidateImportResponse from(ImportJob job) {
+        return new CandidateImportResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getSubmittedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getRowsRead(),
+                job.getInserted(),
+                job.getDuplicates(),
+                job.getRejected(),
+                job.getRowsPerSecond(),
+                job.getErrors(),
+                job.getFailure());
+    }
+}
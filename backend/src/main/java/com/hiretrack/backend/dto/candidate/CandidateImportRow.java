@@ -0,0 +1,55 @@
+package com.hiretrack.backend.dto.candidate;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.hiretrack.backend.enums.ExperienceLevel;
+
+/**
+ * One candidate of a bulk import. Field names match {@link CandidateResponse}, so a CSV or
+ * NDJSON export can be imported back as is; unknown fields such as {@code id} are ignored.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CandidateImportRow(
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        String resumeUrl,
+        String linkedInUrl,
+        ExperienceLevel experienceLevel,
+        String location
+) {
+
+    /**
+     * Checks the row against the column constraints of {@code candidates}.
+     *
+     * @return the reason the row cannot be imported, or null if it is valid
+     */
+    public String validate() {
+        if (email == null || email.isBlank()) {
+            return "email is required";
+        }
+        if (email.indexOf('@') < 1) {
+            return "email is not valid";
+        }
+        return Stream.of(
+                        tooLong("email", email, 150),
+                        tooLong("firstName", firstName, 100),
+                        tooLong("lastName", lastName, 100),
+                        tooLong("phoneNumber", phoneNumber, 20),
+                        tooLong("resumeUrl", resumeUrl, 255),
+                        tooLong("linkedInUrl", linkedInUrl, 255),
+                        tooLong("location", location, 100))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String tooLong(String field, String value, int maxLength) {
+        return value != null && value.length() > maxLength
+                ? field + " is longer than " + maxLength + " characters"
+                : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.hiretrack.backend.dto.candidate;
+
+/**
+ * A candidate matched to a job, with the cosine similarity of their texts in [0, 1].
+ */
+public record CandidateMatchResponse(
+        CandidateResponse candidate,
+        float score
+) {
+}
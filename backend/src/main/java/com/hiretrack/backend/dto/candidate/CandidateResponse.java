@@ -0,0 +1,34 @@
+package com.hiretrack.backend.dto.candidate;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.entity.Candidate;
+import com.hiretrack.backend.enums.ExperienceLevel;
+
+public record CandidateResponse(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        String resumeUrl,
+        String linkedInUrl,
+        ExperienceLevel experienceLevel,
+        String location,
+        LocalDateTime createdAt
+) {
+
+    public static CandidateResponse from(Candidate candidate) {
+        return new CandidateResponse(
+                candidate.getId(),
+                candidate.getFirstName(),
+                candidate.getLastName(),
+                candidate.getEmail(),
+                candidate.getPhoneNumber(),
+                candidate.getResumeUrl(),
+                candidate.getLinkedInUrl(),
+                candidate.getExperienceLevel(),
+                candidate.getLocation(),
+                candidate.getCreatedAt());
+    }
+}
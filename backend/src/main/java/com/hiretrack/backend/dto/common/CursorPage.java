@@ -0,0 +1,65 @@
+package com.hiretrack.backend.dto.common;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import com.hiretrack.backend.exception.InvalidCursorException;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * <p> Listings are ordered by primary key; the cursor is an opaque encoding of the last id
+ * returned, so following pages resume with {@code id > cursor} instead of an OFFSET. Cursors
+ * stay valid while rows are inserted or deleted. {@code nextCursor} is null on the last page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}: the extra row only tells
+     * whether another page exists and is not returned.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, ToLongFunction<E> idOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encode(idOf.applyAsLong(pageRows.get(size - 1))) : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * Clamps a requested page size to {@code [1, MAX_SIZE]}.
+     */
+    public static int clampSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+    }
+
+    /**
+     * @param cursor a cursor previously returned as {@code nextCursor}, or null for the first page
+     * @return the id to resume after, or null for the first page
+     * @throws InvalidCursorException if the cursor was not produced by {@link #encode(long)}
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new InvalidCursorException(cursor);
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
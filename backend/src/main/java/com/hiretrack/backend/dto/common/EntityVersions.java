@@ -0,0 +1,48 @@
+package com.hiretrack.backend.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Versions of read responses, from which their weak ETags are built.
+ *
+ * <p> The version of a row is its id followed by the {@code updated_at} of every row its
+ * response shows (V20), e.g. an application, its job and its candidate. The version of a page is
+ * a digest of the versions of its rows: it changes whenever a row of the page changes, enters or
+ * leaves it. Both can be computed from the entities or from a projection of these columns alone,
+ * which is what lets a conditional GET answer 304 without loading the rows.
+ */
+public final class EntityVersions {
+
+    private EntityVersions() {
+    }
+
+    /**
+     * @param idAndUpdatedAt the row id, then the update times of the rows its response shows
+     */
+    public static String of(Object... idAndUpdatedAt) {
+        StringJoiner version = new StringJoiner(".");
+        for (Object part : idAndUpdatedAt) {
+            version.add(part instanceof LocalDateTime time ? Long.toString(micros(time), 36) : String.valueOf(part));
+        }
+        return version.toString();
+    }
+
+    /**
+     * @param rows  versions of the rows fetched for the page, the look-ahead row included
+     * @param limit number of rows fetched, which decides where the page ends
+     */
+    public static String ofPage(List<String> rows, int limit) {
+        String joined = limit + ":" + String.join(",", rows);
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+}
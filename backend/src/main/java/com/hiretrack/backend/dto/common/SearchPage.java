@@ -0,0 +1,45 @@
+package com.hiretrack.backend.dto.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of ranked full-text search results.
+ *
+ * <p> Results are ordered by relevance, which has no stable key to resume from, so search pages
+ * are numbered rather than keyset-paginated. Only the first {@value #MAX_RESULTS} hits can be
+ * reached: past that, ranking and skipping rows costs more than any client needs.
+ * {@code nextPage} is null on the last reachable page.
+ */
+public record SearchPage<T>(List<T> items, Integer nextPage) {
+
+    public static final int MAX_RESULTS = 1_000;
+
+    /**
+     * Whether the page lies within the first {@value #MAX_RESULTS} hits.
+     */
+    public static boolean isReachable(int page, int size) {
+        return page >= 0 && (long) page * size < MAX_RESULTS;
+    }
+
+    /**
+     * Row offset of a page, for use once {@link #isReachable(int, int)} holds.
+     */
+    public static int offset(int page, int size) {
+        return page * size;
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}: the extra row only tells
+     * whether another page exists and is not returned.
+     */
+    public static <E, T> SearchPage<T> of(List<E> rows, int page, int size, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size && isReachable(page + 1, size);
+        List<E> pageRows = rows.size() > size ? rows.subList(0, size) : rows;
+        return new SearchPage<>(pageRows.stream().map(mapper).toList(), hasNext ? page + 1 : null);
+    }
+
+    public static <T> SearchPage<T> empty() {
+        return new SearchPage<>(List.of(), null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.hiretrack.backend.dto.interview;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.enums.InterviewType;
+
+/**
+ * @param durationMinutes time the interviewer is busy from {@code interviewDate}, 60 if absent
+ */
+public record InterviewBookingRequest(
+        Long applicationId,
+        Long interviewerId,
+        LocalDateTime interviewDate,
+        Integer durationMinutes,
+        InterviewType interviewType
+) {
+
+    /**
+     * Whether the interview runs past the end of the month it starts in, which V18 refuses:
+     * interviews are partitioned by month and only overlaps within a partition are caught.
+     */
+    public boolean crossesMonthEnd() {
+        LocalDateTime end = interviewDate.plusMinutes(durationMinutes != null ? durationMinutes : 60);
+        return end.isAfter(interviewDate.toLocalDate().withDayOfMonth(1).plusMonths(1).atStartOfDay());
+    }
+}
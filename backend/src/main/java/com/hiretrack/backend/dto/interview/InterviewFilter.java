@@ -0,0 +1,22 @@
+package com.hiretrack.backend.dto.interview;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.hiretrack.backend.enums.InterviewType;
+import com.hiretrack.backend.enums.Outcome;
+
+/**
+ * Optional filters of the interview listing, bound from query parameters. Null means "any".
+ * The date range is half-open: {@code from <= interviewDate < to}.
+ */
+public record InterviewFilter(
+        Long interviewerId,
+        Long applicationId,
+        Long jobId,
+        InterviewType interviewType,
+        Outcome outcome,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+) {}
@@ -0,0 +1,58 @@
+package com.hiretrack.backend.dto.interview;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.entity.Application;
+import com.hiretrack.backend.entity.Interview;
+import com.hiretrack.backend.entity.User;
+import com.hiretrack.backend.enums.InterviewType;
+import com.hiretrack.backend.enums.Outcome;
+
+/**
+ * Interview with the interviewer, job and candidate a schedule row shows. Callers must load
+ * {@code interviewer}, {@code application.job} and {@code application.candidate} with the interview.
+ */
+public record InterviewResponse(
+        Long id,
+        Long applicationId,
+        Long jobId,
+        String jobTitle,
+        Long candidateId,
+        String candidateName,
+        Long interviewerId,
+        String interviewerName,
+        LocalDateTime interviewDate,
+        Integer durationMinutes,
+        InterviewType interviewType,
+        String feedback,
+        Integer rating,
+        Outcome outcome
+) {
+
+    public static InterviewResponse from(Interview interview) {
+        Application application = interview.getApplication();
+        User interviewer = interview.getInterviewer();
+        return new InterviewResponse(
+                interview.getId(),
+                application.getId(),
+                application.getJob().getId(),
+                application.getJob().getTitle(),
+                application.getCandidate().getId(),
+                fullName(application.getCandidate().getFirstName(), application.getCandidate().getLastName()),
+                interviewer != null ? interviewer.getId() : null,
+                interviewer != null ? fullName(interviewer.getFirstName(), interviewer.getLastName()) : null,
+                interview.getInterviewDate(),
+                interview.getDurationMinutes(),
+                interview.getInterviewType(),
+                interview.getFeedback(),
+                interview.getRating(),
+                interview.getOutcome());
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        if (firstName == null) {
+            return lastName;
+        }
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,8 @@
+package com.hiretrack.backend.dto.interview;
+
+import java.time.LocalDateTime;
+
+/**
+ * Period from {@code start} included to {@code end} excluded.
+ */
+public record TimeSlot(LocalDateTime start, LocalDateTime end) {}
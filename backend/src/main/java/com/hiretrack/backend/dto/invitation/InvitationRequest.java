@@ -0,0 +1,17 @@
+package com.hiretrack.backend.dto.invitation;
+
+import com.hiretrack.backend.enums.Role;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * @param email the only email the invitation can be accepted with
+ * @param role  the role the invited user gets in the tenant, app.default-role when null
+ */
+public record InvitationRequest(
+        @NotBlank(message = "Email is required")
+        @Email(message = "Email must be valid")
+        String email,
+
+        Role role
+) {}
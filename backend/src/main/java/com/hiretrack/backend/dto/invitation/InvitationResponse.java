@@ -0,0 +1,28 @@
+package com.hiretrack.backend.dto.invitation;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.entity.TenantInvitation;
+import com.hiretrack.backend.enums.Role;
+
+/**
+ * @param token to hand to the invited user, who registers with it; returned only here, it cannot
+ *              be read back later
+ */
+public record InvitationResponse(
+        Long id,
+        String email,
+        Role role,
+        String token,
+        LocalDateTime expiresAt
+) {
+
+    public static InvitationResponse from(TenantInvitation invitation, String token) {
+        return new InvitationResponse(
+                invitation.getId(),
+                invitation.getEmail(),
+                invitation.getRole(),
+                token,
+                invitation.getExpiresAt());
+    }
+}
@@ -0,0 +1,21 @@
+package com.hiretrack.backend.dto.job;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.hiretrack.backend.enums.EmploymentType;
+import com.hiretrack.backend.enums.JobStatus;
+
+/**
+ * Optional filters of the job listing, bound from query parameters. Null means "any".
+ * The date range is half-open: {@code createdFrom <= createdAt < createdTo}.
+ */
+public record JobFilter(
+        JobStatus status,
+        EmploymentType employmentType,
+        String department,
+        String location,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+) {}
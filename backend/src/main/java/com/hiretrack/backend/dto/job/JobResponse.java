@@ -0,0 +1,35 @@
+package com.hiretrack.backend.dto.job;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.entity.Job;
+import com.hiretrack.backend.enums.EmploymentType;
+import com.hiretrack.backend.enums.JobStatus;
+
+public record JobResponse(
+        Long id,
+        String title,
+        String description,
+        String department,
+        EmploymentType employmentType,
+        String location,
+        String salaryRange,
+        JobStatus status,
+        Long createdById,
+        LocalDateTime createdAt
+) {
+
+    public static JobResponse from(Job job) {
+        return new JobResponse(
+                job.getId(),
+                job.getTitle(),
+                job.getDescription(),
+                job.getDepartment(),
+                job.getEmploymentType(),
+                job.getLocation(),
+                job.getSalaryRange(),
+                job.getStatus(),
+                job.getCreatedBy().getId(),
+                job.getCreatedAt());
+    }
+}
@@ -0,0 +1,11 @@
+package com.hiretrack.backend.dto.user;
+
+import com.hiretrack.backend.enums.Role;
+
+/**
+ * Optional filters of the user listing, bound from query parameters. Null means "any".
+ */
+public record UserFilter(
+        Role role,
+        String companyName
+) {}
@@ -0,0 +1,33 @@
+package com.hiretrack.backend.dto.user;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.entity.User;
+import com.hiretrack.backend.enums.Role;
+
+/**
+ * Public view of a user; never exposes the password hash.
+ */
+public record UserResponse(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        Role role,
+        String companyName,
+        String phoneNumber,
+        LocalDateTime createdAt
+) {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getRole(),
+                user.getCompanyName(),
+                user.getPhoneNumber(),
+                user.getCreatedAt());
+    }
+}
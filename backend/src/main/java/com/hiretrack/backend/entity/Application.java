@@ -4,38 +4,88 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.TenantId;
+
 import com.hiretrack.backend.enums.ApplicationStatus;
+import lombok.Getter;
+import lombok.Setter;
 
 @Entity
 @Table(name = "applications")
 public class Application {
 
+    @Getter
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "application_id")
     private Long id;
 
-    @ManyToOne
+    /** Always the tenant of the job and of the candidate (V17 foreign keys). */
+    @Getter
+    @Setter
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Getter
+    @Setter
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id", nullable = false)
     private Job job;
 
-    @ManyToOne
+    @Getter
+    @Setter
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "candidate_id", nullable = false)
     private Candidate candidate;
 
+    @Getter
+    @Setter
     @Enumerated(EnumType.STRING)
     private ApplicationStatus status;
 
-    @Column(name = "applied_at")
-    private LocalDateTime appliedAt;
+    /** Submission time, and the monthly partition key (V18): never updated. */
+    @Getter
+    @Setter
+    @Column(name = "applied_at", nullable = false, updatable = false)
+    private LocalDateTime appliedAt = LocalDateTime.now();
 
+    @Getter
+    @Setter
     @Column(length = 50)
     private String source;
 
+    @Getter
+    @Setter
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    @Getter
+    @Setter
     @OneToMany(mappedBy = "application")
     private List<Interview> interviews;
+
+    /** Optimistic lock: an update based on an outdated copy fails instead of overwriting newer changes. */
+    @Getter
+    @Setter
+    @Version
+    private Long version;
+
+    /** Last change, set by the database on every update (V20); read endpoints derive their ETags from it. */
+    @Getter
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    /** Status as last read from or written to the database, null for a new application. */
+    @Getter
+    @Transient
+    private ApplicationStatus persistedStatus;
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedStatus() {
+        persistedStatus = status;
+    }
 }
 
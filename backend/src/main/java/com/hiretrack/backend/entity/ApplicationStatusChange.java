@@ -0,0 +1,53 @@
+package com.hiretrack.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.TenantId;
+
+import com.hiretrack.backend.enums.ApplicationStatus;
+import lombok.Getter;
+
+/**
+ * One entry of the application status log. Rows are written by a database trigger whenever an
+ * application's status changes, so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "application_status_history")
+public class ApplicationStatusChange {
+
+    @Getter
+    @Id
+    @Column(name = "history_id")
+    private Long id;
+
+    @Getter
+    @TenantId
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Getter
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Getter
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    /** Null for the initial status of the application. */
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private ApplicationStatus fromStatus;
+
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private ApplicationStatus toStatus;
+
+    @Getter
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
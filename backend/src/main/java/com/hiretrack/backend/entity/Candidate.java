@@ -3,45 +3,87 @@ package com.hiretrack.backend.entity;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
+
+import org.hibernate.annotations.TenantId;
+
 import com.hiretrack.backend.enums.ExperienceLevel;
+import lombok.Getter;
+import lombok.Setter;
 
 @Entity
 @Table(name = "candidates")
 public class Candidate {
 
+    /**
+     * Allocated 50 at a time from the SERIAL sequence (pooled optimizer), which keeps JDBC batching
+     * available for inserts. The sequence increment must match {@code allocationSize} (see V10).
+     */
+    @Getter
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidate_id_seq")
+    @SequenceGenerator(name = "candidate_id_seq", sequenceName = "candidates_candidate_id_seq", allocationSize = 50)
     @Column(name = "candidate_id")
     private Long id;
 
+    @Getter
+    @Setter
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Getter
+    @Setter
     @Column(name = "first_name", length = 100)
     private String firstName;
 
+    @Getter
+    @Setter
     @Column(name = "last_name", length = 100)
     private String lastName;
 
+    @Getter
+    @Setter
     @Column(length = 150, unique = true)
     private String email;
 
+    @Getter
+    @Setter
     @Column(name = "phone_number", length = 20)
     private String phoneNumber;
 
+    @Getter
+    @Setter
     @Column(name = "resume_url", length = 255)
     private String resumeUrl;
 
+    @Getter
+    @Setter
     @Column(name = "linkedin_url", length = 255)
     private String linkedInUrl;
 
+    @Getter
+    @Setter
     @Enumerated(EnumType.STRING)
     @Column(name = "experience_level", length = 20)
     private ExperienceLevel experienceLevel;
 
+    @Getter
+    @Setter
     @Column(length = 100)
     private String location;
 
+    @Getter
+    @Setter
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    /** Last change, set by the database on every update (V20); read endpoints derive their ETags from it. */
+    @Getter
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @Setter
     @OneToMany(mappedBy = "candidate")
     private List<Application> applications;
 }
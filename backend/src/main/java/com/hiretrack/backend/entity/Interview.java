@@ -3,39 +3,74 @@ package com.hiretrack.backend.entity;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.TenantId;
+
 import com.hiretrack.backend.enums.InterviewType;
 import com.hiretrack.backend.enums.Outcome;
+import lombok.Getter;
+import lombok.Setter;
 
 
 @Entity
 @Table(name = "interviews")
 public class Interview {
 
+    @Getter
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "interview_id")
     private Long id;
 
-    @ManyToOne
+    /** Always the tenant of the application. */
+    @Getter
+    @Setter
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Getter
+    @Setter
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "application_id", nullable = false)
     private Application application;
 
-    @ManyToOne
+    @Getter
+    @Setter
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "interviewer_id", nullable = false)
     private User interviewer;
 
+    @Getter
+    @Setter
     @Column(name = "interview_date")
     private LocalDateTime interviewDate;
 
+    /**
+     * Time the interviewer is busy from {@code interviewDate}. Two interviews of the same
+     * interviewer cannot overlap (V16 exclusion constraint).
+     */
+    @Getter
+    @Setter
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationMinutes = 60;
+
+    @Getter
+    @Setter
     @Enumerated(EnumType.STRING)
     @Column(name = "interview_type", length = 20)
     private InterviewType interviewType;
 
+    @Getter
+    @Setter
     @Column(columnDefinition = "TEXT")
     private String feedback;
 
+    @Getter
+    @Setter
     private Integer rating;
 
+    @Getter
+    @Setter
     @Enumerated(EnumType.STRING)
     private Outcome outcome;
 }
@@ -4,47 +4,87 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.TenantId;
+
 import com.hiretrack.backend.enums.EmploymentType;
 import com.hiretrack.backend.enums.JobStatus;
+import lombok.Getter;
+import lombok.Setter;
 
 @Entity
 @Table(name = "jobs")
 public class Job {
 
+    @Getter
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "job_id")
     private Long id;
 
+    /**
+     * Set by Hibernate from the current tenant on insert and added to the WHERE clause of every
+     * query, see {@code TenantIdentifierResolver}.
+     */
+    @Getter
+    @Setter
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Getter
+    @Setter
     @Column(length = 150)
     private String title;
 
+    @Getter
+    @Setter
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Getter
+    @Setter
     @Column(length = 100)
     private String department;
 
+    @Getter
+    @Setter
     @Enumerated(EnumType.STRING)
     @Column(name = "employment_type", length = 20)
     private EmploymentType employmentType;
 
+    @Getter
+    @Setter
     @Column(length = 100)
     private String location;
 
+    @Getter
+    @Setter
     @Column(name = "salary_range", length = 50)
     private String salaryRange;
 
+    @Getter
+    @Setter
     @Enumerated(EnumType.STRING)
     private JobStatus status;
 
-    @ManyToOne
+    @Getter
+    @Setter
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
 
+    @Getter
+    @Setter
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    /** Last change, set by the database on every update (V20); read endpoints derive their ETags from it. */
+    @Getter
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @Setter
     @OneToMany(mappedBy = "job")
     private List<Application> applications;
 
@@ -0,0 +1,31 @@
+package com.hiretrack.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+/**
+ * A company. Its users only see its jobs, candidates, applications and interviews. Names are
+ * not unique: every self-registration creates a tenant, others join through an invitation.
+ */
+@Entity
+@Table(name = "tenants")
+public class Tenant {
+
+    @Getter
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tenant_id")
+    private Long id;
+
+    @Getter
+    @Column(name = "name", length = 150, nullable = false)
+    private String name;
+
+    @Getter
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public Tenant() {}
+}
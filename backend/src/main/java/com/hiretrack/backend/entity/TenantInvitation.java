@@ -0,0 +1,71 @@
+package com.hiretrack.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.TenantId;
+
+import com.hiretrack.backend.enums.Role;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * An administrator's invitation to join their tenant, the only way into an existing tenant.
+ * Only the SHA-256 of its token is stored, see {@code TenantInvitationService}.
+ */
+@Entity
+@Table(name = "tenant_invitations")
+public class TenantInvitation {
+
+    @Getter
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invitation_id")
+    private Long id;
+
+    /** The tenant the invitation joins, set by Hibernate from the inviting administrator's. */
+    @Getter
+    @Setter
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Getter
+    @Setter
+    @Column(name = "token_hash", length = 64, nullable = false, updatable = false)
+    private String tokenHash;
+
+    /** The only email the invitation can be accepted with. */
+    @Getter
+    @Setter
+    @Column(length = 150, nullable = false)
+    private String email;
+
+    @Getter
+    @Setter
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private Role role;
+
+    @Getter
+    @Setter
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by")
+    private User createdBy;
+
+    @Getter
+    @Setter
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Getter
+    @Setter
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Getter
+    @Column(name = "accepted_at")
+    private LocalDateTime acceptedAt;
+
+    public TenantInvitation() {}
+}
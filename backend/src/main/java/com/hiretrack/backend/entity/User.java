@@ -3,20 +3,33 @@ package com.hiretrack.backend.entity;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.annotations.TenantId;
 
 import com.hiretrack.backend.enums.Role;
+import com.hiretrack.backend.service.auth.cache.UserDetailsCacheEntityListener;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserDetailsCacheEntityListener.class)
 public class User {
 
+    @Getter
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
     private Long id;
 
+    /** Tenant of the user's company, set at registration. */
+    @Getter
+    @Setter
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
     @Getter
     @Setter
     @Column(name = "first_name", length = 100)
@@ -58,9 +71,41 @@ public class User {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    @Getter
+    @Setter
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
+    @Getter
+    @Column(name = "token_revoked_at")
+    private LocalDateTime tokenRevokedAt;
+
     @Getter
     @OneToMany(mappedBy = "createdBy")
     private List<Job> jobs;
 
     public User() {}
+
+    /** Role and password hash as last read from or written to the database, null for a new user. */
+    @Transient
+    private Role persistedRole;
+
+    @Transient
+    private String persistedPasswordHash;
+
+    /**
+     * Whether the role or the password changed since the user was read; always true for a user
+     * that was not read from the database.
+     */
+    public boolean isCredentialsChanged() {
+        return persistedRole == null || persistedRole != role || !Objects.equals(persistedPasswordHash, passwordHash);
+    }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedCredentials() {
+        persistedRole = role;
+        persistedPasswordHash = passwordHash;
+    }
 }
@@ -1,9 +1,30 @@
 package com.hiretrack.backend.enums;
 
+/**
+ * Pipeline status of an application. HIRED is final; a REJECTED application may only be
+ * reconsidered, i.e. sent back to review.
+ */
 public enum ApplicationStatus {
     APPLIED,
     IN_REVIEW,
     INTERVIEWING,
     REJECTED,
-    HIRED
+    HIRED;
+
+    /**
+     * Whether an application may move from this status to {@code next}. Staying in the same
+     * status is always allowed.
+     */
+    public boolean canTransitionTo(ApplicationStatus next) {
+        if (next == this) {
+            return true;
+        }
+        return switch (this) {
+            case APPLIED -> next == IN_REVIEW || next == REJECTED;
+            case IN_REVIEW -> next == INTERVIEWING || next == REJECTED;
+            case INTERVIEWING -> next == HIRED || next == REJECTED;
+            case REJECTED -> next == IN_REVIEW;
+            case HIRED -> false;
+        };
+    }
 }
@@ -0,0 +1,21 @@
+package com.hiretrack.backend.enums;
+
+/**
+ * Grouping of the hiring funnel, with the rollup column each value groups by.
+ */
+public enum FunnelDimension {
+    JOB("job_id::text"),
+    DEPARTMENT("department"),
+    SOURCE("source"),
+    DAY("day::text");
+
+    private final String column;
+
+    FunnelDimension(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,8 @@
+package com.hiretrack.backend.enums;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.hiretrack.backend.enums;
+
+/**
+ * Entities whose changes are published through the outbox.
+ */
+public enum OutboxAggregate {
+    JOB,
+    CANDIDATE,
+    APPLICATION,
+    INTERVIEW
+}
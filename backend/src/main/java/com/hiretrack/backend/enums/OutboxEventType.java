@@ -0,0 +1,7 @@
+package com.hiretrack.backend.enums;
+
+public enum OutboxEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,11 @@
+package com.hiretrack.backend.enums;
+
+/**
+ * Where the outbox relay publishes events.
+ */
+public enum OutboxSinkType {
+    /** Spring application events, for in-process listeners and tests. */
+    IN_PROCESS,
+    /** One Kafka topic per aggregate type. */
+    KAFKA
+}
@@ -0,0 +1,11 @@
+package com.hiretrack.backend.exception;
+
+/**
+ * Thrown when the import queue is full. Mapped to HTTP 503.
+ */
+public class ImportRejectedException extends RuntimeException {
+
+    public ImportRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hiretrack.backend.exception;
+
+/**
+ * Thrown when an interview overlaps another interview of the same interviewer. Mapped to HTTP 409.
+ */
+public class InterviewConflictException extends RuntimeException {
+
+    public InterviewConflictException(Long interviewerId) {
+        super("Interviewer " + interviewerId + " already has an interview at that time");
+    }
+}
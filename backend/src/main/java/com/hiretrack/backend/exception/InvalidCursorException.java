@@ -0,0 +1,11 @@
+package com.hiretrack.backend.exception;
+
+/**
+ * Thrown when a pagination cursor cannot be decoded. Mapped to HTTP 400.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid cursor: " + cursor);
+    }
+}
@@ -0,0 +1,14 @@
+package com.hiretrack.backend.exception;
+
+import com.hiretrack.backend.enums.ApplicationStatus;
+
+/**
+ * Thrown when an application status change is not allowed by
+ * {@link ApplicationStatus#canTransitionTo}. Mapped to HTTP 409.
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    public InvalidStatusTransitionException(ApplicationStatus from, ApplicationStatus to) {
+        super("Cannot move an application from " + from + " to " + to);
+    }
+}
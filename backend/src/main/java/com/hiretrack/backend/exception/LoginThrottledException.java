@@ -0,0 +1,20 @@
+package com.hiretrack.backend.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a login attempt exceeds the per-email or per-IP rate limit. Mapped to HTTP 429.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,11 @@
+package com.hiretrack.backend.exception;
+
+/**
+ * Thrown when candidate matching is disabled or its index is not built yet. Mapped to HTTP 503.
+ */
+public class MatchingUnavailableException extends RuntimeException {
+
+    public MatchingUnavailableException(String message) {
+        super(message);
+    }
+}
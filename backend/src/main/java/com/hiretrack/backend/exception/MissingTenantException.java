@@ -0,0 +1,12 @@
+package com.hiretrack.backend.exception;
+
+/**
+ * Thrown when tenant data is accessed from a thread that has no tenant and does not run as
+ * root: a request authenticated without one. Mapped to HTTP 403.
+ */
+public class MissingTenantException extends RuntimeException {
+
+    public MissingTenantException() {
+        super("No tenant for the current request");
+    }
+}
@@ -0,0 +1,11 @@
+package com.hiretrack.backend.exception;
+
+/**
+ * Thrown when the password hashing executor is saturated or too slow to answer. Mapped to HTTP 503.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
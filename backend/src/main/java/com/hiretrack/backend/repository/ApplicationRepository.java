@@ -1,12 +1,23 @@
 package com.hiretrack.backend.repository;
 
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import com.hiretrack.backend.entity.Application;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, JpaSpecificationExecutor<Application> {
+
+    /**
+     * Loads the associations shown by the detail view in the same statement.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"job", "candidate"})
+    Optional<Application> findById(Long id);
 }
 
 
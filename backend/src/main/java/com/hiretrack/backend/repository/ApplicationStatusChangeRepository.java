@@ -0,0 +1,18 @@
+package com.hiretrack.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hiretrack.backend.entity.ApplicationStatusChange;
+
+@Repository
+public interface ApplicationStatusChangeRepository extends JpaRepository<ApplicationStatusChange, Long> {
+
+    /**
+     * The status log of one application, oldest first. Served by the
+     * {@code (application_id, changed_at)} index of every partition.
+     */
+    List<ApplicationStatusChange> findByApplicationIdOrderByChangedAtAscIdAsc(Long applicationId);
+}
@@ -1,12 +1,36 @@
 package com.hiretrack.backend.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.hiretrack.backend.entity.Candidate;
 
 @Repository
-public interface CandidateRepository extends JpaRepository<Candidate, Long> {
-}
+public interface CandidateRepository extends JpaRepository<Candidate, Long>, JpaSpecificationExecutor<Candidate> {
 
+    String TENANT_SEARCH_SQL = """
+            SELECT c.* FROM (
+                SELECT c.candidate_id, ts_rank(c.search_vector, q) AS rank
+                FROM candidates c, websearch_to_tsquery('english', :query) q
+                WHERE c.tenant_id = :tenantId AND c.search_vector @@ q
+                ORDER BY rank DESC, c.candidate_id
+                LIMIT :limit OFFSET :offset
+            ) top
+            JOIN candidates c ON c.candidate_id = top.candidate_id AND c.tenant_id = :tenantId
+            ORDER BY top.rank DESC, c.candidate_id
+            """;
 
+    /**
+     * Candidates matching a web-style search query, most relevant first. Name hits outrank
+     * location hits, which outrank hits in application notes. Candidates not yet processed by
+     * the search indexer do not match. Every hit of the tenant is ranked, as for jobs.
+     */
+    @Query(value = TENANT_SEARCH_SQL, nativeQuery = true)
+    List<Candidate> searchTenant(@Param("tenantId") Long tenantId, @Param("query") String query,
+                                 @Param("offset") int offset, @Param("limit") int limit);
+}
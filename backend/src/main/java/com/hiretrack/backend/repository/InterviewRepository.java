@@ -1,12 +1,23 @@
 package com.hiretrack.backend.repository;
 
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import com.hiretrack.backend.entity.Interview;
 
 @Repository
-public interface InterviewRepository extends JpaRepository<Interview, Long> {
+public interface InterviewRepository extends JpaRepository<Interview, Long>, JpaSpecificationExecutor<Interview> {
+
+    /**
+     * Loads the associations shown by the detail view in the same statement.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"interviewer", "application.job", "application.candidate"})
+    Optional<Interview> findById(Long id);
 }
 
 
@@ -0,0 +1,130 @@
+package com.hiretrack.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Building blocks of the filtered, keyset-paginated listings.
+ *
+ * <p> Every factory returns null when its value is null, and {@link Specification#allOf} skips
+ * null parts, so only the filters actually set end up in the SQL. This keeps each statement
+ * simple enough for the planner to pick the matching {@code (column, id)} index, which a
+ * catch-all {@code (:param is null or ...)} query would not allow.
+ *
+ * <p> Attributes may be dotted paths such as {@code "job.department"}; each segment but the
+ * last is an implicit inner join.
+ */
+public final class ListingSpecifications {
+
+    private static final Sort BY_ID = Sort.by(Sort.Direction.ASC, "id");
+
+    private ListingSpecifications() {
+    }
+
+    public static <T> Specification<T> equalTo(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(path(root, attribute), value);
+    }
+
+    /**
+     * {@code attribute >= value}: inclusive lower bound of a date range.
+     */
+    public static <T, V extends Comparable<? super V>> Specification<T> notBefore(String attribute, V value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(path(root, attribute), value);
+    }
+
+    /**
+     * {@code attribute < value}: exclusive upper bound of a date range.
+     */
+    public static <T, V extends Comparable<? super V>> Specification<T> before(String attribute, V value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(path(root, attribute), value);
+    }
+
+    /**
+     * Keyset condition: rows after the last id of the previous page.
+     */
+    public static <T> Specification<T> idAfter(Long afterId) {
+        if (afterId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThan(root.<Long>get("id"), afterId);
+    }
+
+    /**
+     * Runs the combined filters as a keyset page: ordered by id, at most {@code limit} rows,
+     * without the count query a {@code Pageable} lookup would add.
+     */
+    @SafeVarargs
+    public static <T> List<T> findPage(JpaSpecificationExecutor<T> repository, int limit, Specification<T>... parts) {
+        return findPage(repository, List.of(), limit, parts);
+    }
+
+    /**
+     * Same as {@link #findPage(JpaSpecificationExecutor, int, Specification[])}, loading the
+     * given association paths in the same statement through a fetch graph. Associations left
+     * out of the plan stay lazy and must not be read by the caller.
+     *
+     * @param fetchPlan association paths to fetch, e.g. {@code "application.job"}
+     */
+    @SafeVarargs
+    public static <T> List<T> findPage(JpaSpecificationExecutor<T> repository, List<String> fetchPlan, int limit,
+                                       Specification<T>... parts) {
+        Specification<T> spec = Specification.allOf(parts);
+        return repository.findBy(spec, query -> query.project(fetchPlan).sortBy(BY_ID).limit(limit).all());
+    }
+
+    /**
+     * The rows {@link #findPage} would return, reduced to the id and the given attributes: a
+     * single narrow statement, without loading or fetching any entity.
+     *
+     * @param attributes attributes to read after the id, e.g. {@code "job.updatedAt"}
+     * @return one array per row, the id first, ordered by id
+     */
+    @SafeVarargs
+    public static <T> List<Object[]> findColumns(EntityManager entityManager, Class<T> type, List<String> attributes,
+                                                 int limit, Specification<T>... parts) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<T> root = query.from(type);
+        List<Selection<?>> selection = new ArrayList<>();
+        selection.add(root.get("id"));
+        for (String attribute : attributes) {
+            selection.add(path(root, attribute));
+        }
+        query.multiselect(selection).orderBy(cb.asc(root.get("id")));
+        Predicate predicate = Specification.allOf(parts).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Path<V> path(Root<?> root, String attribute) {
+        Path<?> path = root;
+        for (String segment : attribute.split("\\.")) {
+            path = path.get(segment);
+        }
+        return (Path<V>) path;
+    }
+}
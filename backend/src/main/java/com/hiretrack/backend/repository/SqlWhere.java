@@ -0,0 +1,67 @@
+package com.hiretrack.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * WHERE clause of a plain JDBC query holding only the conditions whose value is set.
+ *
+ * <p> The JDBC counterpart of {@link ListingSpecifications}: leaving unset filters out of the
+ * statement, rather than writing {@code (? is null or ...)}, keeps each query index-friendly.
+ */
+public final class SqlWhere {
+
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> args = new ArrayList<>();
+
+    public SqlWhere equalTo(String column, Object value) {
+        return add(column + " = ?", value);
+    }
+
+    /**
+     * {@code column = value} for a condition the query must never run without, such as the
+     * tenant: unlike the filters, a missing value is an error rather than a dropped condition.
+     */
+    public SqlWhere require(String column, Object value) {
+        Objects.requireNonNull(value, () -> column + " is required");
+        return add(column + " = ?", value);
+    }
+
+    /**
+     * {@code column >= value}: inclusive lower bound of a range.
+     */
+    public SqlWhere notBefore(String column, Object value) {
+        return add(column + " >= ?", value);
+    }
+
+    /**
+     * {@code column < value}: exclusive upper bound of a range.
+     */
+    public SqlWhere before(String column, Object value) {
+        return add(column + " < ?", value);
+    }
+
+    public SqlWhere after(String column, Object value) {
+        return add(column + " > ?", value);
+    }
+
+    /**
+     * The clause, starting with {@code WHERE}, or an empty string when no condition is set.
+     */
+    public String sql() {
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    public Object[] args() {
+        return args.toArray();
+    }
+
+    private SqlWhere add(String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            args.add(value);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hiretrack.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hiretrack.backend.entity.TenantInvitation;
+
+@Repository
+public interface TenantInvitationRepository extends JpaRepository<TenantInvitation, Long> {
+
+    Optional<TenantInvitation> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks the invitation accepted unless it already was: of concurrent registrations with the
+     * same invitation, only the one that gets 1 back may proceed.
+     *
+     * @return 1 if this call accepted the invitation, 0 otherwise
+     */
+    @Modifying
+    @Query("update TenantInvitation i set i.acceptedAt = :now where i.id = :id and i.acceptedAt is null")
+    int accept(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
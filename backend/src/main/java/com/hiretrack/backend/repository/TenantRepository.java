@@ -0,0 +1,22 @@
+package com.hiretrack.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hiretrack.backend.entity.Tenant;
+
+@Repository
+public interface TenantRepository extends JpaRepository<Tenant, Long> {
+
+    /**
+     * Creates a tenant.
+     *
+     * @return the new tenant's id
+     */
+    @Transactional
+    @Query(value = "INSERT INTO tenants (name) VALUES (:name) RETURNING tenant_id", nativeQuery = true)
+    Long create(@Param("name") String name);
+}
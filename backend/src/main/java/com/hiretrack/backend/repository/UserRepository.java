@@ -1,17 +1,50 @@
 package com.hiretrack.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.hiretrack.backend.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
 
+    /**
+     * Users whose tokens were revoked within the last {@code retentionSeconds}, and emails that
+     * stopped belonging to a user (deleted or renamed, see V21) within them. Older revocations
+     * only concern tokens that have expired since, and users that never had one are left out,
+     * which keeps the deny-list as small as the revocations of the last access-token TTL. The
+     * window is measured on the database clock, which stamped the revocations.
+     */
+    @Query(value = """
+            SELECT email, token_version AS "tokenVersion" FROM users
+            WHERE token_revoked_at >= localtimestamp - :retentionSeconds * interval '1 second'
+            UNION ALL
+            SELECT email, token_version FROM removed_email_token_versions
+            WHERE removed_at >= localtimestamp - :retentionSeconds * interval '1 second'
+            """, nativeQuery = true)
+    List<TokenVersion> findRevokedTokenVersions(@Param("retentionSeconds") long retentionSeconds);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update User u set u.tokenVersion = u.tokenVersion + 1, u.tokenRevokedAt = current_timestamp
+            where u.email = :email""")
+    int incrementTokenVersion(@Param("email") String email);
 
+    interface TokenVersion {
+        String getEmail();
+
+        int getTokenVersion();
+    }
+}
@@ -0,0 +1,37 @@
+package com.hiretrack.backend.security;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * Spring Security principal used across the application.
+ *
+ * <p> Extends the standard {@link User} with the user's token version so that
+ * issued JWTs can carry it and be revoked by bumping the version in the database,
+ * and with the user's tenant, which scopes every query made on their behalf.
+ */
+public class AuthenticatedUser extends User {
+
+    private final int tokenVersion;
+    private final Long tenantId;
+
+    public AuthenticatedUser(String username,
+                             String password,
+                             Collection<? extends GrantedAuthority> authorities,
+                             int tokenVersion,
+                             Long tenantId) {
+        super(username, password, authorities);
+        this.tokenVersion = tokenVersion;
+        this.tenantId = tenantId;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+}
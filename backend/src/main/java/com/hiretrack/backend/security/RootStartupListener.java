@@ -0,0 +1,38 @@
+package com.hiretrack.backend.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.ConfigurableBootstrapContext;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringApplicationRunListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application as root ({@link TenantContext}): Spring Data opens Hibernate sessions
+ * while it builds the repositories' queries, before any request or tenant exists. The main
+ * thread leaves root once the application is ready (or failed to start).
+ *
+ * <p> Registered in {@code META-INF/spring.factories}.
+ */
+public class RootStartupListener implements SpringApplicationRunListener {
+
+    private Boolean previous;
+
+    public RootStartupListener(SpringApplication application, String[] args) {
+    }
+
+    @Override
+    public void starting(ConfigurableBootstrapContext bootstrapContext) {
+        previous = TenantContext.enterRoot();
+    }
+
+    @Override
+    public void ready(ConfigurableApplicationContext context, Duration timeTaken) {
+        TenantContext.exitRoot(previous);
+    }
+
+    @Override
+    public void failed(ConfigurableApplicationContext context, Throwable exception) {
+        TenantContext.exitRoot(previous);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hiretrack.backend.security;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Runs the request as root ({@link TenantContext#runAsRoot}).
+ *
+ * <p> Registered by {@link com.hiretrack.backend.config.SecurityConfig} for the authentication
+ * endpoints, which look users up by email before anyone is authenticated, and for error
+ * dispatches, which carry no security context. Both still open a Hibernate session (open
+ * session in view), which would otherwise fail for lack of a tenant.
+ */
+public class RootTenantFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Boolean previous = TenantContext.enterRoot();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.exitRoot(previous);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+}
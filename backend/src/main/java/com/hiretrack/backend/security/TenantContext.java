@@ -0,0 +1,99 @@
+package com.hiretrack.backend.security;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.hiretrack.backend.exception.MissingTenantException;
+
+/**
+ * The tenant the current thread works for: the tenant of the authenticated {@link AuthenticatedUser}.
+ *
+ * <p> Code that works across tenants (schedulers, background workers, the authentication
+ * endpoints) says so explicitly with {@link #runAsRoot} or {@link #callAsRoot}, and must scope
+ * its queries itself. Any other thread without a tenant fails closed: {@link #currentTenantId()}
+ * throws rather than letting a query run unscoped.
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<Boolean> ROOT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * @return the current tenant, or null when the thread runs as root
+     * @throws MissingTenantException when the thread has no tenant and does not run as root
+     */
+    public static Long currentTenantId() {
+        if (isRoot()) {
+            return null;
+        }
+        return requireTenantId();
+    }
+
+    /**
+     * The tenant of the authenticated user, for code that must always be scoped to one, even on
+     * a root thread (exports, imports).
+     *
+     * @throws MissingTenantException when the thread has no authenticated user with a tenant
+     */
+    public static long requireTenantId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && user.getTenantId() != null) {
+            return user.getTenantId();
+        }
+        throw new MissingTenantException();
+    }
+
+    /**
+     * @return true inside {@link #runAsRoot} or {@link #callAsRoot}
+     */
+    public static boolean isRoot() {
+        return Boolean.TRUE.equals(ROOT.get());
+    }
+
+    /**
+     * Runs {@code task} across tenants on the current thread.
+     */
+    public static void runAsRoot(Runnable task) {
+        callAsRoot(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls {@code task} across tenants on the current thread.
+     */
+    public static <T> T callAsRoot(Supplier<T> task) {
+        Boolean previous = enterRoot();
+        try {
+            return task.get();
+        } finally {
+            exitRoot(previous);
+        }
+    }
+
+    /**
+     * Marks the current thread as root until {@link #exitRoot}, for callers whose task throws
+     * checked exceptions (a filter chain).
+     *
+     * @return the previous state, to hand to {@link #exitRoot}
+     */
+    static Boolean enterRoot() {
+        Boolean previous = ROOT.get();
+        ROOT.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void exitRoot(Boolean previous) {
+        if (previous == null) {
+            ROOT.remove();
+        } else {
+            ROOT.set(previous);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.hiretrack.backend.security.jwt;
 
+import com.hiretrack.backend.config.JwtProperties;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,34 +14,72 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final JwtProperties properties;
+    private final TokenDenyList tokenDenyList;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Timer parseTimer;
+    private final Timer lookupTimer;
+    private final Timer filterTimer;
+    private final Counter authenticated;
+    private final Counter rejected;
 
     /**
      * Constructor for JwtAuthFilter.
      *
      * @param jwtTokenProvider utility responsible for extracting data from and validating JWT tokens
      * @param userDetailsService service used to load user details by username/email
+     * @param properties JWT settings, including whether stateless authentication is enabled
+     * @param tokenDenyList revoked token versions, consulted in stateless mode
+     * @param verifiedTokenCache cache of already verified tokens in front of the token provider
+     * @param meterRegistry registry of the parse, lookup and total timers and of the outcome counters
      */
-    public JwtAuthFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthFilter(JwtTokenProvider jwtTokenProvider,
+                         UserDetailsService userDetailsService,
+                         JwtProperties properties,
+                         TokenDenyList tokenDenyList,
+                         VerifiedTokenCache verifiedTokenCache,
+                         MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.properties = properties;
+        this.tokenDenyList = tokenDenyList;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.parseTimer = Timer.builder("auth.jwt.parse")
+                .description("Token verification, cache hits included")
+                .register(meterRegistry);
+        this.lookupTimer = Timer.builder("auth.jwt.lookup")
+                .description("Resolution of the user details of a verified token")
+                .register(meterRegistry);
+        this.filterTimer = Timer.builder("auth.jwt.filter")
+                .description("Authentication of a request carrying a bearer token, the rest of the chain excluded")
+                .register(meterRegistry);
+        this.authenticated = Counter.builder("auth.jwt.requests")
+                .tag("result", "authenticated")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.jwt.requests")
+                .tag("result", "rejected")
+                .register(meterRegistry);
     }
 
     /**
      * Filter that runs once per request. It:
      * <li> 1. Reads the Authorization header.
      * <li> 2. Extracts the Bearer token if present.
-     * <li> 3. Extracts the username/email from the token.
-     * <li> 4. Loads UserDetails and validates the token against them.
+     * <li> 3. Verifies the token once (signature and expiry) and extracts the username/email from its claims.
+     * <li> 4. Resolves UserDetails (from the token claims in stateless mode, otherwise from the
+     * UserDetailsService) and validates the token against them.
      * <li> 5. If valid, creates an Authentication and stores it in the SecurityContext.
      *
      * <p> This ensures downstream code (controllers, services) can access the authenticated principal. </p>
@@ -47,30 +91,71 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         // Proceed only if header contains a Bearer token
         if (header != null && header.startsWith("Bearer ")) {
-            // Remove "Bearer " prefix to obtain the raw JWT
-            String token = header.substring(7);
+            Timer.Sample sample = Timer.start();
+            authenticate(header.substring(7));
+            sample.stop(filterTimer);
+        }
 
-            // Extract username/email from token. This should not perform heavy operations.
-            String username = jwtTokenProvider.extractEmail(token);
+        // Continue the filter chain regardless of authentication outcome
+        filterChain.doFilter(request, response);
+    }
 
-            // Only attempt authentication if we extracted a username and there is no existing authentication
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Load user details (authorities, password, etc.) required for building the Authentication object
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    /**
+     * Authenticates the request with the raw JWT, if it is valid and not revoked.
+     */
+    private void authenticate(String token) {
+        // Parse and verify the token once (or reuse a previous verification from the cache);
+        // the resulting claims are reused for every check below.
+        // Malformed, tampered or expired tokens yield no claims and the request stays anonymous.
+        Timer.Sample parse = Timer.start();
+        Claims claims = verifiedTokenCache.validate(token).orElse(null);
+        parse.stop(parseTimer);
+        String username = claims != null ? claims.getSubject() : null;
+
+        // Only attempt authentication if we extracted a username and there is no existing authentication
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Resolve user details (authorities, token version, etc.) required for building the Authentication object
+            Timer.Sample lookup = Timer.start();
+            UserDetails userDetails = resolveUserDetails(claims, username);
+            lookup.stop(lookupTimer);
 
-                // Validate the token against the loaded user details (checks signature, expiry, and optionally user data)
-                if (jwtTokenProvider.isTokenValid(token, userDetails)) {
-                    // Build an Authentication token (principal, credentials, authorities)
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            // Validate the verified claims against the user details (subject, expiry, and token version)
+            if (userDetails != null && jwtTokenProvider.isTokenValid(claims, userDetails)) {
+                // Build an Authentication token (principal, credentials, authorities)
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-                    // Store authentication in the SecurityContext so Spring Security is aware of the authenticated user
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                // Store authentication in the SecurityContext so Spring Security is aware of the authenticated user
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+                authenticated.increment();
+                return;
             }
         }
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            rejected.increment();
+        }
+    }
 
-        // Continue the filter chain regardless of authentication outcome
-        filterChain.doFilter(request, response);
+    /**
+     * In stateless mode the principal is rebuilt from the token claims and checked against the
+     * deny-list only. Tokens without the embedded claims, or stateless mode being off, fall back
+     * to a lookup through the UserDetailsService.
+     *
+     * @return the user details, or null when the token has been revoked
+     */
+    private UserDetails resolveUserDetails(Claims claims, String username) {
+        if (properties.isStateless()) {
+            Optional<AuthenticatedUser> fromClaims = jwtTokenProvider.extractAuthenticatedUser(claims);
+            if (fromClaims.isPresent()) {
+                AuthenticatedUser user = fromClaims.get();
+                return tokenDenyList.isRevoked(user.getUsername(), user.getTokenVersion()) ? null : user;
+            }
+        }
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            // the user was deleted since the token was issued
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,18 +3,24 @@ package com.hiretrack.backend.security.jwt;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import com.hiretrack.backend.config.JwtProperties;
+import com.hiretrack.backend.security.AuthenticatedUser;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -22,11 +28,30 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JwtTokenProvider {
 
+    /** Claim holding the granted authority names of the subject. */
+    public static final String ROLES_CLAIM = "roles";
+
+    /** Claim holding the subject's token version at issue time, used for revocation. */
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
+    /** Claim holding the subject's tenant, which scopes every query made with the token. */
+    public static final String TENANT_CLAIM = "tid";
+
     private final JwtProperties properties;
-    private SecretKey cachedSigningKey;
+    private final SecretKey signingKey;
+
+    /**
+     * Parser built once at startup. JwtParser instances are immutable and thread-safe,
+     * so a single instance is shared by all request threads.
+     */
+    private final JwtParser parser;
 
     public JwtTokenProvider(JwtProperties properties) {
         this.properties = properties;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret()));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -38,23 +63,82 @@ public class JwtTokenProvider {
         Instant expiration = issuedAt.plus(properties.getAccessTokenTtl());
 
         Map<String, Object> claims = new HashMap<>(Optional.ofNullable(extraClaims).orElse(Map.of()));
+        // embed authorities and token version so the token can be trusted without a user lookup
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            claims.put(TOKEN_VERSION_CLAIM, authenticatedUser.getTokenVersion());
+            claims.put(TENANT_CLAIM, authenticatedUser.getTenantId());
+        }
 
         return Jwts.builder()
                 .issuedAt(Date.from(issuedAt))
                 .expiration(Date.from(expiration))
                 .claims(claims)
                 .subject(userDetails.getUsername())
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Parses the token and verifies its signature and expiry in a single pass.
+     * The returned claims should be reused for every further check on the same request.
+     *
+     * @param token a compact JWT
+     * @return the verified claims, or empty if the token is malformed, tampered with or expired
+     */
+    public Optional<Claims> validate(String token) {
+        try {
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractEmail(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(parseClaims(token), userDetails);
+    }
+
+    /**
+     * Checks already verified claims against the given user: subject, expiry and token version.
+     *
+     * @param claims claims returned by {@link #validate(String)}
+     * @param userDetails the user the token is expected to belong to
+     * @return true if the token may be used to authenticate the user
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject())
+                && !isTokenExpired(claims)
+                && isTokenVersionCurrent(claims, userDetails);
+    }
+
+    public Optional<AuthenticatedUser> extractAuthenticatedUser(String token) {
+        return extractAuthenticatedUser(parseClaims(token));
+    }
+
+    /**
+     * Rebuilds the principal from the token claims alone, without touching the database.
+     * Returns empty for tokens issued before roles, version and tenant were embedded.
+     *
+     * @param claims claims returned by {@link #validate(String)}
+     * @return the principal described by the token, if it carries roles, version and tenant claims
+     */
+    public Optional<AuthenticatedUser> extractAuthenticatedUser(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        Long tenantId = claims.get(TENANT_CLAIM, Long.class);
+        if (roles == null || tokenVersion == null || tenantId == null) {
+            return Optional.empty();
+        }
+        List<GrantedAuthority> authorities = roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
+        return Optional.of(new AuthenticatedUser(claims.getSubject(), "", authorities, tokenVersion, tenantId));
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -62,26 +146,19 @@ public class JwtTokenProvider {
         return claimsResolver.apply(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = extractClaim(token, Claims::getExpiration);
-        return expiration.before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private boolean isTokenVersionCurrent(Claims claims, UserDetails userDetails) {
+        if (!(userDetails instanceof AuthenticatedUser authenticatedUser)) {
+            return true;
+        }
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        return (tokenVersion == null ? 0 : tokenVersion) >= authenticatedUser.getTokenVersion();
     }
 
-    private SecretKey getSigningKey() {
-        if (cachedSigningKey == null) {
-            byte[] keyBytes = Decoders.BASE64.decode(properties.getSecret());
-            cachedSigningKey = Keys.hmacShaKeyFor(keyBytes);
-        }
-        return cachedSigningKey;
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
-
-
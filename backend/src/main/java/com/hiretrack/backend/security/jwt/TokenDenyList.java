@@ -0,0 +1,85 @@
+package com.hiretrack.backend.security.jwt;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hiretrack.backend.config.JwtProperties;
+import com.hiretrack.backend.repository.UserRepository;
+import com.hiretrack.backend.security.TenantContext;
+import com.hiretrack.backend.service.auth.cache.UserCacheInvalidationBroadcaster;
+
+/**
+ * In-memory list of the minimum accepted token version per user.
+ *
+ * <p> Used by the stateless authentication path, which no longer loads the user on
+ * every request. A token is rejected when its "ver" claim is lower than the version
+ * currently stored for its subject. Only users whose tokens were revoked within the
+ * last access-token TTL are kept: the tokens an older revocation denied have expired
+ * since. The whole list is reloaded periodically, so revocations made on other nodes
+ * are picked up and expired ones dropped within one refresh interval.
+ */
+@Component
+public class TokenDenyList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenDenyList.class);
+
+    /** Allowance for the clocks of the nodes, which stamp the tokens, running behind the database's. */
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private final JwtProperties properties;
+    private final UserCacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+    private volatile Map<String, Integer> minimumVersions = Map.of();
+
+    public TokenDenyList(UserRepository userRepository,
+                         JwtProperties properties,
+                         UserCacheInvalidationBroadcaster cacheInvalidationBroadcaster) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.cacheInvalidationBroadcaster = cacheInvalidationBroadcaster;
+    }
+
+    /**
+     * @return true if a token issued for {@code email} with {@code tokenVersion} was revoked
+     */
+    public boolean isRevoked(String email, int tokenVersion) {
+        Integer minimum = minimumVersions.get(email);
+        return minimum != null && tokenVersion < minimum;
+    }
+
+    /**
+     * Revokes every token issued so far to the given user.
+     * The change is visible immediately on this node and after the next refresh on the others.
+     */
+    public void revokeAll(String email) {
+        if (userRepository.incrementTokenVersion(email) > 0) {
+            // the bulk update bypasses the entity listener, so drop cached user details explicitly
+            cacheInvalidationBroadcaster.broadcast(email);
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.deny-list-refresh-interval:30s}")
+    public void refresh() {
+        if (!properties.isStateless()) {
+            return;
+        }
+        try {
+            Map<String, Integer> versions = new HashMap<>();
+            // token versions of the users of every tenant, as long as tokens they revoked can be alive
+            long retentionSeconds = properties.getAccessTokenTtl().plus(CLOCK_SKEW).toSeconds();
+            TenantContext.callAsRoot(() -> userRepository.findRevokedTokenVersions(retentionSeconds))
+                    .forEach(v -> versions.put(v.getEmail(), v.getTokenVersion()));
+            minimumVersions = Map.copyOf(versions);
+        } catch (RuntimeException e) {
+            // keep serving with the previous snapshot, the next run will retry
+            log.warn("Could not refresh token deny-list: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.hiretrack.backend.security.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hiretrack.backend.config.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded in-process cache of verified JWT claims, placed in front of {@link JwtTokenProvider#validate(String)}.
+ *
+ * <p> Clients reuse the same access token for its whole lifetime, so repeat requests can skip
+ * HMAC verification and claims deserialization. Entries are keyed by the SHA-256 of the full
+ * token (raw tokens are never kept in memory) and each entry expires at its token's own
+ * {@code exp}. Only successfully verified tokens are cached. Hit, miss and eviction counts are
+ * published to Actuator under the cache name {@value #CACHE_NAME}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<ByteBuffer, Claims> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider, JwtProperties properties, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = properties.getCache().isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCache().getMaximumSize())
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Same contract as {@link JwtTokenProvider#validate(String)}, served from the cache when possible.
+     *
+     * @param token a compact JWT
+     * @return the verified claims, or empty if the token is malformed, tampered with or expired
+     */
+    public Optional<Claims> validate(String token) {
+        if (!enabled) {
+            return jwtTokenProvider.validate(token);
+        }
+        ByteBuffer key = hash(token);
+        Claims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Claims> verified = jwtTokenProvider.validate(token);
+        verified.ifPresent(claims -> cache.put(key, claims));
+        return verified;
+    }
+
+    long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return ByteBuffer.wrap(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Expires every entry when its token does, whatever the token's TTL was at issue time.
+     */
+    private static final class ExpireAtTokenExpiry implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, Duration.ofMillis(remainingMillis).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
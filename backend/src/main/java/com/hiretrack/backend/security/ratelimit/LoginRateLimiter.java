@@ -0,0 +1,68 @@
+package com.hiretrack.backend.security.ratelimit;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hiretrack.backend.config.LoginRateLimitProperties;
+import com.hiretrack.backend.exception.LoginThrottledException;
+
+/**
+ * Per-email and per-IP token buckets guarding the login endpoint.
+ *
+ * <p> Buckets live in size-bounded Caffeine maps and are dropped once idle for a full refill
+ * period, after which they would be full again anyway.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final LoginRateLimitProperties properties;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties) {
+        this.properties = properties;
+        this.emailBuckets = newBucketCache(properties.getPerEmail());
+        this.ipBuckets = newBucketCache(properties.getPerIp());
+    }
+
+    /**
+     * Consumes one attempt from the IP bucket, then from the email bucket.
+     *
+     * @param email the email being logged in, may be null
+     * @param ip the client address, may be null when not called from a request
+     * @throws LoginThrottledException if either bucket is empty
+     */
+    public void acquire(String email, String ip) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (ip != null) {
+            check(ipBuckets, ip, properties.getPerIp(), now, "Too many login attempts from this address");
+        }
+        if (email != null) {
+            check(emailBuckets, email.toLowerCase(Locale.ROOT), properties.getPerEmail(), now,
+                    "Too many login attempts for this account");
+        }
+    }
+
+    private void check(Cache<String, TokenBucket> buckets, String key, LoginRateLimitProperties.Bucket limits,
+                       long now, String message) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limits.getCapacity(), limits.getRefillPeriod(), now));
+        Duration retryAfter = bucket.tryConsume(now);
+        if (!retryAfter.isZero()) {
+            throw new LoginThrottledException(message, retryAfter);
+        }
+    }
+
+    private Cache<String, TokenBucket> newBucketCache(LoginRateLimitProperties.Bucket limits) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumTrackedKeys())
+                .expireAfterAccess(limits.getRefillPeriod())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.hiretrack.backend.security.ratelimit;
+
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Applies the {@link LoginRateLimiter} before delegating, so throttled attempts never reach BCrypt.
+ */
+public class ThrottlingAuthenticationManager implements AuthenticationManager {
+
+    private final AuthenticationManager delegate;
+    private final LoginRateLimiter rateLimiter;
+
+    public ThrottlingAuthenticationManager(AuthenticationManager delegate, LoginRateLimiter rateLimiter) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        rateLimiter.acquire(authentication.getName(), currentClientAddress());
+        return delegate.authenticate(authentication);
+    }
+
+    private static String currentClientAddress() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
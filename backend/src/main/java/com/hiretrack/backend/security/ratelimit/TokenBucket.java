@@ -0,0 +1,47 @@
+package com.hiretrack.backend.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Classic token bucket refilled continuously at {@code capacity / refillPeriod}.
+ *
+ * <p> Guarded by a {@link ReentrantLock} rather than {@code synchronized}: on Java 21 a virtual
+ * thread waiting for a monitor pins its carrier thread, and every login from the same address
+ * contends for the same bucket.
+ */
+class TokenBucket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int capacity, Duration refillPeriod, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / refillPeriod.toNanos();
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return {@link Duration#ZERO} when a token was taken, otherwise how long until one is available
+     */
+    Duration tryConsume(long nowNanos) {
+        lock.lock();
+        try {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = nowNanos;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) Math.ceil((1 - tokens) / tokensPerNano));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
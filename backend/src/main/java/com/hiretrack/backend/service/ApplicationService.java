@@ -3,16 +3,66 @@ package com.hiretrack.backend.service;
 import java.util.List;
 import java.util.Optional;
 
+import com.hiretrack.backend.dto.application.ApplicationFilter;
+import com.hiretrack.backend.dto.common.EntityVersions;
 import com.hiretrack.backend.entity.Application;
+import com.hiretrack.backend.entity.ApplicationStatusChange;
+import com.hiretrack.backend.enums.ApplicationStatus;
 
 public interface ApplicationService {
 
     List<Application> findAll();
 
+    /**
+     * Keyset page of applications matching the filter, ordered by id.
+     *
+     * @param filter  optional filters; null fields are ignored
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   maximum number of rows to return
+     */
+    List<Application> findPage(ApplicationFilter filter, Long afterId, int limit);
+
     Optional<Application> findById(Long id);
 
+    /**
+     * Version of the page {@link #findPage} would return, read from the ids and update times
+     * alone, see {@link EntityVersions}.
+     */
+    String findPageVersion(ApplicationFilter filter, Long afterId, int limit);
+
+    /**
+     * Version of an application, read without loading it; empty if it does not exist.
+     */
+    Optional<String> findVersion(Long id);
+
+    /**
+     * Version of a loaded application, equal to the one {@link #findVersion} reads.
+     */
+    String versionOf(Application application);
+
+    /**
+     * Creates or updates an application.
+     *
+     * @throws com.hiretrack.backend.exception.InvalidStatusTransitionException if the status
+     *         cannot be reached from the stored one
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the application was
+     *         updated since it was read
+     */
     Application save(Application application);
 
+    /**
+     * Moves an application to {@code status}.
+     *
+     * @param expectedVersion version the caller last read; the change is refused if it is not current
+     * @return the updated application, empty if it does not exist
+     */
+    Optional<Application> changeStatus(Long id, ApplicationStatus status, long expectedVersion);
+
+    /**
+     * Status changes of an application, oldest first.
+     */
+    List<ApplicationStatusChange> findStatusHistory(Long id);
+
     void deleteById(Long id);
 }
 
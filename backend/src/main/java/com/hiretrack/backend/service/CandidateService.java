@@ -3,14 +3,50 @@ package com.hiretrack.backend.service;
 import java.util.List;
 import java.util.Optional;
 
+import com.hiretrack.backend.dto.candidate.CandidateFilter;
+import com.hiretrack.backend.dto.common.EntityVersions;
 import com.hiretrack.backend.entity.Candidate;
 
 public interface CandidateService {
 
     List<Candidate> findAll();
 
+    /**
+     * Keyset page of candidates matching the filter, ordered by id.
+     *
+     * @param filter  optional filters; null fields are ignored
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   maximum number of rows to return
+     */
+    List<Candidate> findPage(CandidateFilter filter, Long afterId, int limit);
+
+    /**
+     * Ranked full-text search, most relevant first.
+     *
+     * @param query  web-style search query
+     * @param offset number of hits to skip
+     * @param limit  maximum number of rows to return
+     */
+    List<Candidate> search(String query, int offset, int limit);
+
     Optional<Candidate> findById(Long id);
 
+    /**
+     * Version of the page {@link #findPage} would return, read from the ids and update times
+     * alone, see {@link EntityVersions}.
+     */
+    String findPageVersion(CandidateFilter filter, Long afterId, int limit);
+
+    /**
+     * Version of a candidate, read without loading it; empty if it does not exist.
+     */
+    Optional<String> findVersion(Long id);
+
+    /**
+     * Version of a loaded candidate, equal to the one {@link #findVersion} reads.
+     */
+    String versionOf(Candidate candidate);
+
     Candidate save(Candidate candidate);
 
     void deleteById(Long id);
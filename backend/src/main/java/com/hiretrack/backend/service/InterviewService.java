@@ -3,14 +3,38 @@ package com.hiretrack.backend.service;
 import java.util.List;
 import java.util.Optional;
 
+import com.hiretrack.backend.dto.interview.InterviewFilter;
+import com.hiretrack.backend.dto.interview.InterviewBookingRequest;
 import com.hiretrack.backend.entity.Interview;
 
 public interface InterviewService {
 
     List<Interview> findAll();
 
+    /**
+     * Keyset page of interviews matching the filter, ordered by id.
+     *
+     * @param filter  optional filters; null fields are ignored
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   maximum number of rows to return
+     */
+    List<Interview> findPage(InterviewFilter filter, Long afterId, int limit);
+
     Optional<Interview> findById(Long id);
 
+    /**
+     * Books an interview for an application.
+     *
+     * @return the new interview, empty if the application or the interviewer does not exist
+     * @throws com.hiretrack.backend.exception.InterviewConflictException if the interviewer has
+     *         another interview during that time, including one booked concurrently
+     */
+    Optional<Interview> book(InterviewBookingRequest request);
+
+    /**
+     * @throws com.hiretrack.backend.exception.InterviewConflictException if the interview overlaps
+     *         another interview of its interviewer
+     */
     Interview save(Interview interview);
 
     void deleteById(Long id);
@@ -3,14 +3,50 @@ package com.hiretrack.backend.service;
 import java.util.List;
 import java.util.Optional;
 
+import com.hiretrack.backend.dto.common.EntityVersions;
+import com.hiretrack.backend.dto.job.JobFilter;
 import com.hiretrack.backend.entity.Job;
 
 public interface JobService {
 
     List<Job> findAll();
 
+    /**
+     * Keyset page of jobs matching the filter, ordered by id.
+     *
+     * @param filter  optional filters; null fields are ignored
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   maximum number of rows to return
+     */
+    List<Job> findPage(JobFilter filter, Long afterId, int limit);
+
+    /**
+     * Ranked full-text search, most relevant first.
+     *
+     * @param query  web-style search query
+     * @param offset number of hits to skip
+     * @param limit  maximum number of rows to return
+     */
+    List<Job> search(String query, int offset, int limit);
+
     Optional<Job> findById(Long id);
 
+    /**
+     * Version of the page {@link #findPage} would return, read from the ids and update times
+     * alone, see {@link EntityVersions}.
+     */
+    String findPageVersion(JobFilter filter, Long afterId, int limit);
+
+    /**
+     * Version of a job, read without loading it; empty if it does not exist.
+     */
+    Optional<String> findVersion(Long id);
+
+    /**
+     * Version of a loaded job, equal to the one {@link #findVersion} reads.
+     */
+    String versionOf(Job job);
+
     Job save(Job job);
 
     void deleteById(Long id);
@@ -3,12 +3,22 @@ package com.hiretrack.backend.service;
 import java.util.List;
 import java.util.Optional;
 
+import com.hiretrack.backend.dto.user.UserFilter;
 import com.hiretrack.backend.entity.User;
 
 public interface UserService {
 
     List<User> findAll();
 
+    /**
+     * Keyset page of users matching the filter, ordered by id.
+     *
+     * @param filter  optional filters; null fields are ignored
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   maximum number of rows to return
+     */
+    List<User> findPage(UserFilter filter, Long afterId, int limit);
+
     Optional<User> findById(Long id);
 
     User save(User user);
@@ -0,0 +1,123 @@
+package com.hiretrack.backend.service.advisor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.hiretrack.backend.config.DatabaseAdvisorProperties;
+import com.hiretrack.backend.dto.advisor.DatabaseAdvisorReport;
+import com.hiretrack.backend.dto.advisor.SequentialScanTable;
+import com.hiretrack.backend.dto.advisor.SlowStatement;
+import com.hiretrack.backend.dto.advisor.UnindexedForeignKey;
+import com.hiretrack.backend.dto.advisor.UnusedIndex;
+
+/**
+ * Reads the statistics Postgres keeps about statements, tables and indexes into a tuning
+ * report, served by the {@code dbadvisor} actuator endpoint.
+ *
+ * <p> Partitions are folded into their partitioned table for the indexes, so an index of
+ * {@code applications} is unused only if no month of any tenant used it. Sequential scans are
+ * reported per partition: a month or tenant read sequentially points at the filter that misses
+ * an index. The slow statements need {@code pg_stat_statements} (V19) loaded through
+ * {@code shared_preload_libraries}; without it the rest of the report is still produced.
+ */
+@Service
+public class DatabaseAdvisor {
+
+    private static final String STATISTICS_SINCE_SQL =
+            "SELECT stats_reset FROM pg_stat_database WHERE datname = current_database()";
+
+    private static final String SLOW_STATEMENTS_SQL = """
+            SELECT query, calls, mean_exec_time, total_exec_time, rows,
+                   shared_blks_hit::float8 / nullif(shared_blks_hit + shared_blks_read, 0) AS cache_hit_ratio
+            FROM pg_stat_statements
+            WHERE dbid = (SELECT oid FROM pg_database WHERE datname = current_database()) AND calls >= ?
+            ORDER BY mean_exec_time DESC
+            LIMIT ?
+            """;
+
+    /** Unique and exclusion indexes enforce constraints, used or not. */
+    private static final String UNUSED_INDEXES_SQL = """
+            SELECT x.indrelid::regclass::text AS table_name, s.root::regclass::text AS index_name, s.size
+            FROM (SELECT coalesce(pg_partition_root(indexrelid), indexrelid) AS root,
+                         sum(idx_scan) AS scans, sum(pg_relation_size(indexrelid)) AS size
+                  FROM pg_stat_user_indexes
+                  GROUP BY 1) s
+            JOIN pg_index x ON x.indexrelid = s.root
+            WHERE s.scans = 0 AND NOT x.indisunique AND NOT x.indisexclusion
+            ORDER BY s.size DESC, 2
+            LIMIT ?
+            """;
+
+    /**
+     * A foreign key counts as indexed when an index leads with its first column: the keys carry
+     * the tenant second (V17), and the referenced id alone is selective enough.
+     */
+    private static final String UNINDEXED_FOREIGN_KEYS_SQL = """
+            SELECT c.conrelid::regclass::text AS table_name, c.conname,
+                   (SELECT string_agg(a.attname, ', ' ORDER BY k.ord)
+                    FROM unnest(c.conkey) WITH ORDINALITY AS k (attnum, ord)
+                    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = k.attnum) AS columns
+            FROM pg_constraint c
+            JOIN pg_class r ON r.oid = c.conrelid
+            WHERE c.contype = 'f' AND c.conparentid = 0 AND NOT r.relispartition
+              AND NOT EXISTS (SELECT 1 FROM pg_index x WHERE x.indrelid = c.conrelid AND x.indkey[0] = c.conkey[1])
+            ORDER BY 1, 2
+            LIMIT ?
+            """;
+
+    private static final String SEQUENTIAL_SCANS_SQL = """
+            SELECT relid::regclass::text AS table_name, seq_scan, seq_tup_read, coalesce(idx_scan, 0) AS idx_scan,
+                   n_live_tup
+            FROM pg_stat_user_tables
+            WHERE seq_scan > coalesce(idx_scan, 0) AND n_live_tup >= ?
+            ORDER BY seq_tup_read DESC
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseAdvisorProperties properties;
+
+    public DatabaseAdvisor(DataSource dataSource, DatabaseAdvisorProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+    }
+
+    public DatabaseAdvisorReport report() {
+        int limit = properties.getMaxEntries();
+        OffsetDateTime statisticsSince = jdbcTemplate.query(STATISTICS_SINCE_SQL,
+                rs -> rs.next() ? rs.getObject(1, OffsetDateTime.class) : null);
+        List<SlowStatement> slowStatements = List.of();
+        String statementsUnavailable = null;
+        try {
+            slowStatements = jdbcTemplate.query(SLOW_STATEMENTS_SQL,
+                    (rs, rowNum) -> new SlowStatement(rs.getString("query"), rs.getLong("calls"),
+                            rs.getDouble("mean_exec_time"), rs.getDouble("total_exec_time"), rs.getLong("rows"),
+                            rs.getObject("cache_hit_ratio", Double.class)),
+                    properties.getMinCalls(), limit);
+        } catch (DataAccessException e) {
+            // not installed, or installed without shared_preload_libraries
+            statementsUnavailable = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        }
+        List<UnusedIndex> unusedIndexes = jdbcTemplate.query(UNUSED_INDEXES_SQL,
+                (rs, rowNum) -> new UnusedIndex(rs.getString("table_name"), rs.getString("index_name"),
+                        rs.getLong("size")),
+                limit);
+        List<UnindexedForeignKey> unindexedForeignKeys = jdbcTemplate.query(UNINDEXED_FOREIGN_KEYS_SQL,
+                (rs, rowNum) -> new UnindexedForeignKey(rs.getString("table_name"), rs.getString("conname"),
+                        rs.getString("columns")),
+                limit);
+        List<SequentialScanTable> sequentialScans = jdbcTemplate.query(SEQUENTIAL_SCANS_SQL,
+                (rs, rowNum) -> new SequentialScanTable(rs.getString("table_name"), rs.getLong("seq_scan"),
+                        rs.getLong("seq_tup_read"), rs.getLong("idx_scan"), rs.getLong("n_live_tup")),
+                properties.getSequentialScanMinRows(), limit);
+        return new DatabaseAdvisorReport(statisticsSince, statementsUnavailable, slowStatements, unusedIndexes,
+                unindexedForeignKeys, sequentialScans);
+    }
+}
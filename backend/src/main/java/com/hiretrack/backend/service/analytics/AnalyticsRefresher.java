@@ -0,0 +1,150 @@
+package com.hiretrack.backend.service.analytics;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hiretrack.backend.config.AnalyticsProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps the V13 analytics rollups (materialized views) reasonably fresh.
+ *
+ * <p> Services call {@link #markStale()} when applications or interviews change. Every
+ * {@code app.analytics.refresh-interval} a background thread refreshes the rollups if anything
+ * changed since the last refresh, or if {@code app.analytics.max-staleness} has elapsed, which
+ * covers writes made elsewhere. Refreshes are {@code CONCURRENTLY}: readers keep seeing the
+ * previous contents meanwhile instead of waiting on the refresh's exclusive lock.
+ *
+ * <p> Metrics: {@code analytics.refresh} (refresh duration) and {@code analytics.staleness}
+ * (time since the last refresh).
+ */
+@Service
+public class AnalyticsRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsRefresher.class);
+
+    private static final List<String> VIEWS = List.of(
+            "analytics_application_daily",
+            "analytics_interview_outcomes",
+            "analytics_stage_durations");
+
+    private final AnalyticsProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledExecutorService worker;
+    private final Timer refreshTimer;
+
+    /** Starts set: nothing tells whether the views are up to date when the application starts. */
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile Instant refreshedAt;
+
+    public AnalyticsRefresher(AnalyticsProperties properties, DataSource dataSource, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analytics-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refreshTimer = Timer.builder("analytics.refresh")
+                .description("Time to refresh the analytics rollups")
+                .register(meterRegistry);
+        TimeGauge.builder("analytics.staleness", this, TimeUnit.MILLISECONDS, AnalyticsRefresher::stalenessMillis)
+                .description("Time since the analytics rollups were last refreshed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.isRefreshEnabled()) {
+            long interval = properties.getRefreshInterval().toMillis();
+            worker.scheduleWithFixedDelay(this::refreshSafely, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdownNow();
+        // let a pass in progress end before the DataSource closes
+        worker.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Records that the rollups no longer reflect the data, once the current transaction, if
+     * any, has committed: a refresh started before the commit would not see the change.
+     */
+    public void markStale() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale.set(true);
+                }
+            });
+        } else {
+            stale.set(true);
+        }
+    }
+
+    /**
+     * When the rollups were last refreshed by this node, {@code null} before the first refresh.
+     */
+    public Instant refreshedAt() {
+        return refreshedAt;
+    }
+
+    /**
+     * Refreshes every rollup. The stale flag is cleared first, so a change committed during the
+     * refresh triggers the next one.
+     */
+    public void refresh() {
+        stale.set(false);
+        try {
+            refreshTimer.record(() -> VIEWS.forEach(view ->
+                    jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view)));
+        } catch (RuntimeException e) {
+            stale.set(true);
+            throw e;
+        }
+        refreshedAt = Instant.now();
+    }
+
+    boolean isStale() {
+        return stale.get();
+    }
+
+    private void refreshSafely() {
+        Instant last = refreshedAt;
+        boolean expired = last == null || last.plus(properties.getMaxStaleness()).isBefore(Instant.now());
+        if (!stale.get() && !expired) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Refreshing analytics rollups failed, will retry", e);
+        }
+    }
+
+    private double stalenessMillis() {
+        Instant last = refreshedAt;
+        return last != null ? System.currentTimeMillis() - last.toEpochMilli() : Double.NaN;
+    }
+}
@@ -0,0 +1,227 @@
+package com.hiretrack.backend.service.analytics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hiretrack.backend.config.AnalyticsProperties;
+import com.hiretrack.backend.dto.analytics.AnalyticsFilter;
+import com.hiretrack.backend.dto.analytics.FunnelResponse;
+import com.hiretrack.backend.dto.analytics.FunnelRow;
+import com.hiretrack.backend.dto.analytics.InterviewOutcomeResponse;
+import com.hiretrack.backend.dto.analytics.StageDuration;
+import com.hiretrack.backend.dto.analytics.StageDurationResponse;
+import com.hiretrack.backend.enums.ApplicationStatus;
+import com.hiretrack.backend.enums.FunnelDimension;
+import com.hiretrack.backend.enums.InterviewType;
+import com.hiretrack.backend.enums.Outcome;
+import com.hiretrack.backend.repository.SqlWhere;
+import com.hiretrack.backend.security.TenantContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Hiring funnel analytics, read from the rollups maintained by {@link AnalyticsRefresher}.
+ *
+ * <p> The rollups hold one row per job, source, day and status (resp. per job, interview type,
+ * outcome and rating, and per job, stage and duration bucket), so a query sums at most a few
+ * thousand pre-aggregated rows instead of scanning applications and interviews. Responses are
+ * additionally cached per filter; the cache key includes the refresh time, so a refresh makes
+ * every cached response obsolete at once.
+ *
+ * <p> The rollups hold every tenant: each query filters on the current tenant, which is also
+ * part of the cache key.
+ */
+@Service
+public class AnalyticsService {
+
+    static final String CACHE_NAME = "analytics";
+
+    /** Upper bounds of the stage duration buckets, as computed by the V13 view; 0 is "longer". */
+    private static final Map<Integer, String> DURATION_BUCKETS = bucketLabels();
+
+    private final AnalyticsRefresher refresher;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<CacheKey, Object> cache;
+
+    public AnalyticsService(AnalyticsRefresher refresher,
+                            DataSource dataSource,
+                            AnalyticsProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.refresher = refresher;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterWrite(properties.getRefreshInterval())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Applications by status, grouped by {@code groupBy}, or a single row when it is null.
+     */
+    public FunnelResponse funnel(AnalyticsFilter filter, FunnelDimension groupBy) {
+        return cached("funnel", filter, groupBy, refreshedAt -> {
+            SqlWhere where = where(filter)
+                    .equalTo("source", filter.source())
+                    .notBefore("day", filter.from())
+                    .before("day", filter.to());
+            String key = groupBy != null ? groupBy.getColumn() : "NULL";
+            String sql = "SELECT " + key + " AS group_key, status, sum(applications) AS applications"
+                    + " FROM analytics_application_daily " + where.sql()
+                    + " GROUP BY 1, 2 ORDER BY 1 NULLS LAST";
+
+            Map<String, Map<ApplicationStatus, Long>> groups = new LinkedHashMap<>();
+            jdbcTemplate.query(sql, rs -> {
+                ApplicationStatus status = enumValue(ApplicationStatus.class, rs.getString("status"));
+                if (status != null) {
+                    groups.computeIfAbsent(rs.getString("group_key"), k -> new EnumMap<>(ApplicationStatus.class))
+                            .merge(status, rs.getLong("applications"), Long::sum);
+                }
+            }, where.args());
+
+            List<FunnelRow> rows = new ArrayList<>(groups.size());
+            groups.forEach((group, byStatus) -> {
+                long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+                double hireRate = total > 0 ? (double) byStatus.getOrDefault(ApplicationStatus.HIRED, 0L) / total : 0;
+                rows.add(new FunnelRow(group, total, byStatus, hireRate));
+            });
+            return new FunnelResponse(groupBy, rows, refreshedAt);
+        });
+    }
+
+    public InterviewOutcomeResponse interviewOutcomes(AnalyticsFilter filter) {
+        return cached("interviews", filter, null, refreshedAt -> {
+            SqlWhere where = where(filter);
+            String sql = "SELECT interview_type, outcome, rating, sum(interviews) AS interviews"
+                    + " FROM analytics_interview_outcomes " + where.sql()
+                    + " GROUP BY 1, 2, 3";
+
+            long[] totals = {0, 0, 0}; // interviews, rated interviews, sum of ratings
+            Map<Outcome, Long> byOutcome = new EnumMap<>(Outcome.class);
+            Map<InterviewType, Map<Outcome, Long>> byTypeAndOutcome = new EnumMap<>(InterviewType.class);
+            Map<Integer, Long> byRating = new TreeMap<>();
+            jdbcTemplate.query(sql, rs -> {
+                long count = rs.getLong("interviews");
+                InterviewType type = enumValue(InterviewType.class, rs.getString("interview_type"));
+                Outcome outcome = enumValue(Outcome.class, rs.getString("outcome"));
+                int rating = rs.getInt("rating");
+                boolean rated = !rs.wasNull();
+                totals[0] += count;
+                if (outcome != null) {
+                    byOutcome.merge(outcome, count, Long::sum);
+                    if (type != null) {
+                        byTypeAndOutcome.computeIfAbsent(type, t -> new EnumMap<>(Outcome.class))
+                                .merge(outcome, count, Long::sum);
+                    }
+                }
+                if (rated) {
+                    byRating.merge(rating, count, Long::sum);
+                    totals[1] += count;
+                    totals[2] += rating * count;
+                }
+            }, where.args());
+
+            Double averageRating = totals[1] > 0 ? (double) totals[2] / totals[1] : null;
+            return new InterviewOutcomeResponse(totals[0], byOutcome, byTypeAndOutcome, byRating, averageRating,
+                    refreshedAt);
+        });
+    }
+
+    public StageDurationResponse stageDurations(AnalyticsFilter filter) {
+        return cached("stage-durations", filter, null, refreshedAt -> {
+            SqlWhere where = where(filter);
+            String sql = "SELECT stage, bucket, sum(applications) AS applications, sum(total_hours) AS total_hours"
+                    + " FROM analytics_stage_durations " + where.sql()
+                    + " GROUP BY 1, 2";
+
+            Map<String, Map<String, Long>> histograms = new LinkedHashMap<>();
+            Map<String, double[]> totals = new LinkedHashMap<>(); // applications, hours
+            jdbcTemplate.query(sql, rs -> {
+                String stage = rs.getString("stage");
+                long count = rs.getLong("applications");
+                Map<String, Long> histogram = histograms.computeIfAbsent(stage, s -> emptyHistogram());
+                histogram.merge(DURATION_BUCKETS.get(rs.getInt("bucket")), count, Long::sum);
+                double[] stageTotals = totals.computeIfAbsent(stage, s -> new double[2]);
+                stageTotals[0] += count;
+                stageTotals[1] += rs.getDouble("total_hours");
+            }, where.args());
+
+            List<StageDuration> stages = new ArrayList<>(histograms.size());
+            histograms.forEach((stage, histogram) -> {
+                double[] stageTotals = totals.get(stage);
+                stages.add(new StageDuration(stage, (long) stageTotals[0], stageTotals[1] / stageTotals[0], histogram));
+            });
+            stages.sort(Comparator.comparingInt(stage -> stageOrder(stage.stage())));
+            return new StageDurationResponse(stages, refreshedAt);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String query, AnalyticsFilter filter, FunnelDimension groupBy, Function<Instant, T> compute) {
+        Instant refreshedAt = refresher.refreshedAt();
+        CacheKey key = new CacheKey(TenantContext.currentTenantId(), query, filter, groupBy, refreshedAt);
+        // computed outside Cache.get, whose map lock would pin a virtual thread during the query
+        Object response = cache.getIfPresent(key);
+        if (response == null) {
+            response = compute.apply(refreshedAt);
+            cache.put(key, response);
+        }
+        return (T) response;
+    }
+
+    /**
+     * Interview stages first, then the statuses in pipeline order.
+     */
+    private static int stageOrder(String stage) {
+        return switch (stage) {
+            case "TO_FIRST_INTERVIEW" -> -2;
+            case "INTERVIEW_LOOP" -> -1;
+            default -> ApplicationStatus.valueOf(stage).ordinal();
+        };
+    }
+
+    private static SqlWhere where(AnalyticsFilter filter) {
+        return new SqlWhere()
+                .equalTo("tenant_id", TenantContext.currentTenantId())
+                .equalTo("job_id", filter.jobId())
+                .equalTo("department", filter.department());
+    }
+
+    private static Map<String, Long> emptyHistogram() {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        DURATION_BUCKETS.values().forEach(label -> histogram.put(label, 0L));
+        return histogram;
+    }
+
+    private static Map<Integer, String> bucketLabels() {
+        Map<Integer, String> labels = new LinkedHashMap<>();
+        for (int days : new int[] {1, 3, 7, 14, 30}) {
+            labels.put(days, days + "d");
+        }
+        labels.put(0, "more");
+        return labels;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private record CacheKey(Long tenantId, String query, AnalyticsFilter filter, FunnelDimension groupBy,
+                            Instant refreshedAt) {}
+}
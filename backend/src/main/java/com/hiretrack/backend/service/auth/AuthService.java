@@ -3,10 +3,16 @@ package com.hiretrack.backend.service.auth;
 import com.hiretrack.backend.dto.auth.AuthResponse;
 import com.hiretrack.backend.dto.auth.LoginRequest;
 import com.hiretrack.backend.dto.auth.RegisterRequest;
+import com.hiretrack.backend.dto.user.UserResponse;
+import com.hiretrack.backend.entity.TenantInvitation;
 import com.hiretrack.backend.entity.User;
 import com.hiretrack.backend.enums.Role;
+import com.hiretrack.backend.repository.TenantRepository;
 import com.hiretrack.backend.repository.UserRepository;
 import com.hiretrack.backend.security.jwt.JwtTokenProvider;
+import com.hiretrack.backend.security.jwt.TokenDenyList;
+import com.hiretrack.backend.service.tenancy.TenantInvitationService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -20,57 +26,83 @@ import java.time.LocalDateTime;
 @Service
 public class AuthService {
     private final UserRepository userRepository;
+    private final TenantRepository tenantRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
-    private final Role role;
+    private final TokenDenyList tokenDenyList;
+    private final TenantInvitationService invitationService;
 
     public AuthService(
             UserRepository userRepository,
+            TenantRepository tenantRepository,
             PasswordEncoder passwordEncoder,
             AuthenticationManager authenticationManager,
             JwtTokenProvider tokenProvider,
-            Role role
+            TokenDenyList tokenDenyList,
+            TenantInvitationService invitationService
     ) {
         this.userRepository = userRepository;
+        this.tenantRepository = tenantRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = tokenProvider;
-        this.role = role;
+        this.tokenDenyList = tokenDenyList;
+        this.invitationService = invitationService;
     }
 
     /**
      * Handle user registration :
-     * creating a new user account in your system safely and correctly
+     * creating a new user account in your system safely and correctly.
+     * <p>
+     * With an invitation token the user joins the inviting administrator's company with the
+     * role of the invitation. Without one, the user founds a new company, whatever its name (a
+     * company name is not proof of belonging to an existing one), and is its first ADMIN, who
+     * then invites the rest of the team.
+     *
      * @param request represents the data sent by the client when registering a new user.
+     * @throws IllegalArgumentException if the invitation is invalid
      */
+    @Timed("auth.register")
     public void register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.email())) {
             throw new UsernameNotFoundException("Email already in use");
         }
-        
-        // Convert role string to Role enum, or use default role if invalid
-        Role userRole;
-        try {
-            userRole = Role.valueOf(request.role().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            // If role is invalid, use the default role from configuration
-            userRole = this.role;
-        }
-        
+
+        // Check the invitation before spending a BCrypt hash on the request
+        TenantInvitation invitation = request.invitationToken() != null
+                ? invitationService.findPending(request.invitationToken(), request.email())
+                : null;
+
+
         User user = new User();
         user.setEmail(request.email());
         user.setPasswordHash(passwordEncoder.encode(request.password()));
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
-        user.setRole(userRole);
         user.setCompanyName(request.companyName());
         user.setPhoneNumber(request.phoneNumber());
         user.setCreatedAt(LocalDateTime.now());
-        
+
+        if (invitation != null) {
+            // takes the invitation's tenant and role
+            invitationService.accept(invitation, user);
+            return;
+        }
+        user.setTenantId(tenantRepository.create(companyName(request)));
+        user.setRole(Role.ADMIN);
         userRepository.save(user); // persist entity to the database.
     }
 
+    /**
+     * Name of the company created for a registrant, their email when they gave none.
+     */
+    private static String companyName(RegisterRequest request) {
+        return request.companyName() == null || request.companyName().isBlank()
+                ? request.email()
+                : request.companyName().trim();
+    }
+
    /**
      * Authenticate the user using Spring Security and issue a JWT.
      * Steps:
@@ -83,6 +115,7 @@ public class AuthService {
      * @param request the login request containing username and password
      * @return AuthResponse containing the JWT and the token type ("Bearer")
      */
+    @Timed("auth.login")
     public AuthResponse login(LoginRequest request){
 
         // Build an authentication token from the incoming credentials.
@@ -110,6 +143,17 @@ public class AuthService {
         String token = jwtTokenProvider.generateToken(userDetails);
 
         // Return the token with the standard Bearer scheme used in Authorization headers.
-        return new AuthResponse(token, "Bearer", user);
+        return new AuthResponse(token, "Bearer", UserResponse.from(user));
+    }
+
+    /**
+     * Log the user out of every session: revokes all the tokens issued to them so far,
+     * including the one used for this call. A new login issues a valid token again.
+     *
+     * @param email the authenticated user's email
+     */
+    @Timed("auth.logout")
+    public void logout(String email) {
+        tokenDenyList.revokeAll(email);
     }
 }
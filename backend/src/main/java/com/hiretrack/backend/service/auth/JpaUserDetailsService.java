@@ -2,17 +2,21 @@ package com.hiretrack.backend.service.auth;
 
 import com.hiretrack.backend.entity.User;
 import com.hiretrack.backend.repository.UserRepository;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.security.TenantContext;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
-public class JpaUserDetailsService implements UserDetailsService {
+public class JpaUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     public JpaUserDetailsService(UserRepository userRepository) {
@@ -27,8 +31,9 @@ public class JpaUserDetailsService implements UserDetailsService {
      * <li> 1. Fetch the User entity from the repository using the provided email.
      * <li> 2. Convert the user's role into a collection of {@link GrantedAuthority} instances
      * that Spring Security uses for authorization checks.
-     * <li> 3. Build and return a Spring Security {@link org.springframework.security.core.userdetails.User}
-     * which implements {@link UserDetails}.
+     * <li> 3. Build and return an {@link AuthenticatedUser} (a Spring Security
+     * {@link org.springframework.security.core.userdetails.User}) carrying the user's token version
+     * and tenant.
      *
      * @param email the email (used as username) to look up
      * @return a {@link UserDetails} representing the found user
@@ -37,8 +42,8 @@ public class JpaUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         // 1) Retrieve user by email from repository. If not present, throw UsernameNotFoundException
-        User user = userRepository
-                .findByEmail(email)
+        //    Emails are unique across tenants, and the user's tenant is not known yet: look it up as root.
+        User user = TenantContext.callAsRoot(() -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         // 2) Map the domain Role enum to Spring Security GrantedAuthority.
@@ -48,9 +53,31 @@ public class JpaUserDetailsService implements UserDetailsService {
         );
 
         // 3) Return a Spring Security UserDetails instance with email, password hash, and authorities.
-        //    The User constructor used here is from org.springframework.security.core.userdetails and
-        //    contains additional fields (enabled, accountNonExpired, etc.) that can be supplied if needed.
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(), user.getPasswordHash(), authorities);
+        //    AuthenticatedUser extends org.springframework.security.core.userdetails.User and adds the
+        //    token version and tenant that JwtTokenProvider embeds into issued tokens.
+        return new AuthenticatedUser(
+                user.getEmail(), user.getPasswordHash(), authorities, user.getTokenVersion(), user.getTenantId());
+    }
+
+    /**
+     * Stores a re-encoded password hash. Called by DaoAuthenticationProvider after a successful
+     * login when the stored hash was produced with a weaker BCrypt cost than the configured one,
+     * so the cost factor can be raised without forcing password resets.
+     *
+     * @param user        the authenticated user
+     * @param newPassword the new hash, already encoded
+     * @return the user details carrying the new hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository
+                .findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + user.getUsername()));
+        entity.setPasswordHash(newPassword);
+        userRepository.save(entity);
+
+        return new AuthenticatedUser(
+                entity.getEmail(), newPassword, user.getAuthorities(), entity.getTokenVersion(), entity.getTenantId());
     }
 }
@@ -0,0 +1,85 @@
+package com.hiretrack.backend.service.auth.cache;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hiretrack.backend.config.UserDetailsCacheProperties;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.service.auth.JpaUserDetailsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size and TTL bounded cache in front of {@link JpaUserDetailsService}.
+ *
+ * <p> It is the primary {@link UserDetailsService}, so both the login path and the JWT filter
+ * go through it. Entries are dropped whenever a {@code User} is persisted, updated or removed
+ * (see {@link UserDetailsCacheEntityListener}), on this node directly and on the other nodes
+ * through the {@link UserCacheInvalidationBroadcaster}. Hit rate is published to Actuator under
+ * the cache name {@value #CACHE_NAME}.
+ */
+@Primary
+@Service
+public class CachingUserDetailsService implements UserDetailsService {
+
+    static final String CACHE_NAME = "user-details";
+
+    private final JpaUserDetailsService delegate;
+    private final UserCacheInvalidationBroadcaster broadcaster;
+    private final boolean enabled;
+    private final Cache<String, AuthenticatedUser> cache;
+
+    public CachingUserDetailsService(JpaUserDetailsService delegate,
+                                     UserCacheInvalidationBroadcaster broadcaster,
+                                     UserDetailsCacheProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.broadcaster = broadcaster;
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        broadcaster.subscribe(cache::invalidate);
+    }
+
+    /**
+     * Returns a fresh copy of the cached user on every call: Spring Security erases the
+     * credentials of the returned principal after authentication, which must not affect the
+     * cached entry.
+     */
+    @Override
+    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        if (!enabled) {
+            return delegate.loadUserByUsername(email);
+        }
+        // misses are not cached: unknown emails always reach the database. The lookup runs atomically
+        // with the entry: an invalidation arriving meanwhile waits for it and then drops what it
+        // loaded, where a separate put could store details read before the change committed.
+        AuthenticatedUser cached = cache.get(email, key -> (AuthenticatedUser) delegate.loadUserByUsername(key));
+        return new AuthenticatedUser(cached.getUsername(), cached.getPassword(),
+                cached.getAuthorities(), cached.getTokenVersion(), cached.getTenantId());
+    }
+
+    /**
+     * Drops the user from this node's cache and broadcasts the invalidation to the other nodes.
+     *
+     * @param email the email of the changed user
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+        broadcaster.broadcast(email);
+    }
+
+    long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
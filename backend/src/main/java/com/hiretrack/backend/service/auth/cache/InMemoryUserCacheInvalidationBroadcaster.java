@@ -0,0 +1,26 @@
+package com.hiretrack.backend.service.auth.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations to subscribers in the same JVM.
+ *
+ * <p> Enough for a single node. Sharing one instance between several caches also makes it
+ * an embedded stand-in for the multi-node broadcast in tests.
+ */
+public class InMemoryUserCacheInvalidationBroadcaster implements UserCacheInvalidationBroadcaster {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void broadcast(String email) {
+        listeners.forEach(listener -> listener.accept(email));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
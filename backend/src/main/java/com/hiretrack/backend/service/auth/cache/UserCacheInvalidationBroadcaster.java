@@ -0,0 +1,14 @@
+package com.hiretrack.backend.service.auth.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries user cache invalidations (by email) to every node running the application.
+ * Subscribers receive invalidations published by any node, including their own.
+ */
+public interface UserCacheInvalidationBroadcaster {
+
+    void broadcast(String email);
+
+    void subscribe(Consumer<String> listener);
+}
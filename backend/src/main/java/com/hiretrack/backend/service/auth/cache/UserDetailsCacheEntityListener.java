@@ -0,0 +1,54 @@
+package com.hiretrack.backend.service.auth.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hiretrack.backend.entity.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that invalidates the cached user details whenever a {@link User} is written,
+ * whichever service does the write (UserService, AuthService.register, rehash on login, ...).
+ *
+ * <p> The invalidation runs after commit so a concurrent request cannot reload and cache the
+ * row as it was before the transaction committed.
+ */
+@Component
+public class UserDetailsCacheEntityListener {
+
+    // resolved lazily: entity listeners are instantiated while the EntityManagerFactory is built
+    private final ObjectProvider<CachingUserDetailsService> userDetailsService;
+
+    public UserDetailsCacheEntityListener(ObjectProvider<CachingUserDetailsService> userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        String email = user.getEmail();
+        if (email == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+        } else {
+            invalidate(email);
+        }
+    }
+
+    private void invalidate(String email) {
+        userDetailsService.ifAvailable(service -> service.invalidate(email));
+    }
+}
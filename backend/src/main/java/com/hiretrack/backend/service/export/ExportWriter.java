@@ -0,0 +1,138 @@
+package com.hiretrack.backend.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hiretrack.backend.enums.ExportFormat;
+
+/**
+ * Writes export rows one at a time, so nothing but the current row is held in memory.
+ *
+ * <p> NDJSON rows are the JSON form of the row record, one per line. CSV starts with a header of
+ * the record component names and quotes fields per RFC 4180. Closing the writer flushes it but
+ * leaves the underlying stream open.
+ *
+ * @param <T> the row record type
+ */
+public abstract class ExportWriter<T extends Record> implements AutoCloseable {
+
+    public static <T extends Record> ExportWriter<T> open(ExportFormat format, Class<T> rowType,
+                                                         OutputStream out, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter<>(out, objectMapper);
+            case CSV -> new CsvWriter<>(rowType, out);
+        };
+    }
+
+    public abstract void write(T row);
+
+    @Override
+    public abstract void close();
+
+    private static final class NdjsonWriter<T extends Record> extends ExportWriter<T> {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) {
+            try {
+                this.generator = objectMapper.getFactory().createGenerator(out)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .setRootValueSeparator(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // flushing after every row would turn each row into its own network write
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(T row) {
+            try {
+                writer.writeValue(generator, row);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                generator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class CsvWriter<T extends Record> extends ExportWriter<T> {
+
+        private final Writer out;
+        private final List<RecordComponent> columns;
+
+        CsvWriter(Class<T> rowType, OutputStream out) {
+            this.out = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            this.columns = Arrays.asList(rowType.getRecordComponents());
+            writeLine(columns.stream().map(RecordComponent::getName).toList());
+        }
+
+        @Override
+        public void write(T row) {
+            writeLine(columns.stream().map(column -> value(column, row)).toList());
+        }
+
+        @Override
+        public void close() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeLine(List<?> values) {
+            try {
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        out.write(',');
+                    }
+                    out.write(escape(values.get(i)));
+                }
+                out.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static Object value(RecordComponent column, Record row) {
+            try {
+                return column.getAccessor().invoke(row);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hiretrack.backend.service.history;
+
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hiretrack.backend.config.StatusHistoryProperties;
+
+/**
+ * Creates the monthly partitions of {@code application_status_history} ahead of time, through
+ * the V14 function {@code create_application_status_history_partitions}, so that status
+ * changes never pile up in the default partition. Creating a partition that exists is a no-op,
+ * so every node can run this.
+ */
+@Service
+public class StatusHistoryPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusHistoryPartitionManager.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StatusHistoryProperties properties;
+
+    public StatusHistoryPartitionManager(DataSource dataSource, StatusHistoryProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${app.status-history.partition-check-interval:PT24H}")
+    public void scheduledCheck() {
+        try {
+            ensurePartitions(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.warn("Creating status history partitions failed, will retry", e);
+        }
+    }
+
+    /**
+     * Creates the missing partitions from the month of {@code today} to
+     * {@code app.status-history.months-ahead} months later.
+     *
+     * @return the number of partitions created
+     */
+    public int ensurePartitions(LocalDate today) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT create_application_status_history_partitions(?, ?)", Integer.class,
+                today, today.plusMonths(properties.getMonthsAhead()));
+        if (created != null && created > 0) {
+            log.info("Created {} status history partition(s)", created);
+        }
+        return created != null ? created : 0;
+    }
+}
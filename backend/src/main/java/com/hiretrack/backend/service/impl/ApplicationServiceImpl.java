@@ -3,40 +3,173 @@ package com.hiretrack.backend.service.impl;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hiretrack.backend.dto.application.ApplicationFilter;
+import com.hiretrack.backend.dto.application.ApplicationResponse;
+import com.hiretrack.backend.dto.common.EntityVersions;
 import com.hiretrack.backend.entity.Application;
+import com.hiretrack.backend.entity.ApplicationStatusChange;
+import com.hiretrack.backend.enums.ApplicationStatus;
+import com.hiretrack.backend.enums.OutboxAggregate;
+import com.hiretrack.backend.enums.OutboxEventType;
+import com.hiretrack.backend.exception.InvalidStatusTransitionException;
 import com.hiretrack.backend.repository.ApplicationRepository;
+import com.hiretrack.backend.repository.ApplicationStatusChangeRepository;
+import com.hiretrack.backend.repository.ListingSpecifications;
 import com.hiretrack.backend.service.ApplicationService;
+import com.hiretrack.backend.service.analytics.AnalyticsRefresher;
+import com.hiretrack.backend.service.matching.MatchScoreMaintainer;
+import com.hiretrack.backend.service.outbox.OutboxWriter;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+
+import static com.hiretrack.backend.repository.ListingSpecifications.before;
+import static com.hiretrack.backend.repository.ListingSpecifications.equalTo;
+import static com.hiretrack.backend.repository.ListingSpecifications.idAfter;
+import static com.hiretrack.backend.repository.ListingSpecifications.notBefore;
 
 @Service
+@Timed("service.calls")
 public class ApplicationServiceImpl implements ApplicationService {
 
+    /** Associations read by the listing response (job title and candidate name), fetched with the page itself. */
+    private static final List<String> LISTING_FETCH_PLAN = List.of("job", "candidate");
+
+    /** Columns of an application's version: its response also shows the job title and candidate name. */
+    private static final List<String> VERSION_ATTRIBUTES = List.of("updatedAt", "job.updatedAt", "candidate.updatedAt");
+
     private final ApplicationRepository applicationRepository;
+    private final ApplicationStatusChangeRepository statusChangeRepository;
+    private final MatchScoreMaintainer matchScoreMaintainer;
+    private final AnalyticsRefresher analyticsRefresher;
+    private final OutboxWriter outboxWriter;
+    private final EntityManager entityManager;
 
-    public ApplicationServiceImpl(ApplicationRepository applicationRepository) {
+    public ApplicationServiceImpl(ApplicationRepository applicationRepository,
+                                  ApplicationStatusChangeRepository statusChangeRepository,
+                                  MatchScoreMaintainer matchScoreMaintainer,
+                                  AnalyticsRefresher analyticsRefresher,
+                                  OutboxWriter outboxWriter,
+                                  EntityManager entityManager) {
         this.applicationRepository = applicationRepository;
+        this.statusChangeRepository = statusChangeRepository;
+        this.matchScoreMaintainer = matchScoreMaintainer;
+        this.analyticsRefresher = analyticsRefresher;
+        this.outboxWriter = outboxWriter;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Application> findAll() {
         return applicationRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Application> findPage(ApplicationFilter filter, Long afterId, int limit) {
+        return ListingSpecifications.findPage(applicationRepository, LISTING_FETCH_PLAN, limit, listing(filter, afterId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Application> findById(Long id) {
         return applicationRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public String findPageVersion(ApplicationFilter filter, Long afterId, int limit) {
+        List<String> rows = ListingSpecifications.findColumns(entityManager, Application.class, VERSION_ATTRIBUTES,
+                        limit, listing(filter, afterId))
+                .stream().map(EntityVersions::of).toList();
+        return EntityVersions.ofPage(rows, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Long id) {
+        return ListingSpecifications.findColumns(entityManager, Application.class, VERSION_ATTRIBUTES, 1,
+                        equalTo("id", id))
+                .stream().map(EntityVersions::of).findFirst();
+    }
+
+    @Override
+    public String versionOf(Application application) {
+        return EntityVersions.of(application.getId(), application.getUpdatedAt(),
+                application.getJob().getUpdatedAt(), application.getCandidate().getUpdatedAt());
+    }
+
+    /**
+     * Validates the status change against the state machine of {@link ApplicationStatus}; the
+     * V14 trigger logs it in the same transaction. A new application without a status starts
+     * as {@link ApplicationStatus#APPLIED}.
+     */
+    @Override
+    @Transactional
     public Application save(Application application) {
-        return applicationRepository.save(application);
+        if (application.getStatus() == null) {
+            application.setStatus(ApplicationStatus.APPLIED);
+        }
+        ApplicationStatus from = application.getPersistedStatus();
+        if (from != null && !from.canTransitionTo(application.getStatus())) {
+            throw new InvalidStatusTransitionException(from, application.getStatus());
+        }
+        OutboxEventType eventType = application.getId() == null ? OutboxEventType.CREATED : OutboxEventType.UPDATED;
+        // flushed so that the event carries the new version
+        Application saved = applicationRepository.saveAndFlush(application);
+        // a new pair to score, or new notes in the candidate's profile
+        matchScoreMaintainer.candidateChanged(saved.getCandidate().getId());
+        analyticsRefresher.markStale();
+        outboxWriter.record(OutboxAggregate.APPLICATION, saved.getId(), eventType, ApplicationResponse.from(saved));
+        return saved;
     }
 
     @Override
-    public void deleteById(Long id) {
-        applicationRepository.deleteById(id);
+    @Transactional
+    public Optional<Application> changeStatus(Long id, ApplicationStatus status, long expectedVersion) {
+        return applicationRepository.findById(id).map(application -> {
+            // checked here for a clear answer; @Version still catches a change committed in between
+            if (application.getVersion() == null || expectedVersion != application.getVersion()) {
+                throw new ObjectOptimisticLockingFailureException(Application.class, id);
+            }
+            application.setStatus(status);
+            return save(application);
+        });
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ApplicationStatusChange> findStatusHistory(Long id) {
+        return statusChangeRepository.findByApplicationIdOrderByChangedAtAscIdAsc(id);
+    }
 
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        applicationRepository.findById(id).ifPresent(application -> {
+            applicationRepository.delete(application);
+            // rescoring the candidate also drops the score of the deleted pair
+            matchScoreMaintainer.candidateChanged(application.getCandidate().getId());
+            analyticsRefresher.markStale();
+            outboxWriter.record(OutboxAggregate.APPLICATION, id, OutboxEventType.DELETED, null);
+        });
+    }
+
+    private static Specification<Application> listing(ApplicationFilter filter, Long afterId) {
+        return Specification.allOf(
+                equalTo("status", filter.status()),
+                equalTo("job.id", filter.jobId()),
+                equalTo("candidate.id", filter.candidateId()),
+                equalTo("job.department", filter.department()),
+                equalTo("job.location", filter.location()),
+                notBefore("appliedAt", filter.appliedFrom()),
+                before("appliedAt", filter.appliedTo()),
+                idAfter(afterId));
+    }
+}
@@ -3,40 +3,124 @@ package com.hiretrack.backend.service.impl;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hiretrack.backend.dto.candidate.CandidateFilter;
+import com.hiretrack.backend.dto.candidate.CandidateResponse;
+import com.hiretrack.backend.dto.common.EntityVersions;
 import com.hiretrack.backend.entity.Candidate;
+import com.hiretrack.backend.enums.OutboxAggregate;
+import com.hiretrack.backend.enums.OutboxEventType;
 import com.hiretrack.backend.repository.CandidateRepository;
+import com.hiretrack.backend.repository.ListingSpecifications;
+import com.hiretrack.backend.security.TenantContext;
 import com.hiretrack.backend.service.CandidateService;
+import com.hiretrack.backend.service.matching.MatchScoreMaintainer;
+import com.hiretrack.backend.service.outbox.OutboxWriter;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+
+import static com.hiretrack.backend.repository.ListingSpecifications.before;
+import static com.hiretrack.backend.repository.ListingSpecifications.equalTo;
+import static com.hiretrack.backend.repository.ListingSpecifications.idAfter;
+import static com.hiretrack.backend.repository.ListingSpecifications.notBefore;
 
 @Service
+@Timed("service.calls")
 public class CandidateServiceImpl implements CandidateService {
 
+    /** Columns of a candidate's version: its response shows the candidate alone. */
+    private static final List<String> VERSION_ATTRIBUTES = List.of("updatedAt");
+
     private final CandidateRepository candidateRepository;
+    private final MatchScoreMaintainer matchScoreMaintainer;
+    private final OutboxWriter outboxWriter;
+    private final EntityManager entityManager;
 
-    public CandidateServiceImpl(CandidateRepository candidateRepository) {
+    public CandidateServiceImpl(CandidateRepository candidateRepository,
+                                MatchScoreMaintainer matchScoreMaintainer,
+                                OutboxWriter outboxWriter,
+                                EntityManager entityManager) {
         this.candidateRepository = candidateRepository;
+        this.matchScoreMaintainer = matchScoreMaintainer;
+        this.outboxWriter = outboxWriter;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Candidate> findAll() {
         return candidateRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Candidate> findPage(CandidateFilter filter, Long afterId, int limit) {
+        return ListingSpecifications.findPage(candidateRepository, limit, listing(filter, afterId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Candidate> search(String query, int offset, int limit) {
+        // native queries are not scoped by Hibernate; throws without a tenant rather than searching all
+        return candidateRepository.searchTenant(TenantContext.requireTenantId(), query, offset, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Candidate> findById(Long id) {
         return candidateRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public String findPageVersion(CandidateFilter filter, Long afterId, int limit) {
+        List<String> rows = ListingSpecifications.findColumns(entityManager, Candidate.class, VERSION_ATTRIBUTES, limit,
+                        listing(filter, afterId))
+                .stream().map(EntityVersions::of).toList();
+        return EntityVersions.ofPage(rows, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Long id) {
+        return ListingSpecifications.findColumns(entityManager, Candidate.class, VERSION_ATTRIBUTES, 1, equalTo("id", id))
+                .stream().map(EntityVersions::of).findFirst();
+    }
+
+    @Override
+    public String versionOf(Candidate candidate) {
+        return EntityVersions.of(candidate.getId(), candidate.getUpdatedAt());
+    }
+
+    @Override
+    @Transactional
     public Candidate save(Candidate candidate) {
-        return candidateRepository.save(candidate);
+        OutboxEventType eventType = candidate.getId() == null ? OutboxEventType.CREATED : OutboxEventType.UPDATED;
+        Candidate saved = candidateRepository.saveAndFlush(candidate);
+        matchScoreMaintainer.candidateChanged(saved.getId());
+        outboxWriter.record(OutboxAggregate.CANDIDATE, saved.getId(), eventType, CandidateResponse.from(saved));
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
-        candidateRepository.deleteById(id);
+        candidateRepository.findById(id).ifPresent(candidate -> {
+            candidateRepository.delete(candidate);
+            outboxWriter.record(OutboxAggregate.CANDIDATE, id, OutboxEventType.DELETED, null);
+        });
     }
-}
-
 
+    private static Specification<Candidate> listing(CandidateFilter filter, Long afterId) {
+        return Specification.allOf(
+                equalTo("experienceLevel", filter.experienceLevel()),
+                equalTo("location", filter.location()),
+                notBefore("createdAt", filter.createdFrom()),
+                before("createdAt", filter.createdTo()),
+                idAfter(afterId));
+    }
+}
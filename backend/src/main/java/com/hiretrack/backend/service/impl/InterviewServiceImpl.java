@@ -1,41 +1,145 @@
 package com.hiretrack.backend.service.impl;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hiretrack.backend.dto.interview.InterviewBookingRequest;
+import com.hiretrack.backend.dto.interview.InterviewFilter;
+import com.hiretrack.backend.dto.interview.InterviewResponse;
+import com.hiretrack.backend.entity.Application;
 import com.hiretrack.backend.entity.Interview;
+import com.hiretrack.backend.entity.User;
+import com.hiretrack.backend.enums.OutboxAggregate;
+import com.hiretrack.backend.enums.OutboxEventType;
+import com.hiretrack.backend.enums.Outcome;
+import com.hiretrack.backend.exception.InterviewConflictException;
+import com.hiretrack.backend.repository.ApplicationRepository;
 import com.hiretrack.backend.repository.InterviewRepository;
+import com.hiretrack.backend.repository.ListingSpecifications;
+import com.hiretrack.backend.repository.UserRepository;
 import com.hiretrack.backend.service.InterviewService;
+import com.hiretrack.backend.service.analytics.AnalyticsRefresher;
+import com.hiretrack.backend.service.outbox.OutboxWriter;
+
+import io.micrometer.core.annotation.Timed;
+
+import static com.hiretrack.backend.repository.ListingSpecifications.before;
+import static com.hiretrack.backend.repository.ListingSpecifications.equalTo;
+import static com.hiretrack.backend.repository.ListingSpecifications.idAfter;
+import static com.hiretrack.backend.repository.ListingSpecifications.notBefore;
 
 @Service
+@Timed("service.calls")
 public class InterviewServiceImpl implements InterviewService {
 
+    /** Associations read by the listing response (interviewer, job and candidate), fetched with the page itself. */
+    private static final List<String> LISTING_FETCH_PLAN = List.of("interviewer", "application.job", "application.candidate");
+
+    /** SQLSTATE of an exclusion constraint violation, here an interviewer slot constraint (V16, V17). */
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final InterviewRepository interviewRepository;
+    private final ApplicationRepository applicationRepository;
+    private final UserRepository userRepository;
+    private final AnalyticsRefresher analyticsRefresher;
+    private final OutboxWriter outboxWriter;
 
-    public InterviewServiceImpl(InterviewRepository interviewRepository) {
+    public InterviewServiceImpl(InterviewRepository interviewRepository,
+                                ApplicationRepository applicationRepository,
+                                UserRepository userRepository,
+                                AnalyticsRefresher analyticsRefresher,
+                                OutboxWriter outboxWriter) {
         this.interviewRepository = interviewRepository;
+        this.applicationRepository = applicationRepository;
+        this.userRepository = userRepository;
+        this.analyticsRefresher = analyticsRefresher;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Interview> findAll() {
         return interviewRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Interview> findPage(InterviewFilter filter, Long afterId, int limit) {
+        return ListingSpecifications.findPage(interviewRepository, LISTING_FETCH_PLAN, limit,
+                equalTo("interviewer.id", filter.interviewerId()),
+                equalTo("application.id", filter.applicationId()),
+                equalTo("application.job.id", filter.jobId()),
+                equalTo("interviewType", filter.interviewType()),
+                equalTo("outcome", filter.outcome()),
+                notBefore("interviewDate", filter.from()),
+                before("interviewDate", filter.to()),
+                idAfter(afterId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Interview> findById(Long id) {
         return interviewRepository.findById(id);
     }
 
     @Override
+    @Transactional
+    public Optional<Interview> book(InterviewBookingRequest request) {
+        return applicationRepository.findById(request.applicationId())
+                .flatMap(application -> userRepository.findById(request.interviewerId())
+                        // interviewers of another company are unknown here, even to callers working across tenants
+                        .filter(interviewer -> interviewer.getTenantId().equals(application.getTenantId()))
+                        .map(interviewer -> save(newInterview(request, application, interviewer))));
+    }
+
+    private static Interview newInterview(InterviewBookingRequest request, Application application, User interviewer) {
+        Interview interview = new Interview();
+        interview.setTenantId(application.getTenantId());
+        interview.setApplication(application);
+        interview.setInterviewer(interviewer);
+        interview.setInterviewDate(request.interviewDate());
+        if (request.durationMinutes() != null) {
+            interview.setDurationMinutes(request.durationMinutes());
+        }
+        interview.setInterviewType(request.interviewType());
+        interview.setOutcome(Outcome.PENDING);
+        return interview;
+    }
+
+    @Override
+    @Transactional
     public Interview save(Interview interview) {
-        return interviewRepository.save(interview);
+        OutboxEventType eventType = interview.getId() == null ? OutboxEventType.CREATED : OutboxEventType.UPDATED;
+        Interview saved;
+        try {
+            // flushed here so that an overlap surfaces as a conflict rather than at commit
+            saved = interviewRepository.saveAndFlush(interview);
+        } catch (DataIntegrityViolationException e) {
+            if (NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sql
+                    && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                throw new InterviewConflictException(interview.getInterviewer().getId());
+            }
+            throw e;
+        }
+        analyticsRefresher.markStale();
+        outboxWriter.record(OutboxAggregate.INTERVIEW, saved.getId(), eventType, InterviewResponse.from(saved));
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
-        interviewRepository.deleteById(id);
+        interviewRepository.findById(id).ifPresent(interview -> {
+            interviewRepository.delete(interview);
+            analyticsRefresher.markStale();
+            outboxWriter.record(OutboxAggregate.INTERVIEW, id, OutboxEventType.DELETED, null);
+        });
     }
 }
 
@@ -3,40 +3,124 @@ package com.hiretrack.backend.service.impl;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hiretrack.backend.dto.common.EntityVersions;
+import com.hiretrack.backend.dto.job.JobFilter;
+import com.hiretrack.backend.dto.job.JobResponse;
 import com.hiretrack.backend.entity.Job;
+import com.hiretrack.backend.enums.OutboxAggregate;
+import com.hiretrack.backend.enums.OutboxEventType;
 import com.hiretrack.backend.repository.JobRepository;
+import com.hiretrack.backend.repository.ListingSpecifications;
+import com.hiretrack.backend.security.TenantContext;
 import com.hiretrack.backend.service.JobService;
+import com.hiretrack.backend.service.matching.MatchScoreMaintainer;
+import com.hiretrack.backend.service.outbox.OutboxWriter;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+
+import static com.hiretrack.backend.repository.ListingSpecifications.before;
+import static com.hiretrack.backend.repository.ListingSpecifications.equalTo;
+import static com.hiretrack.backend.repository.ListingSpecifications.idAfter;
+import static com.hiretrack.backend.repository.ListingSpecifications.notBefore;
 
 @Service
+@Timed("service.calls")
 public class JobServiceImpl implements JobService {
 
+    /** Columns of a job's version: its response shows the job alone. */
+    private static final List<String> VERSION_ATTRIBUTES = List.of("updatedAt");
+
     private final JobRepository jobRepository;
+    private final MatchScoreMaintainer matchScoreMaintainer;
+    private final OutboxWriter outboxWriter;
+    private final EntityManager entityManager;
 
-    public JobServiceImpl(JobRepository jobRepository) {
+    public JobServiceImpl(JobRepository jobRepository, MatchScoreMaintainer matchScoreMaintainer, OutboxWriter outboxWriter,
+                          EntityManager entityManager) {
         this.jobRepository = jobRepository;
+        this.matchScoreMaintainer = matchScoreMaintainer;
+        this.outboxWriter = outboxWriter;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Job> findAll() {
         return jobRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Job> findPage(JobFilter filter, Long afterId, int limit) {
+        return ListingSpecifications.findPage(jobRepository, limit, listing(filter, afterId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Job> search(String query, int offset, int limit) {
+        // native queries are not scoped by Hibernate; throws without a tenant rather than searching all
+        return jobRepository.searchTenant(TenantContext.requireTenantId(), query, offset, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Job> findById(Long id) {
         return jobRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public String findPageVersion(JobFilter filter, Long afterId, int limit) {
+        List<String> rows = ListingSpecifications.findColumns(entityManager, Job.class, VERSION_ATTRIBUTES, limit,
+                        listing(filter, afterId))
+                .stream().map(EntityVersions::of).toList();
+        return EntityVersions.ofPage(rows, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Long id) {
+        return ListingSpecifications.findColumns(entityManager, Job.class, VERSION_ATTRIBUTES, 1, equalTo("id", id))
+                .stream().map(EntityVersions::of).findFirst();
+    }
+
+    @Override
+    public String versionOf(Job job) {
+        return EntityVersions.of(job.getId(), job.getUpdatedAt());
+    }
+
+    @Override
+    @Transactional
     public Job save(Job job) {
-        return jobRepository.save(job);
+        OutboxEventType eventType = job.getId() == null ? OutboxEventType.CREATED : OutboxEventType.UPDATED;
+        Job saved = jobRepository.saveAndFlush(job);
+        matchScoreMaintainer.jobChanged(saved.getId());
+        outboxWriter.record(OutboxAggregate.JOB, saved.getId(), eventType, JobResponse.from(saved));
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
-        jobRepository.deleteById(id);
+        jobRepository.findById(id).ifPresent(job -> {
+            jobRepository.delete(job);
+            outboxWriter.record(OutboxAggregate.JOB, id, OutboxEventType.DELETED, null);
+        });
     }
-}
-
 
+    private static Specification<Job> listing(JobFilter filter, Long afterId) {
+        return Specification.allOf(
+                equalTo("status", filter.status()),
+                equalTo("employmentType", filter.employmentType()),
+                equalTo("department", filter.department()),
+                equalTo("location", filter.location()),
+                notBefore("createdAt", filter.createdFrom()),
+                before("createdAt", filter.createdTo()),
+                idAfter(afterId));
+    }
+}
@@ -4,38 +4,81 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hiretrack.backend.dto.user.UserFilter;
 import com.hiretrack.backend.entity.User;
 import com.hiretrack.backend.repository.UserRepository;
+import com.hiretrack.backend.repository.ListingSpecifications;
+import com.hiretrack.backend.security.jwt.TokenDenyList;
 import com.hiretrack.backend.service.UserService;
 
+import io.micrometer.core.annotation.Timed;
+
+import static com.hiretrack.backend.repository.ListingSpecifications.equalTo;
+import static com.hiretrack.backend.repository.ListingSpecifications.idAfter;
+
 @Service
+@Timed("service.calls")
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final TokenDenyList tokenDenyList;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, TokenDenyList tokenDenyList) {
         this.userRepository = userRepository;
+        this.tokenDenyList = tokenDenyList;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> findAll() {
         return userRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<User> findPage(UserFilter filter, Long afterId, int limit) {
+        return ListingSpecifications.findPage(userRepository, limit,
+                equalTo("role", filter.role()),
+                equalTo("companyName", filter.companyName()),
+                idAfter(afterId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
 
+    /**
+     * Tokens carry the role they were issued with, and were obtained with the password: changing
+     * either revokes every token issued so far.
+     */
     @Override
+    @Transactional
     public User save(User user) {
-        return userRepository.save(user);
+        boolean revoke = user.getId() != null && user.isCredentialsChanged();
+        // flushed first: the revocation is a bulk update the entity would otherwise overwrite
+        User saved = userRepository.saveAndFlush(user);
+        if (revoke) {
+            tokenDenyList.revokeAll(saved.getEmail());
+        }
+        return saved;
     }
 
+    /**
+     * The user's tokens are revoked, and stay so after the row is gone (V21).
+     */
     @Override
+    @Transactional
     public void deleteById(Long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            tokenDenyList.revokeAll(user.getEmail());
+            userRepository.delete(user);
+            userRepository.flush();
+            tokenDenyList.refresh();
+        });
     }
 }
 
@@ -0,0 +1,428 @@
+package com.hiretrack.backend.service.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiretrack.backend.config.CandidateImportProperties;
+import com.hiretrack.backend.dto.candidate.CandidateImportRow;
+import com.hiretrack.backend.enums.ExperienceLevel;
+import com.hiretrack.backend.exception.ImportRejectedException;
+import com.hiretrack.backend.security.TenantContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bulk candidate import from CSV, JSON array or NDJSON uploads.
+ *
+ * <p> The upload is spooled to disk and imported in the background, one import at a time, while
+ * the caller polls the job. Input is parsed as a stream, and rows are written with JDBC batches
+ * of {@code app.candidate-import.batch-size}, each committed in its own transaction. Memory
+ * stays bounded by one batch, and a failure keeps the batches already committed.
+ *
+ * <p> Emails are de-duplicated within the tenant of the submitter by the unique constraint:
+ * {@code ON CONFLICT (tenant_id, email) DO NOTHING} skips candidates that already exist in the
+ * tenant or appear earlier in the same file, and the per-row update counts tell inserted rows
+ * from duplicates. Ids are reserved 50 at a time from the candidate sequence, exactly like the
+ * Hibernate pooled optimizer on {@code Candidate.id}, so imports and regular saves never collide.
+ */
+@Service
+public class CandidateImportService {
+
+    /** Must match the sequence increment and {@code Candidate.id}'s allocationSize. */
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final Logger log = LoggerFactory.getLogger(CandidateImportService.class);
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String INSERT_SQL = """
+            INSERT INTO candidates (candidate_id, tenant_id, first_name, last_name, email, phone_number,
+                                    resume_url, linkedin_url, experience_level, location)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (tenant_id, email) DO NOTHING
+            """;
+
+    /**
+     * CREATED outbox events of the inserted candidates, with the payload in the shape of
+     * {@code CandidateResponse}, built from the rows themselves.
+     */
+    private static final String OUTBOX_SQL = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload)
+            SELECT 'CANDIDATE', c.candidate_id, 'CREATED', jsonb_build_object(
+                       'id', c.candidate_id, 'firstName', c.first_name, 'lastName', c.last_name,
+                       'email', c.email, 'phoneNumber', c.phone_number, 'resumeUrl', c.resume_url,
+                       'linkedInUrl', c.linkedin_url, 'experienceLevel', c.experience_level,
+                       'location', c.location, 'createdAt', c.created_at)
+            FROM candidates c
+            WHERE c.tenant_id = ? AND c.candidate_id = ANY(?)
+            ORDER BY c.candidate_id
+            """;
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval('candidates_candidate_id_seq') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CandidateImportProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public CandidateImportService(DataSource dataSource,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  CandidateImportProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "candidate-import");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "candidate-import");
+    }
+
+    /**
+     * Spools the upload and queues its import.
+     *
+     * @param body        the uploaded file
+     * @param contentType text/csv, application/json or application/x-ndjson
+     * @return the queued job, to be polled with {@link #find(UUID)}
+     * @throws ImportRejectedException if the import queue is full
+     */
+    public ImportJob submit(InputStream body, MediaType contentType) throws IOException {
+        // the import runs on its own thread, outside the request's security context
+        long tenantId = TenantContext.requireTenantId();
+        boolean csv = CSV.isCompatibleWith(contentType);
+        if (!csv && !MediaType.APPLICATION_JSON.isCompatibleWith(contentType) && !NDJSON.isCompatibleWith(contentType)) {
+            throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+        }
+        // cheap check before spooling a large upload that would be rejected anyway
+        if (executor.getQueue().remainingCapacity() == 0 && executor.getActiveCount() > 0) {
+            throw new ImportRejectedException("Too many imports in progress", null);
+        }
+        Path spool = spoolFile();
+        Files.copy(body, spool, StandardCopyOption.REPLACE_EXISTING);
+
+        ImportJob job = new ImportJob(UUID.randomUUID(), tenantId, properties.getMaxReportedErrors());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, spool, csv));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(spool);
+            throw new ImportRejectedException("Too many imports in progress", e);
+        }
+        return job;
+    }
+
+    /**
+     * The job, if it was submitted from the current user's tenant.
+     */
+    public Optional<ImportJob> find(UUID id) {
+        Long tenantId = TenantContext.currentTenantId();
+        return Optional.ofNullable(jobs.get(id))
+                .filter(job -> tenantId == null || job.getTenantId() == tenantId);
+    }
+
+    /**
+     * Forgets finished jobs older than {@code app.candidate-import.retention}.
+     */
+    @Scheduled(fixedDelayString = "PT10M")
+    public void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void run(ImportJob job, Path spool, boolean csv) {
+        job.start();
+        try (InputStream in = Files.newInputStream(spool);
+             RowSource rows = csv ? new CsvRowSource(in) : new JsonRowSource(in, objectMapper)) {
+            List<CandidateImportRow> batch = new ArrayList<>(properties.getBatchSize());
+            for (ParsedRow parsed = rows.next(); parsed != null; parsed = rows.next()) {
+                job.rowRead();
+                String error = parsed.error() != null ? parsed.error() : parsed.row().validate();
+                if (error != null) {
+                    job.reject(parsed.number(), error);
+                    continue;
+                }
+                batch.add(parsed.row());
+                if (batch.size() == properties.getBatchSize()) {
+                    write(batch, job);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch, job);
+            }
+            job.complete();
+            log.info("Candidate import {} completed: {} rows, {} inserted, {} duplicates, {} rejected",
+                    job.getId(), job.getRowsRead(), job.getInserted(), job.getDuplicates(), job.getRejected());
+        } catch (Exception e) {
+            log.warn("Candidate import {} failed after {} rows", job.getId(), job.getRowsRead(), e);
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Could not delete import spool file {}", spool, e);
+            }
+        }
+    }
+
+    private void write(List<CandidateImportRow> batch, ImportJob job) {
+        // no tenant on the worker thread: the rows are stamped with the job's
+        int[] counts = TenantContext.callAsRoot(() -> transactionTemplate.execute(status -> {
+            long[] ids = allocateIds(batch.size());
+            int[] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    CandidateImportRow row = batch.get(i);
+                    ps.setLong(1, ids[i]);
+                    ps.setLong(2, job.getTenantId());
+                    ps.setString(3, row.firstName());
+                    ps.setString(4, row.lastName());
+                    ps.setString(5, row.email());
+                    ps.setString(6, row.phoneNumber());
+                    ps.setString(7, row.resumeUrl());
+                    ps.setString(8, row.linkedInUrl());
+                    ps.setString(9, row.experienceLevel() != null ? row.experienceLevel().name() : null);
+                    ps.setString(10, row.location());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+            recordCreated(job.getTenantId(), ids, inserted);
+            return inserted;
+        }));
+        long inserted = 0;
+        for (int count : counts) {
+            inserted += count > 0 ? 1 : 0;
+        }
+        job.written(inserted, batch.size() - inserted);
+    }
+
+    /**
+     * Records the outbox events of the rows actually inserted, i.e. not skipped as duplicates.
+     */
+    private void recordCreated(long tenantId, long[] ids, int[] counts) {
+        Long[] insertedIds = IntStream.range(0, ids.length)
+                .filter(i -> counts[i] > 0)
+                .mapToObj(i -> ids[i])
+                .toArray(Long[]::new);
+        if (insertedIds.length > 0) {
+            jdbcTemplate.update(OUTBOX_SQL, ps -> {
+                ps.setLong(1, tenantId);
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", insertedIds));
+            });
+        }
+    }
+
+    /**
+     * Reserves ids the way the pooled optimizer does: each nextval() hands out the block of
+     * {@value #ID_ALLOCATION_SIZE} ids ending at the returned value.
+     */
+    private long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        int next = 0;
+        while (next < count) {
+            int blocks = (count - next + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+            for (long high : jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, blocks)) {
+                // the first value of a fresh sequence is 1, whose block would reach below 1
+                for (long id = Math.max(1, high - ID_ALLOCATION_SIZE + 1); id <= high && next < count; id++) {
+                    ids[next++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Path spoolFile() throws IOException {
+        Path directory = properties.getSpoolDirectory();
+        return directory != null
+                ? Files.createTempFile(Files.createDirectories(directory), "candidate-import-", ".upload")
+                : Files.createTempFile("candidate-import-", ".upload");
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * A parsed input row, or the reason it could not be parsed.
+     */
+    record ParsedRow(long number, CandidateImportRow row, String error) {}
+
+    interface RowSource extends AutoCloseable {
+
+        /**
+         * @return the next row, or null at end of input
+         */
+        ParsedRow next() throws IOException;
+    }
+
+    /**
+     * CSV with a header row naming the {@link CandidateImportRow} fields, in any order and case.
+     * Unknown columns are ignored.
+     */
+    static final class CsvRowSource implements RowSource {
+
+        private final CsvReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        CsvRowSource(InputStream in) throws IOException {
+            this.reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IOException("Empty CSV upload");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                // tolerate a UTF-8 byte order mark before the first column name
+                columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("email")) {
+                throw new IOException("CSV header has no email column");
+            }
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            List<String> fields = reader.next();
+            if (fields == null) {
+                return null;
+            }
+            long line = reader.recordLine();
+            String level = field(fields, "experiencelevel");
+            ExperienceLevel experienceLevel;
+            try {
+                experienceLevel = level != null ? ExperienceLevel.valueOf(level.toUpperCase(Locale.ROOT)) : null;
+            } catch (IllegalArgumentException e) {
+                return new ParsedRow(line, null, "experienceLevel '" + level + "' is not one of JUNIOR, MID, SENIOR");
+            }
+            return new ParsedRow(line, new CandidateImportRow(
+                    field(fields, "firstname"),
+                    field(fields, "lastname"),
+                    field(fields, "email"),
+                    field(fields, "phonenumber"),
+                    field(fields, "resumeurl"),
+                    field(fields, "linkedinurl"),
+                    experienceLevel,
+                    field(fields, "location")), null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < fields.size() ? blankToNull(fields.get(index)) : null;
+        }
+    }
+
+    /**
+     * A JSON array of candidate objects, or NDJSON. Each element is bound on its own, so a bad
+     * element rejects that row only; malformed JSON fails the import.
+     */
+    static final class JsonRowSource implements RowSource {
+
+        private final ObjectMapper objectMapper;
+        private final MappingIterator<JsonNode> nodes;
+        private long number;
+
+        JsonRowSource(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.nodes = objectMapper.readerFor(JsonNode.class).readValues(in);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            try {
+                if (!nodes.hasNextValue()) {
+                    return null;
+                }
+                JsonNode node = nodes.nextValue();
+                number++;
+                CandidateImportRow row = objectMapper.treeToValue(node, CandidateImportRow.class);
+                return new ParsedRow(number, new CandidateImportRow(
+                        blankToNull(row.firstName()),
+                        blankToNull(row.lastName()),
+                        blankToNull(row.email()),
+                        blankToNull(row.phoneNumber()),
+                        blankToNull(row.resumeUrl()),
+                        blankToNull(row.linkedInUrl()),
+                        row.experienceLevel(),
+                        blankToNull(row.location())), null);
+            } catch (JsonMappingException e) {
+                return new ParsedRow(number, null, e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            nodes.close();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.hiretrack.backend.service.imports;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.hiretrack.backend.enums.ImportStatus;
+
+/**
+ * Progress of one bulk import. Updated by the import thread and read concurrently by the
+ * status endpoint; counters are exact, the list of rejected rows is capped.
+ */
+public class ImportJob {
+
+    /**
+     * A rejected input row: its line (CSV) or position (JSON, 1-based) and the reason.
+     */
+    public record RowError(long row, String message) {}
+
+    private final UUID id;
+    private final long tenantId;
+    private final int maxReportedErrors;
+    private final Instant submittedAt = Instant.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<RowError> errors = new ArrayList<>();
+    private volatile ImportStatus status = ImportStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String failure;
+
+    ImportJob(UUID id, long tenantId, int maxReportedErrors) {
+        this.id = id;
+        this.tenantId = tenantId;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Tenant of the user who submitted the import: the candidates are created in it.
+     */
+    public long getTenantId() {
+        return tenantId;
+    }
+
+    public ImportStatus getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getInserted() {
+        return inserted.get();
+    }
+
+    public long getDuplicates() {
+        return duplicates.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    /**
+     * Rows read per second since the import started, or null before it starts.
+     */
+    public Double getRowsPerSecond() {
+        Instant start = startedAt;
+        if (start == null) {
+            return null;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long millis = Math.max(1, Duration.between(start, end).toMillis());
+        return rowsRead.get() * 1000.0 / millis;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = ImportStatus.RUNNING;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void reject(long row, String message) {
+        rejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(row, message));
+            }
+        }
+    }
+
+    void written(long insertedRows, long duplicateRows) {
+        inserted.addAndGet(insertedRows);
+        duplicates.addAndGet(duplicateRows);
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = ImportStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        failure = message;
+        finishedAt = Instant.now();
+        status = ImportStatus.FAILED;
+    }
+
+    boolean isFinished() {
+        return status == ImportStatus.COMPLETED || status == ImportStatus.FAILED;
+    }
+}
@@ -0,0 +1,202 @@
+package com.hiretrack.backend.service.matching;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hiretrack.backend.config.MatchingProperties;
+import com.hiretrack.backend.dto.candidate.CandidateMatchResponse;
+import com.hiretrack.backend.dto.candidate.CandidateResponse;
+import com.hiretrack.backend.entity.Candidate;
+import com.hiretrack.backend.entity.Job;
+import com.hiretrack.backend.exception.MatchingUnavailableException;
+import com.hiretrack.backend.repository.CandidateRepository;
+import com.hiretrack.backend.security.TenantContext;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Scores candidates against a job by TF-IDF cosine similarity of their texts.
+ *
+ * <p> A job is described by its title (counted twice), department, location and description; a
+ * candidate by their location, experience level and the notes recruiters left on their
+ * applications. Candidate vectors live in a {@link CandidateVectorIndex} rebuilt from the
+ * database every {@code app.matching.rebuild-interval} on a background thread; the previous
+ * index keeps serving until the new one is swapped in. Scoring runs on a dedicated
+ * {@link ForkJoinPool}, so matching never competes with request threads for the common pool.
+ * A job is only matched against the candidates of its own tenant.
+ */
+@Service
+public class CandidateMatchingService {
+
+    private static final Logger log = LoggerFactory.getLogger(CandidateMatchingService.class);
+
+    private static final int FETCH_SIZE = 5_000;
+
+    private static final String PROFILES_SQL = """
+            SELECT c.tenant_id, c.candidate_id, c.location, c.experience_level,
+                   (SELECT string_agg(a.notes, ' ') FROM applications a
+                    WHERE a.tenant_id = c.tenant_id AND a.candidate_id = c.candidate_id) AS notes
+            FROM candidates c
+            ORDER BY c.tenant_id, c.candidate_id
+            """;
+
+    private final CandidateRepository candidateRepository;
+    private final MatchingProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool scoringPool;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Timer buildTimer;
+    private volatile CandidateVectorIndex index;
+
+    public CandidateMatchingService(CandidateRepository candidateRepository,
+                                    MatchingProperties properties,
+                                    DataSource dataSource,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.candidateRepository = candidateRepository;
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // the driver only streams with a fetch size inside a transaction
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.scoringPool = new ForkJoinPool(parallelism, pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("candidate-matching-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "candidate-matching-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ExecutorServiceMetrics.monitor(meterRegistry, scoringPool, "candidate-matching");
+        this.buildTimer = Timer.builder("matching.index.build")
+                .description("Time to rebuild the candidate matching index")
+                .register(meterRegistry);
+        Gauge.builder("matching.index.candidates", this, service -> service.index != null ? service.index.size() : 0)
+                .description("Candidates in the matching index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The {@code limit} candidates best matching the job, best first.
+     *
+     * @param limit clamped to [1, {@code app.matching.max-results}]
+     * @throws MatchingUnavailableException if matching is disabled or the index is not built yet
+     */
+    public List<CandidateMatchResponse> match(Job job, int limit) {
+        CandidateVectorIndex current = index;
+        if (current == null) {
+            throw new MatchingUnavailableException(properties.isEnabled()
+                    ? "The matching index is being built"
+                    : "Candidate matching is disabled");
+        }
+        int k = Math.max(1, Math.min(limit, properties.getMaxResults()));
+        List<ScoredCandidate> scored = current.topK(job.getTenantId(), jobVector(job), k, scoringPool);
+        Map<Long, Candidate> candidates = candidateRepository.findAllById(
+                        scored.stream().map(ScoredCandidate::candidateId).toList())
+                .stream()
+                .collect(Collectors.toMap(Candidate::getId, Function.identity()));
+        // candidates deleted since the last rebuild are dropped
+        return scored.stream()
+                .filter(match -> candidates.containsKey(match.candidateId()))
+                .map(match -> new CandidateMatchResponse(
+                        CandidateResponse.from(candidates.get(match.candidateId())), match.score()))
+                .toList();
+    }
+
+    /**
+     * Queues a rebuild of the index unless one is already running.
+     */
+    @Scheduled(fixedDelayString = "${app.matching.rebuild-interval:PT15M}")
+    public void scheduleRebuild() {
+        if (properties.isEnabled() && rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("Rebuilding the candidate matching index failed", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reads every candidate profile and swaps in a new index.
+     */
+    void rebuild() {
+        // one index for every tenant, each vector tagged with its own
+        CandidateVectorIndex built = buildTimer.record(() -> TenantContext.callAsRoot(() -> transactionTemplate.execute(status -> {
+            CandidateVectorIndex.Builder builder = CandidateVectorIndex.builder();
+            jdbcTemplate.query(PROFILES_SQL, rs -> {
+                builder.add(rs.getLong("tenant_id"), rs.getLong("candidate_id"), candidateVector(
+                        rs.getString("location"), rs.getString("experience_level"), rs.getString("notes")));
+            });
+            return builder.build();
+        })));
+        index = built;
+        log.info("Candidate matching index rebuilt with {} candidates", built.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        rebuildExecutor.shutdownNow();
+        scoringPool.shutdownNow();
+        // let a rebuild in progress end before the DataSource closes
+        rebuildExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    static SparseVector jobVector(Job job) {
+        return jobVector(job.getTitle(), job.getDepartment(), job.getLocation(), job.getDescription());
+    }
+
+    static SparseVector jobVector(String title, String department, String location, String description) {
+        return new TextVectorizer.Builder()
+                .add(title, 2)
+                .add(department, 1)
+                .add(location, 1)
+                .add(description, 1)
+                .build();
+    }
+
+    /**
+     * @param notes the notes of all the candidate's applications
+     */
+    static SparseVector candidateVector(String location, String experienceLevel, String notes) {
+        return new TextVectorizer.Builder()
+                .add(location, 1)
+                .add(experienceLevel, 1)
+                .add(notes, 1)
+                .build();
+    }
+}
@@ -0,0 +1,259 @@
+package com.hiretrack.backend.service.matching;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Immutable TF-IDF index of candidate profiles, packed into primitive arrays.
+ *
+ * <p> Vectors are stored in compressed sparse row form: the terms of candidate {@code d} are
+ * {@code features[offsets[d] .. offsets[d + 1])} with their L2-normalised TF-IDF
+ * {@code weights}, so the whole index is four arrays and about 8 bytes per distinct term per
+ * candidate, with no object per candidate for the garbage collector to trace.
+ *
+ * <p> Scoring a job spreads the query over a dense array indexed by feature, then computes the
+ * cosine similarity of every candidate as a sparse dot product. Candidates are split into
+ * ranges scored in parallel on a {@link ForkJoinPool}; each range keeps its own {@link TopK}
+ * and the heaps are merged on the way back up.
+ *
+ * <p> The candidates of a tenant are stored contiguously, so scoring for one tenant only walks
+ * that tenant's range of the arrays.
+ */
+public final class CandidateVectorIndex {
+
+    private static final int MIN_RANGE = 8_192;
+
+    private final long[] candidateIds;
+    private final int[] offsets;
+    private final int[] features;
+    private final float[] weights;
+    private final float[] idf;
+    /** Tenant id to the {@code [from, to)} range of its candidates. */
+    private final Map<Long, int[]> tenantRanges;
+    private final Instant builtAt;
+
+    private CandidateVectorIndex(long[] candidateIds, int[] offsets, int[] features, float[] weights, float[] idf,
+                                 Map<Long, int[]> tenantRanges) {
+        this.candidateIds = candidateIds;
+        this.offsets = offsets;
+        this.features = features;
+        this.weights = weights;
+        this.idf = idf;
+        this.tenantRanges = tenantRanges;
+        this.builtAt = Instant.now();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return candidateIds.length;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * The {@code k} candidates most similar to a text, best first. Candidates sharing no term
+     * with the text are never returned.
+     *
+     * @param termFrequencies the text, as built by {@link TextVectorizer.Builder}
+     * @param pool            pool scoring the candidate ranges
+     */
+    public List<ScoredCandidate> topK(SparseVector termFrequencies, int k, ForkJoinPool pool) {
+        return topK(termFrequencies, k, pool, 0, candidateIds.length);
+    }
+
+    /**
+     * {@link #topK(SparseVector, int, ForkJoinPool)} among the candidates of one tenant.
+     */
+    public List<ScoredCandidate> topK(long tenantId, SparseVector termFrequencies, int k, ForkJoinPool pool) {
+        int[] tenantRange = tenantRanges.get(tenantId);
+        return tenantRange != null ? topK(termFrequencies, k, pool, tenantRange[0], tenantRange[1]) : List.of();
+    }
+
+    private List<ScoredCandidate> topK(SparseVector termFrequencies, int k, ForkJoinPool pool, int from, int to) {
+        float[] query = denseQuery(termFrequencies);
+        if (query == null || k <= 0 || from == to) {
+            return List.of();
+        }
+        int range = Math.max(MIN_RANGE, (to - from) / (pool.getParallelism() * 8));
+        TopK best = pool.invoke(new ScoreTask(query, k, range, from, to));
+        int[] documents = new int[best.size()];
+        float[] scores = new float[best.size()];
+        best.drainInto(documents, scores);
+        List<ScoredCandidate> result = new ArrayList<>(documents.length);
+        for (int i = 0; i < documents.length; i++) {
+            result.add(new ScoredCandidate(candidateIds[documents[i]], scores[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Single-threaded scoring of candidates {@code [from, to)}.
+     */
+    private TopK score(float[] query, int k, int from, int to) {
+        TopK best = new TopK(k);
+        for (int document = from; document < to; document++) {
+            float score = 0;
+            for (int p = offsets[document], end = offsets[document + 1]; p < end; p++) {
+                score += query[features[p]] * weights[p];
+            }
+            if (score > 0) {
+                best.offer(document, score);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * TF-IDF weighs and normalises the query, spread over an array indexed by feature.
+     *
+     * @return null when the text has no terms
+     */
+    private float[] denseQuery(SparseVector termFrequencies) {
+        float[] query = new float[TextVectorizer.DIMENSIONS];
+        double norm = 0;
+        for (int i = 0; i < termFrequencies.size(); i++) {
+            int feature = termFrequencies.features()[i];
+            float weight = termFrequencies.weights()[i] * idf[feature];
+            query[feature] = weight;
+            norm += weight * weight;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int feature : termFrequencies.features()) {
+            query[feature] *= scale;
+        }
+        return query;
+    }
+
+    private final class ScoreTask extends RecursiveTask<TopK> {
+
+        private final float[] query;
+        private final int k;
+        private final int range;
+        private final int from;
+        private final int to;
+
+        ScoreTask(float[] query, int k, int range, int from, int to) {
+            this.query = query;
+            this.k = k;
+            this.range = range;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= range) {
+                return score(query, k, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ScoreTask right = new ScoreTask(query, k, range, middle, to);
+            right.fork();
+            TopK best = new ScoreTask(query, k, range, from, middle).compute();
+            best.addAll(right.join());
+            return best;
+        }
+    }
+
+    /**
+     * Collects candidate term frequencies, then weighs them by the inverse document frequency
+     * of the whole collection. The candidates of a tenant must be added one after the other.
+     * Not thread-safe.
+     */
+    public static final class Builder {
+
+        private long[] candidateIds = new long[1_024];
+        private int[] offsets = new int[1_025];
+        private int[] features = new int[16_384];
+        private float[] weights = new float[16_384];
+        private int candidates;
+        private int terms;
+        private final Map<Long, int[]> tenantRanges = new HashMap<>();
+        private int[] currentTenant;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a candidate outside any tenant, only returned by the unscoped {@code topK}.
+         */
+        public Builder add(long candidateId, SparseVector termFrequencies) {
+            return add(0, candidateId, termFrequencies);
+        }
+
+        /**
+         * @throws IllegalArgumentException if candidates of another tenant were added since
+         *                                  the last candidate of this one
+         */
+        public Builder add(long tenantId, long candidateId, SparseVector termFrequencies) {
+            int[] tenantRange = tenantRanges.get(tenantId);
+            if (tenantRange == null) {
+                tenantRange = new int[] {candidates, candidates};
+                tenantRanges.put(tenantId, tenantRange);
+            } else if (tenantRange != currentTenant) {
+                throw new IllegalArgumentException("Candidates of tenant " + tenantId + " are not contiguous");
+            }
+            currentTenant = tenantRange;
+            tenantRange[1] = candidates + 1;
+            if (candidates == candidateIds.length) {
+                candidateIds = Arrays.copyOf(candidateIds, candidates * 2);
+                offsets = Arrays.copyOf(offsets, candidates * 2 + 1);
+            }
+            int length = termFrequencies.size();
+            if (terms + length > features.length) {
+                int capacity = Math.max(features.length * 2, terms + length);
+                features = Arrays.copyOf(features, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            System.arraycopy(termFrequencies.features(), 0, features, terms, length);
+            System.arraycopy(termFrequencies.weights(), 0, weights, terms, length);
+            candidateIds[candidates] = candidateId;
+            terms += length;
+            offsets[++candidates] = terms;
+            return this;
+        }
+
+        public CandidateVectorIndex build() {
+            int[] documentFrequency = new int[TextVectorizer.DIMENSIONS];
+            for (int p = 0; p < terms; p++) {
+                documentFrequency[features[p]]++;
+            }
+            // smoothed idf: a term in every profile still weighs 1
+            float[] idf = new float[TextVectorizer.DIMENSIONS];
+            for (int feature = 0; feature < idf.length; feature++) {
+                idf[feature] = (float) Math.log((1.0 + candidates) / (1.0 + documentFrequency[feature])) + 1;
+            }
+            for (int document = 0; document < candidates; document++) {
+                double norm = 0;
+                for (int p = offsets[document]; p < offsets[document + 1]; p++) {
+                    weights[p] *= idf[features[p]];
+                    norm += weights[p] * weights[p];
+                }
+                float scale = norm > 0 ? (float) (1 / Math.sqrt(norm)) : 0;
+                for (int p = offsets[document]; p < offsets[document + 1]; p++) {
+                    weights[p] *= scale;
+                }
+            }
+            return new CandidateVectorIndex(
+                    Arrays.copyOf(candidateIds, candidates),
+                    Arrays.copyOf(offsets, candidates + 1),
+                    Arrays.copyOf(features, terms),
+                    Arrays.copyOf(weights, terms),
+                    idf,
+                    Map.copyOf(tenantRanges));
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.hiretrack.backend.service.matching;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hiretrack.backend.config.MatchingProperties;
+import com.hiretrack.backend.security.TenantContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps {@code match_scores} up to date: the similarity of each candidate to every job they
+ * applied to, computed like {@link CandidateMatchingService} does but from term frequencies
+ * only, so a stored score does not drift as the rest of the collection changes.
+ *
+ * <p> Services report changed jobs and candidates through {@link #jobChanged} and
+ * {@link #candidateChanged}, which record them in {@code match_score_queue} in the caller's
+ * transaction: a change is queued if and only if it commits, and survives a restart. Changes
+ * are coalesced per entity: an entity saved ten times before the worker runs is rescored once.
+ *
+ * <p> Every {@code app.matching.scoring-interval} a background thread claims up to
+ * {@code app.matching.scoring-batch-size} of the oldest entries, rescores only the
+ * applications involving them, upserts the scores in one JDBC batch and deletes the entries,
+ * all in one transaction, and repeats while batches come back full. Claiming uses
+ * {@code FOR UPDATE SKIP LOCKED}, as {@code OutboxRelay} does: workers on several nodes take
+ * disjoint batches. If rescoring fails the transaction rolls back and the entries are retried
+ * on the next pass.
+ *
+ * <p> Metrics: {@code match_scores.queue.depth} (pending entities),
+ * {@code match_scores.queue.oldest} (age of the oldest pending change) and
+ * {@code match_scores.lag} (change to persisted score).
+ */
+@Service
+public class MatchScoreMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchScoreMaintainer.class);
+
+    private static final String JOB = "JOB";
+    private static final String CANDIDATE = "CANDIDATE";
+
+    /**
+     * The no-op update locks an entry the worker has not claimed yet, so it is not scored
+     * before this change commits; an entry being claimed makes the insert wait, then succeed.
+     */
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO match_score_queue (entity_type, entity_id) VALUES (?, ?)
+            ON CONFLICT (entity_type, entity_id) DO UPDATE SET enqueued_at = match_score_queue.enqueued_at
+            """;
+
+    private static final String CLAIM_SQL = """
+            DELETE FROM match_score_queue
+            WHERE (entity_type, entity_id) IN (
+                SELECT entity_type, entity_id FROM match_score_queue
+                ORDER BY enqueued_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING entity_type, entity_id,
+                      EXTRACT(EPOCH FROM clock_timestamp()::timestamp - enqueued_at) * 1000 AS age_millis
+            """;
+
+    private static final String DEPTH_SQL = "SELECT count(*) FROM match_score_queue";
+
+    private static final String OLDEST_SQL = """
+            SELECT COALESCE(EXTRACT(EPOCH FROM clock_timestamp()::timestamp - min(enqueued_at)), 0)
+            FROM match_score_queue
+            """;
+
+    private static final RowMapper<Claim> CLAIM_ROW = (rs, rowNum) -> new Claim(
+            rs.getString("entity_type"), rs.getLong("entity_id"), rs.getDouble("age_millis"));
+
+    private static final String PAIRS_SQL = """
+            SELECT DISTINCT a.tenant_id, a.job_id, a.candidate_id FROM applications a
+            WHERE a.job_id = ANY(?) OR a.candidate_id = ANY(?)
+            """;
+
+    private static final String JOBS_SQL = """
+            SELECT job_id, title, department, location, description FROM jobs
+            WHERE job_id = ANY(?)
+            """;
+
+    private static final String CANDIDATES_SQL = """
+            SELECT c.candidate_id, c.location, c.experience_level,
+                   (SELECT string_agg(a.notes, ' ') FROM applications a
+                    WHERE a.tenant_id = c.tenant_id AND a.candidate_id = c.candidate_id) AS notes
+            FROM candidates c
+            WHERE c.candidate_id = ANY(?)
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO match_scores (tenant_id, job_id, candidate_id, score, scored_at) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (job_id, candidate_id) DO UPDATE SET score = EXCLUDED.score, scored_at = EXCLUDED.scored_at
+            """;
+
+    /** Scores of pairs whose application is gone. */
+    private static final String DELETE_ORPHANS_SQL = """
+            DELETE FROM match_scores m
+            WHERE (m.job_id = ANY(?) OR m.candidate_id = ANY(?))
+              AND NOT EXISTS (SELECT 1 FROM applications a WHERE a.job_id = m.job_id AND a.candidate_id = m.candidate_id)
+            """;
+
+    private final MatchingProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService worker;
+    private final Timer lag;
+    private final Counter rescored;
+
+    public MatchScoreMaintainer(MatchingProperties properties,
+                                DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "match-scores");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lag = Timer.builder("match_scores.lag")
+                .description("Time from a committed change to its persisted scores")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rescored = Counter.builder("match_scores.rescored")
+                .description("Job and candidate pairs rescored")
+                .register(meterRegistry);
+        Gauge.builder("match_scores.queue.depth", this, MatchScoreMaintainer::queueDepth)
+                .description("Jobs and candidates waiting to be rescored")
+                .register(meterRegistry);
+        TimeGauge.builder("match_scores.queue.oldest", this, TimeUnit.SECONDS, MatchScoreMaintainer::oldestPendingAge)
+                .description("Age of the oldest change waiting to be rescored")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.isEnabled()) {
+            long interval = properties.getScoringInterval().toMillis();
+            worker.scheduleWithFixedDelay(this::drainSafely, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdownNow();
+        // let a pass in progress end before the DataSource closes
+        worker.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public void jobChanged(Long jobId) {
+        enqueue(JOB, jobId);
+    }
+
+    public void candidateChanged(Long candidateId) {
+        enqueue(CANDIDATE, candidateId);
+    }
+
+    int queueDepth() {
+        Integer depth = jdbcTemplate.queryForObject(DEPTH_SQL, Integer.class);
+        return depth != null ? depth : 0;
+    }
+
+    /**
+     * Rescores pending entities, batch after batch, until a batch comes back short.
+     *
+     * @return the number of pairs rescored
+     */
+    long drain() {
+        int batchSize = properties.getScoringBatchSize();
+        long pairs = 0;
+        while (true) {
+            long started = System.nanoTime();
+            List<Claim> claims = new ArrayList<>();
+            // the queue mixes tenants, each pair is written with its own
+            Integer count = TenantContext.callAsRoot(() -> transactionTemplate.execute(status -> {
+                claims.addAll(jdbcTemplate.query(CLAIM_SQL, CLAIM_ROW, batchSize));
+                return claims.isEmpty() ? 0 : rescore(idsOf(claims, JOB), idsOf(claims, CANDIDATE));
+            }));
+            pairs += count != null ? count : 0;
+            long elapsed = System.nanoTime() - started;
+            claims.forEach(claim -> lag.record(
+                    TimeUnit.MICROSECONDS.toNanos((long) (claim.ageMillis() * 1000)) + elapsed, TimeUnit.NANOSECONDS));
+            if (claims.size() < batchSize) {
+                return pairs;
+            }
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Rescoring matches failed, will retry", e);
+        }
+    }
+
+    private int rescore(Set<Long> jobIds, Set<Long> candidateIds) {
+        Long[] jobArray = jobIds.toArray(Long[]::new);
+        Long[] candidateArray = candidateIds.toArray(Long[]::new);
+        List<long[]> pairs = jdbcTemplate.query(PAIRS_SQL, ps -> {
+            setArray(ps, 1, jobArray);
+            setArray(ps, 2, candidateArray);
+        }, (rs, rowNum) -> new long[] {rs.getLong("job_id"), rs.getLong("candidate_id"), rs.getLong("tenant_id")});
+        jdbcTemplate.update(DELETE_ORPHANS_SQL, ps -> {
+            setArray(ps, 1, jobArray);
+            setArray(ps, 2, candidateArray);
+        });
+        if (pairs.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> pairJobs = new LinkedHashSet<>();
+        Set<Long> pairCandidates = new LinkedHashSet<>();
+        for (long[] pair : pairs) {
+            pairJobs.add(pair[0]);
+            pairCandidates.add(pair[1]);
+        }
+        Map<Long, SparseVector> jobVectors = new HashMap<>();
+        jdbcTemplate.query(JOBS_SQL, ps -> setArray(ps, 1, pairJobs.toArray(Long[]::new)),
+                rs -> {
+                    jobVectors.put(rs.getLong("job_id"), CandidateMatchingService.jobVector(
+                            rs.getString("title"), rs.getString("department"),
+                            rs.getString("location"), rs.getString("description")));
+                });
+        Map<Long, SparseVector> candidateVectors = new HashMap<>();
+        jdbcTemplate.query(CANDIDATES_SQL, ps -> setArray(ps, 1, pairCandidates.toArray(Long[]::new)),
+                rs -> {
+                    candidateVectors.put(rs.getLong("candidate_id"), CandidateMatchingService.candidateVector(
+                            rs.getString("location"), rs.getString("experience_level"), rs.getString("notes")));
+                });
+
+        Timestamp scoredAt = Timestamp.valueOf(LocalDateTime.now());
+        List<long[]> scoredPairs = new ArrayList<>(pairs.size());
+        List<Float> scores = new ArrayList<>(pairs.size());
+        for (long[] pair : pairs) {
+            SparseVector job = jobVectors.get(pair[0]);
+            SparseVector candidate = candidateVectors.get(pair[1]);
+            if (job != null && candidate != null) {
+                scoredPairs.add(pair);
+                scores.add(job.cosine(candidate));
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, scoredPairs.get(i)[2]);
+                ps.setLong(2, scoredPairs.get(i)[0]);
+                ps.setLong(3, scoredPairs.get(i)[1]);
+                ps.setFloat(4, scores.get(i));
+                ps.setTimestamp(5, scoredAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return scoredPairs.size();
+            }
+        });
+        rescored.increment(scoredPairs.size());
+        return scoredPairs.size();
+    }
+
+    /**
+     * Records a change in the current transaction, if any: the worker must not read the entity
+     * before the change is visible, and a rolled back change needs no rescoring.
+     */
+    private void enqueue(String entityType, Long id) {
+        if (id != null) {
+            jdbcTemplate.update(ENQUEUE_SQL, entityType, id);
+        }
+    }
+
+    private static Set<Long> idsOf(List<Claim> claims, String entityType) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Claim claim : claims) {
+            if (claim.entityType().equals(entityType)) {
+                ids.add(claim.entityId());
+            }
+        }
+        return ids;
+    }
+
+    private double oldestPendingAge() {
+        Double age = jdbcTemplate.queryForObject(OLDEST_SQL, Double.class);
+        return age != null ? age : 0;
+    }
+
+    private static void setArray(PreparedStatement ps, int index, Long[] ids) throws SQLException {
+        ps.setArray(index, ps.getConnection().createArrayOf("bigint", ids));
+    }
+
+    /** A claimed queue entry and how long ago its oldest change was queued. */
+    private record Claim(String entityType, long entityId, double ageMillis) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.hiretrack.backend.service.matching;
+
+/**
+ * A candidate and its cosine similarity to a job, in [0, 1].
+ */
+public record ScoredCandidate(long candidateId, float score) {
+}
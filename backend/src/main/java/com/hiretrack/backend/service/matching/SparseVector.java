@@ -0,0 +1,42 @@
+package com.hiretrack.backend.service.matching;
+
+/**
+ * Sparse term vector: {@code weights[i]} is the weight of hashed feature {@code features[i]}.
+ * Features are distinct and sorted.
+ */
+public record SparseVector(int[] features, float[] weights) {
+
+    public int size() {
+        return features.length;
+    }
+
+    /**
+     * Cosine similarity with another vector, in [0, 1] for non-negative weights; 0 when either
+     * vector is empty.
+     */
+    public float cosine(SparseVector other) {
+        double dot = 0;
+        int i = 0;
+        int j = 0;
+        while (i < features.length && j < other.features.length) {
+            int difference = Integer.compare(features[i], other.features[j]);
+            if (difference == 0) {
+                dot += weights[i++] * other.weights[j++];
+            } else if (difference < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        double norms = norm() * other.norm();
+        return norms > 0 ? (float) (dot / norms) : 0;
+    }
+
+    private double norm() {
+        double sum = 0;
+        for (float weight : weights) {
+            sum += weight * weight;
+        }
+        return Math.sqrt(sum);
+    }
+}
@@ -0,0 +1,112 @@
+package com.hiretrack.backend.service.matching;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free text into term frequency vectors over a fixed space of {@value #DIMENSIONS} hashed
+ * features (the "hashing trick"): no vocabulary has to be built or kept in sync, and every
+ * vector fits primitive arrays. Two distinct terms sharing a feature is rare enough not to
+ * matter for ranking.
+ *
+ * <p> Text is lower-cased and split on anything but letters, digits, {@code +} and {@code #}
+ * (so "C++" and "C#" survive); tokens shorter than two characters and common English stop words
+ * are dropped. Term frequencies are sublinear ({@code 1 + ln tf}) so a word repeated in a
+ * description does not dominate it.
+ */
+public final class TextVectorizer {
+
+    static final int BITS = 18;
+    public static final int DIMENSIONS = 1 << BITS;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "was", "we", "will", "with",
+            "you", "your");
+
+    private TextVectorizer() {
+    }
+
+    /**
+     * @return the feature a token is hashed to
+     */
+    static int feature(String token) {
+        // Fibonacci hashing spreads String.hashCode over the top bits
+        return (token.hashCode() * 0x9E3779B9) >>> (32 - BITS);
+    }
+
+    /**
+     * Builds a term frequency vector from weighted text fields, e.g. a title counting more than
+     * a description.
+     */
+    public static final class Builder {
+
+        private int[] features = new int[32];
+        private float[] counts = new float[32];
+        private int size;
+
+        /**
+         * Adds every token of {@code text}, each occurrence counting {@code weight}. Null text is ignored.
+         */
+        public Builder add(String text, float weight) {
+            if (text == null) {
+                return this;
+            }
+            for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+                if (token.length() >= 2 && !STOP_WORDS.contains(token)) {
+                    append(feature(token), weight);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @return the distinct features, sorted, with their sublinear frequency
+         */
+        public SparseVector build() {
+            if (size == 0) {
+                return new SparseVector(new int[0], new float[0]);
+            }
+            // sort (feature, count) pairs by feature, then merge duplicates
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = ((long) features[i] << 32) | Float.floatToRawIntBits(counts[i]);
+            }
+            Arrays.sort(packed);
+            int[] outFeatures = new int[size];
+            float[] outWeights = new float[size];
+            int distinct = -1;
+            for (long pair : packed) {
+                int feature = (int) (pair >>> 32);
+                float count = Float.intBitsToFloat((int) pair);
+                if (distinct >= 0 && outFeatures[distinct] == feature) {
+                    outWeights[distinct] += count;
+                } else {
+                    distinct++;
+                    outFeatures[distinct] = feature;
+                    outWeights[distinct] = count;
+                }
+            }
+            int length = distinct + 1;
+            for (int i = 0; i < length; i++) {
+                float count = outWeights[i];
+                outWeights[i] = count > 1 ? 1 + (float) Math.log(count) : count;
+            }
+            return new SparseVector(Arrays.copyOf(outFeatures, length), Arrays.copyOf(outWeights, length));
+        }
+
+        private void append(int feature, float weight) {
+            if (size == features.length) {
+                features = Arrays.copyOf(features, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            features[size] = feature;
+            counts[size] = weight;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.hiretrack.backend.service.matching;
+
+/**
+ * The {@code k} best (score, document) pairs seen so far, kept in a primitive min-heap so that
+ * offering a score costs no allocation. Ties are broken towards the lower document number,
+ * which makes results independent of how the work was split.
+ */
+final class TopK {
+
+    private final int k;
+    private final float[] scores;
+    private final int[] documents;
+    private int size;
+
+    TopK(int k) {
+        this.k = k;
+        this.scores = new float[k];
+        this.documents = new int[k];
+    }
+
+    void offer(int document, float score) {
+        if (size < k) {
+            scores[size] = score;
+            documents[size] = document;
+            siftUp(size++);
+        } else if (k > 0 && better(score, document, scores[0], documents[0])) {
+            scores[0] = score;
+            documents[0] = document;
+            siftDown(0);
+        }
+    }
+
+    void addAll(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.documents[i], other.scores[i]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Empties the heap into the given arrays, best first.
+     */
+    void drainInto(int[] documentsOut, float[] scoresOut) {
+        for (int i = size - 1; i >= 0; i--) {
+            documentsOut[i] = documents[0];
+            scoresOut[i] = scores[0];
+            size--;
+            scores[0] = scores[size];
+            documents[0] = documents[size];
+            siftDown(0);
+        }
+    }
+
+    private static boolean better(float score, int document, float otherScore, int otherDocument) {
+        return score > otherScore || (score == otherScore && document < otherDocument);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(scores[parent], documents[parent], scores[index], documents[index])) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int worst = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && better(scores[worst], documents[worst], scores[left], documents[left])) {
+                worst = left;
+            }
+            if (right < size && better(scores[worst], documents[worst], scores[right], documents[right])) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+        int document = documents[i];
+        documents[i] = documents[j];
+        documents[j] = document;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hiretrack.backend.service.outbox;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes each event as a Spring application event, synchronously on the relay thread, so
+ * that {@code @EventListener(OutboxEvent.class)} methods receive them. A listener that throws
+ * makes the batch be retried.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "IN_PROCESS", matchIfMissing = true)
+public class InProcessOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
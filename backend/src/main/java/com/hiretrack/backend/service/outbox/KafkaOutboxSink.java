@@ -0,0 +1,56 @@
+package com.hiretrack.backend.service.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.hiretrack.backend.config.OutboxProperties;
+
+/**
+ * Publishes events to {@code <app.outbox.topic-prefix><aggregate>}, keyed by aggregate id so
+ * that the events of one aggregate stay in one partition. The value is the payload (null for
+ * deletions, i.e. a tombstone for compacted topics); event id, type and creation time travel
+ * as headers. A batch is sent without waiting between records, then awaited as a whole.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "KAFKA")
+public class KafkaOutboxSink implements OutboxSink {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxProperties properties;
+
+    public KafkaOutboxSink(KafkaTemplate<String, String> kafkaTemplate, OutboxProperties properties) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws Exception {
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            ProducerRecord<String, String> record = new ProducerRecord<>(
+                    properties.getTopicPrefix() + event.aggregateType().name().toLowerCase(Locale.ROOT),
+                    String.valueOf(event.aggregateId()),
+                    event.payload());
+            record.headers()
+                    .add("event-id", bytes(String.valueOf(event.id())))
+                    .add("event-type", bytes(event.eventType().name()))
+                    .add("created-at", bytes(event.createdAt().toString()));
+            sends.add(kafkaTemplate.send(record));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .get(properties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,21 @@
+package com.hiretrack.backend.service.outbox;
+
+import java.time.LocalDateTime;
+
+import com.hiretrack.backend.enums.OutboxAggregate;
+import com.hiretrack.backend.enums.OutboxEventType;
+
+/**
+ * A domain change as relayed to the sinks.
+ *
+ * @param id      outbox id, increasing with commit order only roughly; consumers deduplicate on it
+ * @param payload the aggregate as JSON, in the shape of its API response, null for deletions
+ */
+public record OutboxEvent(
+        long id,
+        OutboxAggregate aggregateType,
+        long aggregateId,
+        OutboxEventType eventType,
+        String payload,
+        LocalDateTime createdAt
+) {}
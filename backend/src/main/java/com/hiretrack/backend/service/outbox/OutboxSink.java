@@ -0,0 +1,17 @@
+package com.hiretrack.backend.service.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the outbox relay. Exactly one sink bean is active, chosen by
+ * {@code app.outbox.sink}.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes a batch of events, in id order, returning once they are durably accepted.
+     * Throwing leaves the whole batch in the outbox to be retried, so a batch may be published
+     * more than once.
+     */
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,56 @@
+package com.hiretrack.backend.service.outbox;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiretrack.backend.enums.OutboxAggregate;
+import com.hiretrack.backend.enums.OutboxEventType;
+
+/**
+ * Records domain change events in {@code outbox_events}, in the caller's transaction: the event
+ * is committed if and only if the change is. {@link OutboxRelay} publishes them afterwards.
+ */
+@Service
+public class OutboxWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload)
+            VALUES (?, ?, ?, ?::jsonb)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(DataSource dataSource, ObjectMapper objectMapper) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param payload the aggregate's API response, serialized to JSON; null for deletions
+     * @throws IllegalStateException when called outside a transaction, where the event could
+     *         be committed without the change or the other way round
+     */
+    public void record(OutboxAggregate aggregate, Long aggregateId, OutboxEventType eventType, Object payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written in the transaction of the change");
+        }
+        jdbcTemplate.update(INSERT_SQL, aggregate.name(), aggregateId, eventType.name(), json(payload));
+    }
+
+    private String json(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox payload " + payload.getClass().getName(), e);
+        }
+    }
+}
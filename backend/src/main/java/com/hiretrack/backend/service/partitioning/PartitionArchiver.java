@@ -0,0 +1,109 @@
+package com.hiretrack.backend.service.partitioning;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.hiretrack.backend.config.PipelinePartitionProperties;
+import com.hiretrack.backend.config.PipelinePartitionProperties.ArchiveTarget;
+
+/**
+ * Takes old months of applications and interviews out of the hot tables. The V18 function
+ * {@code archive_pipeline_partitions} detaches them into the {@code archive} schema, which is
+ * where they stay with the {@code SCHEMA} target. With the {@code CSV} target each archived
+ * table is then streamed with {@code COPY} into {@code <table>.csv.gz} under
+ * {@code app.pipeline-partitions.archive-directory} and dropped; a table whose export failed
+ * stays in the schema and is exported by the next run.
+ */
+@Service
+public class PartitionArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionArchiver.class);
+
+    private static final String ARCHIVED_TABLES_SQL = """
+            SELECT relname FROM pg_class
+            WHERE relnamespace = 'archive'::regnamespace AND relkind = 'r'
+              AND relname ~ '^(applications|interviews)_(shared|tenant_\\d+)_\\d{4}_\\d{2}$'
+            ORDER BY relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PipelinePartitionProperties properties;
+
+    public PartitionArchiver(DataSource dataSource, PipelinePartitionProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+    }
+
+    /**
+     * Archives the months that ended on or before {@code before}.
+     *
+     * @return the archived tables, schema-qualified
+     */
+    public List<String> archiveBefore(LocalDate before) {
+        List<String> archived = jdbcTemplate.queryForList(
+                "SELECT archive_pipeline_partitions(?)", String.class, before);
+        if (!archived.isEmpty()) {
+            log.info("Archived {} application and interview partition(s): {}", archived.size(), archived);
+        }
+        if (properties.getArchiveTarget() == ArchiveTarget.CSV) {
+            exportArchivedTables();
+        }
+        return archived;
+    }
+
+    /**
+     * Writes every table of the {@code archive} schema to a gzipped CSV file, with a header
+     * line, and drops it once the file is complete.
+     *
+     * @return the files written
+     */
+    public List<Path> exportArchivedTables() {
+        List<Path> files = new ArrayList<>();
+        for (String table : jdbcTemplate.queryForList(ARCHIVED_TABLES_SQL, String.class)) {
+            files.add(export(table));
+        }
+        return files;
+    }
+
+    private Path export(String table) {
+        Path directory = properties.getArchiveDirectory();
+        Path file = directory.resolve(table + ".csv.gz");
+        Path partial = directory.resolve(table + ".csv.gz.part");
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try {
+                Files.createDirectories(directory);
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(partial))) {
+                    connection.unwrap(PGConnection.class).getCopyAPI()
+                            .copyOut("COPY archive.\"" + table + "\" TO STDOUT (FORMAT csv, HEADER)", out);
+                }
+                Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Exporting archive." + table + " failed", e);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE archive.\"" + table + "\"");
+            }
+            return null;
+        });
+        log.info("Exported archive.{} to {}", table, file);
+        return file;
+    }
+}
@@ -0,0 +1,71 @@
+package com.hiretrack.backend.service.partitioning;
+
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hiretrack.backend.config.PipelinePartitionProperties;
+
+/**
+ * Creates the monthly partitions of {@code applications} and {@code interviews} ahead of time,
+ * in every tenant branch, through the V18 function {@code create_pipeline_partitions}, then
+ * hands the months past {@code app.pipeline-partitions.archive-after-months} to the
+ * {@link PartitionArchiver} when archiving is enabled. Both steps are no-ops when there is
+ * nothing to do, so every node can run this.
+ */
+@Service
+public class PipelinePartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelinePartitionManager.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionArchiver archiver;
+    private final PipelinePartitionProperties properties;
+
+    public PipelinePartitionManager(DataSource dataSource, PartitionArchiver archiver,
+                                    PipelinePartitionProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.archiver = archiver;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${app.pipeline-partitions.partition-check-interval:PT24H}")
+    public void scheduledCheck() {
+        LocalDate today = LocalDate.now();
+        try {
+            ensurePartitions(today);
+        } catch (RuntimeException e) {
+            log.warn("Creating application and interview partitions failed, will retry", e);
+        }
+        if (!properties.isArchiveEnabled()) {
+            return;
+        }
+        try {
+            archiver.archiveBefore(today.withDayOfMonth(1).minusMonths(properties.getArchiveAfterMonths()));
+        } catch (RuntimeException e) {
+            log.warn("Archiving application and interview partitions failed, will retry", e);
+        }
+    }
+
+    /**
+     * Creates the missing partitions from the month of {@code today} to
+     * {@code app.pipeline-partitions.months-ahead} months later.
+     *
+     * @return the number of partitions created
+     */
+    public int ensurePartitions(LocalDate today) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT create_pipeline_partitions(?, ?)", Integer.class,
+                today, today.plusMonths(properties.getMonthsAhead()));
+        if (created != null && created > 0) {
+            log.info("Created {} application and interview partition(s)", created);
+        }
+        return created != null ? created : 0;
+    }
+}
@@ -0,0 +1,143 @@
+package com.hiretrack.backend.service.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.hiretrack.backend.config.SchedulingProperties;
+import com.hiretrack.backend.dto.interview.TimeSlot;
+import com.hiretrack.backend.security.TenantContext;
+
+/**
+ * Finds the periods in which every interviewer of a panel is free.
+ *
+ * <p> Postgres does the interval work: the interviews of each interviewer that overlap the
+ * searched period come from the GiST index behind the V16 exclusion constraint (one index scan
+ * per interviewer), {@code range_agg} merges them into the busy time of the panel, and
+ * subtracting that multirange from the period leaves the free periods, in order. Only those
+ * periods reach the application, which cuts them into slots within working hours. The cost
+ * grows with the panel size and its interviews in the period, not with the number of
+ * interviewers of the organisation. Interviews are partitioned by month (V18) and, legacy
+ * overlaps aside, end within the month they start in, so the bounds on {@code interview_date}
+ * limit the search to the partitions of the searched months.
+ *
+ * <p> On behalf of a user, the search only sees the interviews of the user's tenant, so an
+ * interviewer of another company looks free rather than revealing their calendar.
+ *
+ * <p> A slot is only a proposal: booking it goes through the exclusion constraint, which
+ * rejects it if someone booked one of the interviewers in the meantime.
+ */
+@Service
+public class InterviewScheduler {
+
+    /** {@code %1$s}: extra condition on the interviews, {@code %2$s}: on the legacy ones. */
+    private static final String FREE_PERIODS_SQL = """
+            SELECT lower(free) AS free_from, upper(free) AS free_to
+            FROM unnest(tsmultirange(tsrange(?, ?)) - coalesce((
+                SELECT range_agg(busy.slot)
+                FROM (SELECT i.slot
+                      FROM unnest(?::int[]) AS panel(interviewer_id)
+                      JOIN interviews i ON i.interviewer_id = panel.interviewer_id
+                      WHERE i.slot && tsrange(?, ?) AND NOT i.legacy_overlap
+                        AND i.interview_date >= date_trunc('month', ?::timestamp) AND i.interview_date < ?%1$s
+                      UNION ALL
+                      SELECT i.slot
+                      FROM interviews i
+                      WHERE i.interviewer_id = ANY (?::int[]) AND i.legacy_overlap AND i.slot && tsrange(?, ?)
+                        AND i.interview_date < ?%2$s) busy
+            ), '{}'::tsmultirange)) AS free
+            ORDER BY free_from
+            """;
+
+    private static final String ALL_TENANTS_SQL = FREE_PERIODS_SQL.formatted("", "");
+
+    private static final String TENANT_SQL = FREE_PERIODS_SQL.formatted(" AND i.tenant_id = ?", " AND i.tenant_id = ?");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulingProperties properties;
+
+    public InterviewScheduler(DataSource dataSource, SchedulingProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+    }
+
+    /**
+     * The first slots of {@code duration} at or after {@code from} in which every interviewer
+     * is free, earliest first. Slots start on a multiple of {@code app.scheduling.slot-step},
+     * lie within the working hours of a working day and do not overlap each other.
+     *
+     * @param interviewerIds the panel
+     * @param to             end of the searched period, {@code app.scheduling.default-horizon}
+     *                       after {@code from} if null, and at most {@code app.scheduling.max-horizon}
+     * @param limit          number of slots, clamped to [1, {@code app.scheduling.max-slots}]
+     */
+    public List<TimeSlot> findFreeSlots(Collection<Long> interviewerIds, Duration duration,
+                                        LocalDateTime from, LocalDateTime to, int limit) {
+        LocalDateTime maxTo = from.plus(properties.getMaxHorizon());
+        LocalDateTime end = to == null ? from.plus(properties.getDefaultHorizon()) : to;
+        if (end.isAfter(maxTo)) {
+            end = maxTo;
+        }
+        if (!end.isAfter(from)) {
+            return List.of();
+        }
+        Integer[] panel = interviewerIds.stream().map(Long::intValue).distinct().toArray(Integer[]::new);
+        Long tenantId = TenantContext.currentTenantId();
+        Object[] args = tenantId != null
+                ? new Object[] {from, end, panel, from, end, from, end, tenantId, panel, from, end, end, tenantId}
+                : new Object[] {from, end, panel, from, end, from, end, panel, from, end, end};
+        List<TimeSlot> freePeriods = jdbcTemplate.query(tenantId != null ? TENANT_SQL : ALL_TENANTS_SQL,
+                (rs, rowNum) -> new TimeSlot(rs.getTimestamp("free_from").toLocalDateTime(),
+                        rs.getTimestamp("free_to").toLocalDateTime()),
+                args);
+        return slotsWithin(freePeriods, duration, Math.max(1, Math.min(limit, properties.getMaxSlots())));
+    }
+
+    /**
+     * Cuts free periods, in order, into at most {@code limit} slots of {@code duration}.
+     */
+    List<TimeSlot> slotsWithin(List<TimeSlot> freePeriods, Duration duration, int limit) {
+        LocalTime workdayStart = properties.getWorkdayStart();
+        LocalTime workdayEnd = properties.getWorkdayEnd();
+        List<TimeSlot> slots = new ArrayList<>();
+        for (TimeSlot free : freePeriods) {
+            LocalDateTime start = alignUp(free.start());
+            while (slots.size() < limit && !start.plus(duration).isAfter(free.end())) {
+                LocalDate day = start.toLocalDate();
+                LocalDateTime end = start.plus(duration);
+                if (!properties.getWorkingDays().contains(day.getDayOfWeek())
+                        || end.isAfter(day.atTime(workdayEnd)) || !end.toLocalDate().equals(day)) {
+                    start = alignUp(day.plusDays(1).atTime(workdayStart));
+                } else if (start.toLocalTime().isBefore(workdayStart)) {
+                    start = alignUp(day.atTime(workdayStart));
+                } else {
+                    slots.add(new TimeSlot(start, end));
+                    start = alignUp(end);
+                }
+            }
+            if (slots.size() == limit) {
+                break;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * The first multiple of the slot step from midnight at or after {@code time}.
+     */
+    private LocalDateTime alignUp(LocalDateTime time) {
+        long step = properties.getSlotStep().toSeconds();
+        long second = time.toLocalTime().toSecondOfDay() + (time.getNano() > 0 ? 1 : 0);
+        long aligned = (second + step - 1) / step * step;
+        return time.toLocalDate().atStartOfDay().plusSeconds(aligned);
+    }
+}
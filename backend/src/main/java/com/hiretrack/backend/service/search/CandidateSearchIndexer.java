@@ -0,0 +1,91 @@
+package com.hiretrack.backend.service.search;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hiretrack.backend.config.SearchProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Incrementally maintains {@code candidates.search_vector}.
+ *
+ * <p> A candidate needs indexing when its vector is NULL: new rows start that way, whatever
+ * inserted them, and the V11 triggers reset it when a name, the location or the notes of one
+ * of the candidate's applications change. Each pass indexes those rows in batches of
+ * {@code app.search.indexer-batch-size}, one transaction per batch, until none is left, so a
+ * change becomes searchable within about {@code app.search.indexer-interval}.
+ *
+ * <p> Batches are claimed with {@code FOR UPDATE SKIP LOCKED}: several nodes can run the indexer
+ * at once without indexing the same rows. To rebuild the whole index, set every vector to NULL.
+ */
+@Service
+public class CandidateSearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(CandidateSearchIndexer.class);
+
+    private static final String INDEX_BATCH_SQL = """
+            WITH batch AS (
+                SELECT candidate_id FROM candidates
+                WHERE search_vector IS NULL
+                ORDER BY candidate_id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE candidates c SET search_vector =
+                setweight(to_tsvector('english', concat_ws(' ', c.first_name, c.last_name)), 'A') ||
+                setweight(to_tsvector('english', coalesce(c.location, '')), 'B') ||
+                setweight(to_tsvector('english', coalesce(
+                    (SELECT string_agg(a.notes, ' ') FROM applications a
+                     WHERE a.tenant_id = c.tenant_id AND a.candidate_id = c.candidate_id),
+                    '')), 'C')
+            FROM batch
+            WHERE c.candidate_id = batch.candidate_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchProperties properties;
+    private final Counter indexed;
+
+    public CandidateSearchIndexer(DataSource dataSource, SearchProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+        this.indexed = Counter.builder("search.candidates.indexed")
+                .description("Candidates whose search vector was (re)built")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.indexer-interval:PT5S}")
+    public void scheduledPass() {
+        if (properties.isIndexerEnabled()) {
+            indexPending();
+        }
+    }
+
+    /**
+     * Indexes every candidate waiting for it.
+     *
+     * @return the number of candidates indexed
+     */
+    public long indexPending() {
+        int batchSize = properties.getIndexerBatchSize();
+        long total = 0;
+        int updated;
+        do {
+            // autocommit: each batch is its own transaction and releases its row locks at once
+            updated = jdbcTemplate.update(INDEX_BATCH_SQL, batchSize);
+            total += updated;
+            indexed.increment(updated);
+        } while (updated == batchSize);
+        if (total > 0) {
+            log.debug("Indexed {} candidates for search", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,115 @@
+package com.hiretrack.backend.service.tenancy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hiretrack.backend.config.TenancyProperties;
+import com.hiretrack.backend.dto.invitation.InvitationRequest;
+import com.hiretrack.backend.dto.invitation.InvitationResponse;
+import com.hiretrack.backend.entity.TenantInvitation;
+import com.hiretrack.backend.entity.User;
+import com.hiretrack.backend.enums.Role;
+import com.hiretrack.backend.repository.TenantInvitationRepository;
+import com.hiretrack.backend.repository.UserRepository;
+
+/**
+ * Invitations to join a tenant. An administrator invites an email with a role and hands the
+ * returned token to that person, who registers with it (see {@code AuthService.register}).
+ *
+ * <p> Tokens are 32 random bytes. Only their SHA-256 is stored, so the invitations table does
+ * not hold usable tokens; a token is accepted once, with the invited email, before
+ * {@code app.tenancy.invitation-ttl} has elapsed.
+ */
+@Service
+public class TenantInvitationService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final TenantInvitationRepository invitationRepository;
+    private final UserRepository userRepository;
+    private final TenancyProperties properties;
+    private final Role defaultRole;
+
+    public TenantInvitationService(TenantInvitationRepository invitationRepository,
+                                   UserRepository userRepository,
+                                   TenancyProperties properties,
+                                   Role defaultRole) {
+        this.invitationRepository = invitationRepository;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.defaultRole = defaultRole;
+    }
+
+    /**
+     * Invites {@code request.email()} into the current user's tenant.
+     *
+     * @param invitedBy email of the administrator issuing the invitation
+     * @return the invitation with its token, which cannot be read back later
+     */
+    @Transactional
+    public InvitationResponse invite(InvitationRequest request, String invitedBy) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        TenantInvitation invitation = new TenantInvitation();
+        invitation.setTokenHash(hash(token));
+        invitation.setEmail(request.email().trim());
+        invitation.setRole(request.role() != null ? request.role() : defaultRole);
+        invitation.setCreatedBy(userRepository.findByEmail(invitedBy).orElse(null));
+        invitation.setCreatedAt(now);
+        invitation.setExpiresAt(now.plus(properties.getInvitationTtl()));
+        return InvitationResponse.from(invitationRepository.save(invitation), token);
+    }
+
+    /**
+     * The invitation with this token, if it can still be accepted by {@code email}.
+     *
+     * @throws IllegalArgumentException if the token is unknown, the invitation is for another
+     *                                  email, expired or was already accepted
+     */
+    public TenantInvitation findPending(String token, String email) {
+        LocalDateTime now = LocalDateTime.now();
+        return invitationRepository.findByTokenHash(hash(token))
+                .filter(invitation -> invitation.getAcceptedAt() == null
+                        && invitation.getExpiresAt().isAfter(now)
+                        && invitation.getEmail().equalsIgnoreCase(email.trim()))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid or expired invitation"));
+    }
+
+    /**
+     * Accepts the invitation and saves {@code user} into its tenant, with its role, in one
+     * transaction.
+     *
+     * @throws IllegalArgumentException if the invitation was accepted meanwhile
+     */
+    @Transactional
+    public User accept(TenantInvitation invitation, User user) {
+        // a conditional update, so that of concurrent registrations only one gets in
+        if (invitationRepository.accept(invitation.getId(), LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("Invalid or expired invitation");
+        }
+        user.setTenantId(invitation.getTenantId());
+        user.setRole(invitation.getRole());
+        return userRepository.save(user);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hiretrack.backend.service.tenancy;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hiretrack.backend.config.TenancyProperties;
+
+/**
+ * Moves the tenants that outgrew the shared partitions into partitions of their own, through
+ * the V17 function {@code isolate_tenant}. A tenant is moved once it has
+ * {@code app.tenancy.isolation-threshold} applications in the shared partitions; moving a tenant
+ * that already has its partitions is a no-op, so every node can run this.
+ */
+@Service
+public class TenantPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantPartitionManager.class);
+
+    private static final String OVERSIZED_TENANTS_SQL = """
+            SELECT tenant_id FROM applications_shared
+            GROUP BY tenant_id
+            HAVING count(*) >= ?
+            ORDER BY count(*) DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TenancyProperties properties;
+
+    public TenantPartitionManager(DataSource dataSource, TenancyProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${app.tenancy.isolation-check-interval:PT24H}",
+            initialDelayString = "${app.tenancy.isolation-check-interval:PT24H}")
+    public void scheduledCheck() {
+        if (!properties.isIsolationEnabled()) {
+            return;
+        }
+        try {
+            isolateOversizedTenants();
+        } catch (RuntimeException e) {
+            log.warn("Isolating oversized tenants failed, will retry", e);
+        }
+    }
+
+    /**
+     * Gives each tenant with at least {@code app.tenancy.isolation-threshold} applications in
+     * the shared partitions partitions of its own, largest first.
+     *
+     * @return the number of tenants moved
+     */
+    public int isolateOversizedTenants() {
+        List<Long> tenants = jdbcTemplate.queryForList(OVERSIZED_TENANTS_SQL, Long.class,
+                properties.getIsolationThreshold());
+        int moved = 0;
+        for (Long tenant : tenants) {
+            if (isolate(tenant)) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Moves one tenant into partitions of its own.
+     *
+     * @return false if it already had them
+     */
+    public boolean isolate(long tenantId) {
+        boolean moved = Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT isolate_tenant(?::int)", Boolean.class, tenantId));
+        if (moved) {
+            log.info("Moved tenant {} into partitions of its own", tenantId);
+        }
+        return moved;
+    }
+}
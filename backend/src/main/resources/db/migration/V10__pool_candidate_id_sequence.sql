@@ -0,0 +1,6 @@
+-- Candidate ids are now allocated in blocks of 50 (Hibernate pooled optimizer and the bulk
+-- importer): each nextval() reserves the 50 ids ending at the returned value. IDENTITY
+-- generation made Hibernate give up JDBC batching for candidate inserts.
+-- The increment must match @SequenceGenerator(allocationSize) on Candidate.id.
+
+ALTER SEQUENCE candidates_candidate_id_seq INCREMENT BY 50;
@@ -0,0 +1,62 @@
+-- Ranked full-text search over jobs and candidates.
+--
+-- Jobs: every searched field lives on the row, so the vector is a generated
+-- column and is always in sync. Weights: title A, department B, description C.
+--
+-- Candidates: the vector also covers the notes recruiters leave on the
+-- candidate's applications, which a generated column cannot read. It is a
+-- plain column filled by the incremental indexer (CandidateSearchIndexer);
+-- NULL means "not indexed yet". New rows start NULL and the triggers below
+-- reset it when an indexed field changes. Weights: names A, location B,
+-- application notes C.
+
+ALTER TABLE jobs ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(department, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+ALTER TABLE candidates ADD COLUMN search_vector tsvector;
+
+CREATE INDEX idx_candidates_search_vector ON candidates USING GIN (search_vector);
+CREATE INDEX idx_candidates_search_pending ON candidates (candidate_id) WHERE search_vector IS NULL;
+
+CREATE FUNCTION candidates_search_stale() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := NULL;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Hibernate updates every column, so only fire when an indexed value really changed
+CREATE TRIGGER trg_candidates_search_stale
+    BEFORE UPDATE OF first_name, last_name, location ON candidates
+    FOR EACH ROW
+    WHEN (OLD.first_name IS DISTINCT FROM NEW.first_name
+       OR OLD.last_name IS DISTINCT FROM NEW.last_name
+       OR OLD.location IS DISTINCT FROM NEW.location)
+    EXECUTE FUNCTION candidates_search_stale();
+
+CREATE FUNCTION applications_candidate_search_stale() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.notes IS NOT DISTINCT FROM NEW.notes AND OLD.candidate_id = NEW.candidate_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.notes IS NOT NULL THEN
+        UPDATE candidates SET search_vector = NULL
+        WHERE candidate_id = OLD.candidate_id AND search_vector IS NOT NULL;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.notes IS NOT NULL THEN
+        UPDATE candidates SET search_vector = NULL
+        WHERE candidate_id = NEW.candidate_id AND search_vector IS NOT NULL;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_applications_candidate_search_stale
+    AFTER INSERT OR DELETE OR UPDATE OF notes, candidate_id ON applications
+    FOR EACH ROW
+    EXECUTE FUNCTION applications_candidate_search_stale();
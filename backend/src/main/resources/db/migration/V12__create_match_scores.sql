@@ -0,0 +1,26 @@
+-- Relevance of each candidate to the jobs they applied to, maintained
+-- incrementally by MatchScoreMaintainer when a job, a candidate or an
+-- application changes.
+
+CREATE TABLE match_scores (
+    job_id INT NOT NULL,
+    candidate_id INT NOT NULL,
+    score REAL NOT NULL,
+    scored_at TIMESTAMP NOT NULL,
+
+    PRIMARY KEY (job_id, candidate_id),
+
+    CONSTRAINT fk_match_scores_job
+        FOREIGN KEY (job_id)
+        REFERENCES jobs(job_id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_match_scores_candidate
+        FOREIGN KEY (candidate_id)
+        REFERENCES candidates(candidate_id)
+        ON DELETE CASCADE
+);
+
+-- a job's pipeline ranked by score
+CREATE INDEX idx_match_scores_job_id_score ON match_scores (job_id, score DESC);
+CREATE INDEX idx_match_scores_candidate_id ON match_scores (candidate_id);
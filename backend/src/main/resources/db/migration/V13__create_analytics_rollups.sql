@@ -0,0 +1,77 @@
+-- Hiring funnel rollups, refreshed by AnalyticsService (REFRESH MATERIALIZED
+-- VIEW CONCURRENTLY, so readers are never blocked). Each view has a unique
+-- index over its grouping columns, which concurrent refreshes require.
+
+-- Applications per job, source, day and current status.
+CREATE MATERIALIZED VIEW analytics_application_daily AS
+SELECT a.job_id,
+       j.department,
+       a.source,
+       a.applied_at::date AS day,
+       a.status,
+       count(*) AS applications
+FROM applications a
+JOIN jobs j ON j.job_id = a.job_id
+GROUP BY a.job_id, j.department, a.source, a.applied_at::date, a.status;
+
+CREATE UNIQUE INDEX ux_analytics_application_daily
+    ON analytics_application_daily (job_id, source, day, status);
+CREATE INDEX idx_analytics_application_daily_department_day ON analytics_application_daily (department, day);
+CREATE INDEX idx_analytics_application_daily_day ON analytics_application_daily (day);
+
+-- Interviews per job, type, outcome and rating.
+CREATE MATERIALIZED VIEW analytics_interview_outcomes AS
+SELECT a.job_id,
+       j.department,
+       i.interview_type,
+       i.outcome,
+       i.rating,
+       count(*) AS interviews
+FROM interviews i
+JOIN applications a ON a.application_id = i.application_id
+JOIN jobs j ON j.job_id = a.job_id
+GROUP BY a.job_id, j.department, i.interview_type, i.outcome, i.rating;
+
+CREATE UNIQUE INDEX ux_analytics_interview_outcomes
+    ON analytics_interview_outcomes (job_id, interview_type, outcome, rating);
+CREATE INDEX idx_analytics_interview_outcomes_department ON analytics_interview_outcomes (department);
+
+-- Time spent in each stage, bucketed so that jobs can be summed into departments:
+--   TO_FIRST_INTERVIEW : applied -> first interview
+--   INTERVIEW_LOOP     : first interview -> last interview
+-- bucket: upper bound of the duration in days (1, 3, 7, 14, 30), 0 for longer.
+CREATE MATERIALIZED VIEW analytics_stage_durations AS
+WITH loops AS (
+    SELECT a.application_id, a.job_id, a.applied_at,
+           min(i.interview_date) AS first_interview,
+           max(i.interview_date) AS last_interview
+    FROM applications a
+    JOIN interviews i ON i.application_id = a.application_id
+    GROUP BY a.application_id, a.job_id, a.applied_at
+), stages AS (
+    SELECT job_id, 'TO_FIRST_INTERVIEW' AS stage,
+           extract(epoch FROM first_interview - applied_at) / 3600 AS hours
+    FROM loops
+    WHERE applied_at IS NOT NULL AND first_interview >= applied_at
+    UNION ALL
+    SELECT job_id, 'INTERVIEW_LOOP' AS stage,
+           extract(epoch FROM last_interview - first_interview) / 3600 AS hours
+    FROM loops
+)
+SELECT s.job_id,
+       j.department,
+       s.stage,
+       CASE WHEN s.hours <= 24 THEN 1
+            WHEN s.hours <= 72 THEN 3
+            WHEN s.hours <= 168 THEN 7
+            WHEN s.hours <= 336 THEN 14
+            WHEN s.hours <= 720 THEN 30
+            ELSE 0 END AS bucket,
+       count(*) AS applications,
+       sum(s.hours) AS total_hours
+FROM stages s
+JOIN jobs j ON j.job_id = s.job_id
+GROUP BY s.job_id, j.department, s.stage, 4;
+
+CREATE UNIQUE INDEX ux_analytics_stage_durations ON analytics_stage_durations (job_id, stage, bucket);
+CREATE INDEX idx_analytics_stage_durations_department ON analytics_stage_durations (department);
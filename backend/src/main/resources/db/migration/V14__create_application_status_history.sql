@@ -0,0 +1,136 @@
+-- Optimistic locking of applications (Application.version, bumped by Hibernate on every update).
+ALTER TABLE applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Append-only log of application status changes, written by a trigger in the
+-- transaction that changes the status, whatever the writer. from_status is NULL
+-- for the initial status of a new application.
+--
+-- Partitioned by month on changed_at: funnel and time-in-stage queries over a
+-- period only scan that period's partitions, and old months can be detached
+-- and archived without touching the rest. The default partition catches rows
+-- outside the prepared months until create_application_status_history_partitions
+-- (run ahead of time by StatusHistoryPartitionManager) moves them out.
+-- Rows outlive their application on purpose, hence no foreign key.
+CREATE TABLE application_status_history (
+    history_id BIGSERIAL,
+    application_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    from_status VARCHAR(20),
+    to_status VARCHAR(20) NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (history_id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+CREATE TABLE application_status_history_default PARTITION OF application_status_history DEFAULT;
+
+CREATE INDEX idx_status_history_application ON application_status_history (application_id, changed_at);
+CREATE INDEX idx_status_history_to_status ON application_status_history (to_status, changed_at);
+CREATE INDEX idx_status_history_job ON application_status_history (job_id, changed_at);
+
+-- Creates the missing monthly partitions from the month of first_month to the
+-- month of last_month, both included. Rows of those months already in the
+-- default partition are moved into the new partition.
+CREATE FUNCTION create_application_status_history_partitions(first_month DATE, last_month DATE) RETURNS INT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', first_month);
+    month_end DATE;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        month_end := month_start + interval '1 month';
+        partition_name := 'application_status_history_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE application_status_history INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                           partition_name);
+            EXECUTE format('WITH moved AS (DELETE FROM application_status_history_default'
+                           ' WHERE changed_at >= %L AND changed_at < %L RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_end, partition_name);
+            EXECUTE format('ALTER TABLE application_status_history ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, month_end);
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION applications_record_status_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status IS NOT DISTINCT FROM NEW.status THEN
+        RETURN NULL;
+    END IF;
+    INSERT INTO application_status_history (application_id, job_id, from_status, to_status, changed_at)
+    VALUES (NEW.application_id, NEW.job_id,
+            CASE WHEN TG_OP = 'UPDATE' THEN OLD.status END,
+            NEW.status,
+            -- a new application enters its first status when it was submitted
+            CASE WHEN TG_OP = 'INSERT' THEN coalesce(NEW.applied_at, localtimestamp) ELSE localtimestamp END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_applications_record_status_change
+    AFTER INSERT OR UPDATE OF status ON applications
+    FOR EACH ROW EXECUTE FUNCTION applications_record_status_change();
+
+-- Partitions from the oldest application to three months ahead, then the
+-- initial status of every existing application (the earlier steps are unknown).
+SELECT create_application_status_history_partitions(
+        coalesce((SELECT min(applied_at) FROM applications), localtimestamp)::date,
+        (localtimestamp + interval '3 months')::date);
+
+INSERT INTO application_status_history (application_id, job_id, from_status, to_status, changed_at)
+SELECT application_id, job_id, NULL, status, coalesce(applied_at, localtimestamp)
+FROM applications;
+
+-- Time in each status from the history, next to the interview-based stages of
+-- V13: a status is left at the next change of the same application. Statuses
+-- not left yet are not counted.
+DROP MATERIALIZED VIEW analytics_stage_durations;
+
+CREATE MATERIALIZED VIEW analytics_stage_durations AS
+WITH loops AS (
+    SELECT a.application_id, a.job_id, a.applied_at,
+           min(i.interview_date) AS first_interview,
+           max(i.interview_date) AS last_interview
+    FROM applications a
+    JOIN interviews i ON i.application_id = a.application_id
+    GROUP BY a.application_id, a.job_id, a.applied_at
+), transitions AS (
+    SELECT job_id, to_status, changed_at,
+           lead(changed_at) OVER (PARTITION BY application_id ORDER BY changed_at, history_id) AS left_at
+    FROM application_status_history
+), stages AS (
+    SELECT job_id, 'TO_FIRST_INTERVIEW' AS stage,
+           extract(epoch FROM first_interview - applied_at) / 3600 AS hours
+    FROM loops
+    WHERE applied_at IS NOT NULL AND first_interview >= applied_at
+    UNION ALL
+    SELECT job_id, 'INTERVIEW_LOOP' AS stage,
+           extract(epoch FROM last_interview - first_interview) / 3600 AS hours
+    FROM loops
+    UNION ALL
+    SELECT job_id, to_status AS stage,
+           extract(epoch FROM left_at - changed_at) / 3600 AS hours
+    FROM transitions
+    WHERE left_at IS NOT NULL
+)
+SELECT s.job_id,
+       j.department,
+       s.stage,
+       CASE WHEN s.hours <= 24 THEN 1
+            WHEN s.hours <= 72 THEN 3
+            WHEN s.hours <= 168 THEN 7
+            WHEN s.hours <= 336 THEN 14
+            WHEN s.hours <= 720 THEN 30
+            ELSE 0 END AS bucket,
+       count(*) AS applications,
+       sum(s.hours) AS total_hours
+FROM stages s
+JOIN jobs j ON j.job_id = s.job_id
+GROUP BY s.job_id, j.department, s.stage, 4;
+
+CREATE UNIQUE INDEX ux_analytics_stage_durations ON analytics_stage_durations (job_id, stage, bucket);
+CREATE INDEX idx_analytics_stage_durations_department ON analytics_stage_durations (department);
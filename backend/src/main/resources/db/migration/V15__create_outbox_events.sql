@@ -0,0 +1,13 @@
+-- Transactional outbox: domain change events written in the transaction of the
+-- change (OutboxWriter) and drained by OutboxRelay, which deletes the rows it
+-- publishes. Relays claim rows with FOR UPDATE SKIP LOCKED, so several nodes
+-- drain in parallel without publishing an event twice.
+CREATE TABLE outbox_events (
+    event_id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    -- the aggregate as its API response, NULL for deletions
+    payload JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
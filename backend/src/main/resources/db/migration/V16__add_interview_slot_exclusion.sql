@@ -0,0 +1,32 @@
+-- An interview occupies its interviewer from interview_date for duration_minutes.
+-- slot is that period as a range, kept in sync by Postgres.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE interviews ADD COLUMN duration_minutes INT NOT NULL DEFAULT 60
+    CONSTRAINT ck_interviews_duration_minutes CHECK (duration_minutes > 0);
+
+ALTER TABLE interviews ADD COLUMN slot TSRANGE
+    GENERATED ALWAYS AS (tsrange(interview_date, interview_date + duration_minutes * interval '1 minute')) STORED;
+
+-- Interviews double-booked before this migration cannot satisfy the exclusion
+-- constraint below: every interview overlapping an earlier one of the same
+-- interviewer is flagged and left out of it. They still count as busy time.
+ALTER TABLE interviews ADD COLUMN legacy_overlap BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE interviews i
+SET legacy_overlap = TRUE
+WHERE EXISTS (SELECT 1
+              FROM interviews earlier
+              WHERE earlier.interviewer_id = i.interviewer_id
+                AND earlier.interview_id < i.interview_id
+                AND earlier.slot && i.slot);
+
+-- No two interviews of an interviewer overlap. Enforced by the GiST index on
+-- (interviewer_id, slot), whatever the writer and however many concurrent
+-- transactions book the same interviewer: the second one to insert waits for
+-- the first and fails with SQLSTATE 23P01 if it commits. The same index answers
+-- "interviews of this interviewer during this period" for the free slot search.
+ALTER TABLE interviews ADD CONSTRAINT ex_interviews_interviewer_slot
+    EXCLUDE USING gist (interviewer_id WITH =, slot WITH &&) WHERE (NOT legacy_overlap);
+
+CREATE INDEX idx_interviews_legacy_overlap ON interviews (interviewer_id, interview_date) WHERE legacy_overlap;
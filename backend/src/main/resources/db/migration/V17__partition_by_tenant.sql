@@ -0,0 +1,500 @@
+-- Tenants: one per company. Every job, candidate, application and interview
+-- belongs to exactly one tenant, and the tenant's users only ever see its rows
+-- (Hibernate adds tenant_id = ? to every query, see TenantIdentifierResolver).
+--
+-- jobs, candidates, applications and interviews are LIST-partitioned on
+-- tenant_id. Tenants start in the DEFAULT partition ("shared"), itself split
+-- into 8 HASH partitions, so a small tenant's queries touch one eighth of the
+-- shared rows. A tenant that outgrows the shared partitions is moved into
+-- partitions of its own by isolate_tenant (TenantPartitionManager): its
+-- queries then scan only its rows, and no one else's plans or vacuum depend on
+-- its size. Removing a tenant with its own partitions is a DROP TABLE, see
+-- drop_tenant_data.
+--
+-- Primary keys become (id, tenant_id), as partitioned tables require: ids stay
+-- unique since every partition draws them from the same sequence, and id comes
+-- first so a lookup by id alone still uses the key. Foreign keys between the
+-- four tables carry the tenant, so a row can only reference rows of its tenant.
+
+CREATE TABLE tenants (
+    tenant_id SERIAL PRIMARY KEY,
+    name VARCHAR(150) NOT NULL UNIQUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- users without a company name
+INSERT INTO tenants (name) VALUES ('default');
+
+INSERT INTO tenants (name)
+SELECT DISTINCT btrim(company_name) FROM users WHERE btrim(company_name) <> ''
+ON CONFLICT (name) DO NOTHING;
+
+ALTER TABLE users ADD COLUMN tenant_id INT
+    CONSTRAINT fk_users_tenant REFERENCES tenants (tenant_id);
+
+UPDATE users u
+SET tenant_id = coalesce((SELECT t.tenant_id FROM tenants t WHERE t.name = btrim(u.company_name)), 1);
+
+ALTER TABLE users ALTER COLUMN tenant_id SET NOT NULL;
+
+DROP INDEX idx_users_role_id;
+CREATE INDEX idx_users_tenant_id_id ON users (tenant_id, user_id);
+CREATE INDEX idx_users_tenant_role_id ON users (tenant_id, role, user_id);
+
+-- The rollups are rebuilt at the end, with the tenant.
+DROP MATERIALIZED VIEW analytics_application_daily;
+DROP MATERIALIZED VIEW analytics_interview_outcomes;
+DROP MATERIALIZED VIEW analytics_stage_durations;
+
+ALTER TABLE match_scores DROP CONSTRAINT fk_match_scores_job;
+ALTER TABLE match_scores DROP CONSTRAINT fk_match_scores_candidate;
+
+ALTER TABLE jobs RENAME TO jobs_unpartitioned;
+ALTER TABLE candidates RENAME TO candidates_unpartitioned;
+ALTER TABLE applications RENAME TO applications_unpartitioned;
+ALTER TABLE interviews RENAME TO interviews_unpartitioned;
+
+-- the sequences move to the new tables
+ALTER SEQUENCE jobs_job_id_seq OWNED BY NONE;
+ALTER SEQUENCE candidates_candidate_id_seq OWNED BY NONE;
+ALTER SEQUENCE applications_application_id_seq OWNED BY NONE;
+ALTER SEQUENCE interviews_interview_id_seq OWNED BY NONE;
+
+CREATE TABLE jobs (
+    job_id INT NOT NULL DEFAULT nextval('jobs_job_id_seq'),
+    tenant_id INT NOT NULL,
+    title VARCHAR(150) NOT NULL,
+    description TEXT,
+    department VARCHAR(100),
+    employment_type VARCHAR(50) NOT NULL,
+    location VARCHAR(100),
+    salary_range VARCHAR(50),
+    status VARCHAR(50) NOT NULL,
+    created_by INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(department, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'C')
+    ) STORED
+) PARTITION BY LIST (tenant_id);
+
+CREATE TABLE candidates (
+    candidate_id INT NOT NULL DEFAULT nextval('candidates_candidate_id_seq'),
+    tenant_id INT NOT NULL,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    email VARCHAR(150) NOT NULL,
+    phone_number VARCHAR(20),
+    resume_url VARCHAR(255),
+    linkedin_url VARCHAR(255),
+    experience_level VARCHAR(50),
+    location VARCHAR(100),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    search_vector tsvector
+) PARTITION BY LIST (tenant_id);
+
+CREATE TABLE applications (
+    application_id INT NOT NULL DEFAULT nextval('applications_application_id_seq'),
+    tenant_id INT NOT NULL,
+    job_id INT NOT NULL,
+    candidate_id INT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    source VARCHAR(50),
+    notes TEXT,
+    version BIGINT NOT NULL DEFAULT 0
+) PARTITION BY LIST (tenant_id);
+
+CREATE TABLE interviews (
+    interview_id INT NOT NULL DEFAULT nextval('interviews_interview_id_seq'),
+    tenant_id INT NOT NULL,
+    application_id INT NOT NULL,
+    interviewer_id INT NOT NULL,
+    interview_date TIMESTAMP NOT NULL,
+    interview_type VARCHAR(50),
+    feedback TEXT,
+    rating INT,
+    outcome VARCHAR(50),
+    duration_minutes INT NOT NULL DEFAULT 60
+        CONSTRAINT ck_interviews_duration_minutes CHECK (duration_minutes > 0),
+    slot TSRANGE
+        GENERATED ALWAYS AS (tsrange(interview_date, interview_date + duration_minutes * interval '1 minute')) STORED,
+    legacy_overlap BOOLEAN NOT NULL DEFAULT FALSE
+) PARTITION BY LIST (tenant_id);
+
+ALTER SEQUENCE jobs_job_id_seq OWNED BY jobs.job_id;
+ALTER SEQUENCE candidates_candidate_id_seq OWNED BY candidates.candidate_id;
+ALTER SEQUENCE applications_application_id_seq OWNED BY applications.application_id;
+ALTER SEQUENCE interviews_interview_id_seq OWNED BY interviews.interview_id;
+
+-- The shared partitions. Exclusion constraints cannot be declared on a
+-- partitioned table, so the V16 one is declared on each leaf: an interviewer
+-- belongs to one tenant, hence all their interviews are in the same leaf.
+DO $$
+DECLARE
+    parent TEXT;
+    remainder INT;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['jobs', 'candidates', 'applications', 'interviews'] LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT PARTITION BY HASH (tenant_id)',
+                       parent || '_shared', parent);
+        FOR remainder IN 0..7 LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES WITH (MODULUS 8, REMAINDER %s)',
+                           parent || '_shared_' || remainder, parent || '_shared', remainder);
+        END LOOP;
+    END LOOP;
+    FOR remainder IN 0..7 LOOP
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I'
+                       ' EXCLUDE USING gist (interviewer_id WITH =, slot WITH &&) WHERE (NOT legacy_overlap)',
+                       'interviews_shared_' || remainder, 'ex_interviews_shared_' || remainder || '_interviewer_slot');
+    END LOOP;
+END;
+$$;
+
+-- Jobs belong to the tenant of their creator, applications to the tenant of
+-- their job, interviews to the tenant of their application.
+INSERT INTO jobs (job_id, tenant_id, title, description, department, employment_type, location, salary_range,
+                  status, created_by, created_at)
+SELECT j.job_id, u.tenant_id, j.title, j.description, j.department, j.employment_type, j.location, j.salary_range,
+       j.status, j.created_by, j.created_at
+FROM jobs_unpartitioned j
+JOIN users u ON u.user_id = j.created_by;
+
+-- A candidate belongs to the tenant of their first application, or to the
+-- default tenant. A candidate who applied to jobs of several tenants is copied
+-- into each of the other tenants under a new id: companies do not share
+-- candidate records. Their search vector, which covers the notes of every
+-- tenant, is rebuilt by the indexer.
+CREATE TEMPORARY TABLE candidate_copies AS
+SELECT candidate_id, tenant_id,
+       CASE WHEN row_number() OVER (PARTITION BY candidate_id ORDER BY first_application) = 1
+            THEN candidate_id ELSE nextval('candidates_candidate_id_seq') END AS new_candidate_id,
+       count(*) OVER (PARTITION BY candidate_id) AS copies
+FROM (SELECT a.candidate_id, j.tenant_id, min(a.application_id) AS first_application
+      FROM applications_unpartitioned a
+      JOIN jobs j ON j.job_id = a.job_id
+      GROUP BY a.candidate_id, j.tenant_id) tenancy;
+
+INSERT INTO candidates (candidate_id, tenant_id, first_name, last_name, email, phone_number, resume_url,
+                        linkedin_url, experience_level, location, created_at, search_vector)
+SELECT cc.new_candidate_id, cc.tenant_id, c.first_name, c.last_name, c.email, c.phone_number, c.resume_url,
+       c.linkedin_url, c.experience_level, c.location, c.created_at,
+       CASE WHEN cc.copies = 1 THEN c.search_vector END
+FROM candidates_unpartitioned c
+JOIN candidate_copies cc ON cc.candidate_id = c.candidate_id
+UNION ALL
+SELECT c.candidate_id, 1, c.first_name, c.last_name, c.email, c.phone_number, c.resume_url,
+       c.linkedin_url, c.experience_level, c.location, c.created_at, c.search_vector
+FROM candidates_unpartitioned c
+WHERE NOT EXISTS (SELECT 1 FROM candidate_copies cc WHERE cc.candidate_id = c.candidate_id);
+
+INSERT INTO applications (application_id, tenant_id, job_id, candidate_id, status, applied_at, source, notes, version)
+SELECT a.application_id, j.tenant_id, a.job_id, cc.new_candidate_id, a.status, a.applied_at, a.source, a.notes,
+       a.version
+FROM applications_unpartitioned a
+JOIN jobs j ON j.job_id = a.job_id
+JOIN candidate_copies cc ON cc.candidate_id = a.candidate_id AND cc.tenant_id = j.tenant_id;
+
+INSERT INTO interviews (interview_id, tenant_id, application_id, interviewer_id, interview_date, interview_type,
+                        feedback, rating, outcome, duration_minutes, legacy_overlap)
+SELECT i.interview_id, a.tenant_id, i.application_id, i.interviewer_id, i.interview_date, i.interview_type,
+       i.feedback, i.rating, i.outcome, i.duration_minutes, i.legacy_overlap
+FROM interviews_unpartitioned i
+JOIN applications a ON a.application_id = i.application_id;
+
+-- Scores follow the candidate copy of the job's tenant.
+ALTER TABLE match_scores ADD COLUMN tenant_id INT;
+
+UPDATE match_scores m
+SET tenant_id = j.tenant_id, candidate_id = cc.new_candidate_id
+FROM jobs j, candidate_copies cc
+WHERE j.job_id = m.job_id AND cc.candidate_id = m.candidate_id AND cc.tenant_id = j.tenant_id;
+
+DELETE FROM match_scores WHERE tenant_id IS NULL;
+
+ALTER TABLE match_scores ALTER COLUMN tenant_id SET NOT NULL;
+
+DROP TABLE candidate_copies;
+DROP TABLE interviews_unpartitioned;
+DROP TABLE applications_unpartitioned;
+DROP TABLE candidates_unpartitioned;
+DROP TABLE jobs_unpartitioned;
+
+ALTER TABLE jobs ADD PRIMARY KEY (job_id, tenant_id);
+ALTER TABLE candidates ADD PRIMARY KEY (candidate_id, tenant_id);
+ALTER TABLE applications ADD PRIMARY KEY (application_id, tenant_id);
+ALTER TABLE interviews ADD PRIMARY KEY (interview_id, tenant_id);
+
+ALTER TABLE candidates ADD CONSTRAINT uq_candidates_tenant_email UNIQUE (tenant_id, email);
+
+ALTER TABLE jobs
+    ADD CONSTRAINT fk_jobs_tenant FOREIGN KEY (tenant_id) REFERENCES tenants (tenant_id),
+    ADD CONSTRAINT fk_jobs_users FOREIGN KEY (created_by) REFERENCES users (user_id) ON DELETE CASCADE;
+
+ALTER TABLE candidates
+    ADD CONSTRAINT fk_candidates_tenant FOREIGN KEY (tenant_id) REFERENCES tenants (tenant_id);
+
+ALTER TABLE applications
+    ADD CONSTRAINT fk_app_job FOREIGN KEY (job_id, tenant_id)
+        REFERENCES jobs (job_id, tenant_id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_app_candidate FOREIGN KEY (candidate_id, tenant_id)
+        REFERENCES candidates (candidate_id, tenant_id) ON DELETE CASCADE;
+
+ALTER TABLE interviews
+    ADD CONSTRAINT fk_interview_application FOREIGN KEY (application_id, tenant_id)
+        REFERENCES applications (application_id, tenant_id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_interview_interviewer FOREIGN KEY (interviewer_id)
+        REFERENCES users (user_id) ON DELETE SET NULL;
+
+ALTER TABLE match_scores
+    ADD CONSTRAINT fk_match_scores_job FOREIGN KEY (job_id, tenant_id)
+        REFERENCES jobs (job_id, tenant_id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_match_scores_candidate FOREIGN KEY (candidate_id, tenant_id)
+        REFERENCES candidates (candidate_id, tenant_id) ON DELETE CASCADE;
+
+-- The V9 and V11 indexes. Those on a shared attribute (status, location, ...)
+-- are led by the tenant, so that within a shared partition a tenant's page is
+-- still a single range scan. Those on a reference to another row need no
+-- tenant: the referenced row already belongs to one, and background workers
+-- look rows up by reference without knowing the tenant.
+CREATE INDEX idx_jobs_tenant_id ON jobs (tenant_id, job_id);
+CREATE INDEX idx_jobs_status_id ON jobs (tenant_id, status, job_id);
+CREATE INDEX idx_jobs_department_id ON jobs (tenant_id, department, job_id);
+CREATE INDEX idx_jobs_location_id ON jobs (tenant_id, location, job_id);
+CREATE INDEX idx_jobs_created_at ON jobs (tenant_id, created_at);
+CREATE INDEX idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+CREATE INDEX idx_candidates_tenant_id ON candidates (tenant_id, candidate_id);
+CREATE INDEX idx_candidates_experience_level_id ON candidates (tenant_id, experience_level, candidate_id);
+CREATE INDEX idx_candidates_location_id ON candidates (tenant_id, location, candidate_id);
+CREATE INDEX idx_candidates_created_at ON candidates (tenant_id, created_at);
+CREATE INDEX idx_candidates_search_vector ON candidates USING GIN (search_vector);
+CREATE INDEX idx_candidates_search_pending ON candidates (candidate_id) WHERE search_vector IS NULL;
+
+CREATE INDEX idx_applications_tenant_id ON applications (tenant_id, application_id);
+CREATE INDEX idx_applications_status_id ON applications (tenant_id, status, application_id);
+CREATE INDEX idx_applications_job_id_id ON applications (job_id, application_id);
+CREATE INDEX idx_applications_candidate_id_id ON applications (candidate_id, application_id);
+CREATE INDEX idx_applications_applied_at ON applications (tenant_id, applied_at);
+
+CREATE INDEX idx_interviews_tenant_id ON interviews (tenant_id, interview_id);
+CREATE INDEX idx_interviews_interviewer_id_id ON interviews (interviewer_id, interview_id);
+CREATE INDEX idx_interviews_application_id_id ON interviews (application_id, interview_id);
+CREATE INDEX idx_interviews_outcome_id ON interviews (tenant_id, outcome, interview_id);
+CREATE INDEX idx_interviews_interview_date ON interviews (tenant_id, interview_date);
+CREATE INDEX idx_interviews_legacy_overlap ON interviews (interviewer_id, interview_date) WHERE legacy_overlap;
+
+CREATE INDEX idx_match_scores_tenant_job_id_score ON match_scores (tenant_id, job_id, score DESC);
+DROP INDEX idx_match_scores_job_id_score;
+
+-- The V11 and V14 triggers, on the new tables.
+CREATE OR REPLACE FUNCTION applications_candidate_search_stale() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.notes IS NOT DISTINCT FROM NEW.notes AND OLD.candidate_id = NEW.candidate_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.notes IS NOT NULL THEN
+        UPDATE candidates SET search_vector = NULL
+        WHERE tenant_id = OLD.tenant_id AND candidate_id = OLD.candidate_id AND search_vector IS NOT NULL;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.notes IS NOT NULL THEN
+        UPDATE candidates SET search_vector = NULL
+        WHERE tenant_id = NEW.tenant_id AND candidate_id = NEW.candidate_id AND search_vector IS NOT NULL;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_candidates_search_stale
+    BEFORE UPDATE OF first_name, last_name, location ON candidates
+    FOR EACH ROW
+    WHEN (OLD.first_name IS DISTINCT FROM NEW.first_name
+       OR OLD.last_name IS DISTINCT FROM NEW.last_name
+       OR OLD.location IS DISTINCT FROM NEW.location)
+    EXECUTE FUNCTION candidates_search_stale();
+
+CREATE TRIGGER trg_applications_candidate_search_stale
+    AFTER INSERT OR DELETE OR UPDATE OF notes, candidate_id ON applications
+    FOR EACH ROW
+    EXECUTE FUNCTION applications_candidate_search_stale();
+
+-- The status log records the tenant too. Rows of applications deleted before
+-- this migration keep a NULL tenant and are left out of every tenant's view.
+ALTER TABLE application_status_history ADD COLUMN tenant_id INT;
+
+UPDATE application_status_history h
+SET tenant_id = a.tenant_id
+FROM applications a
+WHERE a.application_id = h.application_id;
+
+CREATE INDEX idx_status_history_tenant_application ON application_status_history (tenant_id, application_id, changed_at);
+
+CREATE OR REPLACE FUNCTION applications_record_status_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status IS NOT DISTINCT FROM NEW.status THEN
+        RETURN NULL;
+    END IF;
+    INSERT INTO application_status_history (application_id, job_id, tenant_id, from_status, to_status, changed_at)
+    VALUES (NEW.application_id, NEW.job_id, NEW.tenant_id,
+            CASE WHEN TG_OP = 'UPDATE' THEN OLD.status END,
+            NEW.status,
+            -- a new application enters its first status when it was submitted
+            CASE WHEN TG_OP = 'INSERT' THEN coalesce(NEW.applied_at, localtimestamp) ELSE localtimestamp END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_applications_record_status_change
+    AFTER INSERT OR UPDATE OF status ON applications
+    FOR EACH ROW EXECUTE FUNCTION applications_record_status_change();
+
+-- Moves a tenant out of the shared partitions into partitions of its own
+-- (jobs_tenant_<id>, ...). Returns false if it already has them. Writes to the
+-- shared partitions wait until the move commits, and attaching scans the
+-- shared partitions once per table: run it off-peak, it is meant for the rare
+-- tenant that outgrew them.
+CREATE FUNCTION isolate_tenant(tenant INT) RETURNS BOOLEAN AS $$
+DECLARE
+    parent TEXT;
+    columns TEXT;
+BEGIN
+    IF to_regclass('jobs_tenant_' || tenant) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    LOCK TABLE jobs_shared, candidates_shared, applications_shared, interviews_shared IN EXCLUSIVE MODE;
+    FOREACH parent IN ARRAY ARRAY['jobs', 'candidates', 'applications', 'interviews'] LOOP
+        SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO columns
+        FROM pg_attribute
+        WHERE attrelid = parent::regclass AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED)',
+                       parent || '_tenant_' || tenant, parent);
+        EXECUTE format('INSERT INTO %I (%s) SELECT %s FROM %I WHERE tenant_id = %s',
+                       parent || '_tenant_' || tenant, columns, columns, parent, tenant);
+    END LOOP;
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I'
+                   ' EXCLUDE USING gist (interviewer_id WITH =, slot WITH &&) WHERE (NOT legacy_overlap)',
+                   'interviews_tenant_' || tenant, 'ex_interviews_tenant_' || tenant || '_interviewer_slot');
+
+    -- deleting the jobs and candidates would cascade to their scores
+    CREATE TEMPORARY TABLE isolated_match_scores AS SELECT * FROM match_scores WHERE tenant_id = tenant;
+    DELETE FROM interviews WHERE tenant_id = tenant;
+    DELETE FROM applications WHERE tenant_id = tenant;
+    DELETE FROM candidates WHERE tenant_id = tenant;
+    DELETE FROM jobs WHERE tenant_id = tenant;
+
+    FOREACH parent IN ARRAY ARRAY['jobs', 'candidates', 'applications', 'interviews'] LOOP
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES IN (%s)',
+                       parent, parent || '_tenant_' || tenant, tenant);
+    END LOOP;
+    INSERT INTO match_scores SELECT * FROM isolated_match_scores;
+    DROP TABLE isolated_match_scores;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Deletes every job, candidate, application and interview of a tenant (its
+-- users are left to the caller). A tenant with partitions of its own loses
+-- them with four DROP TABLEs instead of row-by-row deletes and the vacuum
+-- they leave behind. Run by an operator when offboarding a company.
+CREATE FUNCTION drop_tenant_data(tenant INT) RETURNS VOID AS $$
+DECLARE
+    parent TEXT;
+BEGIN
+    DELETE FROM match_scores WHERE tenant_id = tenant;
+    IF to_regclass('jobs_tenant_' || tenant) IS NULL THEN
+        DELETE FROM interviews WHERE tenant_id = tenant;
+        DELETE FROM applications WHERE tenant_id = tenant;
+        DELETE FROM candidates WHERE tenant_id = tenant;
+        DELETE FROM jobs WHERE tenant_id = tenant;
+        RETURN;
+    END IF;
+    -- referencing tables first: detaching a referenced partition checks that nothing points to it
+    FOREACH parent IN ARRAY ARRAY['interviews', 'applications', 'candidates', 'jobs'] LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, parent || '_tenant_' || tenant);
+        EXECUTE format('DROP TABLE %I', parent || '_tenant_' || tenant);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The V13 and V14 rollups, with the tenant of each row.
+CREATE MATERIALIZED VIEW analytics_application_daily AS
+SELECT a.tenant_id,
+       a.job_id,
+       j.department,
+       a.source,
+       a.applied_at::date AS day,
+       a.status,
+       count(*) AS applications
+FROM applications a
+JOIN jobs j ON j.job_id = a.job_id AND j.tenant_id = a.tenant_id
+GROUP BY a.tenant_id, a.job_id, j.department, a.source, a.applied_at::date, a.status;
+
+CREATE UNIQUE INDEX ux_analytics_application_daily
+    ON analytics_application_daily (job_id, source, day, status);
+CREATE INDEX idx_analytics_application_daily_department_day
+    ON analytics_application_daily (tenant_id, department, day);
+CREATE INDEX idx_analytics_application_daily_day ON analytics_application_daily (tenant_id, day);
+
+CREATE MATERIALIZED VIEW analytics_interview_outcomes AS
+SELECT a.tenant_id,
+       a.job_id,
+       j.department,
+       i.interview_type,
+       i.outcome,
+       i.rating,
+       count(*) AS interviews
+FROM interviews i
+JOIN applications a ON a.application_id = i.application_id AND a.tenant_id = i.tenant_id
+JOIN jobs j ON j.job_id = a.job_id AND j.tenant_id = a.tenant_id
+GROUP BY a.tenant_id, a.job_id, j.department, i.interview_type, i.outcome, i.rating;
+
+CREATE UNIQUE INDEX ux_analytics_interview_outcomes
+    ON analytics_interview_outcomes (job_id, interview_type, outcome, rating);
+CREATE INDEX idx_analytics_interview_outcomes_department ON analytics_interview_outcomes (tenant_id, department);
+
+CREATE MATERIALIZED VIEW analytics_stage_durations AS
+WITH loops AS (
+    SELECT a.application_id, a.tenant_id, a.job_id, a.applied_at,
+           min(i.interview_date) AS first_interview,
+           max(i.interview_date) AS last_interview
+    FROM applications a
+    JOIN interviews i ON i.application_id = a.application_id AND i.tenant_id = a.tenant_id
+    GROUP BY a.application_id, a.tenant_id, a.job_id, a.applied_at
+), transitions AS (
+    SELECT tenant_id, job_id, to_status, changed_at,
+           lead(changed_at) OVER (PARTITION BY application_id ORDER BY changed_at, history_id) AS left_at
+    FROM application_status_history
+), stages AS (
+    SELECT tenant_id, job_id, 'TO_FIRST_INTERVIEW' AS stage,
+           extract(epoch FROM first_interview - applied_at) / 3600 AS hours
+    FROM loops
+    WHERE applied_at IS NOT NULL AND first_interview >= applied_at
+    UNION ALL
+    SELECT tenant_id, job_id, 'INTERVIEW_LOOP' AS stage,
+           extract(epoch FROM last_interview - first_interview) / 3600 AS hours
+    FROM loops
+    UNION ALL
+    SELECT tenant_id, job_id, to_status AS stage,
+           extract(epoch FROM left_at - changed_at) / 3600 AS hours
+    FROM transitions
+    WHERE left_at IS NOT NULL
+)
+SELECT j.tenant_id,
+       s.job_id,
+       j.department,
+       s.stage,
+       CASE WHEN s.hours <= 24 THEN 1
+            WHEN s.hours <= 72 THEN 3
+            WHEN s.hours <= 168 THEN 7
+            WHEN s.hours <= 336 THEN 14
+            WHEN s.hours <= 720 THEN 30
+            ELSE 0 END AS bucket,
+       count(*) AS applications,
+       sum(s.hours) AS total_hours
+FROM stages s
+JOIN jobs j ON j.job_id = s.job_id AND j.tenant_id = s.tenant_id
+GROUP BY j.tenant_id, s.job_id, j.department, s.stage, 5;
+
+CREATE UNIQUE INDEX ux_analytics_stage_durations ON analytics_stage_durations (job_id, stage, bucket);
+CREATE INDEX idx_analytics_stage_durations_department ON analytics_stage_durations (tenant_id, department);
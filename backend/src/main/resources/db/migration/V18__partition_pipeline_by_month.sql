@@ -0,0 +1,346 @@
+-- applications and interviews are further split by month: applied_at for
+-- applications, interview_date for interviews. Every tenant branch of V17
+-- (applications_shared, applications_tenant_<id>, ...) becomes RANGE-partitioned
+-- into <branch>_YYYY_MM partitions plus a <branch>_default one, replacing the
+-- HASH split of the shared branch for these two tables. Queries over a period
+-- (pipeline reports, calendars, free slots) only scan that period's months, and
+-- old months leave the hot tables with a DETACH instead of mass deletes, see
+-- archive_pipeline_partitions.
+--
+-- The partition key must be part of every unique constraint, hence the primary
+-- keys (application_id, tenant_id, applied_at) and (interview_id, tenant_id,
+-- interview_date). ids stay unique, drawn from the same sequences. An interview
+-- keeps a copy of its application's applied_at so that its foreign key can
+-- reference that key; a trigger fills it from application_id.
+--
+-- Months are created ahead of time by create_pipeline_partitions
+-- (PipelinePartitionManager). Interviews of a month not created yet wait in
+-- the default partition and are moved out when it is. Applications are not:
+-- moving them would cascade to their interviews, so a month whose applications
+-- already sit in the default partition is left there (applied_at is the
+-- submission time, which only a backfill puts outside the prepared months).
+
+DROP TRIGGER trg_applications_record_status_change ON applications;
+DROP TRIGGER trg_applications_candidate_search_stale ON applications;
+
+ALTER TABLE interviews DROP CONSTRAINT fk_interview_application;
+
+-- The V17 branches are detached and their rows copied into the new ones.
+DO $$
+DECLARE
+    parent TEXT;
+    branch TEXT;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['interviews', 'applications'] LOOP
+        FOR branch IN
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = parent::regclass
+        LOOP
+            EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, branch);
+            EXECUTE format('ALTER TABLE %I RENAME TO %I', branch, branch || '_by_hash');
+        END LOOP;
+    END LOOP;
+END;
+$$;
+
+ALTER TABLE applications DROP CONSTRAINT applications_pkey;
+ALTER TABLE applications ALTER COLUMN applied_at SET NOT NULL;
+ALTER TABLE applications ADD PRIMARY KEY (application_id, tenant_id, applied_at);
+
+ALTER TABLE interviews DROP CONSTRAINT interviews_pkey;
+ALTER TABLE interviews ADD COLUMN application_applied_at TIMESTAMP NOT NULL;
+ALTER TABLE interviews ADD PRIMARY KEY (interview_id, tenant_id, interview_date);
+
+-- A booked interview lies within one month, so that two interviews that
+-- overlap are always in the same partition, where the V16 exclusion constraint
+-- sees them both. Legacy overlaps are exempt, as from the constraint.
+ALTER TABLE interviews ADD CONSTRAINT ck_interviews_within_month CHECK (
+    legacy_overlap
+    OR interview_date + duration_minutes * interval '1 minute'
+        <= date_trunc('month', interview_date) + interval '1 month');
+
+CREATE FUNCTION interviews_application_applied_at() RETURNS trigger AS $$
+BEGIN
+    SELECT a.applied_at INTO NEW.application_applied_at
+    FROM applications a
+    WHERE a.application_id = NEW.application_id AND a.tenant_id = NEW.tenant_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_interviews_application_applied_at
+    BEFORE INSERT OR UPDATE OF application_id ON interviews
+    FOR EACH ROW EXECUTE FUNCTION interviews_application_applied_at();
+
+-- Creates the missing monthly partitions of a branch (applications_shared,
+-- interviews_tenant_7, ...) from the month of first_month to the month of
+-- last_month, both included. Interviews of those months already in the
+-- default partition are moved into the new partition; a month with
+-- applications in the default partition is skipped.
+CREATE FUNCTION create_month_partitions(branch TEXT, first_month DATE, last_month DATE) RETURNS INT AS $$
+DECLARE
+    partition_key TEXT := substring(pg_get_partkeydef(branch::regclass) FROM '\((.*)\)');
+    default_name TEXT := branch || '_default';
+    month_start DATE := date_trunc('month', first_month);
+    month_end DATE;
+    partition_name TEXT;
+    columns TEXT;
+    waiting BOOLEAN;
+    created INT := 0;
+BEGIN
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO columns
+    FROM pg_attribute
+    WHERE attrelid = branch::regclass AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+    WHILE month_start <= last_month LOOP
+        month_end := month_start + interval '1 month';
+        partition_name := branch || '_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= %L AND %I < %L)',
+                           default_name, partition_key, month_start, partition_key, month_end) INTO waiting;
+            IF waiting AND branch LIKE 'applications%' THEN
+                RAISE NOTICE 'Skipping %: applications of that month are in %', partition_name, default_name;
+            ELSE
+                EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED)',
+                               partition_name, branch);
+                IF branch LIKE 'interviews%' THEN
+                    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I'
+                                   ' EXCLUDE USING gist (interviewer_id WITH =, slot WITH &&) WHERE (NOT legacy_overlap)',
+                                   partition_name, 'ex_' || partition_name || '_interviewer_slot');
+                END IF;
+                IF waiting THEN
+                    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING %s)'
+                                   ' INSERT INTO %I (%s) SELECT %s FROM moved',
+                                   default_name, partition_key, month_start, partition_key, month_end, columns,
+                                   partition_name, columns, columns);
+                END IF;
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               branch, partition_name, month_start, month_end);
+                created := created + 1;
+            END IF;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates a RANGE-partitioned branch of applications or interviews, with its
+-- default partition, not attached yet.
+CREATE FUNCTION create_month_partitioned_branch(parent TEXT, branch TEXT) RETURNS VOID AS $$
+BEGIN
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED)'
+                   ' PARTITION BY RANGE (%I)',
+                   branch, parent, CASE parent WHEN 'applications' THEN 'applied_at' ELSE 'interview_date' END);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', branch || '_default', branch);
+    IF parent = 'interviews' THEN
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I'
+                       ' EXCLUDE USING gist (interviewer_id WITH =, slot WITH &&) WHERE (NOT legacy_overlap)',
+                       branch || '_default', 'ex_' || branch || '_default_interviewer_slot');
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The months of every branch of applications and interviews, see
+-- create_month_partitions. Run ahead of time by PipelinePartitionManager.
+CREATE FUNCTION create_pipeline_partitions(first_month DATE, last_month DATE) RETURNS INT AS $$
+DECLARE
+    branch TEXT;
+    created INT := 0;
+BEGIN
+    FOR branch IN
+        SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent IN ('applications'::regclass, 'interviews'::regclass) AND c.relkind = 'p'
+        ORDER BY c.relname
+    LOOP
+        created := created + create_month_partitions(branch, first_month, last_month);
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The new branches, from the oldest row to three months ahead, filled before
+-- they are attached.
+DO $$
+DECLARE
+    parent TEXT;
+    branch TEXT;
+    bounds TEXT;
+    first_month DATE := least((SELECT min(applied_at) FROM applications_shared_by_hash),
+                              (SELECT min(interview_date) FROM interviews_shared_by_hash),
+                              localtimestamp)::date;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['applications', 'interviews'] LOOP
+        FOR branch, bounds IN
+            SELECT c.relname, CASE WHEN c.relname LIKE '%\_shared\_by\_hash' THEN 'DEFAULT'
+                                   ELSE 'FOR VALUES IN (' || substring(c.relname FROM '_tenant_(\d+)_by_hash$') || ')' END
+            FROM pg_class c
+            WHERE c.relname ~ ('^' || parent || '_(shared|tenant_\d+)_by_hash$')
+        LOOP
+            branch := replace(branch, '_by_hash', '');
+            PERFORM create_month_partitioned_branch(parent, branch);
+            PERFORM create_month_partitions(branch, first_month, (localtimestamp + interval '3 months')::date);
+            IF parent = 'applications' THEN
+                EXECUTE format('INSERT INTO %I (application_id, tenant_id, job_id, candidate_id, status, applied_at,'
+                               ' source, notes, version)'
+                               ' SELECT application_id, tenant_id, job_id, candidate_id, status,'
+                               ' coalesce(applied_at, localtimestamp), source, notes, version FROM %I',
+                               branch, branch || '_by_hash');
+            ELSE
+                -- an interview that ran over the end of its month becomes a legacy overlap
+                EXECUTE format('INSERT INTO %I (interview_id, tenant_id, application_id, application_applied_at,'
+                               ' interviewer_id, interview_date, interview_type, feedback, rating, outcome,'
+                               ' duration_minutes, legacy_overlap)'
+                               ' SELECT i.interview_id, i.tenant_id, i.application_id, a.applied_at, i.interviewer_id,'
+                               ' i.interview_date, i.interview_type, i.feedback, i.rating, i.outcome, i.duration_minutes,'
+                               ' i.legacy_overlap OR i.interview_date + i.duration_minutes * interval ''1 minute'''
+                               '     > date_trunc(''month'', i.interview_date) + interval ''1 month'''
+                               ' FROM %I i JOIN applications a'
+                               ' ON a.application_id = i.application_id AND a.tenant_id = i.tenant_id',
+                               branch, branch || '_by_hash');
+            END IF;
+            EXECUTE format('DROP TABLE %I', branch || '_by_hash');
+            EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I %s', parent, branch, bounds);
+        END LOOP;
+    END LOOP;
+END;
+$$;
+
+ALTER TABLE interviews
+    ADD CONSTRAINT fk_interview_application FOREIGN KEY (application_id, tenant_id, application_applied_at)
+        REFERENCES applications (application_id, tenant_id, applied_at) ON DELETE CASCADE ON UPDATE CASCADE;
+
+CREATE TRIGGER trg_applications_candidate_search_stale
+    AFTER INSERT OR DELETE OR UPDATE OF notes, candidate_id ON applications
+    FOR EACH ROW
+    EXECUTE FUNCTION applications_candidate_search_stale();
+
+CREATE TRIGGER trg_applications_record_status_change
+    AFTER INSERT OR UPDATE OF status ON applications
+    FOR EACH ROW EXECUTE FUNCTION applications_record_status_change();
+
+-- Old months are detached from the hot tables into this schema, where they
+-- stay queryable until exported (PartitionArchiver) or dropped.
+CREATE SCHEMA archive;
+
+-- Moves the months that ended on or before the given day to the archive
+-- schema and returns their names. Interviews go first; a month of
+-- applications that interviews still reference is kept until those are
+-- archived too. Archived tables lose their foreign keys: deleting a job or a
+-- user no longer reaches them. Detaching locks the branch briefly, as
+-- attaching does.
+CREATE FUNCTION archive_pipeline_partitions(before DATE) RETURNS SETOF TEXT AS $$
+DECLARE
+    parent TEXT;
+    branch TEXT;
+    partition_name TEXT;
+    constraint_name TEXT;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['interviews', 'applications'] LOOP
+        FOR branch, partition_name IN
+            SELECT b.relname, c.relname
+            FROM pg_inherits bi
+            JOIN pg_class b ON b.oid = bi.inhrelid
+            JOIN pg_inherits ci ON ci.inhparent = b.oid
+            JOIN pg_class c ON c.oid = ci.inhrelid
+            WHERE bi.inhparent = parent::regclass
+              AND c.relname ~ '_\d{4}_\d{2}$'
+              AND to_date(right(c.relname, 7), 'YYYY_MM') + interval '1 month' <= before
+            ORDER BY c.relname
+        LOOP
+            BEGIN
+                EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', branch, partition_name);
+            EXCEPTION WHEN foreign_key_violation THEN
+                CONTINUE;
+            END;
+            FOR constraint_name IN
+                SELECT conname FROM pg_constraint WHERE conrelid = partition_name::regclass AND contype = 'f'
+            LOOP
+                EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', partition_name, constraint_name);
+            END LOOP;
+            EXECUTE format('ALTER TABLE %I SET SCHEMA archive', partition_name);
+            RETURN NEXT 'archive.' || partition_name;
+        END LOOP;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- isolate_tenant (V17), with month-partitioned applications and interviews.
+CREATE OR REPLACE FUNCTION isolate_tenant(tenant INT) RETURNS BOOLEAN AS $$
+DECLARE
+    parent TEXT;
+    branch TEXT;
+    columns TEXT;
+    first_month DATE;
+BEGIN
+    IF to_regclass('jobs_tenant_' || tenant) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    LOCK TABLE jobs_shared, candidates_shared, applications_shared, interviews_shared IN EXCLUSIVE MODE;
+    first_month := least((SELECT min(applied_at) FROM applications WHERE tenant_id = tenant),
+                         (SELECT min(interview_date) FROM interviews WHERE tenant_id = tenant),
+                         localtimestamp)::date;
+    FOREACH parent IN ARRAY ARRAY['jobs', 'candidates', 'applications', 'interviews'] LOOP
+        branch := parent || '_tenant_' || tenant;
+        SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO columns
+        FROM pg_attribute
+        WHERE attrelid = parent::regclass AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+        IF parent IN ('applications', 'interviews') THEN
+            PERFORM create_month_partitioned_branch(parent, branch);
+            PERFORM create_month_partitions(branch, first_month, (localtimestamp + interval '3 months')::date);
+        ELSE
+            EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED)',
+                           branch, parent);
+        END IF;
+        EXECUTE format('INSERT INTO %I (%s) SELECT %s FROM %I WHERE tenant_id = %s',
+                       branch, columns, columns, parent, tenant);
+    END LOOP;
+
+    -- deleting the jobs and candidates would cascade to their scores
+    CREATE TEMPORARY TABLE isolated_match_scores AS SELECT * FROM match_scores WHERE tenant_id = tenant;
+    DELETE FROM interviews WHERE tenant_id = tenant;
+    DELETE FROM applications WHERE tenant_id = tenant;
+    DELETE FROM candidates WHERE tenant_id = tenant;
+    DELETE FROM jobs WHERE tenant_id = tenant;
+
+    FOREACH parent IN ARRAY ARRAY['jobs', 'candidates', 'applications', 'interviews'] LOOP
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES IN (%s)',
+                       parent, parent || '_tenant_' || tenant, tenant);
+    END LOOP;
+    INSERT INTO match_scores SELECT * FROM isolated_match_scores;
+    DROP TABLE isolated_match_scores;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- drop_tenant_data (V17), which now also clears the tenant's archived months.
+CREATE OR REPLACE FUNCTION drop_tenant_data(tenant INT) RETURNS VOID AS $$
+DECLARE
+    parent TEXT;
+    archived TEXT;
+BEGIN
+    DELETE FROM match_scores WHERE tenant_id = tenant;
+    FOR archived IN
+        SELECT c.relname FROM pg_class c
+        WHERE c.relnamespace = 'archive'::regnamespace AND c.relkind = 'r'
+          AND c.relname ~ '^(applications|interviews)_(shared|tenant_\d+)_\d{4}_\d{2}$'
+    LOOP
+        IF archived ~ ('_tenant_' || tenant || '_\d{4}_\d{2}$') THEN
+            EXECUTE format('DROP TABLE archive.%I', archived);
+        ELSIF archived ~ '_shared_\d{4}_\d{2}$' THEN
+            EXECUTE format('DELETE FROM archive.%I WHERE tenant_id = %s', archived, tenant);
+        END IF;
+    END LOOP;
+    IF to_regclass('jobs_tenant_' || tenant) IS NULL THEN
+        DELETE FROM interviews WHERE tenant_id = tenant;
+        DELETE FROM applications WHERE tenant_id = tenant;
+        DELETE FROM candidates WHERE tenant_id = tenant;
+        DELETE FROM jobs WHERE tenant_id = tenant;
+        RETURN;
+    END IF;
+    -- referencing tables first: detaching a referenced partition checks that nothing points to it
+    FOREACH parent IN ARRAY ARRAY['interviews', 'applications', 'candidates', 'jobs'] LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, parent || '_tenant_' || tenant);
+        EXECUTE format('DROP TABLE %I', parent || '_tenant_' || tenant);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
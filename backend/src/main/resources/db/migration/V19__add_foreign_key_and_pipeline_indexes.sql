@@ -0,0 +1,21 @@
+-- The foreign keys of V2-V5 were indexed by V9 and V17 (applications.job_id,
+-- applications.candidate_id, interviews.application_id, interviews.interviewer_id),
+-- except jobs.created_by: deleting a user scanned every job for the
+-- ON DELETE CASCADE.
+CREATE INDEX idx_jobs_created_by_id ON jobs (created_by, job_id);
+
+-- A job's pipeline by stage: the applications of one job in one status, paged
+-- by id. idx_applications_job_id_id alone reads the job's applications of every
+-- status and filters them.
+CREATE INDEX idx_applications_job_status_id ON applications (job_id, status, application_id);
+
+-- Statement statistics for the database advisor endpoint (DatabaseAdvisor). The
+-- library must also be in shared_preload_libraries for the view to return rows;
+-- where the extension cannot be installed, the advisor reports without them.
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS pg_stat_statements;
+EXCEPTION WHEN insufficient_privilege OR undefined_file THEN
+    RAISE NOTICE 'pg_stat_statements not installed: %', SQLERRM;
+END;
+$$;
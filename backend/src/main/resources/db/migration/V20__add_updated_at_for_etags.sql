@@ -0,0 +1,36 @@
+-- Last change of each job, candidate and application, from which the read
+-- endpoints derive their ETags: a conditional GET compares it instead of
+-- loading and rendering the rows. Kept by a trigger rather than by Hibernate so
+-- that the JDBC writers (candidate import) move it too.
+ALTER TABLE jobs ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE candidates ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE applications ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+
+-- search_vector is maintained behind the entity's back (V11 trigger, search
+-- indexer, generated column of jobs) and is not part of any response, so
+-- indexing a row does not invalidate the clients' copies. Hibernate updates
+-- every column, hence the comparison of the whole row.
+CREATE FUNCTION touch_updated_at() RETURNS trigger AS $$
+BEGIN
+    IF to_jsonb(NEW) - 'search_vector' - 'updated_at' IS DISTINCT FROM to_jsonb(OLD) - 'search_vector' - 'updated_at' THEN
+        NEW.updated_at := clock_timestamp();
+    ELSE
+        NEW.updated_at := OLD.updated_at;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- on the partitioned tables, so that every tenant and month partition, present
+-- or future, inherits them
+CREATE TRIGGER trg_jobs_touch_updated_at
+    BEFORE UPDATE ON jobs
+    FOR EACH ROW EXECUTE FUNCTION touch_updated_at();
+
+CREATE TRIGGER trg_candidates_touch_updated_at
+    BEFORE UPDATE ON candidates
+    FOR EACH ROW EXECUTE FUNCTION touch_updated_at();
+
+CREATE TRIGGER trg_applications_touch_updated_at
+    BEFORE UPDATE ON applications
+    FOR EACH ROW EXECUTE FUNCTION touch_updated_at();
@@ -0,0 +1,48 @@
+-- The stateless deny-list (TokenDenyList) reads the minimum token version of
+-- each email from users. A deleted user, or the old email of a renamed one, has
+-- no row there anymore, so its outstanding tokens would stay valid until they
+-- expire. Their last version is kept here instead, one past the last issued.
+CREATE TABLE removed_email_token_versions (
+    email         VARCHAR(150) PRIMARY KEY,
+    token_version INT NOT NULL,
+    removed_at    TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE FUNCTION users_remember_removed_email() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.email IS NOT DISTINCT FROM NEW.email THEN
+        RETURN NULL;
+    END IF;
+    INSERT INTO removed_email_token_versions (email, token_version)
+    VALUES (OLD.email, OLD.token_version + 1)
+    ON CONFLICT (email) DO UPDATE
+        SET token_version = greatest(removed_email_token_versions.token_version, excluded.token_version),
+            removed_at = excluded.removed_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_remember_removed_email
+    AFTER DELETE OR UPDATE OF email ON users
+    FOR EACH ROW EXECUTE FUNCTION users_remember_removed_email();
+
+-- An email taken again starts past the versions of the tokens issued to its
+-- previous owner, which therefore stay revoked.
+CREATE FUNCTION users_resume_removed_email() RETURNS trigger AS $$
+DECLARE
+    removed_version INT;
+BEGIN
+    DELETE FROM removed_email_token_versions WHERE email = NEW.email
+    RETURNING token_version INTO removed_version;
+    IF removed_version IS NOT NULL THEN
+        NEW.token_version := greatest(NEW.token_version, removed_version);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_resume_removed_email
+    BEFORE INSERT OR UPDATE OF email ON users
+    FOR EACH ROW
+    WHEN (NEW.email IS NOT NULL)
+    EXECUTE FUNCTION users_resume_removed_email();
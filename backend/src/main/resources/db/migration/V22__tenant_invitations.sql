@@ -0,0 +1,24 @@
+-- Registration no longer joins the tenant whose name matches the company name:
+-- a registrant gets a tenant of their own, and joins an existing one only with
+-- an invitation issued by one of its administrators. Two companies may then
+-- share a name.
+ALTER TABLE tenants DROP CONSTRAINT tenants_name_key;
+
+-- Only the SHA-256 of the invitation token is stored: the token itself is shown
+-- once, to the administrator who issued it. An invitation is for one email and
+-- can be accepted once, before it expires.
+CREATE TABLE tenant_invitations (
+    invitation_id SERIAL PRIMARY KEY,
+    tenant_id     INT NOT NULL REFERENCES tenants (tenant_id),
+    token_hash    CHAR(64) NOT NULL UNIQUE,
+    email         VARCHAR(150) NOT NULL,
+    role          VARCHAR(20) NOT NULL,
+    created_by    INT REFERENCES users (user_id) ON DELETE SET NULL,
+    created_at    TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at    TIMESTAMP NOT NULL,
+    accepted_at   TIMESTAMP
+);
+
+CREATE INDEX idx_tenant_invitations_tenant_id ON tenant_invitations (tenant_id, invitation_id);
+-- deleting a user nulls created_by
+CREATE INDEX idx_tenant_invitations_created_by_id ON tenant_invitations (created_by, invitation_id);
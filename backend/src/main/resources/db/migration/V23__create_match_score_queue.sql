@@ -0,0 +1,14 @@
+-- Jobs and candidates whose match scores are stale, written in the transaction
+-- of the change and drained by MatchScoreMaintainer. A restart or a crash loses
+-- nothing, and workers on several nodes claim disjoint entries with
+-- FOR UPDATE SKIP LOCKED. One row per entity: repeated changes coalesce, and
+-- enqueued_at keeps the oldest one still unscored.
+CREATE TABLE match_score_queue (
+    entity_type VARCHAR(10) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    enqueued_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (entity_type, entity_id)
+);
+
+CREATE INDEX idx_match_score_queue_enqueued_at ON match_score_queue (enqueued_at);
@@ -0,0 +1,28 @@
+-- When the tokens of a user were last revoked. A revocation only matters until
+-- the tokens it revoked expire, one access-token TTL later, so the deny-list
+-- (TokenDenyList) skips users and removed emails revoked longer ago than that.
+ALTER TABLE users
+    ADD COLUMN token_revoked_at TIMESTAMP;
+
+-- revocations made before this column existed stay in the deny-list for one more TTL
+UPDATE users SET token_revoked_at = now() WHERE token_version > 0;
+
+CREATE INDEX idx_users_token_revoked_at ON users (token_revoked_at) WHERE token_revoked_at IS NOT NULL;
+CREATE INDEX idx_removed_email_token_versions_removed_at ON removed_email_token_versions (removed_at);
+
+-- An email taken again inherits the removal as its last revocation, so the
+-- tokens of its previous owner stay denied until they expire.
+CREATE OR REPLACE FUNCTION users_resume_removed_email() RETURNS trigger AS $$
+DECLARE
+    removed_version INT;
+    removed_time    TIMESTAMP;
+BEGIN
+    DELETE FROM removed_email_token_versions WHERE email = NEW.email
+    RETURNING token_version, removed_at INTO removed_version, removed_time;
+    IF removed_version IS NOT NULL THEN
+        NEW.token_version := greatest(NEW.token_version, removed_version);
+        NEW.token_revoked_at := greatest(NEW.token_revoked_at, removed_time);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,4 @@
+-- Version stamped into every issued JWT ("ver" claim).
+-- Bumping it revokes all outstanding tokens of the user.
+ALTER TABLE users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0;
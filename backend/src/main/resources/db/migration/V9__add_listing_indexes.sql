@@ -0,0 +1,24 @@
+-- Indexes backing the keyset-paginated listings (ORDER BY id, id > :cursor).
+-- Each equality filter is paired with the primary key so a filtered page is a
+-- single index range scan; date range filters get plain indexes.
+
+CREATE INDEX idx_jobs_status_id ON jobs (status, job_id);
+CREATE INDEX idx_jobs_department_id ON jobs (department, job_id);
+CREATE INDEX idx_jobs_location_id ON jobs (location, job_id);
+CREATE INDEX idx_jobs_created_at ON jobs (created_at);
+
+CREATE INDEX idx_candidates_experience_level_id ON candidates (experience_level, candidate_id);
+CREATE INDEX idx_candidates_location_id ON candidates (location, candidate_id);
+CREATE INDEX idx_candidates_created_at ON candidates (created_at);
+
+CREATE INDEX idx_applications_status_id ON applications (status, application_id);
+CREATE INDEX idx_applications_job_id_id ON applications (job_id, application_id);
+CREATE INDEX idx_applications_candidate_id_id ON applications (candidate_id, application_id);
+CREATE INDEX idx_applications_applied_at ON applications (applied_at);
+
+CREATE INDEX idx_interviews_interviewer_id_id ON interviews (interviewer_id, interview_id);
+CREATE INDEX idx_interviews_application_id_id ON interviews (application_id, interview_id);
+CREATE INDEX idx_interviews_outcome_id ON interviews (outcome, interview_id);
+CREATE INDEX idx_interviews_interview_date ON interviews (interview_date);
+
+CREATE INDEX idx_users_role_id ON users (role, user_id);
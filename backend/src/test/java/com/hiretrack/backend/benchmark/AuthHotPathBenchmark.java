@@ -0,0 +1,100 @@
+package com.hiretrack.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiretrack.backend.config.JwtProperties;
+import com.hiretrack.backend.dto.auth.AuthResponse;
+import com.hiretrack.backend.dto.user.UserResponse;
+import com.hiretrack.backend.enums.Role;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average time of the CPU-bound steps of a login and of an authenticated request.
+ *
+ * <li> {@code jwtGenerate} / {@code jwtValidate}: issuing an access token and verifying it,
+ * as the login endpoint and JwtAuthFilter do.
+ * <li> {@code bcryptEncode} / {@code bcryptMatches}: at the default cost of 10, the bulk of a
+ * registration and of a login.
+ * <li> {@code authResponseJson}: the login response body, written with an ObjectMapper
+ * configured like Spring Boot's.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthHotPathBenchmark {
+
+    private static final String SECRET = "VGhpcy1pcy1hLXNlY3JldC1rZXktZm9yLWxvY2FsLWRldi1qd3Qtc2lnbmluZw==";
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private BCryptPasswordEncoder passwordEncoder;
+    private ObjectMapper objectMapper;
+    private AuthenticatedUser user;
+    private String token;
+    private String passwordHash;
+    private AuthResponse authResponse;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        passwordEncoder = new BCryptPasswordEncoder(10);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        user = new AuthenticatedUser("bench@example.com", "", List.of(new SimpleGrantedAuthority("RECRUITER")), 0, 1L);
+        token = jwtTokenProvider.generateToken(user);
+        passwordHash = passwordEncoder.encode(PASSWORD);
+        authResponse = new AuthResponse(token, "Bearer", new UserResponse(
+                1L, "Amina", "Bennani", "bench@example.com", Role.RECRUITER, "HireTrack", "+212600000000",
+                LocalDateTime.of(2025, 1, 1, 9, 0)));
+    }
+
+    @Benchmark
+    public String jwtGenerate() {
+        return jwtTokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<Claims> jwtValidate() {
+        return jwtTokenProvider.validate(token);
+    }
+
+    @Benchmark
+    public String bcryptEncode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches(PASSWORD, passwordHash);
+    }
+
+    @Benchmark
+    public String authResponseJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(authResponse);
+    }
+}
@@ -0,0 +1,90 @@
+package com.hiretrack.backend.benchmark;
+
+import com.hiretrack.backend.service.matching.CandidateVectorIndex;
+import com.hiretrack.backend.service.matching.ScoredCandidate;
+import com.hiretrack.backend.service.matching.SparseVector;
+import com.hiretrack.backend.service.matching.TextVectorizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to score one job description against {@code candidates} profiles and keep the best 20.
+ *
+ * <li> {@code singleThread}: the whole index scored by one thread.
+ * <li> {@code forkJoin}: ranges scored in parallel on one thread per available processor.
+ *
+ * <p> Profiles are 30 words and the description 200 words, drawn from a Zipf-like distribution
+ * over a 20,000-word vocabulary, so a few terms are in most profiles and most are rare.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CandidateMatchingBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+
+    @Param({"1000000"})
+    public int candidates;
+
+    private CandidateVectorIndex index;
+    private SparseVector job;
+    private ForkJoinPool singleThreadPool;
+    private ForkJoinPool parallelPool;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        CandidateVectorIndex.Builder builder = CandidateVectorIndex.builder();
+        for (int id = 0; id < candidates; id++) {
+            builder.add(id, text(random, 30));
+        }
+        index = builder.build();
+        job = text(random, 200);
+        singleThreadPool = new ForkJoinPool(1);
+        parallelPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        singleThreadPool.shutdownNow();
+        parallelPool.shutdownNow();
+    }
+
+    @Benchmark
+    public List<ScoredCandidate> singleThread() {
+        return index.topK(job, 20, singleThreadPool);
+    }
+
+    @Benchmark
+    public List<ScoredCandidate> forkJoin() {
+        return index.topK(job, 20, parallelPool);
+    }
+
+    private static SparseVector text(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            // rank ~ VOCABULARY^u: heavily skewed towards the first words
+            int rank = (int) Math.pow(VOCABULARY, random.nextDouble()) - 1;
+            text.append("term").append(rank).append(' ');
+        }
+        return new TextVectorizer.Builder().add(text.toString(), 1).build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.hiretrack.backend.benchmark;
+
+import com.hiretrack.backend.config.SearchProperties;
+import com.hiretrack.backend.repository.CandidateRepository;
+import com.hiretrack.backend.repository.JobRepository;
+import com.hiretrack.backend.service.search.CandidateSearchIndexer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of one page of ranked search results on {@code rows} jobs and as many
+ * candidates. Sample-time mode reports the p99 directly; the target is under 50 ms at one
+ * million rows.
+ *
+ * <p> Setup starts an embedded Postgres, applies the Flyway migrations, generates the rows with
+ * {@code generate_series}, runs the candidate indexer and analyzes the tables, which takes a few
+ * minutes at the default size. The database is kept under {@code target/} and reused by later
+ * runs with the same {@code rows}, all of them in tenant 1. Queries are the repositories' own
+ * {@code TENANT_SEARCH_SQL}.
+ *
+ * <li> {@code searchJobs} / {@code searchCandidates}: the first page for each {@code query}.
+ * Broad terms match a large share of the rows and are the worst case for ranking.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FullTextSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "java", "spring", "kotlin", "python", "react", "postgres", "kafka", "kubernetes", "aws", "terraform",
+            "backend", "frontend", "platform", "data", "pipeline", "payments", "mobile", "security", "testing",
+            "architecture", "mentoring", "agile", "remote", "hybrid", "fintech", "healthcare", "logistics",
+            "analytics", "machine", "learning", "observability", "latency", "scalability", "migration", "design",
+            "leadership", "stakeholders", "roadmap", "delivery", "onboarding", "interview", "feedback", "strong",
+            "communication", "english", "french", "relocation", "visa", "startup", "enterprise"};
+
+    private static final int VOCABULARY = 2_000;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"java", "senior platform engineer", "\"machine learning\" -python", "bennani"})
+    public String query;
+
+    private EmbeddedPostgres postgres;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // every query runs in its own fork: keep the generated database between forks
+        postgres = EmbeddedPostgres.builder()
+                .setDataDirectory(Path.of("target", "fts-benchmark-" + rows))
+                .setCleanDataDirectory(false)
+                .setServerConfig("shared_buffers", "512MB")
+                .start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        if (jdbc.queryForObject("SELECT count(*) FROM jobs", Long.class) != rows) {
+            jdbc.execute("TRUNCATE users, jobs, candidates, applications RESTART IDENTITY CASCADE");
+            generate(jdbc);
+
+            SearchProperties properties = new SearchProperties();
+            properties.setIndexerBatchSize(10_000);
+            new CandidateSearchIndexer(dataSource, properties, new SimpleMeterRegistry()).indexPending();
+            jdbc.execute("VACUUM ANALYZE");
+        }
+        // one long-lived connection, as a pooled one would be in the application
+        jdbcTemplate = new NamedParameterJdbcTemplate(
+                new SingleConnectionDataSource(postgres.getJdbcUrl("postgres", "postgres"), "postgres", "", true));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> searchJobs() {
+        return jdbcTemplate.queryForList(JobRepository.TENANT_SEARCH_SQL, page());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> searchCandidates() {
+        return jdbcTemplate.queryForList(CandidateRepository.TENANT_SEARCH_SQL, page());
+    }
+
+    private MapSqlParameterSource page() {
+        return new MapSqlParameterSource()
+                .addValue("tenantId", 1L)
+                .addValue("query", query)
+                .addValue("offset", 0)
+                .addValue("limit", 21);
+    }
+
+    /**
+     * Deterministic text: every row draws its words from a vocabulary of {@value #VOCABULARY}
+     * terms by a hash of its number, so each term of {@link #WORDS} appears in about 3% of the
+     * descriptions and notes. Titles, departments, locations and names come from short lists and
+     * are much broader: "senior", "engineer" or "bennani" match a sixth to a quarter of the rows.
+     */
+    private void generate(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO users (tenant_id, email, password_hash, role) VALUES (1, 'bench@example.com', 'x', 'ADMIN')");
+        jdbc.update("""
+                INSERT INTO jobs (tenant_id, title, description, department, employment_type, location, status, created_by)
+                SELECT 1, (ARRAY['Senior', 'Junior', 'Staff', 'Lead'])[1 + i %% 4] || ' '
+                           || (ARRAY['Platform', 'Backend', 'Data', 'Mobile', 'Security', 'Frontend'])[1 + i / 4 %% 6]
+                           || ' ' || (ARRAY['Engineer', 'Developer', 'Analyst', 'Architect'])[1 + i / 24 %% 4],
+                       (SELECT string_agg(%s, ' ') FROM generate_series(1, 60) k),
+                       (ARRAY['Engineering', 'Data', 'Product', 'Operations'])[1 + i %% 4],
+                       'FULL_TIME',
+                       (ARRAY['Casablanca', 'Rabat', 'Paris', 'Remote', 'Berlin'])[1 + i %% 5],
+                       'OPEN', 1
+                FROM generate_series(1, ?) i
+                """.formatted(word(31)), rows);
+        jdbc.update("""
+                INSERT INTO candidates (candidate_id, tenant_id, first_name, last_name, email, location)
+                SELECT nextval('candidates_candidate_id_seq'), 1,
+                       (ARRAY['Amina', 'Youssef', 'Sara', 'Omar', 'Lina', 'Karim', 'Nora', 'Adam'])[1 + i % 8],
+                       (ARRAY['Alami', 'Bennani', 'Tazi', 'Martin', 'Dupont', 'Schmidt'])[1 + i / 8 % 6],
+                       'candidate' || i || '@example.com',
+                       (ARRAY['Casablanca', 'Rabat', 'Paris', 'Remote', 'Berlin'])[1 + i % 5]
+                FROM generate_series(1, ?) i
+                """, rows);
+        jdbc.update("""
+                INSERT INTO applications (tenant_id, job_id, candidate_id, status, notes)
+                SELECT 1, 1 + i %% ?, c.candidate_id, 'APPLIED',
+                       (SELECT string_agg(%s, ' ') FROM generate_series(1, 20) k)
+                FROM (SELECT candidate_id, row_number() OVER (ORDER BY candidate_id) AS i FROM candidates) c
+                WHERE i %% 2 = 0
+                """.formatted(word(17)), rows);
+    }
+
+    /**
+     * SQL expression of the {@code k}-th word of row {@code i}.
+     */
+    private static String word(int multiplier) {
+        String index = "((i * " + multiplier + " + k * 7919) % " + VOCABULARY + ")";
+        return "CASE WHEN " + index + " < " + WORDS.length
+                + " THEN (ARRAY['" + String.join("','", WORDS) + "'])[1 + " + index + "]"
+                + " ELSE 'skill' || " + index + " END";
+    }
+}
@@ -0,0 +1,82 @@
+package com.hiretrack.backend.benchmark;
+
+import com.hiretrack.backend.config.JwtProperties;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifications per second of one request's worth of JWT checks.
+ *
+ * <li> {@code perCallParser}: the previous behaviour of JwtAuthFilter, where extractEmail,
+ * isTokenValid and isTokenExpired each built a new parser and verified the HMAC again.
+ * <li> {@code singlePass}: {@link JwtTokenProvider#validate(String)} with the shared parser,
+ * followed by the claim checks on the already verified claims.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "VGhpcy1pcy1hLXNlY3JldC1rZXktZm9yLWxvY2FsLWRldi1qd3Qtc2lnbmluZw==";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private AuthenticatedUser user;
+    private SecretKey signingKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        user = new AuthenticatedUser("bench@example.com", "", List.of(new SimpleGrantedAuthority("RECRUITER")), 0, 1L);
+        token = jwtTokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean perCallParser() {
+        String username = parseWithNewParser(token).getSubject();
+        boolean subjectMatches = parseWithNewParser(token).getSubject().equals(username);
+        Date expiration = parseWithNewParser(token).getExpiration();
+        return subjectMatches && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public boolean singlePass() {
+        return jwtTokenProvider.validate(token)
+                .map(claims -> jwtTokenProvider.isTokenValid(claims, user))
+                .orElse(false);
+    }
+
+    private Claims parseWithNewParser(String jwt) {
+        return Jwts.parser()
+                .verifyWith(signingKey)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+}
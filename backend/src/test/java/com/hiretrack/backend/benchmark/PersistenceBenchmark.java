@@ -0,0 +1,149 @@
+package com.hiretrack.backend.benchmark;
+
+import com.hiretrack.backend.HiretrackBackendApplication;
+import com.hiretrack.backend.dto.application.ApplicationFilter;
+import com.hiretrack.backend.dto.application.ApplicationResponse;
+import com.hiretrack.backend.dto.candidate.CandidateFilter;
+import com.hiretrack.backend.entity.Candidate;
+import com.hiretrack.backend.service.ApplicationService;
+import com.hiretrack.backend.service.CandidateService;
+import com.hiretrack.backend.service.auth.JpaUserDetailsService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average time of the application's database reads, through the real services, repositories
+ * and connection pool of a Spring context running against an embedded Postgres.
+ *
+ * <p> Setup applies the Flyway migrations and generates {@code rows} candidates, a tenth as many
+ * jobs and users, and one application per candidate. Background workers (matching, analytics,
+ * outbox relay) are disabled so that they do not compete for the connections.
+ *
+ * <li> {@code userLookup}: JpaUserDetailsService without the user details cache, as on a
+ * cache miss or with the cache disabled.
+ * <li> {@code candidatePage} / {@code candidateBulk}: keyset pages of 100 and 1000 entities.
+ * <li> {@code applicationPage}: a page of 100 applications mapped to responses, with the job and
+ * candidate loaded by the fetch plan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+
+    private static final CandidateFilter ANY_CANDIDATE = new CandidateFilter(null, null, null, null);
+    private static final ApplicationFilter ANY_APPLICATION = new ApplicationFilter(null, null, null, null, null, null, null);
+
+    @Param({"10000"})
+    public int rows;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private JpaUserDetailsService userDetailsService;
+    private CandidateService candidateService;
+    private ApplicationService applicationService;
+    private long firstCandidateId;
+    private long firstApplicationId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure().dataSource(postgres.getPostgresDatabase()).load().migrate();
+        generate(new JdbcTemplate(postgres.getPostgresDatabase()));
+
+        // command line arguments: they take precedence over application.properties
+        context = new SpringApplicationBuilder(HiretrackBackendApplication.class).run(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--app.matching.enabled=false",
+                "--app.analytics.refresh-enabled=false",
+                "--app.outbox.relay-enabled=false");
+        userDetailsService = context.getBean(JpaUserDetailsService.class);
+        candidateService = context.getBean(CandidateService.class);
+        applicationService = context.getBean(ApplicationService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public UserDetails userLookup() {
+        int user = 1 + ThreadLocalRandom.current().nextInt(rows / 10);
+        return userDetailsService.loadUserByUsername("user" + user + "@example.com");
+    }
+
+    @Benchmark
+    public List<Candidate> candidatePage() {
+        return candidateService.findPage(ANY_CANDIDATE, randomAfterId(firstCandidateId, 100), 100);
+    }
+
+    @Benchmark
+    public List<Candidate> candidateBulk() {
+        return candidateService.findPage(ANY_CANDIDATE, randomAfterId(firstCandidateId, 1000), 1000);
+    }
+
+    @Benchmark
+    public List<ApplicationResponse> applicationPage() {
+        return applicationService.findPage(ANY_APPLICATION, randomAfterId(firstApplicationId, 100), 100).stream()
+                .map(ApplicationResponse::from)
+                .toList();
+    }
+
+    private long randomAfterId(long firstId, int pageSize) {
+        return firstId - 1 + ThreadLocalRandom.current().nextInt(rows - pageSize);
+    }
+
+    private void generate(JdbcTemplate jdbc) {
+        jdbc.update("""
+                INSERT INTO users (tenant_id, email, password_hash, role)
+                SELECT 1, 'user' || i || '@example.com', 'x', 'RECRUITER' FROM generate_series(1, ?) i""", rows / 10);
+        jdbc.update("""
+                INSERT INTO jobs (tenant_id, title, department, employment_type, status, created_by)
+                SELECT 1, 'Job ' || i, (ARRAY['Engineering', 'Data', 'Product'])[1 + i % 3], 'FULL_TIME', 'OPEN',
+                       (SELECT min(user_id) FROM users)
+                FROM generate_series(1, ?) i""", rows / 10);
+        jdbc.update("""
+                INSERT INTO candidates (tenant_id, email, first_name, last_name, location)
+                SELECT 1, 'candidate' || i || '@example.com', 'First' || i, 'Last' || i,
+                       (ARRAY['Casablanca', 'Rabat', 'Paris'])[1 + i % 3]
+                FROM generate_series(1, ?) i""", rows);
+        jdbc.update("""
+                INSERT INTO applications (tenant_id, job_id, candidate_id, status)
+                SELECT 1, j.ids[1 + c.candidate_id % cardinality(j.ids)], c.candidate_id, 'APPLIED'
+                FROM candidates c, (SELECT array_agg(job_id) AS ids FROM jobs) j""");
+        jdbc.execute("VACUUM ANALYZE");
+        firstCandidateId = jdbc.queryForObject("SELECT min(candidate_id) FROM candidates", Long.class);
+        firstApplicationId = jdbc.queryForObject("SELECT min(application_id) FROM applications", Long.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.hiretrack.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter Unit Tests")
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setMaxRequests(1);
+        properties.setMaxWait(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should reject a request with 503 while every slot is taken")
+    void testFilter_LimitReached() throws Exception {
+        // Given
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        AtomicInteger handled = new AtomicInteger();
+
+        // When: a second request arrives while the first one holds the only slot
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) -> {
+            handled.incrementAndGet();
+            filter.doFilter(new MockHttpServletRequest(), rejected, (r, s) -> handled.incrementAndGet());
+        });
+
+        // Then
+        assertEquals(1, handled.get());
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get("http.server.requests.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should free the slot once the request completes, even when it fails")
+    void testFilter_ReleasesSlot() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(new MockHttpServletRequest(),
+                new MockHttpServletResponse(), (r, s) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        // When
+        AtomicInteger handled = new AtomicInteger();
+        filter.doFilter(new MockHttpServletRequest(), response, (r, s) -> handled.incrementAndGet());
+
+        // Then
+        assertEquals(1, handled.get());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, meterRegistry.get("http.server.requests.active.limited").gauge().value());
+    }
+}
@@ -0,0 +1,112 @@
+package com.hiretrack.backend.config;
+
+import com.hiretrack.backend.entity.Candidate;
+import com.hiretrack.backend.service.CandidateService;
+import com.hiretrack.backend.support.WithTenantUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application against two Postgres instances, one standing in for the replica, each
+ * holding different data so that the answer tells which one served the statement.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithTenantUser(authorities = "RECRUITER")
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingTest {
+
+    private static EmbeddedPostgres primary;
+    private static EmbeddedPostgres replica;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+
+    // both instances stop with the JVM, after the cached context is closed
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) throws IOException {
+        primary = EmbeddedPostgres.start();
+        replica = EmbeddedPostgres.start();
+        // the schema a streaming replica would receive from the primary
+        Flyway.configure().dataSource(replica.getPostgresDatabase()).load().migrate();
+        registry.add("spring.datasource.url", () -> primary.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("app.datasource.replica.url", () -> replica.getJdbcUrl("postgres", "postgres"));
+        registry.add("app.datasource.replica.maximum-pool-size", () -> 2);
+    }
+
+    @BeforeEach
+    void setUp() {
+        primaryJdbc = new JdbcTemplate(primary.getPostgresDatabase());
+        replicaJdbc = new JdbcTemplate(replica.getPostgresDatabase());
+        for (JdbcTemplate jdbc : new JdbcTemplate[] {primaryJdbc, replicaJdbc}) {
+            jdbc.update("DELETE FROM candidates");
+        }
+        primaryJdbc.update("INSERT INTO candidates (candidate_id, tenant_id, email, first_name) VALUES (1000, 1, 'one@example.com', 'Primary')");
+        replicaJdbc.update("INSERT INTO candidates (candidate_id, tenant_id, email, first_name) VALUES (1000, 1, 'one@example.com', 'Replica')");
+    }
+
+    @Test
+    @DisplayName("Should serve read-only service calls from the replica")
+    void testRead_Replica() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/candidates/{id}", 1000))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("Replica"));
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary, even after a read in the same thread")
+    void testWrite_Primary() {
+        // Given
+        assertEquals("Replica", candidateService.findById(1000L).orElseThrow().getFirstName());
+        Candidate candidate = new Candidate();
+        candidate.setEmail("two@example.com");
+
+        // When
+        Long id = candidateService.save(candidate).getId();
+
+        // Then
+        assertEquals(1, primaryJdbc.queryForObject("SELECT count(*) FROM candidates WHERE candidate_id = ?", Integer.class, id));
+        assertEquals(0, replicaJdbc.queryForObject("SELECT count(*) FROM candidates WHERE candidate_id = ?", Integer.class, id));
+        // not replicated here, so invisible to reads until the replica catches up
+        assertTrue(candidateService.findById(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should publish the saturation of both pools")
+    void testMetrics_BothPools() {
+        // Then
+        assertNotNull(meterRegistry.find("hikaricp.connections.saturation").tag("pool", "hiretrack").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.saturation").tag("pool", "hiretrack-replica").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.pending").tag("pool", "hiretrack-replica").gauge());
+    }
+}
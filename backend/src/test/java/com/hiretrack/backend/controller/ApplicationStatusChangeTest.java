@@ -0,0 +1,128 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import com.hiretrack.backend.support.WithTenantUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Status changes through the API: state machine, required optimistic locking and the status log
+ * written by the V14 trigger.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@WithTenantUser(authorities = "RECRUITER")
+@DisplayName("Application Status Change Tests")
+class ApplicationStatusChangeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long applicationId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM jobs");
+        jdbcTemplate.update("DELETE FROM candidates");
+        jdbcTemplate.update("DELETE FROM application_status_history");
+        jdbcTemplate.update("""
+                INSERT INTO users (tenant_id, email, password_hash, role) VALUES (1, 'owner@example.com', 'x', 'ADMIN')
+                ON CONFLICT DO NOTHING""");
+        Long jobId = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (tenant_id, title, employment_type, status, created_by)
+                SELECT 1, 'Java Engineer', 'FULL_TIME', 'OPEN', user_id FROM users WHERE email = 'owner@example.com'
+                RETURNING job_id""", Long.class);
+        Long candidateId = jdbcTemplate.queryForObject(
+                "INSERT INTO candidates (tenant_id, email) VALUES (1, 'one@example.com') RETURNING candidate_id", Long.class);
+        applicationId = jdbcTemplate.queryForObject(
+                "INSERT INTO applications (tenant_id, job_id, candidate_id, status) VALUES (1, ?, ?, 'APPLIED') RETURNING application_id",
+                Long.class, jobId, candidateId);
+    }
+
+    @Test
+    @DisplayName("Should change the status, bump the version and log the change")
+    void testChangeStatus_Logged() throws Exception {
+        // When
+        changeStatus("IN_REVIEW", 0)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_REVIEW"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // Then
+        mockMvc.perform(get("/api/applications/{id}/history", applicationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].fromStatus").doesNotExist())
+                .andExpect(jsonPath("$[0].toStatus").value("APPLIED"))
+                .andExpect(jsonPath("$[1].fromStatus").value("APPLIED"))
+                .andExpect(jsonPath("$[1].toStatus").value("IN_REVIEW"));
+    }
+
+    @Test
+    @DisplayName("Should reject a change based on an outdated version")
+    void testChangeStatus_StaleVersion() throws Exception {
+        // Given
+        changeStatus("IN_REVIEW", 0).andExpect(status().isOk());
+
+        // When
+        changeStatus("REJECTED", 0).andExpect(status().isConflict());
+
+        // Then
+        assertEquals("IN_REVIEW", currentStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject a change that does not say which version it is based on")
+    void testChangeStatus_MissingVersion() throws Exception {
+        // When
+        mockMvc.perform(put("/api/applications/{id}/status", applicationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_REVIEW\"}"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        assertEquals("APPLIED", currentStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject a transition the state machine does not allow")
+    void testChangeStatus_InvalidTransition() throws Exception {
+        // When
+        changeStatus("HIRED", 0).andExpect(status().isConflict());
+
+        // Then
+        assertEquals("APPLIED", currentStatus());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM application_status_history WHERE application_id = ?", Integer.class, applicationId));
+    }
+
+    private ResultActions changeStatus(String status, long version) throws Exception {
+        return mockMvc.perform(put("/api/applications/{id}/status", applicationId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"%s\", \"version\": %d}".formatted(status, version)));
+    }
+
+    private String currentStatus() {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM applications WHERE application_id = ?", String.class, applicationId);
+    }
+}
@@ -3,6 +3,7 @@ package com.hiretrack.backend.controller;
 import com.hiretrack.backend.dto.auth.AuthResponse;
 import com.hiretrack.backend.dto.auth.LoginRequest;
 import com.hiretrack.backend.dto.auth.RegisterRequest;
+import com.hiretrack.backend.dto.user.UserResponse;
 import com.hiretrack.backend.entity.User;
 import com.hiretrack.backend.enums.Role;
 import com.hiretrack.backend.service.auth.AuthService;
@@ -15,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,7 +40,7 @@ class AuthControllerTest {
 
  @BeforeEach
  void setUp() {
-     registerRequest = new RegisterRequest("test@example.com", "password123", "John", "Doe", "RECRUITER", "Test Company", "+1234567890");
+     registerRequest = new RegisterRequest("test@example.com", "password123", "John", "Doe", "RECRUITER", "Test Company", "+1234567890", null);
      loginRequest = new LoginRequest("test@example.com", "password123");
      jwtToken = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.test.token";
      User user = new User();
@@ -46,7 +48,7 @@ class AuthControllerTest {
      user.setFirstName("John");
      user.setLastName("Doe");
      user.setRole(Role.valueOf("RECRUITER"));
-     authResponse = new AuthResponse(jwtToken, "Bearer", user);
+     authResponse = new AuthResponse(jwtToken, "Bearer", UserResponse.from(user));
  }
 
     @Test
@@ -172,5 +174,19 @@ class AuthControllerTest {
         assertTrue(responseBody.contains("Error registering user"));
         verify(authService, times(1)).register(null);
     }
-}
 
+    @Test
+    @DisplayName("Should log the authenticated user out and return 204 No Content")
+    void testLogout_Success() {
+        // Given
+        UserDetails principal = org.springframework.security.core.userdetails.User
+                .withUsername("test@example.com").password("").authorities("RECRUITER").build();
+
+        // When
+        ResponseEntity<Void> response = authController.logout(principal);
+
+        // Then
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(authService, times(1)).logout("test@example.com");
+    }
+}
@@ -0,0 +1,161 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import com.hiretrack.backend.support.WithTenantUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETags, 304 answers and Cache-Control of the read endpoints: a client holding the current
+ * version gets an empty 304, any change to what the response shows gets it a new body.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@WithTenantUser(authorities = "ADMIN")
+@DisplayName("Conditional GET Tests")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long jobId;
+    private long candidateId;
+    private long applicationId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM jobs");
+        jdbcTemplate.update("DELETE FROM candidates");
+        jdbcTemplate.update("""
+                INSERT INTO users (tenant_id, email, password_hash, role) VALUES (1, 'etag@example.com', 'x', 'RECRUITER')
+                ON CONFLICT DO NOTHING""");
+        long userId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = 'etag@example.com'", Long.class);
+        jobId = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (tenant_id, title, employment_type, status, created_by)
+                VALUES (1, 'Java Engineer', 'FULL_TIME', 'OPEN', ?) RETURNING job_id""", Long.class, userId);
+        candidateId = jdbcTemplate.queryForObject("""
+                INSERT INTO candidates (tenant_id, first_name, last_name, email)
+                VALUES (1, 'Ada', 'Lovelace', 'ada@example.com') RETURNING candidate_id""", Long.class);
+        applicationId = jdbcTemplate.queryForObject("""
+                INSERT INTO applications (tenant_id, job_id, candidate_id, status)
+                VALUES (1, ?, ?, 'APPLIED') RETURNING application_id""", Long.class, jobId, candidateId);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 to the current ETag of a job and a new body once it changed")
+    void testGet_NotModifiedUntilChanged() throws Exception {
+        // Given
+        String etag = etag("/api/jobs/" + jobId);
+        assertTrue(etag.startsWith("W/\""), etag);
+
+        // When / Then
+        mockMvc.perform(get("/api/jobs/{id}", jobId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // When
+        jdbcTemplate.update("UPDATE jobs SET title = 'Kotlin Engineer' WHERE job_id = ?", jobId);
+
+        // Then
+        mockMvc.perform(get("/api/jobs/{id}", jobId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+        assertNotEquals(etag, etag("/api/jobs/" + jobId));
+    }
+
+    @Test
+    @DisplayName("Should keep the ETag of a candidate when only its search vector is rebuilt")
+    void testGet_SearchVectorIgnored() throws Exception {
+        // Given
+        String etag = etag("/api/candidates/" + candidateId);
+
+        // When
+        jdbcTemplate.update("UPDATE candidates SET search_vector = to_tsvector('simple', 'ada') WHERE candidate_id = ?",
+                candidateId);
+
+        // Then
+        mockMvc.perform(get("/api/candidates/{id}", candidateId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should change the ETag of an application with the job title it shows")
+    void testGet_ApplicationFollowsJob() throws Exception {
+        // Given
+        String etag = etag("/api/applications/" + applicationId);
+        String listEtag = etag("/api/applications");
+
+        // When
+        jdbcTemplate.update("UPDATE jobs SET title = 'Kotlin Engineer' WHERE job_id = ?", jobId);
+
+        // Then
+        mockMvc.perform(get("/api/applications/{id}", applicationId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/applications").header(HttpHeaders.IF_NONE_MATCH, listEtag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 to the current ETag of a page and a new body once a row joins it")
+    void testList_NotModifiedUntilPageChanges() throws Exception {
+        // Given
+        String etag = etag("/api/candidates?size=5");
+
+        // When / Then
+        mockMvc.perform(get("/api/candidates").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // When
+        jdbcTemplate.update("INSERT INTO candidates (tenant_id, email) VALUES (1, 'grace@example.com')");
+
+        // Then
+        mockMvc.perform(get("/api/candidates").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should answer 404 to a conditional GET of a missing row")
+    void testGet_Missing() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/jobs/{id}", jobId + 1000).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should let clients reuse analytics for the refresh interval")
+    void testAnalytics_MaxAge() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/analytics/funnel"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, private"));
+    }
+
+    private String etag(String uri) throws Exception {
+        String etag = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag, () -> "ETag of GET " + uri);
+        return etag;
+    }
+}
@@ -0,0 +1,71 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A request that cannot get a database connection in time answers 503 with {@code Retry-After},
+ * not 500: under load the pool runs dry before anything is broken.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@DisplayName("Connection Pool Exhaustion Tests")
+class ConnectionPoolExhaustionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After while every connection is busy")
+    void testListJobs_PoolExhausted() throws Exception {
+        // Given
+        AuthenticatedUser recruiter = new AuthenticatedUser("recruiter@example.com", "",
+                List.of(new SimpleGrantedAuthority("RECRUITER")), 0, 1L);
+
+        HikariConfigMXBean pool = dataSource.getHikariConfigMXBean();
+        long connectionTimeout = pool.getConnectionTimeout();
+        List<Connection> busy = new ArrayList<>();
+
+        // When / Then
+        try {
+            pool.setConnectionTimeout(250);
+            while (busy.size() < pool.getMaximumPoolSize()) {
+                busy.add(dataSource.getConnection());
+            }
+            mockMvc.perform(get("/api/jobs").with(user(recruiter)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            for (Connection connection : busy) {
+                connection.close();
+            }
+            pool.setConnectionTimeout(connectionTimeout);
+        }
+        mockMvc.perform(get("/api/jobs").with(user(recruiter)))
+                .andExpect(status().isOk());
+    }
+}
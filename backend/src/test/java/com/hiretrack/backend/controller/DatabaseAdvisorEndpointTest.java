@@ -0,0 +1,74 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The database advisor actuator endpoint, open to the platform operator only: its report covers
+ * every tenant.
+ */
+@SpringBootTest(properties = {
+        "security.operator.username=ops",
+        // BCrypt hash of "operator-secret"
+        "security.operator.password-hash=$2a$10$WZAgJdU0kQWqn2sZ5cBu0.5VaAvtSJsuNAxpyUW.t6UEcletErKN2"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Import(EmbeddedPostgresConfig.class)
+@DisplayName("Database Advisor Endpoint Tests")
+class DatabaseAdvisorEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should serve the report to the operator")
+    void testReport_Operator() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/actuator/dbadvisor").with(httpBasic("ops", "operator-secret")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unindexedForeignKeys").isEmpty())
+                .andExpect(jsonPath("$.unusedIndexes").isArray());
+    }
+
+    @Test
+    @DisplayName("Should refuse the report to a tenant admin")
+    void testReport_TenantAdmin() throws Exception {
+        // Given
+        AuthenticatedUser admin = new AuthenticatedUser("admin@example.com", "",
+                List.of(new SimpleGrantedAuthority("ADMIN")), 0, 1L);
+
+        // When / Then
+        mockMvc.perform(get("/actuator/dbadvisor").with(user(admin)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should refuse the report to other users, wrong credentials and anonymous requests")
+    void testReport_Others() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/actuator/dbadvisor").with(user("recruiter").authorities(() -> "RECRUITER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/dbadvisor").with(httpBasic("ops", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/dbadvisor"))
+                .andExpect(status().isUnauthorized());
+    }
+}
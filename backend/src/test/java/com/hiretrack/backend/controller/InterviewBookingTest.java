@@ -0,0 +1,112 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import com.hiretrack.backend.support.WithTenantUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Interview booking through the API: overlaps rejected by the V16 exclusion constraint and
+ * free slots around booked interviews.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@WithTenantUser(authorities = "RECRUITER")
+@DisplayName("Interview Booking Tests")
+class InterviewBookingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long applicationId;
+    private long interviewerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM jobs");
+        jdbcTemplate.update("DELETE FROM candidates");
+        jdbcTemplate.update("""
+                INSERT INTO users (tenant_id, email, password_hash, role) VALUES (1, 'interviewer@example.com', 'x', 'INTERVIEWER')
+                ON CONFLICT DO NOTHING""");
+        interviewerId = jdbcTemplate.queryForObject(
+                "SELECT user_id FROM users WHERE email = 'interviewer@example.com'", Long.class);
+        Long jobId = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (tenant_id, title, employment_type, status, created_by)
+                VALUES (1, 'Java Engineer', 'FULL_TIME', 'OPEN', ?) RETURNING job_id""", Long.class, interviewerId);
+        Long candidateId = jdbcTemplate.queryForObject(
+                "INSERT INTO candidates (tenant_id, email) VALUES (1, 'one@example.com') RETURNING candidate_id", Long.class);
+        applicationId = jdbcTemplate.queryForObject(
+                "INSERT INTO applications (tenant_id, job_id, candidate_id, status) VALUES (1, ?, ?, 'INTERVIEWING') RETURNING application_id",
+                Long.class, jobId, candidateId);
+    }
+
+    @Test
+    @DisplayName("Should book an interview and reject an overlapping one with 409")
+    void testBook_Overlap() throws Exception {
+        // When
+        book("2040-01-02T10:00:00", 60)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.interviewerId").value(interviewerId))
+                .andExpect(jsonPath("$.durationMinutes").value(60))
+                .andExpect(jsonPath("$.outcome").value("PENDING"));
+        book("2040-01-02T10:30:00", 30).andExpect(status().isConflict());
+        book("2040-01-02T11:00:00", 30).andExpect(status().isCreated());
+
+        // Then
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM interviews WHERE application_id = ?", Integer.class, applicationId));
+    }
+
+    @Test
+    @DisplayName("Should reject an interview that runs past the end of its month with 400")
+    void testBook_CrossesMonthEnd() throws Exception {
+        // When / Then
+        book("2040-01-31T23:30:00", 60).andExpect(status().isBadRequest());
+        book("2040-01-31T23:00:00", 60).andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should propose the first free slots after the booked interviews")
+    void testFreeSlots() throws Exception {
+        // Given
+        book("2040-01-02T09:00:00", 90).andExpect(status().isCreated());
+
+        // When / Then
+        mockMvc.perform(get("/api/interviews/free-slots")
+                        .param("interviewerIds", String.valueOf(interviewerId))
+                        .param("from", "2040-01-02T09:00:00")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].start").value("2040-01-02T10:30:00"))
+                .andExpect(jsonPath("$[1].start").value("2040-01-02T11:30:00"));
+    }
+
+    private ResultActions book(String start, int minutes) throws Exception {
+        return mockMvc.perform(post("/api/interviews")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"applicationId": %d, "interviewerId": %d, "interviewDate": "%s",
+                         "durationMinutes": %d, "interviewType": "TECHNICAL"}"""
+                        .formatted(applicationId, interviewerId, start, minutes)));
+    }
+}
@@ -0,0 +1,258 @@
+package com.hiretrack.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiretrack.backend.dto.common.CursorPage;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Walks the five keyset-paginated listings page after page, following {@code nextCursor}, and
+ * checks the walk returns exactly the rows an ordered SQL query over the same filters does: no
+ * duplicate, no gap, a full page whenever another one is announced. Runs in a tenant of its own
+ * so rows left by other tests do not count.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Keyset Pagination Tests")
+class KeysetPaginationTest {
+
+    private static final int JOBS = 25;
+    private static final int CANDIDATES = 105;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long tenantId;
+    private AuthenticatedUser admin;
+
+    @BeforeAll
+    void seed() {
+        tenantId = jdbcTemplate.queryForObject("INSERT INTO tenants (name) VALUES (?) RETURNING tenant_id",
+                Long.class, "Paging " + UUID.randomUUID());
+        admin = new AuthenticatedUser("admin@paging.example.com", "",
+                List.of(new SimpleGrantedAuthority("ADMIN")), 0, tenantId);
+        jdbcTemplate.update("""
+                INSERT INTO users (tenant_id, first_name, last_name, email, password_hash, role, company_name)
+                SELECT ?, 'User', 'N' || g, 'paging-' || ? || '-' || g || '@example.com', 'x',
+                       (ARRAY['ADMIN', 'RECRUITER', 'INTERVIEWER'])[1 + g % 3],
+                       (ARRAY['Acme', 'Globex'])[1 + g % 2]
+                FROM generate_series(1, 11) g""", tenantId, tenantId);
+        long ownerId = jdbcTemplate.queryForObject("SELECT min(user_id) FROM users WHERE tenant_id = ?", Long.class, tenantId);
+        jdbcTemplate.update("""
+                INSERT INTO jobs (tenant_id, title, employment_type, status, department, location, created_by, created_at)
+                SELECT ?, 'Job ' || g,
+                       (ARRAY['FULL_TIME', 'PART_TIME'])[1 + g % 2],
+                       (ARRAY['OPEN', 'CLOSED', 'DRAFT'])[1 + g % 3],
+                       (ARRAY['Engineering', 'Engineering', 'Sales'])[1 + g % 3 / 2 + g % 2],
+                       (ARRAY['Rabat', 'Paris'])[1 + g / 5 % 2],
+                       ?, TIMESTAMP '2026-01-01' + g * INTERVAL '1 day'
+                FROM generate_series(1, ?) g""", tenantId, ownerId, JOBS);
+        jdbcTemplate.update("""
+                INSERT INTO candidates (tenant_id, first_name, last_name, email, experience_level, location, created_at)
+                SELECT ?, 'Candidate', 'N' || g, 'paging-' || ? || '-c' || g || '@example.com',
+                       (ARRAY['JUNIOR', 'MID', 'SENIOR'])[1 + g % 3],
+                       (ARRAY['Rabat', 'Paris', 'Berlin'])[1 + g / 7 % 3],
+                       TIMESTAMP '2026-01-01' + g * INTERVAL '1 hour'
+                FROM generate_series(1, ?) g""", tenantId, tenantId, CANDIDATES);
+        // candidates are numbered by id order, the n-th applying to the (n mod JOBS)-th job
+        jdbcTemplate.update("""
+                INSERT INTO applications (tenant_id, job_id, candidate_id, status, applied_at)
+                SELECT ?, j.job_id, c.candidate_id,
+                       (ARRAY['APPLIED', 'IN_REVIEW', 'INTERVIEWING', 'REJECTED'])[1 + c.n % 4],
+                       TIMESTAMP '2026-02-01' + c.n * INTERVAL '6 hours'
+                FROM (SELECT candidate_id, row_number() OVER (ORDER BY candidate_id) AS n
+                      FROM candidates WHERE tenant_id = ?) c
+                JOIN (SELECT job_id, row_number() OVER (ORDER BY job_id) - 1 AS n
+                      FROM jobs WHERE tenant_id = ?) j ON j.n = c.n % ?
+                WHERE c.n <= 80""", tenantId, tenantId, tenantId, JOBS);
+        jdbcTemplate.update("""
+                INSERT INTO interviews (tenant_id, application_id, interviewer_id, interview_date, interview_type, outcome)
+                SELECT ?, a.application_id, u.user_id, TIMESTAMP '2026-03-01' + a.n * INTERVAL '1 day',
+                       (ARRAY['TECHNICAL', 'HR', 'FINAL'])[1 + a.n % 3],
+                       (ARRAY['PASSED', 'FAILED', 'PENDING'])[1 + a.n % 3]
+                FROM (SELECT application_id, row_number() OVER (ORDER BY application_id) AS n
+                      FROM applications WHERE tenant_id = ?) a
+                JOIN (SELECT user_id, row_number() OVER (ORDER BY user_id) - 1 AS n
+                      FROM users WHERE tenant_id = ?) u ON u.n = a.n % 4
+                WHERE a.n <= 45""", tenantId, tenantId, tenantId);
+    }
+
+    @Test
+    @DisplayName("Should return every job once, over pages of the requested size")
+    void testListJobs_AllPages() throws Exception {
+        // When
+        List<Long> walked = walk("/api/jobs", 7);
+
+        // Then: 7 + 7 + 7 + 4
+        assertEquals(ids("SELECT job_id FROM jobs WHERE tenant_id = ? ORDER BY job_id"), walked);
+        assertEquals(JOBS, walked.size());
+    }
+
+    @Test
+    @DisplayName("Should end on a full last page without announcing an empty one")
+    void testListJobs_ExactMultiple() throws Exception {
+        // When
+        List<Long> walked = walk("/api/jobs", 5);
+
+        // Then: walk asserts a page announcing a next one is never followed by an empty page
+        assertEquals(JOBS, walked.size());
+    }
+
+    @Test
+    @DisplayName("Should page through combined job filters")
+    void testListJobs_Filters() throws Exception {
+        // When
+        List<Long> walked = walk("/api/jobs", 2,
+                "status", "OPEN", "department", "Engineering",
+                "createdFrom", "2026-01-03T00:00:00", "createdTo", "2026-01-24T00:00:00");
+
+        // Then
+        List<Long> expected = ids("""
+                SELECT job_id FROM jobs WHERE tenant_id = ? AND status = 'OPEN' AND department = 'Engineering'
+                  AND created_at >= '2026-01-03' AND created_at < '2026-01-24' ORDER BY job_id""");
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    @DisplayName("Should page through candidates and clamp the page size")
+    void testListCandidates() throws Exception {
+        // Given
+        List<Long> all = ids("SELECT candidate_id FROM candidates WHERE tenant_id = ? ORDER BY candidate_id");
+
+        // When / Then
+        assertEquals(all, walk("/api/candidates", 30));
+        mockMvc.perform(get("/api/candidates").with(user(admin)).param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(CursorPage.MAX_SIZE))
+                .andExpect(jsonPath("$.nextCursor").value(CursorPage.encode(all.get(CursorPage.MAX_SIZE - 1))));
+        mockMvc.perform(get("/api/candidates").with(user(admin)).param("size", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+        assertEquals(ids("""
+                        SELECT candidate_id FROM candidates WHERE tenant_id = ? AND experience_level = 'SENIOR'
+                          AND location = 'Paris' ORDER BY candidate_id"""),
+                walk("/api/candidates", 3, "experienceLevel", "SENIOR", "location", "Paris"));
+    }
+
+    @Test
+    @DisplayName("Should page through applications filtered on the job applied to")
+    void testListApplications() throws Exception {
+        // When / Then
+        assertEquals(ids("SELECT application_id FROM applications WHERE tenant_id = ? ORDER BY application_id"),
+                walk("/api/applications", 9));
+        List<Long> expected = ids("""
+                SELECT a.application_id FROM applications a JOIN jobs j ON j.job_id = a.job_id
+                WHERE a.tenant_id = ? AND a.status = 'APPLIED' AND j.department = 'Engineering'
+                  AND a.applied_at >= '2026-02-03' ORDER BY a.application_id""");
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, walk("/api/applications", 4,
+                "status", "APPLIED", "department", "Engineering", "appliedFrom", "2026-02-03T00:00:00"));
+    }
+
+    @Test
+    @DisplayName("Should page through interviews and users with their filters")
+    void testListInterviewsAndUsers() throws Exception {
+        // When / Then
+        assertEquals(ids("SELECT interview_id FROM interviews WHERE tenant_id = ? ORDER BY interview_id"),
+                walk("/api/interviews", 10));
+        assertEquals(ids("""
+                        SELECT interview_id FROM interviews WHERE tenant_id = ? AND interview_type = 'HR'
+                          AND interview_date < '2026-04-01' ORDER BY interview_id"""),
+                walk("/api/interviews", 3, "interviewType", "HR", "to", "2026-04-01T00:00:00"));
+        assertEquals(ids("SELECT user_id FROM users WHERE tenant_id = ? ORDER BY user_id"),
+                walk("/api/users", 4));
+        assertEquals(ids("""
+                        SELECT user_id FROM users WHERE tenant_id = ? AND role = 'RECRUITER' AND company_name = 'Acme'
+                        ORDER BY user_id"""),
+                walk("/api/users", 1, "role", "RECRUITER", "companyName", "Acme"));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor with 400")
+    void testList_InvalidCursor() throws Exception {
+        // When / Then
+        for (String path : List.of("/api/jobs", "/api/candidates", "/api/applications", "/api/interviews", "/api/users")) {
+            mockMvc.perform(get(path).with(user(admin)).param("cursor", "not a cursor!"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get(path).with(user(admin)).param("cursor", "AAAA"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    /**
+     * Follows {@code nextCursor} from the first page to the last and returns the ids in the order
+     * received, checking each page on the way.
+     */
+    private List<Long> walk(String path, int size, String... filters) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(path).with(user(admin)).param("size", String.valueOf(size));
+            for (int i = 0; i < filters.length; i += 2) {
+                request.param(filters[i], filters[i + 1]);
+            }
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            List<Long> pageIds = new ArrayList<>();
+            page.get("items").forEach(item -> pageIds.add(item.get("id").asLong()));
+            JsonNode next = page.path("nextCursor");
+            cursor = next.isMissingNode() || next.isNull() ? null : next.asText();
+            if (cursor != null) {
+                assertEquals(size, pageIds.size(), "a page announcing another one is full");
+                assertEquals(pageIds.get(pageIds.size() - 1), CursorPage.decode(cursor));
+            } else {
+                assertTrue(pageIds.size() <= size);
+                assertTrue(!pageIds.isEmpty() || ids.isEmpty(), "no empty page after a full one");
+            }
+            ids.addAll(pageIds);
+        } while (cursor != null);
+        assertEquals(ids.size(), new HashSet<>(ids).size(), "no row returned twice");
+        return ids;
+    }
+
+    private List<Long> ids(String sql) {
+        List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, tenantId);
+        assertNotNull(ids);
+        return ids;
+    }
+}
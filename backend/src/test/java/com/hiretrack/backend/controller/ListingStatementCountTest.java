@@ -0,0 +1,151 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import com.hiretrack.backend.support.WithTenantUser;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards against N+1 loading: each listing and detail endpoint must run a fixed number of SQL
+ * statements whatever the number of rows and associations it returns. Statements are counted
+ * with Hibernate statistics around a single MockMvc request, JSON rendering included.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        // keep the scheduled deny-list refresh out of the measured window
+        "security.jwt.deny-list-refresh-interval=1h"
+})
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@WithTenantUser(authorities = "ADMIN")
+@DisplayName("Listing Statement Count Tests")
+class ListingStatementCountTest {
+
+    private static final int ROWS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO users (tenant_id, first_name, last_name, email, password_hash, role)
+                SELECT 1, 'User', 'N' || g, 'user' || g || '@example.com', 'x', 'INTERVIEWER'
+                FROM generate_series(1, %d) g""".formatted(ROWS));
+        jdbcTemplate.update("""
+                INSERT INTO jobs (tenant_id, title, employment_type, status, created_by, department)
+                SELECT 1, 'Job ' || g, 'FULL_TIME', 'OPEN', u.user_id, 'Engineering'
+                FROM generate_series(1, %d) g
+                JOIN users u ON u.email = 'user' || g || '@example.com'""".formatted(ROWS));
+        jdbcTemplate.update("""
+                INSERT INTO candidates (tenant_id, first_name, last_name, email)
+                SELECT 1, 'Candidate', 'N' || g, 'candidate' || g || '@example.com'
+                FROM generate_series(1, %d) g""".formatted(ROWS));
+        jdbcTemplate.update("""
+                INSERT INTO applications (tenant_id, job_id, candidate_id, status)
+                SELECT 1, j.job_id, c.candidate_id, 'APPLIED'
+                FROM jobs j JOIN candidates c ON substring(c.email from '[0-9]+') = substring(j.title from '[0-9]+')""");
+        jdbcTemplate.update("""
+                INSERT INTO interviews (tenant_id, application_id, interviewer_id, interview_date, interview_type)
+                SELECT 1, a.application_id, j.created_by, now(), 'TECHNICAL'
+                FROM applications a JOIN jobs j ON j.job_id = a.job_id""");
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Job listing runs a single statement")
+    void testJobListing() throws Exception {
+        assertStatements("/api/jobs", 1, ROWS);
+    }
+
+    @Test
+    @DisplayName("Candidate listing runs a single statement")
+    void testCandidateListing() throws Exception {
+        assertStatements("/api/candidates", 1, ROWS);
+    }
+
+    @Test
+    @DisplayName("Application listing fetches job and candidate in the same statement")
+    void testApplicationListing() throws Exception {
+        assertStatements("/api/applications", 1, ROWS);
+    }
+
+    @Test
+    @DisplayName("Interview listing fetches interviewer, job and candidate in the same statement")
+    void testInterviewListing() throws Exception {
+        assertStatements("/api/interviews", 1, ROWS);
+    }
+
+    @Test
+    @DisplayName("Filtered application listing stays a single statement")
+    void testFilteredApplicationListing() throws Exception {
+        assertStatements("/api/applications?department=Engineering&status=APPLIED", 1, ROWS);
+    }
+
+    @Test
+    @DisplayName("User listing runs a single statement")
+    void testUserListing() throws Exception {
+        assertStatements("/api/users", 1, ROWS);
+    }
+
+    @Test
+    @DisplayName("Application and interview details run a single statement")
+    void testDetails() throws Exception {
+        Long applicationId = jdbcTemplate.queryForObject("SELECT min(application_id) FROM applications", Long.class);
+        Long interviewId = jdbcTemplate.queryForObject("SELECT min(interview_id) FROM interviews", Long.class);
+
+        assertStatements("/api/applications/" + applicationId, 1, -1);
+        assertStatements("/api/interviews/" + interviewId, 1, -1);
+    }
+
+    /**
+     * Performs the request and checks the number of statements it prepared.
+     *
+     * @param expectedItems number of listed items, or -1 for a detail endpoint
+     */
+    private void assertStatements(String uri, long expectedStatements, int expectedItems) throws Exception {
+        // Given
+        statistics.clear();
+
+        // When
+        var result = mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+        // Then
+        if (expectedItems >= 0) {
+            result.andExpect(jsonPath("$.items.length()").value(expectedItems));
+        }
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount(),
+                () -> "SQL statements for GET " + uri);
+    }
+}
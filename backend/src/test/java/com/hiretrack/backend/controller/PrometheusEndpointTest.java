@@ -0,0 +1,54 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The Prometheus scrape endpoint: open without a token and exposing the latency histograms of
+ * the service and repository layers.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Import(EmbeddedPostgresConfig.class)
+@DisplayName("Prometheus Endpoint Tests")
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should expose service, repository and pool metrics to an anonymous scraper")
+    void testScrape_Histograms() throws Exception {
+        // Given
+        AuthenticatedUser recruiter = new AuthenticatedUser("recruiter@example.com", "",
+                List.of(new SimpleGrantedAuthority("RECRUITER")), 0, 1L);
+        mockMvc.perform(get("/api/jobs").with(user(recruiter)))
+                .andExpect(status().isOk());
+
+        // When / Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "service_calls_seconds_bucket{application=\"hiretrack-backend\",class=\"com.hiretrack.backend.service.impl.JobServiceImpl\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_saturation")));
+    }
+}
@@ -0,0 +1,202 @@
+package com.hiretrack.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiretrack.backend.dto.auth.LoginRequest;
+import com.hiretrack.backend.dto.auth.RegisterRequest;
+import com.hiretrack.backend.dto.invitation.InvitationRequest;
+import com.hiretrack.backend.enums.Role;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Registration never hands out access to an existing company: a registrant founds a tenant of
+ * their own whatever the company name, as its ADMIN, and joins an existing one only with an
+ * administrator's invitation.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@DisplayName("Registration Tenancy Tests")
+class RegistrationTenancyTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String company;
+    private String founder;
+    private long tenantId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Given a company with one job, founded by its admin
+        company = "Globex " + UUID.randomUUID();
+        founder = email("founder");
+        register(founder, "RECRUITER", company, null).andExpect(status().isOk());
+        tenantId = tenantOf(founder);
+        long founderId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = ?", Long.class, founder);
+        jdbcTemplate.update("""
+                INSERT INTO jobs (tenant_id, title, employment_type, status, created_by)
+                VALUES (?, 'Secret Project Lead', 'FULL_TIME', 'OPEN', ?)""", tenantId, founderId);
+    }
+
+    @Test
+    @DisplayName("Should give a second registration with the same company name a tenant of its own")
+    void testRegister_SameCompanyName() throws Exception {
+        // When
+        String impostor = email("impostor");
+        register(impostor, "RECRUITER", company, null).andExpect(status().isOk());
+
+        // Then
+        assertNotEquals(tenantId, tenantOf(impostor));
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + login(impostor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + login(founder)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Should make the founder of a new company its admin, whatever role is requested")
+    void testRegister_FounderIsAdmin() throws Exception {
+        // When
+        String email = email("founder");
+        register(email, "INTERVIEWER", "Initech", null).andExpect(status().isOk());
+
+        // Then
+        assertNotEquals(tenantId, tenantOf(email));
+        assertEquals("ADMIN", roleOf(email));
+    }
+
+    @Test
+    @DisplayName("Should let a founder invite a user who then works in the founder's company")
+    void testRegisterInviteJoin() throws Exception {
+        // Given
+        String founderToken = login(founder);
+        String invitee = email("invitee");
+
+        // When
+        String body = mockMvc.perform(post("/api/invitations")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + founderToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new InvitationRequest(invitee, null))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.role").value("RECRUITER"))
+                .andReturn().getResponse().getContentAsString();
+        register(invitee, null, null, objectMapper.readTree(body).get("token").asText())
+                .andExpect(status().isOk());
+
+        // Then
+        assertEquals(tenantId, tenantOf(invitee));
+        assertEquals("RECRUITER", roleOf(invitee));
+        String inviteeToken = login(invitee);
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + inviteeToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+        // only admins invite
+        mockMvc.perform(post("/api/invitations")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + inviteeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new InvitationRequest(email("x"), Role.ADMIN))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should let an invited user join the administrator's tenant with the invited role")
+    void testRegister_WithInvitation() throws Exception {
+        // Given
+        String invitee = email("invitee");
+        String token = invite(invitee, Role.HIRING_MANAGER);
+
+        // When
+        register(invitee, "RECRUITER", "Anything", token).andExpect(status().isOk());
+
+        // Then
+        assertEquals(tenantId, tenantOf(invitee));
+        assertEquals("HIRING_MANAGER", roleOf(invitee));
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + login(invitee)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Should refuse an invitation used by another email or used twice")
+    void testRegister_InvitationMisused() throws Exception {
+        // Given
+        String invitee = email("invitee");
+        String token = invite(invitee, Role.RECRUITER);
+
+        // When / Then
+        register(email("stranger"), "RECRUITER", null, token).andExpect(status().isBadRequest());
+        register(email("unknown"), "RECRUITER", null, "not-a-token").andExpect(status().isBadRequest());
+        register(invitee, "RECRUITER", null, token).andExpect(status().isOk());
+        register(email("second"), "RECRUITER", null, token).andExpect(status().isBadRequest());
+    }
+
+    private String invite(String email, Role role) throws Exception {
+        String body = mockMvc.perform(post("/api/invitations")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + login(founder))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new InvitationRequest(email, role))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private ResultActions register(String email, String role, String companyName, String invitationToken)
+            throws Exception {
+        return mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RegisterRequest(
+                        email, PASSWORD, "Reg", "Istrant", role, companyName, null, invitationToken))));
+    }
+
+    private String login(String email) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+
+    private String roleOf(String email) {
+        return jdbcTemplate.queryForObject("SELECT role FROM users WHERE email = ?", String.class, email);
+    }
+
+    private long tenantOf(String email) {
+        return jdbcTemplate.queryForObject("SELECT tenant_id FROM users WHERE email = ?", Long.class, email);
+    }
+
+    private static String email(String prefix) {
+        return prefix + "-" + UUID.randomUUID() + "@example.com";
+    }
+}
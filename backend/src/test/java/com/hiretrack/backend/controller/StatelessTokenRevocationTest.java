@@ -0,0 +1,13 @@
+package com.hiretrack.backend.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * {@link TokenRevocationTest} with stateless authentication: the user is no longer loaded per
+ * request, revoked tokens are caught by the deny-list.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "security.jwt.stateless=true"})
+@DisplayName("Stateless Token Revocation Tests")
+class StatelessTokenRevocationTest extends TokenRevocationTest {
+}
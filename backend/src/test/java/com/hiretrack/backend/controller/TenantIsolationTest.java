@@ -0,0 +1,149 @@
+package com.hiretrack.backend.controller;
+
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two companies in the same database: each user only ever sees the rows of their own tenant,
+ * whether through Hibernate or through the native search queries.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@DisplayName("Tenant Isolation Tests")
+class TenantIsolationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long otherTenantId;
+    private long jobId;
+    private long otherJobId;
+    private long otherCandidateId;
+    private long applicationId;
+    private long otherInterviewerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM jobs");
+        jdbcTemplate.update("DELETE FROM candidates");
+        otherTenantId = jdbcTemplate.queryForObject("""
+                INSERT INTO tenants (name) VALUES ('Acme') RETURNING tenant_id""", Long.class);
+        long ownerId = insertUser(1L, "owner@example.com");
+        long otherOwnerId = insertUser(otherTenantId, "owner@acme.example.com");
+        otherInterviewerId = otherOwnerId;
+        jobId = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (tenant_id, title, employment_type, status, created_by)
+                VALUES (1, 'Java Engineer', 'FULL_TIME', 'OPEN', ?) RETURNING job_id""", Long.class, ownerId);
+        otherJobId = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (tenant_id, title, employment_type, status, created_by)
+                VALUES (?, 'Kotlin Engineer', 'FULL_TIME', 'OPEN', ?) RETURNING job_id""", Long.class, otherTenantId, otherOwnerId);
+        long candidateId = jdbcTemplate.queryForObject(
+                "INSERT INTO candidates (tenant_id, email) VALUES (1, 'one@example.com') RETURNING candidate_id", Long.class);
+        // the same person applying to both companies is two candidates
+        otherCandidateId = jdbcTemplate.queryForObject(
+                "INSERT INTO candidates (tenant_id, email) VALUES (?, 'one@example.com') RETURNING candidate_id",
+                Long.class, otherTenantId);
+        applicationId = jdbcTemplate.queryForObject(
+                "INSERT INTO applications (tenant_id, job_id, candidate_id, status) VALUES (1, ?, ?, 'INTERVIEWING') RETURNING application_id",
+                Long.class, jobId, candidateId);
+    }
+
+    @Test
+    @DisplayName("Should list only the jobs of the user's tenant")
+    void testList_OwnTenantOnly() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/jobs").with(user(recruiter(1L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(jobId));
+        mockMvc.perform(get("/api/jobs").with(user(recruiter(otherTenantId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(otherJobId));
+    }
+
+    @Test
+    @DisplayName("Should answer 404 for the rows of another tenant")
+    void testFindById_OtherTenant() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/jobs/{id}", otherJobId).with(user(recruiter(1L))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/candidates/{id}", otherCandidateId).with(user(recruiter(1L))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/jobs/{id}", otherJobId).with(user(recruiter(otherTenantId))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should keep full-text search within the user's tenant")
+    void testSearch_OwnTenantOnly() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/jobs/search").param("q", "engineer").with(user(recruiter(1L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(jobId));
+    }
+
+    @Test
+    @DisplayName("Should not book an interviewer of another tenant")
+    void testBook_OtherTenantInterviewer() throws Exception {
+        // When / Then
+        mockMvc.perform(post("/api/interviews")
+                        .with(user(recruiter(1L)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"applicationId": %d, "interviewerId": %d, "interviewDate": "2040-01-02T10:00:00",
+                                 "durationMinutes": 60, "interviewType": "TECHNICAL"}"""
+                                .formatted(applicationId, otherInterviewerId)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should refuse the requests of a user without a tenant rather than run them unscoped")
+    void testRequests_NoTenant() throws Exception {
+        // Given
+        var noTenant = user("recruiter@example.com").authorities(new SimpleGrantedAuthority("RECRUITER"));
+
+        // When / Then
+        mockMvc.perform(get("/api/jobs").with(noTenant))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/jobs/search").param("q", "engineer").with(noTenant))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/candidates/search").param("q", "one").with(noTenant))
+                .andExpect(status().isForbidden());
+    }
+
+    private long insertUser(long tenantId, String email) {
+        jdbcTemplate.update("""
+                INSERT INTO users (tenant_id, email, password_hash, role) VALUES (?, ?, 'x', 'INTERVIEWER')
+                ON CONFLICT DO NOTHING""", tenantId, email);
+        return jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = ?", Long.class, email);
+    }
+
+    private static AuthenticatedUser recruiter(long tenantId) {
+        return new AuthenticatedUser("recruiter@example.com", "", List.of(new SimpleGrantedAuthority("RECRUITER")), 0, tenantId);
+    }
+}
@@ -0,0 +1,205 @@
+package com.hiretrack.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiretrack.backend.dto.auth.LoginRequest;
+import com.hiretrack.backend.dto.auth.RegisterRequest;
+import com.hiretrack.backend.entity.User;
+import com.hiretrack.backend.enums.Role;
+import com.hiretrack.backend.repository.UserRepository;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.security.TenantContext;
+import com.hiretrack.backend.service.UserService;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A token issued before the user's role or password changed, before the user was deleted or
+ * before they logged out is rejected afterwards, while a fresh login is accepted.
+ * {@link StatelessTokenRevocationTest} runs the same checks against the stateless deny-list.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(EmbeddedPostgresConfig.class)
+@DisplayName("Token Revocation Tests")
+class TokenRevocationTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String email;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        email = "revoke-" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(
+                                email, PASSWORD, "Rita", "Voke", "RECRUITER", null, null, null))))
+                .andExpect(status().isOk());
+        token = login(PASSWORD);
+        assertAccepted(token);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should reject a token issued before the user's role changed")
+    void testRoleChange_RevokesTokens() throws Exception {
+        // When
+        asAdminOfUser(() -> {
+            User user = userRepository.findByEmail(email).orElseThrow();
+            user.setRole(Role.HIRING_MANAGER);
+            userService.save(user);
+        });
+
+        // Then
+        assertRejected(token);
+        assertAccepted(login(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("Should reject a token issued before the user's password changed")
+    void testPasswordChange_RevokesTokens() throws Exception {
+        // When
+        asAdminOfUser(() -> {
+            User user = userRepository.findByEmail(email).orElseThrow();
+            user.setPasswordHash(passwordEncoder.encode("new-password123"));
+            userService.save(user);
+        });
+
+        // Then
+        assertRejected(token);
+        assertAccepted(login("new-password123"));
+    }
+
+    @Test
+    @DisplayName("Should keep tokens valid when neither role nor password changed")
+    void testOtherChange_KeepsTokens() throws Exception {
+        // When
+        asAdminOfUser(() -> {
+            User user = userRepository.findByEmail(email).orElseThrow();
+            user.setPhoneNumber("+1234567890");
+            userService.save(user);
+        });
+
+        // Then
+        assertAccepted(token);
+    }
+
+    @Test
+    @DisplayName("Should reject a token of a deleted user, even once the email is registered again")
+    void testDelete_RevokesTokens() throws Exception {
+        // When
+        asAdminOfUser(() -> userService.deleteById(userRepository.findByEmail(email).orElseThrow().getId()));
+
+        // Then
+        assertRejected(token);
+
+        // When
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(
+                                email, PASSWORD, "Rita", "Voke", "RECRUITER", null, null, null))))
+                .andExpect(status().isOk());
+
+        // Then
+        assertRejected(token);
+        assertAccepted(login(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("Should reject every token of the user after logout")
+    void testLogout_RevokesTokens() throws Exception {
+        // Given
+        String otherSession = login(PASSWORD);
+
+        // When
+        mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // Then
+        assertRejected(token);
+        assertRejected(otherSession);
+        assertAccepted(login(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("Should require authentication to log out")
+    void testLogout_Anonymous() throws Exception {
+        // When / Then
+        mockMvc.perform(post("/api/auth/logout"))
+                .andExpect(status().isForbidden());
+    }
+
+    private String login(String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+
+    private void assertAccepted(String token) throws Exception {
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    private void assertRejected(String token) throws Exception {
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    /** Runs the change as an administrator of the user's company, as the users API would. */
+    private void asAdminOfUser(Runnable change) {
+        Long tenantId = TenantContext.callAsRoot(() -> userRepository.findByEmail(email)).orElseThrow().getTenantId();
+        AuthenticatedUser admin = new AuthenticatedUser("admin@example.com", "",
+                List.of(new SimpleGrantedAuthority("ADMIN")), 0, tenantId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()));
+        try {
+            change.run();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.hiretrack.backend.dto.common;
+
+import com.hiretrack.backend.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CursorPage Unit Tests")
+class CursorPageTest {
+
+    @Test
+    @DisplayName("Should decode the id a cursor was encoded from")
+    void testEncodeDecode_RoundTrip() {
+        // When / Then
+        for (long id : new long[] {0, 1, 42, Integer.MAX_VALUE + 1L, Long.MAX_VALUE}) {
+            String cursor = CursorPage.encode(id);
+            assertEquals(id, CursorPage.decode(cursor));
+            assertTrue(cursor.matches("[A-Za-z0-9_-]+"), "URL-safe without padding: " + cursor);
+        }
+    }
+
+    @Test
+    @DisplayName("Should start from the first page without a cursor")
+    void testDecode_Absent() {
+        // When / Then
+        assertNull(CursorPage.decode(null));
+        assertNull(CursorPage.decode(""));
+        assertNull(CursorPage.decode("  "));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor it did not produce")
+    void testDecode_Invalid() {
+        // When / Then
+        assertThrows(InvalidCursorException.class, () -> CursorPage.decode("not a cursor!"));
+        // valid Base64, but 3 bytes instead of a long
+        assertThrows(InvalidCursorException.class, () -> CursorPage.decode("AAAA"));
+        assertThrows(InvalidCursorException.class, () -> CursorPage.decode(CursorPage.encode(7) + "AA"));
+    }
+
+    @Test
+    @DisplayName("Should drop the look-ahead row and point the cursor at the last returned row")
+    void testOf_MoreRows() {
+        // When
+        CursorPage<String> page = CursorPage.of(List.of(3L, 5L, 8L, 13L), 3, Long::longValue, id -> "row" + id);
+
+        // Then
+        assertEquals(List.of("row3", "row5", "row8"), page.items());
+        assertEquals(8L, CursorPage.decode(page.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should end the listing when no look-ahead row came back")
+    void testOf_LastPage() {
+        // When
+        CursorPage<Long> full = CursorPage.of(List.of(3L, 5L, 8L), 3, Long::longValue, id -> id);
+        CursorPage<Long> partial = CursorPage.of(List.of(3L), 3, Long::longValue, id -> id);
+        CursorPage<Long> empty = CursorPage.of(List.<Long>of(), 3, Long::longValue, id -> id);
+
+        // Then
+        assertEquals(List.of(3L, 5L, 8L), full.items());
+        assertNull(full.nextCursor());
+        assertEquals(List.of(3L), partial.items());
+        assertNull(partial.nextCursor());
+        assertTrue(empty.items().isEmpty());
+        assertNull(empty.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should clamp the page size to [1, MAX_SIZE]")
+    void testClampSize() {
+        // When / Then
+        assertEquals(1, CursorPage.clampSize(-5));
+        assertEquals(1, CursorPage.clampSize(0));
+        assertEquals(20, CursorPage.clampSize(20));
+        assertEquals(CursorPage.MAX_SIZE, CursorPage.clampSize(CursorPage.MAX_SIZE));
+        assertEquals(CursorPage.MAX_SIZE, CursorPage.clampSize(10_000));
+    }
+}
@@ -0,0 +1,484 @@
+package com.hiretrack.backend.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Fills an empty HireTrack database with a synthetic but realistic ATS dataset, for capacity
+ * planning and for {@link LoadTest}.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.class=DatasetGenerator \
+ *     -Dloadtest.args="url=jdbc:postgresql://localhost:5432/hiretrackdb tenants=1 jobs=10000 candidates=2000000 applications=10000000"
+ * </pre>
+ *
+ * <p> Rows are streamed with {@code COPY ... FROM STDIN}, with triggers and foreign key checks
+ * switched off for the session ({@code session_replication_role = replica}, which needs a
+ * superuser). What the triggers would have written, the status log, is then derived set-based,
+ * and the analytics rollups are refreshed. Candidates are left unindexed: the search indexer
+ * picks them up once the application runs.
+ *
+ * <p> The same {@code seed} always yields the same dataset:
+ * <li> users, jobs and candidates are dealt round-robin to {@code tenants} companies, named
+ * "HireTrack", or "HireTrack 1" to "HireTrack n"; applications and interviews stay within the
+ * tenant of their job;
+ * <li> every user signs in with the password {@value #PASSWORD}, as {@code loadtest<n>@example.com};
+ * <li> jobs were opened over the last two years, mostly full-time, 60% still open;
+ * <li> applications follow a Zipf distribution over jobs, a few postings drawing most of them,
+ * and a hiring funnel: 35% applied, 25% in review, 12% interviewing, 25% rejected, 3% hired;
+ * <li> interviews exist for the applications that reached that stage, one to three each; they
+ * last an hour, start on the hour and never overlap for an interviewer, as the V16 exclusion
+ * constraint requires.
+ *
+ * <p> The target tables must be empty unless {@code truncate=true}, which deletes every tenant,
+ * user, job, candidate and application first.
+ */
+public final class DatasetGenerator {
+
+    static final String PASSWORD = "loadtest";
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int CHUNK = 1 << 20;
+
+    private static final String[] FIRST_NAMES = {
+            "Amina", "Youssef", "Sara", "Omar", "Lina", "Mehdi", "Salma", "Karim", "Nadia", "Hamza", "Emma", "Lucas",
+            "Chloe", "Hugo", "Lea", "Louis", "Olivia", "James", "Sophia", "Daniel", "Aya", "Ilyas", "Meryem", "Anas"};
+    private static final String[] LAST_NAMES = {
+            "Bennani", "El Alami", "Alaoui", "Tazi", "Berrada", "Idrissi", "Chraibi", "Fassi", "Martin", "Bernard",
+            "Dubois", "Durand", "Moreau", "Laurent", "Smith", "Johnson", "Brown", "Garcia", "Miller", "Wilson"};
+    private static final String[] SENIORITIES = {"Junior", "", "Senior", "Staff", "Lead"};
+    private static final String[] AREAS = {"Backend", "Frontend", "Platform", "Data", "Mobile", "Security", "QA", "DevOps"};
+    private static final String[] ROLES = {"Engineer", "Developer", "Analyst", "Architect", "Manager"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Data", "Product", "Operations", "Sales", "Finance", "People"};
+    private static final String[] SKILLS = {
+            "java", "spring", "kotlin", "python", "react", "typescript", "postgres", "kafka", "kubernetes", "aws",
+            "terraform", "microservices", "payments", "observability", "testing", "mentoring", "agile", "security"};
+    private static final String[] NOTES = {
+            "Strong communication, good culture fit", "Solid Java background, knows Kafka",
+            "Needs visa sponsorship", "Referred by the platform team", "Salary expectations above range",
+            "Great system design answers", "Available in two months", "Open to relocation"};
+
+    private static final Weighted<String> LOCATIONS = new Weighted<>(
+            new String[] {"Casablanca", "Rabat", "Remote", "Paris", "Marrakech", "Tangier", "Berlin", "London"},
+            new int[] {30, 18, 20, 12, 6, 5, 5, 4});
+    private static final Weighted<String> JOB_STATUSES = new Weighted<>(
+            new String[] {"OPEN", "CLOSED", "DRAFT"}, new int[] {60, 35, 5});
+    private static final Weighted<String> EMPLOYMENT_TYPES = new Weighted<>(
+            new String[] {"FULL_TIME", "CONTRACT", "PART_TIME", "INTERNSHIP"}, new int[] {75, 12, 8, 5});
+    private static final Weighted<String> EXPERIENCE_LEVELS = new Weighted<>(
+            new String[] {"JUNIOR", "MID", "SENIOR"}, new int[] {35, 40, 25});
+    private static final Weighted<String> APPLICATION_STATUSES = new Weighted<>(
+            new String[] {"APPLIED", "IN_REVIEW", "INTERVIEWING", "REJECTED", "HIRED"}, new int[] {35, 25, 12, 25, 3});
+    private static final Weighted<String> SOURCES = new Weighted<>(
+            new String[] {"LinkedIn", "Company website", "Referral", "Indeed", "Agency"}, new int[] {40, 25, 15, 15, 5});
+    private static final Weighted<String> USER_ROLES = new Weighted<>(
+            new String[] {"RECRUITER", "HIRING_MANAGER", "INTERVIEWER", "ADMIN"}, new int[] {40, 25, 30, 5});
+
+    private final Map<String, String> options;
+    private final SplittableRandom random;
+    /** on the hour, so that interviews, an hour long, never run past the end of a month (V18) */
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+    private int tenants;
+    private int users;
+    private int jobs;
+    private int candidates;
+    private long applications;
+    /** creation time of each job, in seconds before now, to keep applications after it */
+    private int[] jobAgeSeconds;
+    /** interviews booked in each hour before now per tenant, one per interviewer at most */
+    private int[][] interviewsPerHour;
+    /** cumulative Zipf weights of the jobs */
+    private double[] jobPopularity;
+
+    private DatasetGenerator(Map<String, String> options) {
+        this.options = options;
+        this.random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        new DatasetGenerator(options).run();
+    }
+
+    private void run() throws SQLException {
+        jobs = Integer.parseInt(options.getOrDefault("jobs", "10000"));
+        candidates = Integer.parseInt(options.getOrDefault("candidates", "2000000"));
+        applications = Long.parseLong(options.getOrDefault("applications", "10000000"));
+        tenants = Integer.parseInt(options.getOrDefault("tenants", "1"));
+        users = Math.max(20 * tenants, jobs / 20);
+        if (tenants < 1 || jobs < tenants || candidates < tenants) {
+            throw new IllegalArgumentException("Every tenant needs at least one job and one candidate");
+        }
+        interviewsPerHour = new int[tenants + 1][730 * 24 + 1];
+
+        // applications and their interviews are generated together, each table on its own
+        // connection since a connection runs one COPY at a time
+        try (Connection connection = connect();
+             Connection interviewConnection = connect();
+             Statement statement = connection.createStatement()) {
+            prepare(statement);
+            createMonthPartitions(statement);
+            CopyTarget copy = new CopyTarget(connection.unwrap(PGConnection.class));
+            CopyTarget interviewCopy = new CopyTarget(interviewConnection.unwrap(PGConnection.class));
+
+            step("tenants", () -> copyTenants(copy));
+            step("users", () -> copyUsers(copy));
+            step("jobs", () -> copyJobs(copy));
+            step("candidates", () -> copyCandidates(copy));
+            step("applications and interviews", () -> copyApplications(copy, interviewCopy));
+
+            statement.execute("SET session_replication_role = DEFAULT");
+            step("status history", () -> deriveStatusHistory(statement));
+            step("sequences and statistics", () -> finish(statement));
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                options.getOrDefault("url", "jdbc:postgresql://localhost:5432/hiretrackdb"),
+                options.getOrDefault("user", "postgres"),
+                options.getOrDefault("password", "postgres"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET session_replication_role = replica");
+        }
+        return connection;
+    }
+
+    private void prepare(Statement statement) throws SQLException {
+        if (Boolean.parseBoolean(options.getOrDefault("truncate", "false"))) {
+            statement.execute("TRUNCATE tenants, users, jobs, candidates, applications, interviews, match_scores, "
+                    + "application_status_history, outbox_events RESTART IDENTITY CASCADE");
+            return;
+        }
+        try (var rs = statement.executeQuery(
+                "SELECT (SELECT count(*) FROM users) + (SELECT count(*) FROM jobs) + (SELECT count(*) FROM candidates)")) {
+            rs.next();
+            if (rs.getLong(1) > 0) {
+                throw new IllegalStateException("Tables are not empty: pass truncate=true to replace their content");
+            }
+        }
+        // the default tenant of the migrations, referenced by nothing yet
+        statement.execute("DELETE FROM tenants");
+    }
+
+    private void createMonthPartitions(Statement statement) throws SQLException {
+        statement.execute("SELECT create_pipeline_partitions((localtimestamp - interval '25 months')::date, "
+                + "(localtimestamp + interval '3 months')::date)");
+    }
+
+    private void copyTenants(CopyTarget copy) throws SQLException {
+        try (CopyTarget.Rows rows = copy.into("tenants (tenant_id, name)")) {
+            for (int tenant = 1; tenant <= tenants; tenant++) {
+                rows.add(tenant, companyName(tenant));
+            }
+        }
+    }
+
+    private void copyUsers(CopyTarget copy) throws SQLException {
+        String hash = new BCryptPasswordEncoder(10).encode(PASSWORD);
+        try (CopyTarget.Rows rows = copy.into(
+                "users (user_id, tenant_id, first_name, last_name, email, password_hash, role, company_name, created_at)")) {
+            for (int id = 1; id <= users; id++) {
+                int tenant = tenantOf(id);
+                rows.add(id, tenant, pick(FIRST_NAMES), pick(LAST_NAMES), "loadtest" + id + "@example.com", hash,
+                        id <= tenants ? "ADMIN" : USER_ROLES.pick(random), companyName(tenant), timestamp(daysAgo(730)));
+            }
+        }
+    }
+
+    private void copyJobs(CopyTarget copy) throws SQLException {
+        jobAgeSeconds = new int[jobs + 1];
+        jobPopularity = new double[jobs + 1];
+        // Zipf with s = 1 over a random permutation of the jobs, so popular ones are not the oldest
+        int[] rank = permutation(jobs);
+        try (CopyTarget.Rows rows = copy.into("jobs (job_id, tenant_id, title, description, department, employment_type, "
+                + "location, salary_range, status, created_by, created_at)")) {
+            for (int id = 1; id <= jobs; id++) {
+                jobAgeSeconds[id] = daysAgo(730);
+                jobPopularity[id] = jobPopularity[id - 1] + 1.0 / rank[id - 1];
+                String seniority = pick(SENIORITIES);
+                String title = (seniority.isEmpty() ? "" : seniority + " ") + pick(AREAS) + " " + pick(ROLES);
+                int salary = 20 + random.nextInt(60);
+                int tenant = tenantOf(id);
+                rows.add(id, tenant, title, description(), pick(DEPARTMENTS), EMPLOYMENT_TYPES.pick(random),
+                        LOCATIONS.pick(random), salary + "k-" + (salary + 15) + "k MAD", JOB_STATUSES.pick(random),
+                        member(tenant, random.nextInt(countIn(tenant, users))), timestamp(jobAgeSeconds[id]));
+            }
+        }
+    }
+
+    private void copyCandidates(CopyTarget copy) throws SQLException {
+        try (CopyTarget.Rows rows = copy.into("candidates (candidate_id, tenant_id, first_name, last_name, email, "
+                + "phone_number, resume_url, linkedin_url, experience_level, location, created_at)")) {
+            for (int id = 1; id <= candidates; id++) {
+                String firstName = pick(FIRST_NAMES);
+                String lastName = pick(LAST_NAMES);
+                rows.add(id, tenantOf(id), firstName, lastName, "candidate" + id + "@example.com",
+                        "+2126" + (10_000_000 + random.nextInt(90_000_000)),
+                        random.nextInt(10) < 8 ? "https://cv.example.com/" + id + ".pdf" : null,
+                        random.nextInt(10) < 6 ? "https://www.linkedin.com/in/" + id : null,
+                        EXPERIENCE_LEVELS.pick(random), LOCATIONS.pick(random), timestamp(daysAgo(730)));
+            }
+        }
+    }
+
+    private void copyApplications(CopyTarget copy, CopyTarget interviewCopy) throws SQLException {
+        long interviewId = 0;
+        try (CopyTarget.Rows applicationRows = copy.into(
+                "applications (application_id, tenant_id, job_id, candidate_id, status, applied_at, source, notes)");
+             CopyTarget.Rows interviewRows = interviewCopy.into("interviews (interview_id, tenant_id, application_id, "
+                     + "application_applied_at, interviewer_id, interview_date, interview_type, feedback, rating, outcome)")) {
+            for (long id = 1; id <= applications; id++) {
+                int job = popularJob();
+                int tenant = tenantOf(job);
+                // within 90 days of the job opening, never in the future
+                int ageSeconds = Math.max(0, jobAgeSeconds[job] - random.nextInt(90 * 86_400));
+                String status = APPLICATION_STATUSES.pick(random);
+                String appliedAt = timestamp(ageSeconds);
+                applicationRows.add(id, tenant, job, member(tenant, random.nextInt(countIn(tenant, candidates))),
+                        status, appliedAt,
+                        SOURCES.pick(random), random.nextInt(5) == 0 ? pick(NOTES) : null);
+
+                int interviews = switch (status) {
+                    case "INTERVIEWING" -> 1 + random.nextInt(2);
+                    case "HIRED" -> 3;
+                    case "REJECTED" -> random.nextInt(10) < 3 ? 1 : 0;
+                    default -> 0;
+                };
+                int interviewAge = ageSeconds;
+                for (int step = 0; step < interviews; step++) {
+                    interviewAge = Math.max(0, interviewAge - (3 + random.nextInt(14)) * 86_400);
+                    boolean last = step == interviews - 1;
+                    String outcome = !last || status.equals("HIRED") ? "PASSED"
+                            : status.equals("REJECTED") ? "FAILED" : "PENDING";
+                    boolean pending = outcome.equals("PENDING");
+                    int hour = freeHour(tenant, interviewAge / 3600);
+                    // the interviewers of an hour are taken in turn, from an offset that varies by hour
+                    int interviewers = countIn(tenant, users);
+                    int interviewer = member(tenant, (int) ((hour * 7919L + interviewsPerHour[tenant][hour]++) % interviewers));
+                    interviewRows.add(++interviewId, tenant, id, appliedAt, interviewer, timestamp(hour * 3600),
+                            step == 0 ? "HR" : step == 1 ? "TECHNICAL" : "FINAL",
+                            pending ? null : pick(NOTES), pending ? null : 1 + random.nextInt(5), outcome);
+                }
+            }
+        }
+    }
+
+    /**
+     * The path of each application to its current status, a few days per step: what the
+     * {@code applications_record_status_change} trigger records for applications moved through
+     * the API.
+     */
+    private void deriveStatusHistory(Statement statement) throws SQLException {
+        statement.execute("SELECT create_application_status_history_partitions("
+                + "(SELECT min(applied_at) FROM applications)::date, (localtimestamp + interval '3 months')::date)");
+        statement.execute("""
+                INSERT INTO application_status_history (tenant_id, application_id, job_id, from_status, to_status, changed_at)
+                SELECT a.tenant_id, a.application_id, a.job_id, p.from_status, p.to_status,
+                       least(a.applied_at + p.after, localtimestamp)
+                FROM applications a
+                JOIN (VALUES
+                        ('APPLIED', NULL, 'APPLIED', interval '0'),
+                        ('IN_REVIEW', NULL, 'APPLIED', interval '0'),
+                        ('IN_REVIEW', 'APPLIED', 'IN_REVIEW', interval '2 days'),
+                        ('INTERVIEWING', NULL, 'APPLIED', interval '0'),
+                        ('INTERVIEWING', 'APPLIED', 'IN_REVIEW', interval '2 days'),
+                        ('INTERVIEWING', 'IN_REVIEW', 'INTERVIEWING', interval '7 days'),
+                        ('HIRED', NULL, 'APPLIED', interval '0'),
+                        ('HIRED', 'APPLIED', 'IN_REVIEW', interval '2 days'),
+                        ('HIRED', 'IN_REVIEW', 'INTERVIEWING', interval '7 days'),
+                        ('HIRED', 'INTERVIEWING', 'HIRED', interval '30 days'),
+                        ('REJECTED', NULL, 'APPLIED', interval '0'),
+                        ('REJECTED', 'APPLIED', 'REJECTED', interval '5 days')
+                     ) AS p (status, from_status, to_status, after) ON p.status = a.status""");
+    }
+
+    private void finish(Statement statement) throws SQLException {
+        for (String table : new String[] {"tenants:tenant_id", "users:user_id", "jobs:job_id", "candidates:candidate_id",
+                "applications:application_id", "interviews:interview_id"}) {
+            String[] parts = table.split(":");
+            statement.execute("SELECT setval(pg_get_serial_sequence('%1$s', '%2$s'), (SELECT max(%2$s) FROM %1$s))"
+                    .formatted(parts[0], parts[1]));
+        }
+        statement.execute("ANALYZE");
+        for (String view : new String[] {"analytics_application_daily", "analytics_interview_outcomes",
+                "analytics_stage_durations"}) {
+            statement.execute("REFRESH MATERIALIZED VIEW " + view);
+        }
+    }
+
+    private int popularJob() {
+        double target = random.nextDouble() * jobPopularity[jobs];
+        int index = Arrays.binarySearch(jobPopularity, target);
+        return Math.max(1, Math.min(jobs, index >= 0 ? index : -index - 1));
+    }
+
+    private String description() {
+        StringBuilder text = new StringBuilder("We are looking for someone with experience in");
+        for (int i = 0; i < 6; i++) {
+            text.append(' ').append(pick(SKILLS));
+        }
+        return text.append('.').toString();
+    }
+
+    /**
+     * The first hour from {@code hour} back in time with an interviewer of the tenant left.
+     */
+    private int freeHour(int tenant, int hour) {
+        int[] booked = interviewsPerHour[tenant];
+        int interviewers = countIn(tenant, users);
+        while (hour < booked.length && booked[hour] == interviewers) {
+            hour++;
+        }
+        if (hour == booked.length) {
+            interviewsPerHour[tenant] = Arrays.copyOf(booked, booked.length * 2);
+        }
+        return hour;
+    }
+
+    /**
+     * Users, jobs and candidates are dealt to the tenants in turn: id {@code n} belongs to
+     * tenant {@code 1 + (n - 1) % tenants}.
+     */
+    private int tenantOf(long id) {
+        return (int) (1 + (id - 1) % tenants);
+    }
+
+    /** Number of ids up to {@code total} that belong to {@code tenant}. */
+    private int countIn(int tenant, int total) {
+        return (total - tenant) / tenants + 1;
+    }
+
+    /** The {@code index}-th id (from 0) that belongs to {@code tenant}. */
+    private int member(int tenant, int index) {
+        return tenant + index * tenants;
+    }
+
+    private String companyName(int tenant) {
+        return tenants == 1 ? "HireTrack" : "HireTrack " + tenant;
+    }
+
+    private int[] permutation(int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i + 1;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private int daysAgo(int maxDays) {
+        return random.nextInt(maxDays * 86_400);
+    }
+
+    private String timestamp(int secondsAgo) {
+        return TIMESTAMP.format(now.minusSeconds(secondsAgo));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static void step(String name, SqlStep step) throws SQLException {
+        long start = System.nanoTime();
+        step.run();
+        System.out.printf("%-30s %8.1f s%n", name, (System.nanoTime() - start) / 1e9);
+    }
+
+    @FunctionalInterface
+    private interface SqlStep {
+        void run() throws SQLException;
+    }
+
+    private record Weighted<T>(T[] values, int[] weights, int total) {
+
+        Weighted(T[] values, int[] weights) {
+            this(values, weights, Arrays.stream(weights).sum());
+        }
+
+        T pick(SplittableRandom random) {
+            int draw = random.nextInt(total);
+            for (int i = 0; i < values.length; i++) {
+                draw -= weights[i];
+                if (draw < 0) {
+                    return values[i];
+                }
+            }
+            return values[values.length - 1];
+        }
+    }
+
+    /**
+     * CSV rows streamed to {@code COPY ... FROM STDIN}, sent in chunks of {@value #CHUNK} bytes.
+     * A null value is an unquoted empty field, which COPY reads as NULL.
+     */
+    private record CopyTarget(PGConnection connection) {
+
+        Rows into(String table) throws SQLException {
+            return new Rows(connection.getCopyAPI().copyIn("COPY " + table + " FROM STDIN (FORMAT csv)"));
+        }
+
+        static final class Rows implements AutoCloseable {
+
+            private final CopyIn copyIn;
+            private final StringBuilder buffer = new StringBuilder(CHUNK + 4096);
+
+            private Rows(CopyIn copyIn) {
+                this.copyIn = copyIn;
+            }
+
+            void add(Object... values) throws SQLException {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        buffer.append(',');
+                    }
+                    if (values[i] instanceof String text) {
+                        buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+                    } else if (values[i] != null) {
+                        buffer.append(values[i]);
+                    }
+                }
+                buffer.append('\n');
+                if (buffer.length() >= CHUNK) {
+                    flush();
+                }
+            }
+
+            private void flush() throws SQLException {
+                byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                buffer.setLength(0);
+            }
+
+            @Override
+            public void close() throws SQLException {
+                flush();
+                copyIn.endCopy();
+            }
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.hiretrack.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recruiter workload against a running HireTrack, on a dataset from {@link DatasetGenerator}.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="url=http://localhost:8082 users=50 duration=120"
+ * </pre>
+ *
+ * <p> Each of {@code users} threads signs in as one of the generated accounts, then loops without
+ * think time over a weighted mix: listing applications and jobs, searching candidates and jobs,
+ * moving an application to its next status (read, then update with its version) and, now and
+ * then, signing in again. {@code relogin=false} keeps BCrypt out of the measurement: each account
+ * signs in once, its token shared by its users, and again only when the token expired.
+ * Latencies measured after {@code warmup} seconds are reported per operation as throughput and
+ * percentiles, and written as JSON when {@code out} is given.
+ *
+ * <p> The login rate limiter would throttle the repeated sign-ins from one address: start the
+ * application with {@code --security.login-rate-limit.enabled=false}. A 409 on a status update
+ * is another user having moved the same application first; it is counted, not as an error.
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String[] NAMES = {"bennani", "amina", "youssef", "martin", "sara", "alaoui", "garcia", "omar"};
+    private static final String[] TERMS = {"java", "backend engineer", "kafka", "senior platform", "react", "data analyst"};
+    private static final String[] STATUSES = {"APPLIED", "IN_REVIEW", "INTERVIEWING", "REJECTED"};
+    private static final Map<String, String> NEXT_STATUS = Map.of(
+            "APPLIED", "IN_REVIEW",
+            "IN_REVIEW", "INTERVIEWING",
+            "INTERVIEWING", "REJECTED",
+            "REJECTED", "IN_REVIEW");
+
+    private enum Operation {
+        LOGIN(3), LIST_APPLICATIONS(30), LIST_JOBS(15), SEARCH_CANDIDATES(20), SEARCH_JOBS(15),
+        GET_APPLICATION(0), UPDATE_STATUS(17);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final String baseUrl;
+    private final int accounts;
+    private final long applications;
+    private final boolean relogin;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<Operation, Stats> stats = new LinkedHashMap<>();
+    private final Map<String, String> sharedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Object> loginLocks = new ConcurrentHashMap<>();
+    private final AtomicLong transportErrors = new AtomicLong();
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private LoadTest(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("url", "http://localhost:8082");
+        this.accounts = Integer.parseInt(options.getOrDefault("accounts", "20"));
+        this.applications = Long.parseLong(options.getOrDefault("applications", "10000000"));
+        this.relogin = Boolean.parseBoolean(options.getOrDefault("relogin", "true"));
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        LoadTest test = new LoadTest(options);
+        Map<String, Object> report = test.run(
+                Integer.parseInt(options.getOrDefault("users", "50")),
+                Integer.parseInt(options.getOrDefault("warmup", "10")),
+                Integer.parseInt(options.getOrDefault("duration", "60")),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+        if (options.containsKey("out")) {
+            Files.writeString(Path.of(options.get("out")), JSON.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        }
+    }
+
+    private Map<String, Object> run(int users, int warmupSeconds, int durationSeconds, long seed) throws InterruptedException {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Thread> threads = new ArrayList<>();
+        for (int user = 0; user < users; user++) {
+            String email = "loadtest" + (1 + user % accounts) + "@example.com";
+            SplittableRandom random = seeds.split();
+            Thread thread = new Thread(() -> virtualUser(email, random), "load-" + user);
+            thread.start();
+            threads.add(thread);
+        }
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        recording = true;
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        recording = false;
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        running = false;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return report(users, elapsed);
+    }
+
+    private void virtualUser(String email, SplittableRandom random) {
+        String token = null;
+        int totalWeight = Arrays.stream(Operation.values()).mapToInt(this::weight).sum();
+        while (running) {
+            try {
+                if (token == null) {
+                    token = relogin ? login(email) : sharedLogin(email);
+                    continue;
+                }
+                int draw = random.nextInt(totalWeight);
+                Operation operation = Operation.values()[0];
+                for (Operation candidate : Operation.values()) {
+                    draw -= weight(candidate);
+                    if (draw < 0) {
+                        operation = candidate;
+                        break;
+                    }
+                }
+                int status = switch (operation) {
+                    case LOGIN -> {
+                        token = login(email);
+                        yield 200;
+                    }
+                    case LIST_APPLICATIONS -> get(operation, token, "/api/applications?size=20&status=" + pick(random, STATUSES));
+                    case LIST_JOBS -> get(operation, token, "/api/jobs?size=20&status=OPEN");
+                    case SEARCH_CANDIDATES -> get(operation, token, "/api/candidates/search?q=" + encode(pick(random, NAMES)));
+                    case SEARCH_JOBS -> get(operation, token, "/api/jobs/search?q=" + encode(pick(random, TERMS)));
+                    case UPDATE_STATUS -> moveApplication(token, 1 + random.nextLong(applications));
+                    default -> throw new IllegalStateException(operation.name());
+                };
+                if (status == 401) {
+                    // the access token expired
+                    forget(email, token);
+                    token = null;
+                }
+            } catch (IOException e) {
+                if (recording) {
+                    transportErrors.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private int weight(Operation operation) {
+        return operation == Operation.LOGIN && !relogin ? 0 : operation.weight;
+    }
+
+    private String sharedLogin(String email) throws IOException, InterruptedException {
+        // one sign-in per account at a time, the accounts in parallel
+        synchronized (loginLocks.computeIfAbsent(email, key -> new Object())) {
+            String token = sharedTokens.get(email);
+            if (token == null && (token = login(email)) != null) {
+                sharedTokens.put(email, token);
+            }
+            return token;
+        }
+    }
+
+    private void forget(String email, String token) {
+        sharedTokens.remove(email, token);
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        String body = JSON.writeValueAsString(Map.of("email", email, "password", DatasetGenerator.PASSWORD));
+        HttpResponse<String> response = send(Operation.LOGIN, HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response.statusCode() != 200) {
+            TimeUnit.SECONDS.sleep(1);
+            return null;
+        }
+        return JSON.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private int get(Operation operation, String token, String path) throws IOException, InterruptedException {
+        return send(operation, HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token).GET())
+                .statusCode();
+    }
+
+    private int moveApplication(String token, long id) throws IOException, InterruptedException {
+        HttpResponse<String> current = send(Operation.GET_APPLICATION, HttpRequest.newBuilder(uri("/api/applications/" + id))
+                .header("Authorization", "Bearer " + token)
+                .GET());
+        if (current.statusCode() != 200) {
+            return current.statusCode();
+        }
+        JsonNode application = JSON.readTree(current.body());
+        String next = NEXT_STATUS.get(application.path("status").asText());
+        if (next == null) {
+            return 200;
+        }
+        String body = JSON.writeValueAsString(Map.of("status", next, "version", application.path("version").asLong()));
+        return send(Operation.UPDATE_STATUS, HttpRequest.newBuilder(uri("/api/applications/" + id + "/status"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body)))
+                .statusCode();
+    }
+
+    private HttpResponse<String> send(Operation operation, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        stats.get(operation).record(recording, System.nanoTime() - start, response.statusCode());
+        return response;
+    }
+
+    private Map<String, Object> report(int users, double elapsedSeconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", users);
+        report.put("seconds", elapsedSeconds);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        long total = 0;
+        long busyNanos = 0;
+        System.out.printf("%-18s %9s %9s %8s %8s %8s %8s %8s %8s%n",
+                "operation", "requests", "req/s", "errors", "409", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats stat = entry.getValue();
+            long[] latencies = stat.sorted();
+            if (latencies.length == 0 && stat.errors == 0) {
+                continue;
+            }
+            total += latencies.length;
+            busyNanos += Arrays.stream(latencies).sum();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", latencies.length);
+            row.put("requestsPerSecond", latencies.length / elapsedSeconds);
+            row.put("errors", stat.errors);
+            row.put("conflicts", stat.conflicts);
+            row.put("p50Millis", percentile(latencies, 0.50));
+            row.put("p90Millis", percentile(latencies, 0.90));
+            row.put("p99Millis", percentile(latencies, 0.99));
+            row.put("maxMillis", percentile(latencies, 1.0));
+            operations.put(entry.getKey().name().toLowerCase(), row);
+            System.out.printf("%-18s %9d %9.1f %8d %8d %8.1f %8.1f %8.1f %8.1f%n", entry.getKey().name().toLowerCase(),
+                    latencies.length, latencies.length / elapsedSeconds, stat.errors, stat.conflicts,
+                    row.get("p50Millis"), row.get("p90Millis"), row.get("p99Millis"), row.get("maxMillis"));
+        }
+        System.out.printf("%-18s %9d %9.1f%n", "total", total, total / elapsedSeconds);
+        System.out.printf("%-18s %9d%n", "transport errors", transportErrors.get());
+        // Little's law: below users, the rest were waiting on something other than the server
+        System.out.printf("%-18s %9.1f%n", "mean in flight", busyNanos / 1e9 / elapsedSeconds);
+        report.put("requestsPerSecond", total / elapsedSeconds);
+        report.put("meanInFlight", busyNanos / 1e9 / elapsedSeconds);
+        report.put("transportErrors", transportErrors.get());
+        report.put("operations", operations);
+        return report;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Latencies in nanoseconds of the requests of one operation. Status 2xx and 404 (an id the
+     * dataset does not have) are successes, 409 a conflict, anything else an error.
+     */
+    private static final class Stats {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+        private long conflicts;
+
+        synchronized void record(boolean recording, long nanos, int status) {
+            if (!recording) {
+                return;
+            }
+            if (status == 409) {
+                conflicts++;
+            } else if (status >= 300 && status != 404) {
+                errors++;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
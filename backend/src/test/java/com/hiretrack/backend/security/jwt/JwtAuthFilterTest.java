@@ -0,0 +1,180 @@
+package com.hiretrack.backend.security.jwt;
+
+import com.hiretrack.backend.config.JwtProperties;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthFilter Unit Tests")
+class JwtAuthFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenDenyList tokenDenyList;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private JwtProperties properties;
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthFilter jwtAuthFilter;
+    private AuthenticatedUser user;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret("VGhpcy1pcy1hLXNlY3JldC1rZXktZm9yLWxvY2FsLWRldi1qd3Qtc2lnbmluZw==");
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        VerifiedTokenCache verifiedTokenCache =
+                new VerifiedTokenCache(jwtTokenProvider, properties, new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+        jwtAuthFilter = new JwtAuthFilter(jwtTokenProvider, userDetailsService, properties, tokenDenyList,
+                verifiedTokenCache, meterRegistry);
+
+        user = new AuthenticatedUser("test@example.com", "$2a$10$encodedPasswordHash",
+                List.of(new SimpleGrantedAuthority("RECRUITER")), 2, 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest requestWithToken(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should authenticate from token claims without loading the user in stateless mode")
+    void testStateless_AuthenticatesFromClaims() throws Exception {
+        // Given
+        properties.setStateless(true);
+        String token = jwtTokenProvider.generateToken(user);
+
+        // When
+        jwtAuthFilter.doFilter(requestWithToken(token), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertEquals("test@example.com", principal.getUsername());
+        assertEquals(1L, principal.getTenantId());
+        assertEquals("RECRUITER", authentication.getAuthorities().iterator().next().getAuthority());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked token version in stateless mode")
+    void testStateless_RevokedToken() throws Exception {
+        // Given
+        properties.setStateless(true);
+        String token = jwtTokenProvider.generateToken(user);
+        when(tokenDenyList.isRevoked("test@example.com", 2)).thenReturn(true);
+
+        // When
+        jwtAuthFilter.doFilter(requestWithToken(token), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should load the user for every request when stateless mode is disabled")
+    void testLookupMode_LoadsUser() throws Exception {
+        // Given
+        String token = jwtTokenProvider.generateToken(user);
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(user);
+
+        // When
+        jwtAuthFilter.doFilter(requestWithToken(token), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService, times(1)).loadUserByUsername("test@example.com");
+        verifyNoInteractions(tokenDenyList);
+    }
+
+    @Test
+    @DisplayName("Should reject a token issued before the user's token version was bumped")
+    void testLookupMode_OutdatedTokenVersion() throws Exception {
+        // Given
+        String token = jwtTokenProvider.generateToken(user);
+        AuthenticatedUser revokedUser = new AuthenticatedUser("test@example.com", "$2a$10$encodedPasswordHash",
+                List.of(new SimpleGrantedAuthority("RECRUITER")), 3, 1L);
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(revokedUser);
+
+        // When
+        jwtAuthFilter.doFilter(requestWithToken(token), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should leave the request anonymous for a tampered token")
+    void testTamperedToken_NotAuthenticated() throws Exception {
+        // Given
+        String token = jwtTokenProvider.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When
+        jwtAuthFilter.doFilter(requestWithToken(tampered), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userDetailsService);
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should time the token checks and count authenticated and rejected requests")
+    void testMetrics_Recorded() throws Exception {
+        // Given
+        String token = jwtTokenProvider.generateToken(user);
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(user);
+
+        // When
+        jwtAuthFilter.doFilter(requestWithToken(token), new MockHttpServletResponse(), filterChain);
+        SecurityContextHolder.clearContext();
+        jwtAuthFilter.doFilter(requestWithToken("not-a-jwt"), new MockHttpServletResponse(), filterChain);
+        jwtAuthFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertEquals(2, meterRegistry.get("auth.jwt.filter").timer().count());
+        assertEquals(2, meterRegistry.get("auth.jwt.parse").timer().count());
+        assertEquals(1, meterRegistry.get("auth.jwt.lookup").timer().count());
+        assertEquals(1, meterRegistry.get("auth.jwt.requests").tag("result", "authenticated").counter().count());
+        assertEquals(1, meterRegistry.get("auth.jwt.requests").tag("result", "rejected").counter().count());
+    }
+}
@@ -0,0 +1,135 @@
+package com.hiretrack.backend.security.jwt;
+
+import com.hiretrack.backend.security.TenantContext;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The deny-list keeps a revocation for one access-token TTL (15 minutes) plus a minute of clock
+ * skew, the longest a token it revoked can live, and drops it afterwards.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "security.jwt.stateless=true"})
+@Import(EmbeddedPostgresConfig.class)
+@DisplayName("Token Deny-List Tests")
+class TokenDenyListTest {
+
+    @Autowired
+    private TokenDenyList tokenDenyList;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = jdbcTemplate.queryForObject(
+                "INSERT INTO tenants (name) VALUES (?) RETURNING tenant_id", Long.class, "Deny " + UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Should deny the tokens of a recent revocation")
+    void testRevokeAll_Recent() {
+        // Given
+        String email = newUser();
+
+        // When
+        TenantContext.runAsRoot(() -> tokenDenyList.revokeAll(email));
+
+        // Then
+        assertTrue(tokenDenyList.isRevoked(email, 0));
+        assertFalse(tokenDenyList.isRevoked(email, 1));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM users WHERE email = ? AND token_revoked_at IS NOT NULL", Integer.class, email));
+    }
+
+    @Test
+    @DisplayName("Should drop revocations older than the access-token TTL")
+    void testRefresh_DropsExpiredRevocations() {
+        // Given a user revoked 20 minutes ago and one revoked 10 minutes ago
+        String expired = newUser();
+        String alive = newUser();
+        TenantContext.runAsRoot(() -> {
+            tokenDenyList.revokeAll(expired);
+            tokenDenyList.revokeAll(alive);
+        });
+        backdateRevocation(expired, 20);
+        backdateRevocation(alive, 10);
+
+        // When
+        tokenDenyList.refresh();
+
+        // Then
+        assertFalse(tokenDenyList.isRevoked(expired, 0));
+        assertTrue(tokenDenyList.isRevoked(alive, 0));
+    }
+
+    @Test
+    @DisplayName("Should drop removed emails once the tokens of their owner expired")
+    void testRefresh_DropsExpiredRemovedEmails() {
+        // Given two deleted users, one 20 minutes ago and one 10 minutes ago
+        String expired = newUser();
+        String alive = newUser();
+        jdbcTemplate.update("DELETE FROM users WHERE email IN (?, ?)", expired, alive);
+        jdbcTemplate.update("""
+                UPDATE removed_email_token_versions SET removed_at = localtimestamp - interval '20 minutes'
+                WHERE email = ?""", expired);
+        jdbcTemplate.update("""
+                UPDATE removed_email_token_versions SET removed_at = localtimestamp - interval '10 minutes'
+                WHERE email = ?""", alive);
+
+        // When
+        tokenDenyList.refresh();
+
+        // Then
+        assertFalse(tokenDenyList.isRevoked(expired, 0));
+        assertTrue(tokenDenyList.isRevoked(alive, 0));
+    }
+
+    @Test
+    @DisplayName("Should keep denying the previous owner's tokens when a removed email is registered again")
+    void testRefresh_EmailTakenAgain() {
+        // Given a user deleted 10 minutes ago
+        String email = newUser();
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", email);
+        jdbcTemplate.update("""
+                UPDATE removed_email_token_versions SET removed_at = localtimestamp - interval '10 minutes'
+                WHERE email = ?""", email);
+
+        // When the email is taken again
+        insertUser(email);
+        tokenDenyList.refresh();
+
+        // Then
+        assertTrue(tokenDenyList.isRevoked(email, 0));
+        assertFalse(tokenDenyList.isRevoked(email, 1));
+    }
+
+    private void backdateRevocation(String email, int minutes) {
+        jdbcTemplate.update("UPDATE users SET token_revoked_at = localtimestamp - make_interval(mins => ?) WHERE email = ?",
+                minutes, email);
+    }
+
+    private String newUser() {
+        String email = "deny-" + UUID.randomUUID() + "@example.com";
+        insertUser(email);
+        return email;
+    }
+
+    private void insertUser(String email) {
+        jdbcTemplate.update("INSERT INTO users (tenant_id, email, password_hash, role) VALUES (?, ?, 'x', 'RECRUITER')",
+                tenantId, email);
+    }
+}
@@ -0,0 +1,103 @@
+package com.hiretrack.backend.security.jwt;
+
+import com.hiretrack.backend.config.JwtProperties;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("VerifiedTokenCache Unit Tests")
+class VerifiedTokenCacheTest {
+
+    private JwtProperties properties;
+    private JwtTokenProvider jwtTokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticatedUser user;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret("VGhpcy1pcy1hLXNlY3JldC1rZXktZm9yLWxvY2FsLWRldi1qd3Qtc2lnbmluZw==");
+        jwtTokenProvider = spy(new JwtTokenProvider(properties));
+        meterRegistry = new SimpleMeterRegistry();
+        user = new AuthenticatedUser("test@example.com", "", List.of(new SimpleGrantedAuthority("RECRUITER")), 0, 1L);
+    }
+
+    @Test
+    @DisplayName("Should verify a token only once for repeated requests")
+    void testValidate_RepeatedTokenHitsCache() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, properties, meterRegistry);
+        String token = jwtTokenProvider.generateToken(user);
+
+        // When
+        Optional<Claims> first = cache.validate(token);
+        Optional<Claims> second = cache.validate(token);
+
+        // Then
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        verify(jwtTokenProvider, times(1)).validate(token);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that fail verification")
+    void testValidate_InvalidTokenNotCached() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, properties, meterRegistry);
+
+        // When
+        Optional<Claims> first = cache.validate("not-a-jwt");
+        Optional<Claims> second = cache.validate("not-a-jwt");
+
+        // Then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(jwtTokenProvider, times(2)).validate("not-a-jwt");
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Should expire an entry together with its token")
+    void testValidate_EntryExpiresWithToken() throws Exception {
+        // Given
+        properties.setAccessTokenTtl(Duration.ofSeconds(1));
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, properties, meterRegistry);
+        String token = jwtTokenProvider.generateToken(user);
+        assertTrue(cache.validate(token).isPresent());
+
+        // When
+        Thread.sleep(1100);
+
+        // Then
+        assertTrue(cache.validate(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should delegate every call to the token provider when disabled")
+    void testValidate_Disabled() {
+        // Given
+        properties.getCache().setEnabled(false);
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, properties, meterRegistry);
+        String token = jwtTokenProvider.generateToken(user);
+
+        // When
+        cache.validate(token);
+        cache.validate(token);
+
+        // Then
+        verify(jwtTokenProvider, times(2)).validate(token);
+    }
+}
@@ -0,0 +1,98 @@
+package com.hiretrack.backend.security.password;
+
+import com.hiretrack.backend.exception.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder Unit Tests")
+class BoundedPasswordEncoderTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should encode and match on the hashing executor")
+    void testEncodeAndMatch() {
+        // Given
+        BoundedPasswordEncoder encoder =
+                new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, Duration.ofSeconds(5));
+
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertTrue(encoder.matches("password123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+    }
+
+    @Test
+    @DisplayName("Should reject with PasswordHashingUnavailableException when the queue is full")
+    void testEncode_QueueFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        BoundedPasswordEncoder encoder =
+                new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, Duration.ofSeconds(5));
+
+        // When & Then
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("password123"));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should give up with PasswordHashingUnavailableException after the timeout")
+    void testMatches_Timeout() {
+        // Given
+        PasswordEncoder slowEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    Thread.sleep(1_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slowEncoder, executor, Duration.ofMillis(50));
+
+        // When & Then
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("password123", "hash"));
+    }
+
+    @Test
+    @DisplayName("Should report weaker hashes as needing an upgrade")
+    void testUpgradeEncoding() {
+        // Given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        BoundedPasswordEncoder encoder =
+                new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), executor, Duration.ofSeconds(5));
+
+        // When & Then
+        assertTrue(encoder.upgradeEncoding(weakHash));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+    }
+}
@@ -0,0 +1,86 @@
+package com.hiretrack.backend.security.ratelimit;
+
+import com.hiretrack.backend.config.LoginRateLimitProperties;
+import com.hiretrack.backend.exception.LoginThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoginRateLimiter Unit Tests")
+class LoginRateLimiterTest {
+
+    private LoginRateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginRateLimitProperties();
+        properties.getPerEmail().setCapacity(3);
+        properties.getPerEmail().setRefillPeriod(Duration.ofMinutes(1));
+        properties.getPerIp().setCapacity(5);
+        properties.getPerIp().setRefillPeriod(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should throttle an email once its bucket is empty")
+    void testAcquire_PerEmailLimit() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(properties);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("test@example.com", "10.0.0." + i);
+        }
+
+        // When & Then
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                () -> limiter.acquire("TEST@example.com", "10.0.0.99"));
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ZERO) > 0);
+        assertDoesNotThrow(() -> limiter.acquire("other@example.com", "10.0.0.99"));
+    }
+
+    @Test
+    @DisplayName("Should throttle an address spraying many emails")
+    void testAcquire_PerIpLimit() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(properties);
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        // When & Then
+        assertThrows(LoginThrottledException.class, () -> limiter.acquire("user6@example.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.acquire("user6@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("Should let attempts through again once the bucket refilled")
+    void testAcquire_Refill() throws Exception {
+        // Given
+        properties.getPerEmail().setCapacity(1);
+        properties.getPerEmail().setRefillPeriod(Duration.ofMillis(200));
+        LoginRateLimiter limiter = new LoginRateLimiter(properties);
+        limiter.acquire("test@example.com", null);
+        assertThrows(LoginThrottledException.class, () -> limiter.acquire("test@example.com", null));
+
+        // When
+        Thread.sleep(250);
+
+        // Then
+        assertDoesNotThrow(() -> limiter.acquire("test@example.com", null));
+    }
+
+    @Test
+    @DisplayName("Should never throttle when disabled")
+    void testAcquire_Disabled() {
+        // Given
+        properties.setEnabled(false);
+        LoginRateLimiter limiter = new LoginRateLimiter(properties);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> limiter.acquire("test@example.com", "10.0.0.1"));
+        }
+    }
+}
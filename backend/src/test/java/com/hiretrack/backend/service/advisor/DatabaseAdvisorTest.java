@@ -0,0 +1,105 @@
+package com.hiretrack.backend.service.advisor;
+
+import com.hiretrack.backend.config.DatabaseAdvisorProperties;
+import com.hiretrack.backend.dto.advisor.DatabaseAdvisorReport;
+import com.hiretrack.backend.dto.advisor.UnindexedForeignKey;
+import com.hiretrack.backend.dto.advisor.UnusedIndex;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The tuning report, against a real Postgres with {@code pg_stat_statements} loaded.
+ */
+@DisplayName("DatabaseAdvisor Unit Tests")
+class DatabaseAdvisorTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbc;
+    private static DatabaseAdvisor advisor;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder()
+                .setServerConfig("shared_preload_libraries", "pg_stat_statements")
+                .start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        DatabaseAdvisorProperties properties = new DatabaseAdvisorProperties();
+        properties.setMinCalls(1);
+        // the migrations leave every index unscanned
+        properties.setMaxEntries(1000);
+        advisor = new DatabaseAdvisor(dataSource, properties);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("DROP TABLE IF EXISTS interview_notes");
+        jdbc.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+    }
+
+    @Test
+    @DisplayName("Should find every foreign key of the schema indexed")
+    void testReport_SchemaForeignKeysIndexed() {
+        // When
+        DatabaseAdvisorReport report = advisor.report();
+
+        // Then
+        assertEquals(List.of(), report.unindexedForeignKeys());
+    }
+
+    @Test
+    @DisplayName("Should report a foreign key without index and an index never scanned")
+    void testReport_UnindexedForeignKeyAndUnusedIndex() {
+        // Given
+        jdbc.execute("CREATE TABLE interview_notes (note_id INT PRIMARY KEY, "
+                + "author_id INT REFERENCES users (user_id), created_at TIMESTAMP)");
+        jdbc.execute("CREATE INDEX idx_interview_notes_created_at ON interview_notes (created_at)");
+
+        // When
+        DatabaseAdvisorReport report = advisor.report();
+
+        // Then
+        assertEquals(List.of(new UnindexedForeignKey("interview_notes", "interview_notes_author_id_fkey", "author_id")),
+                report.unindexedForeignKeys());
+        assertTrue(report.unusedIndexes().contains(
+                new UnusedIndex("interview_notes", "idx_interview_notes_created_at", 8192)));
+        assertTrue(report.unusedIndexes().stream().noneMatch(index -> index.index().endsWith("_pkey")));
+    }
+
+    @Test
+    @DisplayName("Should list the slowest statements, and say why when they cannot be read")
+    void testReport_SlowStatements() {
+        // Given
+        jdbc.queryForObject("SELECT count(*) FROM pg_sleep(0.05), jobs", Long.class);
+
+        // When
+        DatabaseAdvisorReport report = advisor.report();
+        jdbc.execute("DROP EXTENSION pg_stat_statements");
+        DatabaseAdvisorReport withoutStatements = advisor.report();
+
+        // Then
+        assertNull(report.statementsUnavailable());
+        assertTrue(report.slowStatements().stream()
+                .anyMatch(statement -> statement.query().contains("pg_sleep") && statement.meanMillis() >= 50));
+        assertNotNull(withoutStatements.statementsUnavailable());
+        assertEquals(List.of(), withoutStatements.slowStatements());
+    }
+}
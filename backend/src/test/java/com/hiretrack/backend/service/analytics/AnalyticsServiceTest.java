@@ -0,0 +1,213 @@
+package com.hiretrack.backend.service.analytics;
+
+import com.hiretrack.backend.config.AnalyticsProperties;
+import com.hiretrack.backend.dto.analytics.AnalyticsFilter;
+import com.hiretrack.backend.dto.analytics.FunnelResponse;
+import com.hiretrack.backend.dto.analytics.FunnelRow;
+import com.hiretrack.backend.dto.analytics.InterviewOutcomeResponse;
+import com.hiretrack.backend.dto.analytics.StageDuration;
+import com.hiretrack.backend.enums.ApplicationStatus;
+import com.hiretrack.backend.enums.FunnelDimension;
+import com.hiretrack.backend.enums.InterviewType;
+import com.hiretrack.backend.enums.Outcome;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Refreshes and queries the analytics rollups against a real Postgres.
+ */
+@DisplayName("AnalyticsService Unit Tests")
+class AnalyticsServiceTest {
+
+    private static final AnalyticsFilter ANY = new AnalyticsFilter(null, null, null, null, null);
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbc;
+
+    private AnalyticsRefresher refresher;
+    private AnalyticsService service;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (user_id, tenant_id, email, password_hash, role) VALUES (1, 1, 'owner@example.com', 'x', 'ADMIN')");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // the figures of tenant 1, as one of its users would request them
+        AuthenticatedUser user = new AuthenticatedUser("owner@example.com", "", List.of(), 0, 1L);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        jdbc.update("DELETE FROM jobs");
+        jdbc.update("DELETE FROM candidates");
+        jdbc.update("DELETE FROM application_status_history");
+        jdbc.update("INSERT INTO jobs (job_id, tenant_id, title, department, employment_type, status, created_by) VALUES "
+                + "(1, 1, 'Java Engineer', 'Engineering', 'FULL_TIME', 'OPEN', 1), "
+                + "(2, 1, 'Recruiter', 'People', 'FULL_TIME', 'OPEN', 1)");
+        jdbc.update("INSERT INTO candidates (candidate_id, tenant_id, email) VALUES "
+                + "(1, 1, 'one@example.com'), (2, 1, 'two@example.com'), (3, 1, 'three@example.com')");
+        jdbc.update("INSERT INTO applications (application_id, tenant_id, job_id, candidate_id, status, source, applied_at) VALUES "
+                + "(1, 1, 1, 1, 'HIRED', 'LinkedIn', '2026-03-01 09:00'), "
+                + "(2, 1, 1, 2, 'REJECTED', 'LinkedIn', '2026-03-01 10:00'), "
+                + "(3, 1, 1, 3, 'APPLIED', 'Referral', '2026-03-02 09:00'), "
+                + "(4, 1, 2, 1, 'IN_REVIEW', NULL, '2026-03-05 09:00')");
+        jdbc.update("INSERT INTO interviews (tenant_id, application_id, interviewer_id, interview_date, interview_type, rating, outcome) VALUES "
+                + "(1, 1, 1, '2026-03-01 21:00', 'TECHNICAL', 4, 'PASSED'), "
+                + "(1, 1, 1, '2026-03-06 09:00', 'FINAL', 5, 'PASSED'), "
+                + "(1, 2, 1, '2026-03-11 10:00', 'TECHNICAL', 2, 'FAILED'), "
+                + "(1, 4, 1, '2026-03-06 11:00', 'HR', NULL, NULL)");
+        AnalyticsProperties properties = new AnalyticsProperties();
+        refresher = new AnalyticsRefresher(properties, dataSource, new SimpleMeterRegistry());
+        service = new AnalyticsService(refresher, dataSource, properties, new SimpleMeterRegistry());
+        refresher.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should count applications by status per source")
+    void testFunnel_GroupedBySource() {
+        // When
+        FunnelResponse funnel = service.funnel(ANY, FunnelDimension.SOURCE);
+
+        // Then
+        List<FunnelRow> rows = funnel.rows();
+        assertEquals(List.of("LinkedIn", "Referral"), rows.subList(0, 2).stream().map(FunnelRow::key).toList());
+        assertEquals(Map.of(ApplicationStatus.HIRED, 1L, ApplicationStatus.REJECTED, 1L), rows.get(0).byStatus());
+        assertEquals(0.5, rows.get(0).hireRate());
+        assertNull(rows.get(2).key());
+        assertEquals(1, rows.get(2).applications());
+        assertNotNull(funnel.refreshedAt());
+    }
+
+    @Test
+    @DisplayName("Should serve the refreshed figures only after the next refresh")
+    void testFunnel_Refresh() {
+        // Given
+        AnalyticsFilter march1 = new AnalyticsFilter(1L, null, null, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 2));
+        long before = service.funnel(march1, null).rows().get(0).applications();
+        jdbc.update("INSERT INTO candidates (candidate_id, tenant_id, email) VALUES (4, 1, 'four@example.com')");
+        jdbc.update("INSERT INTO applications (application_id, tenant_id, job_id, candidate_id, status, applied_at) VALUES (5, 1, 1, 4, 'APPLIED', '2026-03-01 12:00')");
+        refresher.markStale();
+
+        // When
+        long cached = service.funnel(march1, null).rows().get(0).applications();
+        refresher.refresh();
+        long refreshed = service.funnel(march1, null).rows().get(0).applications();
+
+        // Then
+        assertEquals(2, before);
+        assertEquals(2, cached);
+        assertEquals(3, refreshed);
+        assertFalse(refresher.isStale());
+    }
+
+    @Test
+    @DisplayName("Should aggregate interview outcomes and ratings")
+    void testInterviewOutcomes() {
+        // When
+        InterviewOutcomeResponse all = service.interviewOutcomes(ANY);
+        InterviewOutcomeResponse people = service.interviewOutcomes(new AnalyticsFilter(null, "People", null, null, null));
+
+        // Then
+        assertEquals(4, all.interviews());
+        assertEquals(Map.of(Outcome.PASSED, 2L, Outcome.FAILED, 1L), all.byOutcome());
+        assertEquals(Map.of(Outcome.PASSED, 1L, Outcome.FAILED, 1L), all.byTypeAndOutcome().get(InterviewType.TECHNICAL));
+        assertEquals(Map.of(2, 1L, 4, 1L, 5, 1L), all.byRating());
+        assertEquals(11.0 / 3, all.averageRating(), 1e-9);
+        assertEquals(1, people.interviews());
+        assertNull(people.averageRating());
+    }
+
+    @Test
+    @DisplayName("Should bucket the time spent in each stage")
+    void testStageDurations() {
+        // When
+        List<StageDuration> stages = service.stageDurations(new AnalyticsFilter(1L, null, null, null, null)).stages();
+
+        // Then
+        StageDuration toInterview = stages.get(0);
+        StageDuration loop = stages.get(1);
+        assertEquals("TO_FIRST_INTERVIEW", toInterview.stage());
+        assertEquals(2, toInterview.applications());
+        assertEquals((12 + 240) / 2.0, toInterview.averageHours(), 1e-6);
+        assertEquals(1L, toInterview.histogram().get("1d"));
+        assertEquals(1L, toInterview.histogram().get("14d"));
+        assertEquals("INTERVIEW_LOOP", loop.stage());
+        assertEquals(1L, loop.histogram().get("7d"));
+        assertEquals(1L, loop.histogram().get("1d"));
+    }
+
+    @Test
+    @DisplayName("Should measure the time spent in each status from the status log")
+    void testStageDurations_StatusLog() {
+        // Given
+        jdbc.update("UPDATE applications SET status = 'IN_REVIEW' WHERE application_id = 3");
+        jdbc.update("UPDATE application_status_history SET changed_at = '2026-03-04 09:00' "
+                + "WHERE application_id = 3 AND to_status = 'IN_REVIEW'");
+        refresher.refresh();
+
+        // When
+        List<StageDuration> stages = service.stageDurations(new AnalyticsFilter(1L, null, null, null, null)).stages();
+
+        // Then
+        assertEquals(List.of("TO_FIRST_INTERVIEW", "INTERVIEW_LOOP", "APPLIED"),
+                stages.stream().map(StageDuration::stage).toList());
+        StageDuration applied = stages.get(2);
+        assertEquals(1, applied.applications());
+        assertEquals(48.0, applied.averageHours(), 1e-6);
+        assertEquals(1L, applied.histogram().get("3d"));
+    }
+
+    @Test
+    @DisplayName("Should only mark the rollups stale once the write commits")
+    void testMarkStale_AfterCommit() {
+        // Given
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            refresher.markStale();
+            status.setRollbackOnly();
+        });
+        boolean afterRollback = refresher.isStale();
+        transaction.executeWithoutResult(status -> refresher.markStale());
+
+        // Then
+        assertFalse(afterRollback);
+        assertTrue(refresher.isStale());
+    }
+}
@@ -3,10 +3,14 @@ package com.hiretrack.backend.service.auth;
 import com.hiretrack.backend.dto.auth.AuthResponse;
 import com.hiretrack.backend.dto.auth.LoginRequest;
 import com.hiretrack.backend.dto.auth.RegisterRequest;
+import com.hiretrack.backend.entity.TenantInvitation;
 import com.hiretrack.backend.entity.User;
 import com.hiretrack.backend.enums.Role;
+import com.hiretrack.backend.repository.TenantRepository;
 import com.hiretrack.backend.repository.UserRepository;
 import com.hiretrack.backend.security.jwt.JwtTokenProvider;
+import com.hiretrack.backend.security.jwt.TokenDenyList;
+import com.hiretrack.backend.service.tenancy.TenantInvitationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,9 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TenantRepository tenantRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -46,9 +53,13 @@ class AuthServiceTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private TokenDenyList tokenDenyList;
 
-    private Role defaultRole;
+    @Mock
+    private TenantInvitationService invitationService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
 
     private AuthService authService;
 
@@ -62,13 +73,14 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
-        defaultRole = Role.RECRUITER;
         authService = new AuthService(
                 userRepository,
+                tenantRepository,
                 passwordEncoder,
                 authenticationManager,
                 jwtTokenProvider,
-                defaultRole
+                tokenDenyList,
+                invitationService
         );
 
         registerRequest = new RegisterRequest(
@@ -78,7 +90,8 @@ class AuthServiceTest {
                 "Doe",
                 "RECRUITER",
                 "Test Company",
-                "+1234567890"
+                "+1234567890",
+                null
         );
         loginRequest = new LoginRequest("test@example.com", "password123");
         encodedPassword = "$2a$10$encodedPasswordHash";
@@ -110,6 +123,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail(registerRequest.email())).thenReturn(false);
         when(passwordEncoder.encode(registerRequest.password())).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(tenantRepository.create("Test Company")).thenReturn(7L);
 
         // When
         authService.register(registerRequest);
@@ -125,9 +139,11 @@ class AuthServiceTest {
         assertEquals(encodedPassword, capturedUser.getPasswordHash());
         assertEquals(registerRequest.firstName(), capturedUser.getFirstName());
         assertEquals(registerRequest.lastName(), capturedUser.getLastName());
-        assertEquals(Role.RECRUITER, capturedUser.getRole());
+        // the founder of the new company, whatever role was asked for
+        assertEquals(Role.ADMIN, capturedUser.getRole());
         assertEquals(registerRequest.companyName(), capturedUser.getCompanyName());
         assertEquals(registerRequest.phoneNumber(), capturedUser.getPhoneNumber());
+        assertEquals(7L, capturedUser.getTenantId());
         assertNotNull(capturedUser.getCreatedAt());
     }
 
@@ -221,7 +237,8 @@ class AuthServiceTest {
                 plainPassword,
                 "Jane",
                 "Smith",
-                "ADMIN",
+                "RECRUITER",
+                null,
                 null,
                 null
         );
@@ -241,17 +258,18 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("Should register user with valid role from request")
-    void testRegister_WithValidRole() {
+    @DisplayName("Should make the founder of a new company its admin, whatever role is requested")
+    void testRegister_FounderIsAdmin() {
         // Given
         RegisterRequest request = new RegisterRequest(
-                "admin@example.com",
+                "manager@example.com",
                 "password123",
-                "Admin",
-                "User",
-                "ADMIN",
-                "Admin Corp",
-                "+9876543210"
+                "Hiring",
+                "Manager",
+                "HIRING_MANAGER",
+                "Manager Corp",
+                "+9876543210",
+                null
         );
 
         when(userRepository.existsByEmail(request.email())).thenReturn(false);
@@ -271,7 +289,82 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("Should use default role when invalid role is provided")
+    @DisplayName("Should create a new tenant even when the company name is already taken")
+    void testRegister_SameCompanyName_NewTenant() {
+        // Given
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn(encodedPassword);
+        when(tenantRepository.create("Test Company")).thenReturn(7L, 8L);
+
+        // When
+        authService.register(registerRequest);
+        authService.register(new RegisterRequest("other@example.com", "password123", "Other", "User",
+                "RECRUITER", " Test Company ", null, null));
+
+        // Then
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository, times(2)).save(userCaptor.capture());
+        assertEquals(7L, userCaptor.getAllValues().get(0).getTenantId());
+        assertEquals(8L, userCaptor.getAllValues().get(1).getTenantId());
+    }
+
+    @Test
+    @DisplayName("Should join the inviting tenant with the invitation's role")
+    void testRegister_WithInvitation() {
+        // Given
+        RegisterRequest request = new RegisterRequest(
+                "invited@example.com",
+                "password123",
+                "Invited",
+                "User",
+                "RECRUITER",
+                "Anything",
+                null,
+                "invitation-token"
+        );
+        TenantInvitation invitation = new TenantInvitation();
+        when(userRepository.existsByEmail(request.email())).thenReturn(false);
+        when(invitationService.findPending("invitation-token", request.email())).thenReturn(invitation);
+        when(passwordEncoder.encode(request.password())).thenReturn(encodedPassword);
+
+        // When
+        authService.register(request);
+
+        // Then
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(invitationService).accept(eq(invitation), userCaptor.capture());
+        assertEquals(request.email(), userCaptor.getValue().getEmail());
+        assertEquals(encodedPassword, userCaptor.getValue().getPasswordHash());
+        verify(tenantRepository, never()).create(anyString());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse an invalid invitation before hashing the password")
+    void testRegister_InvalidInvitation() {
+        // Given
+        RegisterRequest request = new RegisterRequest(
+                "invited@example.com",
+                "password123",
+                "Invited",
+                "User",
+                null,
+                null,
+                null,
+                "bogus"
+        );
+        when(userRepository.existsByEmail(request.email())).thenReturn(false);
+        when(invitationService.findPending("bogus", request.email()))
+                .thenThrow(new IllegalArgumentException("Invalid or expired invitation"));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> authService.register(request));
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should ignore an invalid role")
     void testRegister_WithInvalidRole() {
         // Given
         RegisterRequest request = new RegisterRequest(
@@ -281,6 +374,7 @@ class AuthServiceTest {
                 "User",
                 "INVALID_ROLE",
                 null,
+                null,
                 null
         );
 
@@ -295,8 +389,7 @@ class AuthServiceTest {
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
         User capturedUser = userCaptor.getValue();
-        // Should use default role (RECRUITER) when invalid role is provided
-        assertEquals(defaultRole, capturedUser.getRole());
+        assertEquals(Role.ADMIN, capturedUser.getRole());
     }
 
     @Test
@@ -310,6 +403,7 @@ class AuthServiceTest {
                 "User",
                 "HIRING_MANAGER",
                 null,
+                null,
                 null
         );
 
@@ -326,7 +420,7 @@ class AuthServiceTest {
         User capturedUser = userCaptor.getValue();
         assertNull(capturedUser.getCompanyName());
         assertNull(capturedUser.getPhoneNumber());
-        assertEquals(Role.HIRING_MANAGER, capturedUser.getRole());
+        assertEquals(Role.ADMIN, capturedUser.getRole());
     }
 
     @Test
@@ -352,4 +446,14 @@ class AuthServiceTest {
         assertTrue(capturedUser.getCreatedAt().isAfter(beforeRegistration.minusSeconds(1)));
         assertTrue(capturedUser.getCreatedAt().isBefore(afterRegistration.plusSeconds(1)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should revoke every token of the user on logout")
+    void testLogout_RevokesAllTokens() {
+        // When
+        authService.logout("test@example.com");
+
+        // Then
+        verify(tokenDenyList).revokeAll("test@example.com");
+    }
+}
@@ -0,0 +1,154 @@
+package com.hiretrack.backend.service.auth.cache;
+
+import com.hiretrack.backend.config.UserDetailsCacheProperties;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.service.auth.JpaUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserDetailsService Unit Tests")
+class CachingUserDetailsServiceTest {
+
+    @Mock
+    private JpaUserDetailsService jpaUserDetailsService;
+
+    private UserDetailsCacheProperties properties;
+    private InMemoryUserCacheInvalidationBroadcaster broadcaster;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UserDetailsCacheProperties();
+        broadcaster = new InMemoryUserCacheInvalidationBroadcaster();
+        email = "test@example.com";
+    }
+
+    private CachingUserDetailsService newNode() {
+        return new CachingUserDetailsService(jpaUserDetailsService, broadcaster, properties, new SimpleMeterRegistry());
+    }
+
+    private AuthenticatedUser user() {
+        return new AuthenticatedUser(email, "$2a$10$encodedPasswordHash",
+                List.of(new SimpleGrantedAuthority("RECRUITER")), 0, 1L);
+    }
+
+    @Test
+    @DisplayName("Should hit the database only once for repeated lookups")
+    void testLoadUserByUsername_CachesUser() {
+        // Given
+        when(jpaUserDetailsService.loadUserByUsername(email)).thenReturn(user());
+        CachingUserDetailsService service = newNode();
+
+        // When
+        service.loadUserByUsername(email);
+        UserDetails second = service.loadUserByUsername(email);
+
+        // Then
+        assertEquals(email, second.getUsername());
+        verify(jpaUserDetailsService, times(1)).loadUserByUsername(email);
+    }
+
+    @Test
+    @DisplayName("Should keep the cached password when a returned principal has its credentials erased")
+    void testLoadUserByUsername_ReturnsCopies() {
+        // Given
+        when(jpaUserDetailsService.loadUserByUsername(email)).thenReturn(user());
+        CachingUserDetailsService service = newNode();
+
+        // When
+        ((AuthenticatedUser) service.loadUserByUsername(email)).eraseCredentials();
+        UserDetails second = service.loadUserByUsername(email);
+
+        // Then
+        assertEquals("$2a$10$encodedPasswordHash", second.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown users")
+    void testLoadUserByUsername_UserNotFound() {
+        // Given
+        when(jpaUserDetailsService.loadUserByUsername(email))
+                .thenThrow(new UsernameNotFoundException("User not found with email: " + email));
+        CachingUserDetailsService service = newNode();
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername(email));
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername(email));
+        verify(jpaUserDetailsService, times(2)).loadUserByUsername(email);
+    }
+
+    @Test
+    @DisplayName("Should drop the entry on every node sharing the broadcaster")
+    void testInvalidate_BroadcastsToOtherNodes() {
+        // Given
+        when(jpaUserDetailsService.loadUserByUsername(email)).thenReturn(user());
+        CachingUserDetailsService nodeA = newNode();
+        CachingUserDetailsService nodeB = newNode();
+        nodeA.loadUserByUsername(email);
+        nodeB.loadUserByUsername(email);
+
+        // When
+        nodeA.invalidate(email);
+
+        // Then
+        assertEquals(0, nodeA.estimatedSize());
+        assertEquals(0, nodeB.estimatedSize());
+        nodeB.loadUserByUsername(email);
+        verify(jpaUserDetailsService, times(3)).loadUserByUsername(email);
+    }
+
+    @Test
+    @DisplayName("Should not keep details loaded before an invalidation that arrived during the load")
+    void testInvalidate_DuringLoad() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        AuthenticatedUser revoked = new AuthenticatedUser(email, "$2a$10$encodedPasswordHash",
+                List.of(new SimpleGrantedAuthority("RECRUITER")), 1, 1L);
+        when(jpaUserDetailsService.loadUserByUsername(email))
+                .thenAnswer(invocation -> {
+                    // reads the row, then the change commits before the details are cached
+                    loading.countDown();
+                    committed.await(5, TimeUnit.SECONDS);
+                    return user();
+                })
+                .thenReturn(revoked);
+        CachingUserDetailsService service = newNode();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<UserDetails> load = executor.submit(() -> service.loadUserByUsername(email));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // When
+            Future<?> invalidation = executor.submit(() -> service.invalidate(email));
+            Thread.sleep(100);
+            committed.countDown();
+            load.get(5, TimeUnit.SECONDS);
+            invalidation.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(1, ((AuthenticatedUser) service.loadUserByUsername(email)).getTokenVersion());
+    }
+}
@@ -0,0 +1,87 @@
+package com.hiretrack.backend.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hiretrack.backend.enums.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExportWriter Unit Tests")
+class ExportWriterTest {
+
+    record Row(Long id, String name, LocalDateTime createdAt) {}
+
+    private ObjectMapper objectMapper;
+    private ByteArrayOutputStream out;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        out = new ByteArrayOutputStream();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void testNdjson_OneObjectPerLine() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+        // When
+        try (ExportWriter<Row> writer = ExportWriter.open(ExportFormat.NDJSON, Row.class, out, objectMapper)) {
+            writer.write(new Row(1L, "first\nline", createdAt));
+            writer.write(new Row(2L, null, null));
+        }
+
+        // Then
+        assertEquals("""
+                {"id":1,"name":"first\\nline","createdAt":"2025-01-02T03:04:05"}
+                {"id":2,"name":null,"createdAt":null}
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote fields containing separators")
+    void testCsv_HeaderAndQuoting() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+        // When
+        try (ExportWriter<Row> writer = ExportWriter.open(ExportFormat.CSV, Row.class, out, objectMapper)) {
+            writer.write(new Row(1L, "Doe, \"JD\"", createdAt));
+            writer.write(new Row(2L, "multi\nline", null));
+            writer.write(new Row(3L, "plain", null));
+        }
+
+        // Then
+        assertEquals("id,name,createdAt\r\n"
+                        + "1,\"Doe, \"\"JD\"\"\",2025-01-02T03:04:05\r\n"
+                        + "2,\"multi\nline\",\r\n"
+                        + "3,plain,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should leave the underlying stream open when closed")
+    void testClose_KeepsStreamOpen() {
+        // Given
+        ExportWriter<Row> writer = ExportWriter.open(ExportFormat.NDJSON, Row.class, out, objectMapper);
+
+        // When
+        writer.write(new Row(1L, "a", null));
+        writer.close();
+        out.write('x');
+
+        // Then
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\nx"));
+    }
+}
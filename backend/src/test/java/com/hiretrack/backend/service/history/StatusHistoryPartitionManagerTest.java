@@ -0,0 +1,70 @@
+package com.hiretrack.backend.service.history;
+
+import com.hiretrack.backend.config.StatusHistoryProperties;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creates status log partitions against a real Postgres.
+ */
+@DisplayName("StatusHistoryPartitionManager Unit Tests")
+class StatusHistoryPartitionManagerTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbc;
+    private static StatusHistoryPartitionManager manager;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (user_id, tenant_id, email, password_hash, role) VALUES (1, 1, 'owner@example.com', 'x', 'ADMIN')");
+        jdbc.update("INSERT INTO jobs (job_id, tenant_id, title, employment_type, status, created_by) VALUES (1, 1, 'Java Engineer', 'FULL_TIME', 'OPEN', 1)");
+        jdbc.update("INSERT INTO candidates (candidate_id, tenant_id, email) VALUES (1, 1, 'one@example.com')");
+        StatusHistoryProperties properties = new StatusHistoryProperties();
+        properties.setMonthsAhead(2);
+        manager = new StatusHistoryPartitionManager(dataSource, properties);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("Should create the missing months and move their rows out of the default partition")
+    void testEnsurePartitions_MovesDefaultRows() {
+        // Given
+        jdbc.update("INSERT INTO applications (tenant_id, job_id, candidate_id, status, applied_at) VALUES (1, 1, 1, 'APPLIED', '2040-02-10 09:00')");
+        assertEquals("application_status_history_default", partitionOf("2040-02-10 09:00"));
+
+        // When
+        int created = manager.ensurePartitions(LocalDate.of(2040, 1, 20));
+        int again = manager.ensurePartitions(LocalDate.of(2040, 1, 20));
+
+        // Then
+        assertEquals(3, created);
+        assertEquals(0, again);
+        assertEquals("application_status_history_2040_02", partitionOf("2040-02-10 09:00"));
+        assertNotNull(jdbc.queryForObject("SELECT to_regclass('application_status_history_2040_03')", String.class));
+    }
+
+    private static String partitionOf(String changedAt) {
+        return jdbc.queryForObject(
+                "SELECT tableoid::regclass::text FROM application_status_history WHERE changed_at = ?::timestamp",
+                String.class, changedAt);
+    }
+}
@@ -0,0 +1,286 @@
+package com.hiretrack.backend.service.imports;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiretrack.backend.config.CandidateImportProperties;
+import com.hiretrack.backend.controller.ApiExceptionHandler;
+import com.hiretrack.backend.controller.CandidateImportController;
+import com.hiretrack.backend.entity.Candidate;
+import com.hiretrack.backend.enums.ImportStatus;
+import com.hiretrack.backend.repository.CandidateRepository;
+import com.hiretrack.backend.security.AuthenticatedUser;
+import com.hiretrack.backend.support.EmbeddedPostgresConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs candidate imports against a real Postgres: de-duplication by the unique constraint, ids
+ * shared with Hibernate's pooled optimizer, outbox events and the bounded queue. Batches of 3
+ * rows, so duplicates and id blocks span several batches.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "app.candidate-import.batch-size=3"})
+@Import(EmbeddedPostgresConfig.class)
+@DisplayName("CandidateImportService Tests")
+class CandidateImportServiceTest {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private CandidateImportService importService;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long tenantId;
+    private long otherTenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = newTenant();
+        otherTenantId = newTenant();
+        actAs(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should skip emails already in the tenant or earlier in the file, and reject invalid rows")
+    void testImport_Duplicates() throws Exception {
+        // Given
+        insertCandidate(tenantId, "existing@example.com");
+        insertCandidate(otherTenantId, "elsewhere@example.com");
+        String csv = """
+                firstName,lastName,email,experienceLevel
+                Ann,First,ann@example.com,JUNIOR
+                Dup,Licate,existing@example.com,
+                Bob,Second,bob@example.com,MID
+                Ann,Again,ann@example.com,SENIOR
+                No,Email,,
+                Cat,Third,elsewhere@example.com,
+                Bad,Level,bad@example.com,GURU
+                """;
+
+        // When
+        ImportJob job = importAndWait(csv);
+
+        // Then
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(7, job.getRowsRead());
+        assertEquals(3, job.getInserted());
+        assertEquals(2, job.getDuplicates());
+        assertEquals(2, job.getRejected());
+        assertEquals(Map.of(
+                        "existing@example.com", "Existing",
+                        "ann@example.com", "Ann",
+                        "bob@example.com", "Bob",
+                        "elsewhere@example.com", "Cat"),
+                jdbcTemplate.query("SELECT email, first_name FROM candidates WHERE tenant_id = ?",
+                        rs -> {
+                            Map<String, String> names = new HashMap<>();
+                            while (rs.next()) {
+                                names.put(rs.getString("email"), rs.getString("first_name"));
+                            }
+                            return names;
+                        }, tenantId));
+    }
+
+    @Test
+    @DisplayName("Should record one CREATED outbox event per inserted candidate, none for duplicates")
+    void testImport_OutboxEvents() throws Exception {
+        // Given
+        insertCandidate(tenantId, "existing@example.com");
+        String csv = """
+                firstName,lastName,email
+                Ann,First,ann@example.com
+                Dup,Licate,existing@example.com
+                Bob,Second,bob@example.com
+                Ann,Again,ann@example.com
+                """;
+
+        // When
+        importAndWait(csv);
+
+        // Then
+        Map<Long, String> inserted = new HashMap<>();
+        jdbcTemplate.query("SELECT candidate_id, email FROM candidates WHERE tenant_id = ? AND email <> 'existing@example.com'",
+                rs -> {
+                    inserted.put(rs.getLong("candidate_id"), rs.getString("email"));
+                }, tenantId);
+        List<Map<String, Object>> events = jdbcTemplate.queryForList("""
+                SELECT aggregate_id, event_type, payload::text AS payload FROM outbox_events
+                WHERE aggregate_type = 'CANDIDATE' AND aggregate_id = ANY(?)""",
+                (Object) inserted.keySet().toArray(Long[]::new));
+        assertEquals(2, events.size());
+        for (Map<String, Object> event : events) {
+            long id = ((Number) event.get("aggregate_id")).longValue();
+            JsonNode payload = objectMapper.readTree((String) event.get("payload"));
+            assertEquals("CREATED", event.get("event_type"));
+            assertEquals(id, payload.get("id").asLong());
+            assertEquals(inserted.get(id), payload.get("email").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Should allocate ids that never collide with candidates saved through JPA")
+    void testImport_IdsSharedWithJpa() throws Exception {
+        // Given: JPA holds a partly used block of 50 ids when the imports start
+        saveThroughJpa(tenantId, 7);
+
+        // When
+        importAndWait(csv(otherTenantId, 0, 80));
+        saveThroughJpa(tenantId, 60);
+        importAndWait(csv(tenantId, 80, 40));
+        saveThroughJpa(otherTenantId, 5);
+
+        // Then
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT candidate_id FROM candidates WHERE tenant_id IN (?, ?)", Long.class, tenantId, otherTenantId);
+        assertEquals(7 + 80 + 60 + 40 + 5, ids.size());
+        // the primary key is (candidate_id, tenant_id): only distinct ids across tenants prove no collision
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM (SELECT candidate_id FROM candidates GROUP BY candidate_id HAVING count(*) > 1) d",
+                Integer.class));
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After while the import queue is full")
+    void testSubmit_QueueFull() throws Exception {
+        // Given: no queue, and a running import blocked on its first connection
+        CountDownLatch release = new CountDownLatch(1);
+        DataSource blocking = new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getConnection();
+            }
+        };
+        CandidateImportProperties properties = new CandidateImportProperties();
+        properties.setQueueCapacity(0);
+        CandidateImportService service = new CandidateImportService(blocking,
+                new DataSourceTransactionManager(blocking), objectMapper, properties, new SimpleMeterRegistry());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CandidateImportController(service))
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+        String csv = "email\nqueued@example.com\n";
+
+        try {
+            // When
+            mockMvc.perform(post("/api/imports/candidates").contentType(CSV).content(csv))
+                    .andExpect(status().isAccepted());
+
+            // Then
+            mockMvc.perform(post("/api/imports/candidates").contentType(CSV).content(csv))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    private ImportJob importAndWait(String csv) throws Exception {
+        ImportJob job = importService.submit(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), CSV);
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!job.isFinished()) {
+            assertTrue(System.currentTimeMillis() < deadline, "import did not finish");
+            Thread.sleep(20);
+        }
+        assertNull(job.getFailure());
+        return job;
+    }
+
+    /**
+     * An import of {@code count} candidates submitted from {@code tenant}, numbered from {@code first}.
+     */
+    private String csv(long tenant, int first, int count) {
+        actAs(tenant);
+        return IntStream.range(first, first + count)
+                .mapToObj(i -> "Bulk,N" + i + ",bulk" + i + "@example.com")
+                .collect(Collectors.joining("\n", "firstName,lastName,email\n", "\n"));
+    }
+
+    private void saveThroughJpa(long tenant, int count) {
+        actAs(tenant);
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Candidate candidate = new Candidate();
+            candidate.setFirstName("Saved");
+            candidate.setLastName("N" + i);
+            candidate.setEmail("saved-" + UUID.randomUUID() + "@example.com");
+            candidates.add(candidate);
+        }
+        Set<Long> ids = candidateRepository.saveAll(candidates).stream().map(Candidate::getId).collect(Collectors.toSet());
+        assertEquals(count, ids.size());
+    }
+
+    private void insertCandidate(long tenant, String email) {
+        jdbcTemplate.update("INSERT INTO candidates (tenant_id, first_name, last_name, email) VALUES (?, 'Existing', 'Candidate', ?)",
+                tenant, email);
+    }
+
+    private long newTenant() {
+        return jdbcTemplate.queryForObject("INSERT INTO tenants (name) VALUES (?) RETURNING tenant_id",
+                Long.class, "Import " + UUID.randomUUID());
+    }
+
+    private static void actAs(long tenant) {
+        AuthenticatedUser recruiter = new AuthenticatedUser("recruiter@example.com", "",
+                List.of(new SimpleGrantedAuthority("RECRUITER")), 0, tenant);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(recruiter, null, recruiter.getAuthorities()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.hiretrack.backend.service.imports;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvReader Unit Tests")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should split plain records on commas and line breaks")
+    void testNext_PlainRecords() throws IOException {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\r\n1,,3\n"));
+
+        // When / Then
+        assertEquals(List.of("a", "b", "c"), reader.next());
+        assertEquals(List.of("1", "", "3"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should unescape quoted fields holding commas, quotes and line breaks")
+    void testNext_QuotedFields() throws IOException {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("\"Doe, Jane\",\"say \"\"hi\"\"\",\"two\nlines\"\nnext,row,here"));
+
+        // When
+        List<String> first = reader.next();
+        long firstLine = reader.recordLine();
+        List<String> second = reader.next();
+
+        // Then
+        assertEquals(List.of("Doe, Jane", "say \"hi\"", "two\nlines"), first);
+        assertEquals(1, firstLine);
+        assertEquals(List.of("next", "row", "here"), second);
+        assertEquals(3, reader.recordLine());
+    }
+
+    @Test
+    @DisplayName("Should skip blank lines and report the line each record starts on")
+    void testNext_BlankLines() throws IOException {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("a\n\n\r\nb\n"));
+
+        // When / Then
+        assertEquals(List.of("a"), reader.next());
+        assertEquals(List.of("b"), reader.next());
+        assertEquals(4, reader.recordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field")
+    void testNext_UnterminatedQuote() {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("a,\"open\nb"));
+
+        // When / Then
+        IOException e = assertThrows(IOException.class, reader::next);
+        assertTrue(e.getMessage().contains("line 1"));
+    }
+}
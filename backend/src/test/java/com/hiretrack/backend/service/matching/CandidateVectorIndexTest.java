@@ -0,0 +1,114 @@
+package com.hiretrack.backend.service.matching;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CandidateVectorIndex Unit Tests")
+class CandidateVectorIndexTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should rank the candidate sharing the rarest terms first")
+    void testTopK_RanksByTfIdf() {
+        // Given
+        CandidateVectorIndex index = CandidateVectorIndex.builder()
+                .add(1, text("Remote java spring developer"))
+                .add(2, text("Java kafka kubernetes platform engineer"))
+                .add(3, text("Remote designer figma"))
+                .add(4, text("Remote java"))
+                .build();
+
+        // When
+        List<ScoredCandidate> matches = index.topK(text("Platform engineer: Java, Kafka, remote"), 10, pool);
+
+        // Then
+        assertEquals(List.of(2L, 4L, 1L, 3L), matches.stream().map(ScoredCandidate::candidateId).toList());
+        assertTrue(matches.get(0).score() <= 1.0001f);
+        assertTrue(matches.get(3).score() > 0);
+    }
+
+    @Test
+    @DisplayName("Should skip candidates sharing no term and return nothing for an empty text")
+    void testTopK_NoSharedTerms() {
+        // Given
+        CandidateVectorIndex index = CandidateVectorIndex.builder()
+                .add(1, text("Java developer"))
+                .add(2, text("Accountant"))
+                .build();
+
+        // When / Then
+        assertEquals(List.of(1L), index.topK(text("java"), 10, pool).stream().map(ScoredCandidate::candidateId).toList());
+        assertTrue(index.topK(text("the and of"), 10, pool).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return the same top K as a sequential brute force over many ranges")
+    void testTopK_MatchesBruteForce() {
+        // Given
+        Random random = new Random(42);
+        String[] words = IntStream.range(0, 300).mapToObj(i -> "skill" + i).toArray(String[]::new);
+        CandidateVectorIndex.Builder builder = CandidateVectorIndex.builder();
+        for (int id = 0; id < 50_000; id++) {
+            StringBuilder profile = new StringBuilder();
+            for (int w = 0; w < 12; w++) {
+                profile.append(words[(int) Math.abs(random.nextGaussian() * 60) % words.length]).append(' ');
+            }
+            builder.add(id, text(profile.toString()));
+        }
+        CandidateVectorIndex index = builder.build();
+        SparseVector job = text("skill3 skill7 skill7 skill42 skill120");
+
+        // When
+        List<ScoredCandidate> parallel = index.topK(job, 25, pool);
+        ForkJoinPool single = new ForkJoinPool(1);
+        List<ScoredCandidate> all = index.topK(job, index.size(), single);
+        single.shutdownNow();
+
+        // Then
+        List<ScoredCandidate> expected = all.stream()
+                .sorted(Comparator.comparing(ScoredCandidate::score).reversed()
+                        .thenComparing(ScoredCandidate::candidateId))
+                .limit(25)
+                .toList();
+        assertEquals(expected, parallel);
+    }
+
+    @Test
+    @DisplayName("Should keep C++ and C# tokens and merge repeated terms")
+    void testVectorizer_Tokens() {
+        // When
+        SparseVector vector = text("C++ and C# and c++, the C++");
+
+        // Then
+        assertEquals(2, vector.size());
+        int cpp = TextVectorizer.feature("c++");
+        int index = vector.features()[0] == cpp ? 0 : 1;
+        assertEquals(1 + (float) Math.log(3), vector.weights()[index], 1e-6);
+        assertEquals(1f, vector.weights()[1 - index], 1e-6);
+    }
+
+    private static SparseVector text(String text) {
+        return new TextVectorizer.Builder().add(text, 1).build();
+    }
+}
@@ -0,0 +1,178 @@
+package com.hiretrack.backend.service.matching;
+
+import com.hiretrack.backend.config.MatchingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the match score worker against a real Postgres.
+ */
+@DisplayName("MatchScoreMaintainer Unit Tests")
+class MatchScoreMaintainerTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbc;
+
+    private MatchScoreMaintainer maintainer;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (user_id, tenant_id, email, password_hash, role) VALUES (1, 1, 'owner@example.com', 'x', 'ADMIN')");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM match_score_queue");
+        jdbc.update("DELETE FROM jobs");
+        jdbc.update("DELETE FROM candidates");
+        jdbc.update("INSERT INTO jobs (job_id, tenant_id, title, description, employment_type, status, created_by) "
+                + "VALUES (1, 1, 'Java Engineer', 'Kafka and Kubernetes', 'FULL_TIME', 'OPEN', 1)");
+        jdbc.update("INSERT INTO candidates (candidate_id, tenant_id, email, location) VALUES (1, 1, 'one@example.com', 'Rabat'), (2, 1, 'two@example.com', 'Paris')");
+        jdbc.update("INSERT INTO applications (application_id, tenant_id, job_id, candidate_id, status, notes) VALUES "
+                + "(1, 1, 1, 1, 'APPLIED', 'Strong Java, knows Kafka'), (2, 1, 1, 2, 'APPLIED', 'Graphic designer')");
+        maintainer = newMaintainer();
+    }
+
+    @Test
+    @DisplayName("Should coalesce repeated changes of the same entity")
+    void testEnqueue_Coalesces() {
+        // When
+        maintainer.candidateChanged(1L);
+        maintainer.candidateChanged(1L);
+        maintainer.jobChanged(1L);
+        maintainer.jobChanged(1L);
+
+        // Then
+        assertEquals(2, maintainer.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Should rescore every application of a changed job")
+    void testDrain_JobChanged() {
+        // Given
+        maintainer.jobChanged(1L);
+
+        // When
+        long rescored = maintainer.drain();
+
+        // Then
+        Map<Long, Float> scores = scores();
+        assertEquals(2, rescored);
+        assertEquals(0, maintainer.queueDepth());
+        assertTrue(scores.get(1L) > 0);
+        assertEquals(0f, scores.get(2L));
+    }
+
+    @Test
+    @DisplayName("Should drop the score of a deleted application when its candidate is rescored")
+    void testDrain_DeletedApplication() {
+        // Given
+        maintainer.jobChanged(1L);
+        maintainer.drain();
+        jdbc.update("DELETE FROM applications WHERE application_id = 1");
+
+        // When
+        maintainer.candidateChanged(1L);
+        long rescored = maintainer.drain();
+
+        // Then
+        assertEquals(0, rescored);
+        assertEquals(Map.of(2L, 0f), scores());
+    }
+
+    @Test
+    @DisplayName("Should queue a change with its transaction")
+    void testEnqueue_WithTransaction() {
+        // Given
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            maintainer.candidateChanged(1L);
+            status.setRollbackOnly();
+        });
+        int afterRollback = maintainer.queueDepth();
+        transaction.executeWithoutResult(status -> maintainer.candidateChanged(2L));
+
+        // Then
+        assertEquals(0, afterRollback);
+        assertEquals(1, maintainer.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Should rescore changes queued before a restart")
+    void testDrain_AfterRestart() throws InterruptedException {
+        // Given
+        maintainer.jobChanged(1L);
+        maintainer.shutdown();
+
+        // When
+        long rescored = newMaintainer().drain();
+
+        // Then
+        assertEquals(2, rescored);
+        assertEquals(0, maintainer.queueDepth());
+        assertEquals(2, scores().size());
+    }
+
+    @Test
+    @DisplayName("Should leave an entry locked by an uncommitted change to a later pass")
+    void testDrain_SkipsLockedEntries() {
+        // Given
+        maintainer.jobChanged(1L);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // When
+        long whileLocked = transaction.execute(status -> {
+            maintainer.jobChanged(1L);
+            // another node drains meanwhile
+            return CompletableFuture.supplyAsync(() -> newMaintainer().drain()).join();
+        });
+        long afterCommit = maintainer.drain();
+
+        // Then
+        assertEquals(0, whileLocked);
+        assertEquals(2, afterCommit);
+    }
+
+    private static MatchScoreMaintainer newMaintainer() {
+        return new MatchScoreMaintainer(new MatchingProperties(), dataSource,
+                new DataSourceTransactionManager(dataSource), new SimpleMeterRegistry());
+    }
+
+    private static Map<Long, Float> scores() {
+        Map<Long, Float> scores = new HashMap<>();
+        jdbc.query("SELECT candidate_id, score FROM match_scores WHERE job_id = 1",
+                rs -> {
+                    scores.put(rs.getLong("candidate_id"), rs.getFloat("score"));
+                });
+        return scores;
+    }
+}
@@ -0,0 +1,147 @@
+package com.hiretrack.backend.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiretrack.backend.config.OutboxProperties;
+import com.hiretrack.backend.enums.OutboxAggregate;
+import com.hiretrack.backend.enums.OutboxEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes and relays outbox events against a real Postgres.
+ */
+@DisplayName("OutboxRelay Unit Tests")
+class OutboxRelayTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbc;
+    private static TransactionTemplate transaction;
+
+    private OutboxWriter writer;
+    private OutboxProperties properties;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM outbox_events");
+        writer = new OutboxWriter(dataSource, new ObjectMapper().findAndRegisterModules());
+        properties = new OutboxProperties();
+        properties.setBatchSize(10);
+    }
+
+    @Test
+    @DisplayName("Should refuse to write an event outside a transaction")
+    void testRecord_NoTransaction() {
+        // When / Then
+        assertThrows(IllegalStateException.class,
+                () -> writer.record(OutboxAggregate.JOB, 1L, OutboxEventType.CREATED, null));
+    }
+
+    @Test
+    @DisplayName("Should relay committed events in order and delete them")
+    void testDrain_CommittedEvents() {
+        // Given
+        transaction.executeWithoutResult(status -> {
+            writer.record(OutboxAggregate.JOB, 1L, OutboxEventType.CREATED, Map.of("title", "Java Engineer"));
+            writer.record(OutboxAggregate.JOB, 1L, OutboxEventType.DELETED, null);
+        });
+        transaction.executeWithoutResult(status -> {
+            writer.record(OutboxAggregate.CANDIDATE, 2L, OutboxEventType.CREATED, null);
+            status.setRollbackOnly();
+        });
+        List<OutboxEvent> received = new ArrayList<>();
+
+        // When
+        long published = relay(received::addAll).drain();
+
+        // Then
+        assertEquals(2, published);
+        assertEquals(List.of(OutboxEventType.CREATED, OutboxEventType.DELETED),
+                received.stream().map(OutboxEvent::eventType).toList());
+        assertEquals("{\"title\": \"Java Engineer\"}", received.get(0).payload());
+        assertNull(received.get(1).payload());
+        assertEquals(0, pending());
+    }
+
+    @Test
+    @DisplayName("Should keep the events of a batch the sink failed to publish")
+    void testDrain_SinkFailure() {
+        // Given
+        insertEvents(3);
+        OutboxRelay failing = relay(events -> {
+            throw new IllegalStateException("broker down");
+        });
+
+        // When / Then
+        assertThrows(IllegalStateException.class, failing::drain);
+        assertEquals(3, pending());
+        assertEquals(3, relay(events -> { }).drain());
+    }
+
+    @Test
+    @DisplayName("Should let concurrent relays drain without publishing an event twice")
+    void testDrain_ConcurrentRelays() {
+        // Given
+        insertEvents(500);
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        OutboxSink sink = events -> events.forEach(event -> received.add(event.id()));
+
+        // When
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> relay(sink).drain());
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> relay(sink).drain());
+        long published = first.join() + second.join();
+
+        // Then
+        assertEquals(500, published);
+        assertEquals(500, received.stream().distinct().count());
+        assertEquals(0, pending());
+    }
+
+    private OutboxRelay relay(OutboxSink sink) {
+        return new OutboxRelay(sink, properties, dataSource, new DataSourceTransactionManager(dataSource),
+                new SimpleMeterRegistry());
+    }
+
+    private static void insertEvents(int count) {
+        transaction.executeWithoutResult(status -> LongStream.rangeClosed(1, count).forEach(id -> jdbc.update(
+                "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type) VALUES ('JOB', ?, 'UPDATED')", id)));
+    }
+
+    private static int pending() {
+        return jdbc.queryForObject("SELECT count(*) FROM outbox_events", Integer.class);
+    }
+}
@@ -0,0 +1,183 @@
+package com.hiretrack.backend.service.partitioning;
+
+import com.hiretrack.backend.config.PipelinePartitionProperties;
+import com.hiretrack.backend.config.PipelinePartitionProperties.ArchiveTarget;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creates, fills and archives the monthly partitions of applications and interviews, against a
+ * real Postgres. The tests work in 2030, away from the months the migration prepared.
+ */
+@DisplayName("PipelinePartitionManager Unit Tests")
+class PipelinePartitionManagerTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbc;
+
+    private PipelinePartitionProperties properties;
+    private PipelinePartitionManager manager;
+    private PartitionArchiver archiver;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM jobs");
+        jdbc.update("DELETE FROM users");
+        for (String table : jdbc.queryForList(
+                "SELECT relname FROM pg_class WHERE relnamespace = 'archive'::regnamespace AND relkind = 'r'", String.class)) {
+            jdbc.execute("DROP TABLE archive." + table);
+        }
+        // interviews first: a month of applications cannot be detached while referenced
+        for (var partition : jdbc.queryForList("""
+                SELECT c.relname AS name, p.relname AS parent
+                FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent
+                WHERE c.relname ~ '_2030_\\d{2}$'
+                ORDER BY c.relname DESC""")) {
+            jdbc.execute("ALTER TABLE " + partition.get("parent") + " DETACH PARTITION " + partition.get("name"));
+            jdbc.execute("DROP TABLE " + partition.get("name"));
+        }
+        jdbc.update("INSERT INTO users (user_id, tenant_id, email, password_hash, role) "
+                + "VALUES (1, 1, 'one@example.com', 'x', 'ADMIN')");
+        jdbc.update("INSERT INTO jobs (job_id, tenant_id, title, employment_type, status, created_by) "
+                + "VALUES (1, 1, 'Java Engineer', 'FULL_TIME', 'OPEN', 1)");
+        jdbc.update("INSERT INTO candidates (candidate_id, tenant_id, email) VALUES (1, 1, 'a@example.com'), "
+                + "(2, 1, 'b@example.com') ON CONFLICT DO NOTHING");
+        properties = new PipelinePartitionProperties();
+        archiver = new PartitionArchiver(dataSource, properties);
+        manager = new PipelinePartitionManager(dataSource, archiver, properties);
+    }
+
+    @Test
+    @DisplayName("Should create the months ahead, moving the interviews waiting in the default partition")
+    void testEnsurePartitions() {
+        // Given
+        application(1, 1, "2030-02-10 09:00");
+        interview(1, "2030-03-10 10:00");
+
+        // When
+        int created = manager.ensurePartitions(LocalDate.of(2030, 1, 1));
+
+        // Then: 2030_02 of applications waits for its rows to leave the default partition
+        assertEquals(7, created);
+        assertNull(jdbc.queryForObject("SELECT to_regclass('applications_shared_2030_02')", String.class));
+        assertEquals("interviews_shared_2030_03",
+                jdbc.queryForObject("SELECT tableoid::regclass::text FROM interviews", String.class));
+        assertEquals(0, manager.ensurePartitions(LocalDate.of(2030, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should copy the application's applied_at into its interviews and refuse one across a month end")
+    void testInterview_AppliedAtAndMonthEnd() {
+        // Given
+        manager.ensurePartitions(LocalDate.of(2030, 1, 1));
+        application(1, 1, "2030-01-10 09:00");
+
+        // When
+        interview(1, "2030-01-20 10:00");
+
+        // Then
+        assertEquals("2030-01-10 09:00:00", jdbc.queryForObject(
+                "SELECT application_applied_at::text FROM interviews", String.class));
+        assertThrows(DataIntegrityViolationException.class, () -> interview(1, "2030-01-31 23:30"));
+    }
+
+    @Test
+    @DisplayName("Should archive old months, keeping applications that hot interviews still reference")
+    void testArchiveBefore_Schema() {
+        // Given
+        manager.ensurePartitions(LocalDate.of(2030, 1, 1));
+        application(1, 1, "2030-01-10 09:00");
+        application(2, 2, "2030-01-12 09:00");
+        interview(1, "2030-01-20 10:00");
+        interview(2, "2030-04-02 10:00");
+
+        // When
+        List<String> archived = archiver.archiveBefore(LocalDate.of(2030, 3, 1));
+
+        // Then
+        assertTrue(archived.contains("archive.interviews_shared_2030_01"));
+        assertFalse(archived.contains("archive.applications_shared_2030_01"));
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM archive.interviews_shared_2030_01", Integer.class));
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM interviews", Integer.class));
+        assertEquals(2, jdbc.queryForObject("SELECT count(*) FROM applications", Integer.class));
+
+        // When: the last interview goes
+        jdbc.update("DELETE FROM interviews");
+        archived = archiver.archiveBefore(LocalDate.of(2030, 3, 1));
+
+        // Then: archived rows no longer follow deletes in the hot tables
+        assertEquals(List.of("archive.applications_shared_2030_01"), archived);
+        jdbc.update("DELETE FROM jobs");
+        assertEquals(2, jdbc.queryForObject("SELECT count(*) FROM archive.applications_shared_2030_01", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Should export archived months to gzipped CSV files and drop them")
+    void testArchiveBefore_Csv(@TempDir Path directory) throws IOException {
+        // Given
+        properties.setArchiveTarget(ArchiveTarget.CSV);
+        properties.setArchiveDirectory(directory);
+        manager.ensurePartitions(LocalDate.of(2030, 1, 1));
+        application(1, 1, "2030-01-10 09:00");
+        interview(1, "2030-01-20 10:00");
+
+        // When
+        archiver.archiveBefore(LocalDate.of(2030, 2, 1));
+
+        // Then
+        Path file = directory.resolve("interviews_shared_2030_01.csv.gz");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            assertTrue(reader.readLine().startsWith("interview_id,tenant_id,application_id"));
+            assertTrue(reader.readLine().contains("2030-01-20 10:00:00"));
+        }
+        assertTrue(Files.exists(directory.resolve("applications_shared_2030_01.csv.gz")));
+        assertEquals(0, jdbc.queryForObject(
+                "SELECT count(*) FROM pg_class WHERE relnamespace = 'archive'::regnamespace", Integer.class));
+    }
+
+    private void application(long id, long candidateId, String appliedAt) {
+        jdbc.update("INSERT INTO applications (application_id, tenant_id, job_id, candidate_id, status, applied_at) "
+                + "VALUES (?, 1, 1, ?, 'INTERVIEWING', ?::timestamp)", id, candidateId, appliedAt);
+    }
+
+    private void interview(long applicationId, String date) {
+        jdbc.update("INSERT INTO interviews (tenant_id, application_id, interviewer_id, interview_date) "
+                + "VALUES (1, ?, 1, ?::timestamp)", applicationId, date);
+    }
+}
@@ -0,0 +1,175 @@
+package com.hiretrack.backend.service.scheduling;
+
+import com.hiretrack.backend.config.SchedulingProperties;
+import com.hiretrack.backend.dto.interview.TimeSlot;
+import com.hiretrack.backend.security.TenantContext;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Free slot search and the V16 exclusion constraint against a real Postgres.
+ */
+@DisplayName("InterviewScheduler Unit Tests")
+class InterviewSchedulerTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2040, 1, 2, 0, 0);
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbc;
+    private static InterviewScheduler scheduler;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        // double bookings made before V16 must not break the migration
+        Flyway.configure().dataSource(dataSource).target("15").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("""
+                INSERT INTO users (user_id, email, password_hash, role)
+                SELECT n, 'user' || n || '@example.com', 'x', 'INTERVIEWER' FROM generate_series(1, 5) n""");
+        jdbc.update("INSERT INTO jobs (job_id, title, employment_type, status, created_by) VALUES (1, 'Java Engineer', 'FULL_TIME', 'OPEN', 1)");
+        jdbc.update("INSERT INTO candidates (candidate_id, email) VALUES (1, 'one@example.com')");
+        jdbc.update("INSERT INTO applications (application_id, job_id, candidate_id, status) VALUES (1, 1, 1, 'INTERVIEWING')");
+        jdbc.update("""
+                INSERT INTO interviews (application_id, interviewer_id, interview_date)
+                VALUES (1, 5, '2040-02-01 10:00'), (1, 5, '2040-02-01 10:30')""");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        scheduler = new InterviewScheduler(dataSource, new SchedulingProperties());
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("Should only propose slots in which every interviewer of the panel is free")
+    void testFindFreeSlots_Panel() {
+        // Given
+        book(2, MONDAY.withHour(9), 60);
+        book(3, MONDAY.withHour(10).withMinute(30), 45);
+        book(4, MONDAY.withHour(11).withMinute(15), 45);
+
+        // When
+        List<TimeSlot> slots = TenantContext.callAsRoot(
+                () -> scheduler.findFreeSlots(List.of(2L, 3L), Duration.ofHours(1), MONDAY.withHour(8), null, 3));
+
+        // Then
+        assertEquals(List.of(
+                slot(MONDAY.withHour(11).withMinute(15), 60),
+                slot(MONDAY.withHour(12).withMinute(15), 60),
+                slot(MONDAY.withHour(13).withMinute(15), 60)), slots);
+    }
+
+    @Test
+    @DisplayName("Should keep slots within working hours and skip the weekend")
+    void testSlotsWithin_WorkingHours() {
+        // Given
+        LocalDateTime friday = LocalDateTime.of(2040, 1, 6, 16, 50);
+        List<TimeSlot> free = List.of(new TimeSlot(friday, friday.plusDays(4)));
+
+        // When
+        List<TimeSlot> slots = scheduler.slotsWithin(free, Duration.ofHours(1), 2);
+
+        // Then
+        assertEquals(List.of(
+                slot(LocalDateTime.of(2040, 1, 6, 17, 0), 60),
+                slot(LocalDateTime.of(2040, 1, 9, 9, 0), 60)), slots);
+    }
+
+    @Test
+    @DisplayName("Should flag double bookings made before the constraint and still count them as busy")
+    void testMigration_LegacyOverlap() {
+        // Given
+        LocalDateTime wednesday = LocalDateTime.of(2040, 2, 1, 9, 0);
+
+        // When
+        List<Boolean> flags = jdbc.queryForList(
+                "SELECT legacy_overlap FROM interviews WHERE interviewer_id = 5 ORDER BY interview_date", Boolean.class);
+        List<TimeSlot> slots = TenantContext.callAsRoot(
+                () -> scheduler.findFreeSlots(List.of(5L), Duration.ofHours(1), wednesday, null, 2));
+
+        // Then
+        assertEquals(List.of(false, true), flags);
+        assertEquals(List.of(slot(wednesday, 60), slot(wednesday.withHour(11).withMinute(30), 60)), slots);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of concurrent overlapping bookings of an interviewer commit")
+    void testExclusionConstraint_ConcurrentBookings() throws Exception {
+        // Given
+        int writers = 8;
+        LocalDateTime start = LocalDateTime.of(2040, 3, 5, 14, 0);
+        CyclicBarrier barrier = new CyclicBarrier(writers);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Future<String>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < writers; i++) {
+                LocalDateTime shifted = start.plusMinutes(5L * i);
+                results.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        connection.setAutoCommit(false);
+                        barrier.await();
+                        try (PreparedStatement insert = connection.prepareStatement(
+                                "INSERT INTO interviews (tenant_id, application_id, interviewer_id, interview_date) VALUES (1, 1, 1, ?)")) {
+                            insert.setTimestamp(1, Timestamp.valueOf(shifted));
+                            insert.executeUpdate();
+                            connection.commit();
+                            return "committed";
+                        } catch (SQLException e) {
+                            connection.rollback();
+                            return e.getSQLState();
+                        }
+                    }
+                }));
+            }
+            List<String> outcomes = new ArrayList<>();
+            for (Future<String> result : results) {
+                outcomes.add(result.get());
+            }
+
+            // Then
+            assertEquals(1, outcomes.stream().filter("committed"::equals).count());
+            assertEquals(writers - 1, outcomes.stream().filter("23P01"::equals).count());
+            assertEquals(1, jdbc.queryForObject(
+                    "SELECT count(*) FROM interviews WHERE interviewer_id = 1", Integer.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void book(int interviewerId, LocalDateTime start, int minutes) {
+        jdbc.update("INSERT INTO interviews (tenant_id, application_id, interviewer_id, interview_date, duration_minutes) VALUES (1, 1, ?, ?, ?)",
+                interviewerId, Timestamp.valueOf(start), minutes);
+    }
+
+    private static TimeSlot slot(LocalDateTime start, int minutes) {
+        return new TimeSlot(start, start.plusMinutes(minutes));
+    }
+}
@@ -0,0 +1,149 @@
+package com.hiretrack.backend.service.search;
+
+import com.hiretrack.backend.config.SearchProperties;
+import com.hiretrack.backend.repository.CandidateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the indexer and the V11 triggers against a real Postgres, searching with the
+ * repository's own query.
+ */
+@DisplayName("CandidateSearchIndexer Unit Tests")
+class CandidateSearchIndexerTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbc;
+    private static NamedParameterJdbcTemplate namedJdbc;
+
+    private CandidateSearchIndexer indexer;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        namedJdbc = new NamedParameterJdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (user_id, tenant_id, email, password_hash, role) VALUES (1, 1, 'owner@example.com', 'x', 'ADMIN')");
+        jdbc.update("INSERT INTO jobs (job_id, tenant_id, title, employment_type, status, created_by) VALUES (1, 1, 'Engineer', 'FULL_TIME', 'OPEN', 1)");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM candidates");
+        SearchProperties properties = new SearchProperties();
+        properties.setIndexerBatchSize(2);
+        indexer = new CandidateSearchIndexer(postgres.getPostgresDatabase(), properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should make new candidates searchable once indexed, in batches")
+    void testIndexPending_NewCandidates() {
+        // Given
+        insertCandidate(1, "Amina", "Alami", "Casablanca");
+        insertCandidate(2, "Omar", "Tazi", "Rabat");
+        insertCandidate(3, "Sara", "Alami", "Paris");
+
+        // When
+        List<Long> beforeIndexing = search("alami");
+        long indexed = indexer.indexPending();
+
+        // Then
+        assertTrue(beforeIndexing.isEmpty());
+        assertEquals(3, indexed);
+        assertEquals(List.of(1L, 3L), search("alami"));
+        assertEquals(List.of(2L), search("rabat"));
+        assertEquals(0, indexer.indexPending());
+    }
+
+    @Test
+    @DisplayName("Should reindex a candidate when an application note changes")
+    void testIndexPending_ApplicationNotes() {
+        // Given
+        insertCandidate(1, "Amina", "Alami", "Casablanca");
+        indexer.indexPending();
+
+        // When
+        jdbc.update("INSERT INTO applications (tenant_id, job_id, candidate_id, status, notes) VALUES (1, 1, 1, 'APPLIED', 'Strong Kubernetes background')");
+        List<Long> beforeIndexing = search("kubernetes");
+        long indexed = indexer.indexPending();
+
+        // Then
+        assertTrue(beforeIndexing.isEmpty());
+        assertEquals(1, indexed);
+        assertEquals(List.of(1L), search("kubernetes"));
+    }
+
+    @Test
+    @DisplayName("Should only reindex a candidate when an indexed column really changes")
+    void testIndexPending_CandidateUpdates() {
+        // Given
+        insertCandidate(1, "Amina", "Alami", "Casablanca");
+        indexer.indexPending();
+
+        // When
+        jdbc.update("UPDATE candidates SET location = location, phone_number = '0600000000' WHERE candidate_id = 1");
+        long afterUnrelatedChange = indexer.indexPending();
+        jdbc.update("UPDATE candidates SET location = 'Berlin' WHERE candidate_id = 1");
+        long afterLocationChange = indexer.indexPending();
+
+        // Then
+        assertEquals(0, afterUnrelatedChange);
+        assertEquals(1, afterLocationChange);
+        assertEquals(List.of(1L), search("berlin"));
+        assertTrue(search("casablanca").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rank name matches above matches in notes")
+    void testSearch_Ranking() {
+        // Given
+        insertCandidate(1, "Amina", "Alami", "Casablanca");
+        insertCandidate(2, "Java", "Martin", "Paris");
+        jdbc.update("INSERT INTO applications (tenant_id, job_id, candidate_id, status, notes) VALUES (1, 1, 1, 'APPLIED', 'Ten years of Java')");
+        indexer.indexPending();
+
+        // When
+        List<Long> hits = search("java");
+
+        // Then
+        assertEquals(List.of(2L, 1L), hits);
+    }
+
+    private static void insertCandidate(long id, String firstName, String lastName, String location) {
+        jdbc.update("INSERT INTO candidates (candidate_id, tenant_id, first_name, last_name, email, location) VALUES (?, 1, ?, ?, ?, ?)",
+                id, firstName, lastName, "candidate" + id + "@example.com", location);
+    }
+
+    private static List<Long> search(String query) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", 1L)
+                .addValue("query", query)
+                .addValue("offset", 0)
+                .addValue("limit", 20);
+        return namedJdbc.queryForList(CandidateRepository.TENANT_SEARCH_SQL, params).stream()
+                .map(row -> ((Number) row.get("candidate_id")).longValue())
+                .toList();
+    }
+}
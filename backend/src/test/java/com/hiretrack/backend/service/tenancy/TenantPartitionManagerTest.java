@@ -0,0 +1,125 @@
+package com.hiretrack.backend.service.tenancy;
+
+import com.hiretrack.backend.config.TenancyProperties;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Moves tenants into partitions of their own and drops their data, against a real Postgres.
+ */
+@DisplayName("TenantPartitionManager Unit Tests")
+class TenantPartitionManagerTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbc;
+    private static TenantPartitionManager manager;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        TenancyProperties properties = new TenancyProperties();
+        properties.setIsolationThreshold(2);
+        manager = new TenantPartitionManager(dataSource, properties);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (int tenant = 2; tenant <= 3; tenant++) {
+            jdbc.queryForObject("SELECT drop_tenant_data(?)", Object.class, tenant);
+        }
+        jdbc.update("DELETE FROM jobs");
+        jdbc.update("DELETE FROM candidates");
+        jdbc.update("DELETE FROM users");
+        jdbc.update("DELETE FROM tenants WHERE tenant_id > 1");
+        jdbc.update("INSERT INTO tenants (tenant_id, name) VALUES (2, 'Acme'), (3, 'Globex')");
+        jdbc.update("INSERT INTO users (user_id, tenant_id, email, password_hash, role) VALUES "
+                + "(1, 1, 'one@example.com', 'x', 'ADMIN'), (2, 2, 'two@example.com', 'x', 'ADMIN'), "
+                + "(3, 3, 'three@example.com', 'x', 'ADMIN')");
+        for (int tenant = 1; tenant <= 3; tenant++) {
+            jdbc.update("INSERT INTO jobs (job_id, tenant_id, title, employment_type, status, created_by) "
+                    + "VALUES (?, ?, 'Java Engineer', 'FULL_TIME', 'OPEN', ?)", tenant, tenant, tenant);
+        }
+        // tenant 2 has two applications, the others one
+        jdbc.update("INSERT INTO candidates (candidate_id, tenant_id, email) VALUES "
+                + "(1, 1, 'a@example.com'), (2, 2, 'a@example.com'), (3, 2, 'b@example.com'), (4, 3, 'a@example.com')");
+        jdbc.update("INSERT INTO applications (application_id, tenant_id, job_id, candidate_id, status) VALUES "
+                + "(1, 1, 1, 1, 'INTERVIEWING'), (2, 2, 2, 2, 'INTERVIEWING'), (3, 2, 2, 3, 'APPLIED'), "
+                + "(4, 3, 3, 4, 'APPLIED')");
+        jdbc.update("INSERT INTO interviews (tenant_id, application_id, interviewer_id, interview_date) "
+                + "VALUES (2, 2, 2, '2040-01-02 10:00')");
+        jdbc.update("INSERT INTO match_scores (tenant_id, job_id, candidate_id, score, scored_at) "
+                + "VALUES (2, 2, 2, 0.5, now()), (2, 2, 3, 0.25, now())");
+    }
+
+    @Test
+    @DisplayName("Should move the tenants over the threshold, with their rows and scores, once")
+    void testIsolateOversizedTenants() {
+        // When
+        int moved = manager.isolateOversizedTenants();
+        int again = manager.isolateOversizedTenants();
+
+        // Then
+        assertEquals(1, moved);
+        assertEquals(0, again);
+        // applications are partitioned by month within the tenant's partition (V18)
+        assertEquals(List.of("applications_tenant_2"), jdbc.queryForList("""
+                SELECT DISTINCT i.inhparent::regclass::text FROM applications a
+                JOIN pg_inherits i ON i.inhrelid = a.tableoid
+                WHERE a.tenant_id = 2""", String.class));
+        assertEquals(List.of("jobs_tenant_2"), jdbc.queryForList(
+                "SELECT DISTINCT tableoid::regclass::text FROM jobs WHERE tenant_id = 2", String.class));
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM interviews_tenant_2", Integer.class));
+        assertEquals(2, jdbc.queryForObject("SELECT count(*) FROM match_scores WHERE tenant_id = 2", Integer.class));
+        assertNull(jdbc.queryForObject("SELECT to_regclass('jobs_tenant_3')", String.class));
+    }
+
+    @Test
+    @DisplayName("Should keep rejecting double bookings in a tenant's own partition")
+    void testIsolate_KeepsExclusionConstraint() {
+        // Given
+        manager.isolate(2);
+
+        // When / Then
+        assertThrows(DataIntegrityViolationException.class, () -> jdbc.update(
+                "INSERT INTO interviews (tenant_id, application_id, interviewer_id, interview_date) "
+                        + "VALUES (2, 3, 2, '2040-01-02 10:30')"));
+    }
+
+    @Test
+    @DisplayName("Should drop the data of a tenant, in its own partitions or in the shared ones")
+    void testDropTenantData() {
+        // Given
+        manager.isolate(2);
+
+        // When
+        jdbc.queryForObject("SELECT drop_tenant_data(2)", Object.class);
+        jdbc.queryForObject("SELECT drop_tenant_data(3)", Object.class);
+
+        // Then
+        assertNull(jdbc.queryForObject("SELECT to_regclass('applications_tenant_2')", String.class));
+        assertEquals(List.of(1L), jdbc.queryForList("SELECT DISTINCT tenant_id FROM jobs", Long.class));
+        assertEquals(List.of(1L), jdbc.queryForList("SELECT DISTINCT tenant_id FROM applications", Long.class));
+        assertEquals(0, jdbc.queryForObject("SELECT count(*) FROM match_scores", Integer.class));
+    }
+}
@@ -0,0 +1,29 @@
+package com.hiretrack.backend.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.security.test.context.support.WithSecurityContext;
+
+/**
+ * Like {@code @WithMockUser}, but the principal is an
+ * {@link com.hiretrack.backend.security.AuthenticatedUser} of a tenant: requests without one
+ * are refused.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@WithSecurityContext(factory = WithTenantUserSecurityContextFactory.class)
+public @interface WithTenantUser {
+
+    String username() default "user@example.com";
+
+    String[] authorities() default {};
+
+    long tenantId() default 1;
+}
@@ -0,0 +1,27 @@
+package com.hiretrack.backend.support;
+
+import java.util.Arrays;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithSecurityContextFactory;
+
+import com.hiretrack.backend.security.AuthenticatedUser;
+
+/**
+ * Builds the security context of {@link WithTenantUser}.
+ */
+public class WithTenantUserSecurityContextFactory implements WithSecurityContextFactory<WithTenantUser> {
+
+    @Override
+    public SecurityContext createSecurityContext(WithTenantUser annotation) {
+        AuthenticatedUser user = new AuthenticatedUser(annotation.username(), "",
+                Arrays.stream(annotation.authorities()).map(SimpleGrantedAuthority::new).toList(),
+                0, annotation.tenantId());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        return context;
+    }
+}